@@ -20,11 +20,13 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
+import java.util.Set;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +37,7 @@ public final class RaftMemberContext {
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
+  private final int maxInstallsPerMember;
   private boolean open = true;
   private long term;
   private long configIndex;
@@ -48,7 +51,9 @@ public final class RaftMemberContext {
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
+  private InstallRequest deferredInstallRequest;
+  private Set<String> reusedSnapshotChunks = Set.of();
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -58,9 +63,11 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxInstallsPerMember) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    this.maxInstallsPerMember = maxInstallsPerMember;
   }
 
   /** Resets the member state. */
@@ -74,7 +81,9 @@ public final class RaftMemberContext {
     inFlightAppendCount = 0;
     timeStats.clear();
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
+    deferredInstallRequest = null;
+    reusedSnapshotChunks = Set.of();
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -231,17 +240,47 @@ public final class RaftMemberContext {
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    return open && inFlightInstallCount < maxInstallsPerMember;
+  }
+
+  /**
+   * Returns whether there are install requests to the member for which no response was received
+   * yet.
+   *
+   * @return Indicates whether install requests to the member are in flight.
+   */
+  public boolean hasInFlightInstalls() {
+    return inFlightInstallCount > 0;
   }
 
   /** Starts an install request to the member. */
   public void startInstall() {
-    installing = true;
+    inFlightInstallCount++;
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    inFlightInstallCount--;
+  }
+
+  /**
+   * Returns the install request which was built but deferred until all in-flight install requests
+   * to the member are completed, or null if there is none.
+   *
+   * @return The deferred install request.
+   */
+  public InstallRequest getDeferredInstallRequest() {
+    return deferredInstallRequest;
+  }
+
+  /**
+   * Sets the install request to send once all in-flight install requests to the member are
+   * completed.
+   *
+   * @param deferredInstallRequest The deferred install request, or null to discard it.
+   */
+  public void setDeferredInstallRequest(final InstallRequest deferredInstallRequest) {
+    this.deferredInstallRequest = deferredInstallRequest;
   }
 
   /**
@@ -277,7 +316,7 @@ public final class RaftMemberContext {
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("inFlightInstallCount", inFlightInstallCount)
         .add("failures", failures)
         .toString();
   }
@@ -454,6 +493,25 @@ public final class RaftMemberContext {
     this.snapshotIndex = snapshotIndex;
   }
 
+  /**
+   * Returns the names of the chunks of the snapshot being sent which the member reused from its own
+   * snapshot, and which therefore must not be sent.
+   *
+   * @return The names of the reused snapshot chunks.
+   */
+  public Set<String> getReusedSnapshotChunks() {
+    return reusedSnapshotChunks;
+  }
+
+  /**
+   * Sets the names of the chunks of the snapshot being sent which the member reused.
+   *
+   * @param reusedSnapshotChunks The names of the reused snapshot chunks.
+   */
+  public void setReusedSnapshotChunks(final Set<String> reusedSnapshotChunks) {
+    this.reusedSnapshotChunks = reusedSnapshotChunks;
+  }
+
   public SnapshotChunkReader getSnapshotChunkReader() {
     return snapshotChunkReader;
   }
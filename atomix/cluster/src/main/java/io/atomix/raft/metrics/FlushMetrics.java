@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.metrics;
+
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+public final class FlushMetrics extends RaftMetrics {
+  private static final Histogram FLUSH_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_flush_latency")
+          .help("Time it takes to flush the journal to disk, in seconds")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .buckets(.0001, .0005, .001, .0025, .005, .01, .025, .05, .1, .25, .5, 1)
+          .register();
+  private static final Histogram FLUSHED_ENTRIES =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_flush_entries")
+          .help("Number of entries which were flushed to disk together by a single flush")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .buckets(1, 2, 5, 10, 25, 50, 100, 250, 500, 1000)
+          .register();
+  private static final Gauge FLUSH_DELAY =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("journal_flush_delay")
+          .help("Current delay between requesting a flush and flushing the journal, in seconds")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
+  private final Histogram.Child flushLatency;
+  private final Histogram.Child flushedEntries;
+  private final Gauge.Child flushDelay;
+
+  public FlushMetrics(final String partitionName) {
+    super(partitionName);
+
+    flushLatency = FLUSH_LATENCY.labels(partitionGroupName, partition);
+    flushedEntries = FLUSHED_ENTRIES.labels(partitionGroupName, partition);
+    flushDelay = FLUSH_DELAY.labels(partitionGroupName, partition);
+  }
+
+  public void observeFlush(final long latencyNanos, final long entries) {
+    flushLatency.observe(latencyNanos / 1e9);
+    if (entries > 0) {
+      flushedEntries.observe(entries);
+    }
+  }
+
+  public void setFlushDelay(final long delayNanos) {
+    flushDelay.set(delayNanos / 1e9);
+  }
+}
@@ -30,12 +30,14 @@ public class RaftStorageConfig {
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_COMPRESS_SEALED_SEGMENTS = false;
 
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean compressSealedSegments = DEFAULT_COMPRESS_SEALED_SEGMENTS;
 
   /**
    * Returns the Raft log segment size.
@@ -125,6 +127,23 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return true to compress sealed segments in the background, false otherwise
+   */
+  public boolean isCompressSealedSegments() {
+    return compressSealedSegments;
+  }
+
+  /**
+   * Sets whether sealed segments are compressed in the background to reduce the disk space used by
+   * the log. The most recently sealed segment is never compressed.
+   *
+   * @param compressSealedSegments true to compress sealed segments, false otherwise
+   */
+  public void setCompressSealedSegments(final boolean compressSealedSegments) {
+    this.compressSealedSegments = compressSealedSegments;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -138,6 +157,8 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", compressSealedSegments="
+        + compressSealedSegments
         + '}';
   }
 }
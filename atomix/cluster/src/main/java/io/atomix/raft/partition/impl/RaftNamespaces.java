@@ -25,6 +25,7 @@ import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
 import io.atomix.raft.protocol.ConfigureRequest;
 import io.atomix.raft.protocol.ConfigureResponse;
+import io.atomix.raft.protocol.IncrementalInstallResponse;
 import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.protocol.InstallResponse;
 import io.atomix.raft.protocol.JoinRequest;
@@ -94,6 +95,7 @@ public final class RaftNamespaces {
           .register(JoinResponse.class)
           .register(LeaveRequest.class)
           .register(LeaveResponse.class)
+          .register(IncrementalInstallResponse.class)
           .name("RaftProtocol")
           .build();
 
@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.protocol;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Response to the first chunk of a snapshot, if the leader sent the checksums of the snapshot's
+ * files along with it. Lists the chunks which the follower reused from its own snapshot, and which
+ * the leader therefore does not have to send.
+ *
+ * <p>This is a separate message type, so that it is only sent to leaders which understand it.
+ */
+public final class IncrementalInstallResponse extends InstallResponse {
+
+  private final List<String> reusedChunks;
+
+  public IncrementalInstallResponse(final Collection<String> reusedChunks) {
+    super(Status.OK, null);
+    // copied into an ArrayList, as it is one of the collection types known to the serializer
+    this.reusedChunks = new ArrayList<>(reusedChunks);
+  }
+
+  /**
+   * Returns the names of the chunks which the follower reused, and which must not be sent anymore.
+   *
+   * @return the names of the reused chunks
+   */
+  public List<String> reusedChunks() {
+    return reusedChunks;
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("status", status)
+        .add("reusedChunks", reusedChunks.size())
+        .toString();
+  }
+}
@@ -30,6 +30,7 @@ import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
 import io.atomix.raft.protocol.ConfigureRequest;
 import io.atomix.raft.protocol.ConfigureResponse;
+import io.atomix.raft.protocol.IncrementalInstallResponse;
 import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.protocol.InstallResponse;
 import io.atomix.raft.protocol.RaftRequest;
@@ -45,12 +46,14 @@ import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
@@ -376,15 +379,23 @@ final class LeaderAppender {
       }
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
       member.setNextSnapshotChunk(null);
+      member.setReusedSnapshotChunks(Set.of());
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
+    skipReusedChunks(member, reader);
     if (!reader.hasNext()) {
       return Optional.empty();
     }
 
     try {
       final SnapshotChunk chunk = reader.next();
+      final boolean isInitial = member.getNextSnapshotChunk() == null;
+      final var snapshotChunk = new SnapshotChunkImpl(chunk);
+      if (isInitial) {
+        // allows the member to reuse the files it already has, see handleInstallResponseOk
+        snapshotChunk.setFileChecksums(persistedSnapshot.getFileChecksums());
+      }
 
       // Create the install request, indicating whether this is the last chunk of data based on
       // the number of bytes remaining in the buffer.
@@ -397,9 +408,9 @@ final class LeaderAppender {
               .withIndex(persistedSnapshot.getIndex())
               .withTerm(persistedSnapshot.getTerm())
               .withVersion(persistedSnapshot.version())
-              .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
+              .withData(snapshotChunk.toByteBuffer())
               .withChunkId(ByteBuffer.wrap(chunk.getChunkName().getBytes()))
-              .withInitial(member.getNextSnapshotChunk() == null)
+              .withInitial(isInitial)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
               .build();
@@ -416,6 +427,16 @@ final class LeaderAppender {
     }
   }
 
+  private void skipReusedChunks(final RaftMemberContext member, final SnapshotChunkReader reader) {
+    final var reusedChunks = member.getReusedSnapshotChunks();
+    while (!reusedChunks.isEmpty()
+        && reader.hasNext()
+        && reusedChunks.contains(StandardCharsets.US_ASCII.decode(reader.nextId()).toString())) {
+      // seeking is inclusive, so the reused chunk has to be consumed to move past it
+      reader.next();
+    }
+  }
+
   /** Connects to the member and sends a snapshot request. */
   private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
     // Start the install to the member.
@@ -451,6 +472,7 @@ final class LeaderAppender {
     // once a connection to the member is re-established.
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunk(null);
+    member.setDeferredInstallRequest(null);
 
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
@@ -458,7 +480,9 @@ final class LeaderAppender {
 
   /** Handles an OK install response. */
   private void handleInstallResponseOk(
-      final RaftMemberContext member, final InstallRequest request) {
+      final RaftMemberContext member,
+      final InstallRequest request,
+      final InstallResponse response) {
     // Reset the member failure count and update the member's status if necessary.
     succeedAttempt(member);
 
@@ -467,12 +491,25 @@ final class LeaderAppender {
     if (request.complete()) {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunk(null);
+      member.setDeferredInstallRequest(null);
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
-    // If more install requests remain, increment the member's snapshot offset.
-    else {
+    // If more install requests remain, remember that the member accepted the snapshot, which
+    // allows sending the remaining chunks concurrently.
+    else if (member.getNextSnapshotIndex() == request.index()) {
       member.setNextSnapshotChunk(request.nextChunkId());
+
+      // The member replies to the first chunk with the chunks it reused from its own snapshot,
+      // if any, which are then skipped.
+      if (request.isInitial() && response instanceof final IncrementalInstallResponse incremental) {
+        log.debug(
+            "Member {} reused {} files of snapshot {}",
+            member.getMember().memberId(),
+            incremental.reusedChunks().size(),
+            request.index());
+        member.setReusedSnapshotChunks(Set.copyOf(incremental.reusedChunks()));
+      }
     }
 
     // Recursively append entries to the member.
@@ -493,6 +530,7 @@ final class LeaderAppender {
 
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunk(null);
+    member.setDeferredInstallRequest(null);
   }
 
   /**
@@ -805,7 +843,7 @@ final class LeaderAppender {
       final InstallResponse response,
       final long timestamp) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleInstallResponseOk(member, request);
+      handleInstallResponseOk(member, request, response);
     } else {
       handleInstallResponseError(member, request, response);
     }
@@ -857,14 +895,56 @@ final class LeaderAppender {
     return memberLag > raft.getPreferSnapshotReplicationThreshold();
   }
 
+  /**
+   * Sends as many chunks of the current snapshot to the member as its install window allows. The
+   * first chunk is sent on its own, as it creates the pending snapshot on the member, and so is the
+   * last chunk, as it commits the pending snapshot and must arrive after all other chunks. All
+   * chunks in between are sent without waiting for the previous responses, and may be written out
+   * of order by the member.
+   */
   private void replicateSnapshot(final RaftMemberContext member) {
     final var persistedSnapshot = raft.getCurrentSnapshot();
     log.debug(
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+
+    while (member.canInstall()) {
+      final var deferredRequest = member.getDeferredInstallRequest();
+      if (deferredRequest != null) {
+        if (member.hasInFlightInstalls()) {
+          return;
+        }
+
+        member.setDeferredInstallRequest(null);
+        sendInstallRequest(member, deferredRequest);
+        continue;
+      }
+
+      if (member.hasInFlightInstalls() && !isSnapshotAccepted(member, persistedSnapshot)) {
+        // wait until the member has created the pending snapshot, or until the in-flight requests
+        // of a previous attempt are completed
+        return;
+      }
+
+      final var request = buildInstallRequest(member, persistedSnapshot);
+      if (request.isEmpty()) {
+        return;
+      }
+
+      if (request.get().complete() && member.hasInFlightInstalls()) {
+        member.setDeferredInstallRequest(request.get());
+        return;
+      }
+
+      sendInstallRequest(member, request.get());
+    }
+  }
+
+  private boolean isSnapshotAccepted(
+      final RaftMemberContext member, final PersistedSnapshot persistedSnapshot) {
+    return member.getNextSnapshotIndex() == persistedSnapshot.getIndex()
+        && member.getNextSnapshotChunk() != null;
   }
 
   private void replicateEvents(final RaftMemberContext member) {
@@ -22,6 +22,7 @@ import io.atomix.raft.RaftServer;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.SnapshotReplicationMetrics;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.IncrementalInstallResponse;
 import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.protocol.InstallResponse;
 import io.atomix.raft.protocol.InternalAppendRequest;
@@ -49,7 +50,7 @@ import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotException.SnapshotAlreadyExistsException;
-import java.nio.ByteBuffer;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -59,7 +60,6 @@ public class PassiveRole extends InactiveRole {
   private final SnapshotReplicationMetrics snapshotReplicationMetrics;
   private long pendingSnapshotStartTimestamp;
   private ReceivedSnapshot pendingSnapshot;
-  private ByteBuffer nextPendingSnapshotChunkId;
 
   public PassiveRole(final RaftContext context) {
     super(context);
@@ -140,6 +140,12 @@ public class PassiveRole extends InactiveRole {
       abortPendingSnapshots();
     }
 
+    // The leader sends the first chunk again when it restarts sending a snapshot, e.g. after a
+    // failed request. Start over, as the chunks received so far may be incomplete.
+    if (pendingSnapshot != null && request.isInitial()) {
+      abortPendingSnapshots();
+    }
+
     // If the snapshot already exists locally, do not overwrite it with a replicated snapshot.
     // Simply reply to the request successfully.
     final var latestIndex = raft.getCurrentSnapshotIndex();
@@ -175,6 +181,7 @@ public class PassiveRole extends InactiveRole {
     }
 
     // If there is no pending snapshot, create a new snapshot.
+    Set<String> reusedChunks = null;
     if (pendingSnapshot == null) {
       // if we have no pending snapshot then the request must be the first chunk, otherwise we could
       // receive an old request and end up in a strange state
@@ -205,21 +212,17 @@ public class PassiveRole extends InactiveRole {
       // When all chunks of the snapshot is received the log will be reset. Hence notify the
       // listeners in advance so that they can close all consumers of the log.
       raft.notifySnapshotReplicationStarted();
-    } else {
-      // fail the request if this is not the expected next chunk
-      if (!isExpectedChunk(request.chunkId())) {
-        abortPendingSnapshots();
-        return CompletableFuture.completedFuture(
-            logResponse(
-                InstallResponse.builder()
-                    .withStatus(RaftResponse.Status.ERROR)
-                    .withError(
-                        RaftError.Type.ILLEGAL_MEMBER_STATE,
-                        "Snapshot chunk is received out of order")
-                    .build()));
+
+      if (!snapshotChunk.getFileChecksums().isEmpty()) {
+        reusedChunks = reuseSnapshotFiles(snapshotChunk);
       }
     }
 
+    // Chunks after the first one may be received in any order, as the leader sends several of
+    // them concurrently. The received snapshot verifies that all chunks were received when it's
+    // persisted, which happens on the last chunk, as the leader only sends it once all other chunks
+    // were acknowledged.
+
     try {
       pendingSnapshot.apply(snapshotChunk).join();
     } catch (final Exception e) {
@@ -270,14 +273,30 @@ public class PassiveRole extends InactiveRole {
       snapshotReplicationMetrics.observeDuration(elapsed);
       raft.updateCurrentSnapshot();
       onSnapshotReceiveCompletedOrAborted();
-    } else {
-      setNextExpected(request.nextChunkId());
+    }
+
+    if (reusedChunks != null) {
+      // only sent if the leader sent the file checksums, i.e. if it understands the response
+      return CompletableFuture.completedFuture(
+          logResponse(new IncrementalInstallResponse(reusedChunks)));
     }
 
     return CompletableFuture.completedFuture(
         logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
   }
 
+  private Set<String> reuseSnapshotFiles(final SnapshotChunkImpl snapshotChunk) {
+    try {
+      return pendingSnapshot.reuseFiles(snapshotChunk.getFileChecksums()).join();
+    } catch (final Exception e) {
+      log.warn(
+          "Failed to reuse files of the local snapshot for snapshot {}, receiving all files",
+          pendingSnapshot,
+          e);
+      return Set.of();
+    }
+  }
+
   @Override
   public CompletableFuture<ReconfigureResponse> onReconfigure(final ReconfigureRequest request) {
     raft.checkThread();
@@ -383,17 +402,8 @@ public class PassiveRole extends InactiveRole {
     raft.notifySnapshotReplicationCompleted();
   }
 
-  private void setNextExpected(final ByteBuffer nextChunkId) {
-    nextPendingSnapshotChunkId = nextChunkId;
-  }
-
-  private boolean isExpectedChunk(final ByteBuffer chunkId) {
-    return nextPendingSnapshotChunkId == null || nextPendingSnapshotChunkId.equals(chunkId);
-  }
-
   private void abortPendingSnapshots() {
     if (pendingSnapshot != null) {
-      setNextExpected(null);
       log.info("Rolling back snapshot {}", pendingSnapshot);
       try {
         pendingSnapshot.abort();
@@ -19,6 +19,10 @@ package io.atomix.raft.snapshot.impl;
 import io.atomix.raft.snapshot.SbeBufferWriterReader;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.nio.ByteOrder;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -35,6 +39,7 @@ public final class SnapshotChunkImpl
   private String chunkName;
   private long checksum;
   private long snapshotChecksum;
+  private SortedMap<String, Long> fileChecksums = Collections.emptySortedMap();
 
   public SnapshotChunkImpl() {}
 
@@ -68,6 +73,7 @@ public final class SnapshotChunkImpl
     snapshotId = "";
     chunkName = "";
     content.wrap(0, 0);
+    fileChecksums = Collections.emptySortedMap();
   }
 
   @Override
@@ -78,7 +84,9 @@ public final class SnapshotChunkImpl
         + SnapshotChunkEncoder.chunkNameHeaderLength()
         + chunkName.length()
         + SnapshotChunkEncoder.contentHeaderLength()
-        + content.capacity();
+        + content.capacity()
+        + SnapshotChunkEncoder.fileChecksumsHeaderLength()
+        + fileChecksumsLength();
   }
 
   @Override
@@ -92,6 +100,10 @@ public final class SnapshotChunkImpl
         .checksum(checksum)
         .snapshotChecksum(snapshotChecksum)
         .putContent(content, 0, content.capacity());
+
+    final var encodedFileChecksums = new UnsafeBuffer(new byte[fileChecksumsLength()]);
+    writeFileChecksums(encodedFileChecksums);
+    encoder.putFileChecksums(encodedFileChecksums, 0, encodedFileChecksums.capacity());
   }
 
   @Override
@@ -106,7 +118,72 @@ public final class SnapshotChunkImpl
 
     if (decoder.contentLength() > 0) {
       decoder.wrapContent(content);
+    } else {
+      decoder.skipContent();
+    }
+
+    if (decoder.fileChecksumsLength() > 0) {
+      final var encodedFileChecksums = new UnsafeBuffer();
+      decoder.wrapFileChecksums(encodedFileChecksums);
+      fileChecksums = readFileChecksums(encodedFileChecksums);
+    }
+  }
+
+  /**
+   * Returns the checksums of all files of the snapshot by file name, which are only sent along with
+   * the first chunk of a snapshot. Empty if they were not sent.
+   *
+   * @return the checksums of the snapshot's files
+   */
+  public SortedMap<String, Long> getFileChecksums() {
+    return fileChecksums;
+  }
+
+  public SnapshotChunkImpl setFileChecksums(final SortedMap<String, Long> fileChecksums) {
+    this.fileChecksums = fileChecksums;
+    return this;
+  }
+
+  private int fileChecksumsLength() {
+    if (fileChecksums.isEmpty()) {
+      return 0;
+    }
+
+    int length = Integer.BYTES;
+    for (final var fileName : fileChecksums.keySet()) {
+      length += Long.BYTES + Integer.BYTES + fileName.length();
+    }
+    return length;
+  }
+
+  private void writeFileChecksums(final MutableDirectBuffer buffer) {
+    if (fileChecksums.isEmpty()) {
+      return;
+    }
+
+    int offset = 0;
+    buffer.putInt(offset, fileChecksums.size(), ByteOrder.LITTLE_ENDIAN);
+    offset += Integer.BYTES;
+    for (final var file : fileChecksums.entrySet()) {
+      buffer.putLong(offset, file.getValue(), ByteOrder.LITTLE_ENDIAN);
+      offset += Long.BYTES;
+      offset += buffer.putStringAscii(offset, file.getKey(), ByteOrder.LITTLE_ENDIAN);
+    }
+  }
+
+  private static SortedMap<String, Long> readFileChecksums(final DirectBuffer buffer) {
+    final var checksums = new TreeMap<String, Long>();
+    int offset = 0;
+    final int count = buffer.getInt(offset, ByteOrder.LITTLE_ENDIAN);
+    offset += Integer.BYTES;
+    for (int i = 0; i < count; i++) {
+      final long checksum = buffer.getLong(offset, ByteOrder.LITTLE_ENDIAN);
+      offset += Long.BYTES;
+      final var fileName = buffer.getStringAscii(offset, ByteOrder.LITTLE_ENDIAN);
+      offset += Integer.BYTES + fileName.length();
+      checksums.put(fileName, checksum);
     }
+    return checksums;
   }
 
   @Override
@@ -0,0 +1,177 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.raft.metrics.FlushMetrics;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link RaftLogFlusher} which, like {@link DelayedFlusher}, treats calls to
+ * {@link #flush(Journal)} as signals that there is data to be flushed, and flushes asynchronously
+ * after a delay, coalescing all signals received in the meantime into a single flush.
+ *
+ * <p>Instead of a fixed delay, it aims for a target latency between the first signal and the end of
+ * the flush. It measures how long flushing takes, and delays each flush by the target latency minus
+ * the estimated flush latency. When flushing is fast, this coalesces more appends into one flush;
+ * when flushing is slow, it flushes as soon as possible, and the appends which happen while
+ * flushing are coalesced into the next flush. The estimate is an exponentially weighted moving
+ * average of the measured latencies, so that it follows changes of the disk's latency without
+ * overreacting to single outliers.
+ *
+ * <p>As with {@link DelayedFlusher}, the delay has a resolution of milliseconds, and appends are
+ * acknowledged before they are flushed. See {@link RaftLogFlusher} for the implications.
+ *
+ * <p>NOTE: {@link #flush(Journal)} is expected to be called from the same thread as the journal
+ * write path, e.g. the Raft thread.
+ */
+public final class AdaptiveFlusher implements RaftLogFlusher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveFlusher.class);
+  // weight of the latest measured flush latency in the estimate
+  private static final double LATENCY_WEIGHT = 0.2;
+  private static final long UNKNOWN_INDEX = -1;
+
+  private final Scheduler scheduler;
+  private final long targetLatencyNanos;
+  private final FlushMetrics metrics;
+  private final LongSupplier nanoClock;
+
+  private final Object scheduledMonitor = new Object();
+  private Scheduled scheduledFlush;
+  private long requestedIndex = UNKNOWN_INDEX;
+  private long flushedIndex = UNKNOWN_INDEX;
+  private double estimatedLatencyNanos;
+  private boolean closed;
+
+  public AdaptiveFlusher(
+      final Scheduler scheduler, final Duration targetLatency, final FlushMetrics metrics) {
+    this(scheduler, targetLatency, metrics, System::nanoTime);
+  }
+
+  AdaptiveFlusher(
+      final Scheduler scheduler,
+      final Duration targetLatency,
+      final FlushMetrics metrics,
+      final LongSupplier nanoClock) {
+    this.scheduler = Objects.requireNonNull(scheduler, "must specify a scheduler");
+    this.metrics = Objects.requireNonNull(metrics, "must specify metrics");
+    this.nanoClock = Objects.requireNonNull(nanoClock, "must specify a clock");
+    targetLatencyNanos =
+        Objects.requireNonNull(targetLatency, "must specify a target latency").toNanos();
+    if (targetLatencyNanos <= 0) {
+      throw new IllegalArgumentException(
+          "Expected the target flush latency to be positive, but was " + targetLatency);
+    }
+  }
+
+  @Override
+  public void flush(final Journal journal) {
+    synchronized (scheduledMonitor) {
+      requestedIndex = journal.getLastIndex();
+    }
+
+    scheduleFlush(journal);
+  }
+
+  @Override
+  public void close() {
+    synchronized (scheduledMonitor) {
+      closed = true;
+
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel();
+        scheduledFlush = null;
+      }
+    }
+
+    scheduler.close();
+  }
+
+  /** Returns the delay with which the next flush will be scheduled. */
+  Duration currentDelay() {
+    synchronized (scheduledMonitor) {
+      return Duration.ofNanos(currentDelayNanos());
+    }
+  }
+
+  private long currentDelayNanos() {
+    return Math.max(0, targetLatencyNanos - Math.round(estimatedLatencyNanos));
+  }
+
+  private void scheduleFlush(final Journal journal) {
+    synchronized (scheduledMonitor) {
+      if (closed) {
+        LOGGER.debug("Skipped scheduling flush due to flusher being closed");
+        return;
+      }
+
+      if (scheduledFlush == null) {
+        final var delay = Duration.ofNanos(currentDelayNanos());
+        LOGGER.trace("Scheduling adaptive flush in {} up to index {}", delay, requestedIndex);
+        scheduledFlush = scheduler.schedule(delay, () -> asyncFlush(journal));
+      } else {
+        LOGGER.trace("Skipped scheduling flush as there is already a pending, scheduled flush");
+      }
+    }
+  }
+
+  private void asyncFlush(final Journal journal) {
+    final long indexToFlush;
+    synchronized (scheduledMonitor) {
+      scheduledFlush = null;
+      indexToFlush = requestedIndex;
+    }
+
+    final long startTime = nanoClock.getAsLong();
+    try {
+      journal.flush();
+    } catch (final JournalException | UncheckedIOException e) {
+      LOGGER.warn("Failed to flush journal, operation will be retried", e);
+      scheduleFlush(journal);
+      return;
+    }
+    final long latency = nanoClock.getAsLong() - startTime;
+
+    final long delay;
+    final long entries;
+    synchronized (scheduledMonitor) {
+      estimatedLatencyNanos =
+          estimatedLatencyNanos == 0
+              ? latency
+              : LATENCY_WEIGHT * latency + (1 - LATENCY_WEIGHT) * estimatedLatencyNanos;
+      // the number of entries is unknown for the first flush, or if the log was truncated
+      entries = flushedIndex == UNKNOWN_INDEX ? 0 : indexToFlush - flushedIndex;
+      flushedIndex = indexToFlush;
+      delay = currentDelayNanos();
+    }
+
+    metrics.observeFlush(latency, entries);
+    metrics.setFlushDelay(delay);
+  }
+
+  @Override
+  public String toString() {
+    return "AdaptiveFlusher{"
+        + "scheduler="
+        + scheduler
+        + ", targetLatency="
+        + Duration.ofNanos(targetLatencyNanos)
+        + ", scheduledFlush="
+        + scheduledFlush
+        + '}';
+  }
+}
@@ -126,6 +126,18 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets whether sealed segments are compressed in the background. The most recently sealed segment
+   * is never compressed.
+   *
+   * @param compressSealedSegments true to compress sealed segments, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withCompressSealedSegments(final boolean compressSealedSegments) {
+    journalBuilder.withCompressSealedSegments(compressSealedSegments);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
@@ -27,6 +27,10 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link AdaptiveFlusher} provides the same trade-off as {@link DelayedFlusher}, but instead of
+ * a fixed delay it adapts the delay to the measured flush latency, to flush data within a target
+ * latency. Pick this if the latency of flushing varies a lot, e.g. on network attached disks.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
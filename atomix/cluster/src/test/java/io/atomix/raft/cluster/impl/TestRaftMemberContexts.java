@@ -0,0 +1,22 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.cluster.impl;
+
+/** Creates {@link RaftMemberContext}s for tests of the raft roles, outside of a cluster context. */
+public final class TestRaftMemberContexts {
+
+  private TestRaftMemberContexts() {}
+
+  public static RaftMemberContext create(
+      final DefaultRaftMember member,
+      final RaftClusterContext cluster,
+      final int maxAppendsPerMember,
+      final int maxInstallsPerMember) {
+    return new RaftMemberContext(member, cluster, maxAppendsPerMember, maxInstallsPerMember);
+  }
+}
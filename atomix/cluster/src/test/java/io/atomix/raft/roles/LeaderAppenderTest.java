@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.roles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember.Type;
+import io.atomix.raft.cluster.impl.DefaultRaftMember;
+import io.atomix.raft.cluster.impl.RaftClusterContext;
+import io.atomix.raft.cluster.impl.RaftMemberContext;
+import io.atomix.raft.cluster.impl.TestRaftMemberContexts;
+import io.atomix.raft.impl.RaftContext;
+import io.atomix.raft.metrics.RaftReplicationMetrics;
+import io.atomix.raft.protocol.IncrementalInstallResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.snapshot.InMemorySnapshot;
+import io.atomix.raft.snapshot.TestSnapshotStore;
+import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.utils.concurrent.SingleThreadContext;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class LeaderAppenderTest {
+
+  private final SingleThreadContext threadContext = new SingleThreadContext("leader");
+  private final RaftContext raft = mock(RaftContext.class, RETURNS_DEEP_STUBS);
+  private final List<String> sentChunks = new CopyOnWriteArrayList<>();
+  private RaftMemberContext member;
+
+  @BeforeEach
+  void setup() {
+    when(raft.getName()).thenReturn("leader");
+    when(raft.getTerm()).thenReturn(1L);
+    when(raft.getElectionTimeout()).thenReturn(Duration.ofMillis(100));
+    when(raft.getMaxQuorumResponseTimeout()).thenReturn(Duration.ZERO);
+    when(raft.getReplicationMetrics()).thenReturn(mock(RaftReplicationMetrics.class));
+    when(raft.getThreadContext()).thenReturn(threadContext);
+    when(raft.getLeader())
+        .thenReturn(new DefaultRaftMember(MemberId.from("1"), Type.ACTIVE, Instant.now()));
+
+    final var log = mock(RaftLog.class, RETURNS_DEEP_STUBS);
+    when(log.getFirstIndex()).thenReturn(5L);
+    when(log.getLastIndex()).thenReturn(10L);
+    when(raft.getLog()).thenReturn(log);
+
+    member =
+        TestRaftMemberContexts.create(
+            new DefaultRaftMember(MemberId.from("2"), Type.ACTIVE, Instant.now()),
+            mock(RaftClusterContext.class),
+            1,
+            1);
+    member.setConfigTerm(1);
+    when(raft.getCluster().getReplicationTargets()).thenReturn(Set.of(member));
+  }
+
+  @AfterEach
+  void tearDown() {
+    threadContext.close();
+  }
+
+  @Test
+  void shouldNotSendChunksReusedByMember() {
+    // given
+    final var snapshot =
+        InMemorySnapshot.newPersistedSnapshot(
+            10, 1, 4, new TestSnapshotStore(new AtomicReference<>()));
+    when(raft.getCurrentSnapshot()).thenReturn(snapshot);
+    when(raft.getProtocol().install(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final InstallRequest request = invocation.getArgument(1);
+              sentChunks.add(
+                  StandardCharsets.US_ASCII.decode(request.chunkId().duplicate()).toString());
+              if (request.complete()) {
+                return new CompletableFuture<>();
+              }
+
+              return CompletableFuture.completedFuture(
+                  request.isInitial()
+                      ? new IncrementalInstallResponse(List.of("chunk-1", "chunk-2"))
+                      : new InstallResponse(Status.OK, null));
+            });
+    final var appender = new LeaderAppender(new LeaderRole(raft));
+
+    // when
+    threadContext.execute(appender::appendEntries);
+
+    // then
+    Awaitility.await("until the last chunk was sent")
+        .untilAsserted(() -> assertThat(sentChunks).containsExactly("chunk-0", "chunk-3"));
+  }
+}
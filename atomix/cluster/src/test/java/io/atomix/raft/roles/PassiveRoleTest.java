@@ -24,25 +24,39 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.impl.RaftClusterContext;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.RaftReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.IncrementalInstallResponse;
+import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.RaftResponse;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
+import io.camunda.zeebe.snapshots.ReceivedSnapshot;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -237,4 +251,77 @@ public class PassiveRoleTest {
     // then
     assertThat(response.succeeded()).isTrue();
   }
+
+  @Test
+  public void shouldAcceptSnapshotChunksOutOfOrder() {
+    // given
+    final ReceivedSnapshot receivedSnapshot = mock(ReceivedSnapshot.class);
+    when(receivedSnapshot.index()).thenReturn(10L);
+    when(receivedSnapshot.apply(any())).thenReturn(CompletableActorFuture.completed(null));
+    when(ctx.getPersistedSnapshotStore().newReceivedSnapshot(any())).thenReturn(receivedSnapshot);
+    when(ctx.getCluster()).thenReturn(mock(RaftClusterContext.class));
+    role.onInstall(installRequest("chunk-1", "chunk-2", true)).join();
+
+    // when
+    final var response = role.onInstall(installRequest("chunk-3", "chunk-4", false)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(RaftResponse.Status.OK);
+    verify(receivedSnapshot, times(2)).apply(any());
+    verify(receivedSnapshot, never()).abort();
+  }
+
+  @Test
+  public void shouldReplyWithReusedChunksIfFileChecksumsAreSent() {
+    // given
+    final ReceivedSnapshot receivedSnapshot = mock(ReceivedSnapshot.class);
+    when(receivedSnapshot.index()).thenReturn(10L);
+    when(receivedSnapshot.apply(any())).thenReturn(CompletableActorFuture.completed(null));
+    when(receivedSnapshot.reuseFiles(any()))
+        .thenReturn(CompletableActorFuture.completed(Set.of("chunk-2")));
+    when(ctx.getPersistedSnapshotStore().newReceivedSnapshot(any())).thenReturn(receivedSnapshot);
+    when(ctx.getCluster()).thenReturn(mock(RaftClusterContext.class));
+    final var fileChecksums = new TreeMap<>(Map.of("chunk-1", 1L, "chunk-2", 2L, "chunk-3", 3L));
+
+    // when
+    final var response =
+        role.onInstall(installRequest("chunk-1", "chunk-2", true, fileChecksums)).join();
+
+    // then
+    assertThat(response)
+        .asInstanceOf(InstanceOfAssertFactories.type(IncrementalInstallResponse.class))
+        .extracting(IncrementalInstallResponse::reusedChunks)
+        .isEqualTo(List.of("chunk-2"));
+    verify(receivedSnapshot).reuseFiles(fileChecksums);
+  }
+
+  private InstallRequest installRequest(
+      final String chunkName, final String nextChunkName, final boolean initial) {
+    return installRequest(chunkName, nextChunkName, initial, new TreeMap<>());
+  }
+
+  private InstallRequest installRequest(
+      final String chunkName,
+      final String nextChunkName,
+      final boolean initial,
+      final SortedMap<String, Long> fileChecksums) {
+    final SnapshotChunk chunk = mock(SnapshotChunk.class);
+    when(chunk.getSnapshotId()).thenReturn("10-1-10-10");
+    when(chunk.getChunkName()).thenReturn(chunkName);
+    when(chunk.getContent()).thenReturn(new byte[1]);
+    when(chunk.getTotalCount()).thenReturn(4);
+
+    return InstallRequest.builder()
+        .withCurrentTerm(1)
+        .withLeader(MemberId.anonymous())
+        .withIndex(10)
+        .withTerm(1)
+        .withVersion(1)
+        .withData(new SnapshotChunkImpl(chunk).setFileChecksums(fileChecksums).toByteBuffer())
+        .withChunkId(ByteBuffer.wrap(chunkName.getBytes()))
+        .withNextChunkId(ByteBuffer.wrap(nextChunkName.getBytes()))
+        .withInitial(initial)
+        .withComplete(false)
+        .build();
+  }
 }
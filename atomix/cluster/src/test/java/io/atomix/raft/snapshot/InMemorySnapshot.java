@@ -28,9 +28,11 @@ import io.camunda.zeebe.util.StringUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.zip.CRC32C;
@@ -153,6 +155,11 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
     return id;
   }
 
+  @Override
+  public SortedMap<String, Long> getFileChecksums() {
+    return Collections.emptySortedMap();
+  }
+
   @Override
   public long getChecksum() {
     return checksum;
@@ -193,6 +200,11 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
     return CompletableActorFuture.completed(null);
   }
 
+  @Override
+  public ActorFuture<Set<String>> reuseFiles(final SortedMap<String, Long> fileChecksums) {
+    return CompletableActorFuture.completed(Set.of());
+  }
+
   @Override
   public ActorFuture<Void> abort() {
     return CompletableActorFuture.completed(null);
@@ -0,0 +1,213 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.raft.metrics.FlushMetrics;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.Journal;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class AdaptiveFlusherTest {
+  private static final Duration TARGET_LATENCY = Duration.ofMillis(10);
+
+  private final TestScheduler scheduler = new TestScheduler();
+  private final AtomicLong clock = new AtomicLong();
+  private final AdaptiveFlusher flusher =
+      new AdaptiveFlusher(scheduler, TARGET_LATENCY, new FlushMetrics("raft-1"), clock::get);
+  private final Journal journal = Mockito.mock(Journal.class);
+
+  @BeforeEach
+  void beforeEach() {
+    Mockito.when(journal.getLastIndex()).thenReturn(5L);
+  }
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(flusher);
+  }
+
+  @Test
+  void shouldDelayFirstFlushByTargetLatency() {
+    // when
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).interval).isEqualTo(TARGET_LATENCY);
+    Mockito.verify(journal, Mockito.never()).flush();
+  }
+
+  @Test
+  void shouldCoalesceFlushRequests() {
+    // given
+    flusher.flush(journal);
+    flusher.flush(journal);
+    flusher.flush(journal);
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(scheduler.operations).isEmpty();
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldReduceDelayByMeasuredFlushLatency() {
+    // given
+    flushTakes(Duration.ofMillis(4));
+
+    // when
+    flusher.flush(journal);
+    scheduler.runNext();
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations.get(0).interval).isEqualTo(Duration.ofMillis(6));
+  }
+
+  @Test
+  void shouldFlushImmediatelyIfFlushLatencyExceedsTarget() {
+    // given
+    flushTakes(Duration.ofMillis(50));
+
+    // when
+    flusher.flush(journal);
+    scheduler.runNext();
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations.get(0).interval).isZero();
+  }
+
+  @Test
+  void shouldSmoothFlushLatencyOutliers() {
+    // given
+    flushTakes(Duration.ofMillis(2));
+    flusher.flush(journal);
+    scheduler.runNext();
+
+    // when
+    flushTakes(Duration.ofMillis(12));
+    flusher.flush(journal);
+    scheduler.runNext();
+
+    // then - the estimate moved towards the outlier, but not all the way
+    assertThat(flusher.currentDelay()).isEqualTo(Duration.ofMillis(6));
+  }
+
+  @Test
+  void shouldCancelScheduledFlushOnClose() {
+    // given
+    flusher.flush(journal);
+
+    // when
+    flusher.close();
+
+    // then
+    assertThat(scheduler.cancelled).hasSize(1);
+  }
+
+  @Test
+  void shouldNotScheduleFlushWhenClosed() {
+    // when
+    flusher.close();
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).isEmpty();
+  }
+
+  @Test
+  void shouldRescheduleOnFlushError() {
+    // given
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .when(journal)
+        .flush();
+
+    // when
+    flusher.flush(journal);
+    scheduler.runNext();
+    Mockito.doNothing().when(journal).flush();
+    scheduler.runNext();
+
+    // then
+    Mockito.verify(journal, Mockito.times(2)).flush();
+  }
+
+  @Test
+  void shouldRejectNonPositiveTargetLatency() {
+    assertThatThrownBy(
+            () -> new AdaptiveFlusher(scheduler, Duration.ZERO, new FlushMetrics("raft-1")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private void flushTakes(final Duration latency) {
+    Mockito.doAnswer(
+            invocation -> {
+              clock.addAndGet(latency.toNanos());
+              return null;
+            })
+        .when(journal)
+        .flush();
+  }
+
+  private static final class TestScheduled implements Scheduled {
+    private final Duration interval;
+    private final Runnable operation;
+    private final List<TestScheduled> cancelled;
+
+    private TestScheduled(
+        final Duration interval, final Runnable operation, final List<TestScheduled> cancelled) {
+      this.interval = interval;
+      this.operation = operation;
+      this.cancelled = cancelled;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled.add(this);
+    }
+
+    @Override
+    public boolean isDone() {
+      return cancelled.contains(this);
+    }
+  }
+
+  private static final class TestScheduler implements Scheduler {
+    private final List<TestScheduled> operations = new ArrayList<>();
+    private final List<TestScheduled> cancelled = new ArrayList<>();
+
+    @Override
+    public Scheduled schedule(
+        final Duration initialDelay, final Duration interval, final Runnable callback) {
+      final var scheduled = new TestScheduled(interval, callback, cancelled);
+      operations.add(scheduled);
+      return scheduled;
+    }
+
+    private void runNext() {
+      operations.remove(0).operation.run();
+    }
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.ContentDigest;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.filesystem.manifest.FileSet;
+import io.camunda.zeebe.backup.filesystem.manifest.FileSet.NamedFile;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores the files of backups. A file which has the same name and content as the same file of a
+ * previous backup is hard linked to the previous backup's file instead of being copied again. As
+ * every backup links all of its files, the files of a backup can be deleted without considering
+ * other backups; a file's content is only removed once the last backup linking it is deleted.
+ */
+final class FileSetManager {
+  /**
+   * Format for path to the files of a file set, relative to the contents directory.
+   *
+   * <ul>
+   *   <li>{@code partitionId}
+   *   <li>{@code checkpointId}
+   *   <li>{@code nodeId}
+   *   <li>{@code fileSetName}
+   * </ul>
+   */
+  private static final String FILE_SET_PATH_FORMAT = "%s/%s-%s/%s";
+
+  /** Format for path to all files of a backup, see {@link #FILE_SET_PATH_FORMAT}. */
+  private static final String BACKUP_PATH_FORMAT = "%s/%s-%s";
+
+  private static final Logger LOG = LoggerFactory.getLogger(FileSetManager.class);
+
+  private final Path contentsDirectory;
+
+  FileSetManager(final Path contentsDirectory) {
+    this.contentsDirectory = contentsDirectory;
+  }
+
+  /**
+   * Saves the given files. Files which have the same name and content as a file of the given
+   * previous file set are hard linked to it, all other files are copied. All copied files and the
+   * file set's directory are flushed once all files are stored.
+   *
+   * @param id the backup which the files belong to
+   * @param fileSetName the name of the file set
+   * @param files the files to save
+   * @param previousBackup the backup of which files can be linked, or null if there is none
+   * @param previousFiles the same file set of the previous backup
+   * @return the saved files
+   */
+  FileSet save(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final NamedFileSet files,
+      final BackupIdentifier previousBackup,
+      final FileSet previousFiles) {
+    final var directory = fileSetPath(id, fileSetName);
+    final var savedFiles = new ArrayList<NamedFile>();
+    final var copiedFiles = new ArrayList<Path>();
+    try {
+      // remove leftovers of a previous attempt to save or delete this backup
+      FileUtil.deleteFolderIfExists(directory);
+      FileUtil.createDirectoriesDurably(directory);
+
+      for (final var namedFile : files.namedFiles().entrySet()) {
+        final var fileName = namedFile.getKey();
+        final var source = namedFile.getValue();
+        final var target = directory.resolve(fileName);
+        final var digest = ContentDigest.of(source);
+        final var reusable =
+            previousFiles.file(fileName).filter(previous -> previous.digest().equals(digest));
+
+        if (reusable.isEmpty()
+            || !tryLink(target, fileSetPath(previousBackup, fileSetName).resolve(fileName))) {
+          Files.copy(source, target);
+          copiedFiles.add(target);
+        }
+        savedFiles.add(new NamedFile(fileName, digest));
+      }
+
+      for (final var copiedFile : copiedFiles) {
+        FileUtil.flush(copiedFile);
+      }
+      FileUtil.flushDirectory(directory);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    LOG.debug(
+        "Saved {} files of backup {} to {}, linking {} unchanged files of backup {}",
+        savedFiles.size(),
+        id,
+        directory,
+        savedFiles.size() - copiedFiles.size(),
+        previousBackup);
+    return new FileSet(savedFiles);
+  }
+
+  /**
+   * Copies the files of the given file set to the given folder. Files are copied rather than
+   * linked, as the restored files are modified once they are used, which must not alter the backup.
+   */
+  NamedFileSet restore(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final FileSet fileSet,
+      final Path targetFolder) {
+    final var directory = fileSetPath(id, fileSetName);
+    final var restoredFiles = new HashMap<String, Path>();
+    try {
+      for (final var file : fileSet.files()) {
+        final var target = targetFolder.resolve(file.name());
+        Files.copy(directory.resolve(file.name()), target, StandardCopyOption.REPLACE_EXISTING);
+        restoredFiles.put(file.name(), target);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return new NamedFileSetImpl(restoredFiles);
+  }
+
+  /** Deletes all files of the given backup. Files linked by other backups remain with them. */
+  void delete(final BackupIdentifier id) {
+    try {
+      FileUtil.deleteFolderIfExists(backupPath(id));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private boolean tryLink(final Path link, final Path existing) {
+    try {
+      Files.createLink(link, existing);
+      return true;
+    } catch (final IOException | UnsupportedOperationException e) {
+      // e.g. the previous backup was deleted concurrently, or the filesystem has no hard links
+      LOG.debug("Failed to link {} to {}, copying it instead", link, existing, e);
+      return false;
+    }
+  }
+
+  private Path backupPath(final BackupIdentifier id) {
+    return contentsDirectory.resolve(
+        BACKUP_PATH_FORMAT.formatted(id.partitionId(), id.checkpointId(), id.nodeId()));
+  }
+
+  private Path fileSetPath(final BackupIdentifier id, final String fileSetName) {
+    return contentsDirectory.resolve(
+        FILE_SET_PATH_FORMAT.formatted(
+            id.partitionId(), id.checkpointId(), id.nodeId(), fileSetName));
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStoreException.ConfigurationException;
+
+/**
+ * @param basePath the directory in which all backups are stored, e.g. a mounted NFS share. It must
+ *     be on the same filesystem for all files of the store, as files of subsequent backups are hard
+ *     linked.
+ */
+public record FilesystemBackupConfig(String basePath) {
+  public FilesystemBackupConfig {
+    if (basePath == null || basePath.isBlank()) {
+      throw new ConfigurationException("basePath must be provided");
+    }
+  }
+
+  public static final class Builder {
+    private String basePath;
+
+    public Builder withBasePath(final String basePath) {
+      this.basePath = basePath;
+      return this;
+    }
+
+    public FilesystemBackupConfig build() {
+      return new FilesystemBackupConfig(basePath);
+    }
+  }
+}
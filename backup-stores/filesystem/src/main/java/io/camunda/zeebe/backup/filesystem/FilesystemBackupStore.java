@@ -0,0 +1,236 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
+import io.camunda.zeebe.backup.api.BackupStatus;
+import io.camunda.zeebe.backup.api.BackupStatusCode;
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.BackupStatusImpl;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStoreException.ConfigurationException;
+import io.camunda.zeebe.backup.filesystem.manifest.FileSet;
+import io.camunda.zeebe.backup.filesystem.manifest.Manifest;
+import io.camunda.zeebe.backup.filesystem.manifest.Manifest.StatusCode;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link BackupStore} for a local directory, or a network filesystem like NFS which is mounted into
+ * it.
+ *
+ * <p>Backups are incremental: a file which has the same name and content as a file of the latest
+ * previous completed backup of the same partition is hard linked instead of copied. Every backup
+ * thus has its own directory entry for each of its files, so deleting a backup never affects other
+ * backups. Manifests and copied files are flushed before a backup is marked as completed.
+ */
+public final class FilesystemBackupStore implements BackupStore {
+  public static final String ERROR_MSG_BACKUP_NOT_FOUND =
+      "Expected to restore from backup with id '%s', but does not exist.";
+  public static final String ERROR_MSG_BACKUP_WRONG_STATE_TO_RESTORE =
+      "Expected to restore from completed backup with id '%s', but was in state '%s'";
+  public static final String SNAPSHOT_FILESET_NAME = "snapshot";
+  public static final String SEGMENTS_FILESET_NAME = "segments";
+  private static final String MANIFESTS_DIRECTORY_NAME = "manifests";
+  private static final String CONTENTS_DIRECTORY_NAME = "contents";
+  private static final Logger LOG = LoggerFactory.getLogger(FilesystemBackupStore.class);
+  private final ExecutorService executor;
+  private final ManifestManager manifestManager;
+  private final FileSetManager fileSetManager;
+
+  public FilesystemBackupStore(final FilesystemBackupConfig config) {
+    final var basePath = Path.of(config.basePath());
+    executor = Executors.newWorkStealingPool(4);
+    manifestManager = new ManifestManager(basePath.resolve(MANIFESTS_DIRECTORY_NAME));
+    fileSetManager = new FileSetManager(basePath.resolve(CONTENTS_DIRECTORY_NAME));
+  }
+
+  @Override
+  public CompletableFuture<Void> save(final Backup backup) {
+    return CompletableFuture.runAsync(
+        () -> {
+          final var persistedManifest = manifestManager.createInitialManifest(backup);
+          try {
+            final var previous = findPreviousBackup(backup.id());
+            final var previousId = previous.map(Manifest::id).orElse(null);
+            final var snapshot =
+                fileSetManager.save(
+                    backup.id(),
+                    SNAPSHOT_FILESET_NAME,
+                    backup.snapshot(),
+                    previousId,
+                    previous.map(Manifest::snapshot).orElseGet(FileSet::empty));
+            final var segments =
+                fileSetManager.save(
+                    backup.id(),
+                    SEGMENTS_FILESET_NAME,
+                    backup.segments(),
+                    previousId,
+                    previous.map(Manifest::segments).orElseGet(FileSet::empty));
+            manifestManager.completeManifest(persistedManifest, snapshot, segments);
+          } catch (final Exception e) {
+            manifestManager.markAsFailed(persistedManifest.id(), e.getMessage());
+            throw e;
+          }
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<BackupStatus> getStatus(final BackupIdentifier id) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          final var manifest = manifestManager.getManifest(id);
+          if (manifest == null) {
+            return BackupStatusImpl.doesNotExist(id);
+          }
+          return toStatus(manifest);
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Collection<BackupStatus>> list(final BackupIdentifierWildcard wildcard) {
+    return CompletableFuture.supplyAsync(
+        () ->
+            manifestManager.listManifests(wildcard).stream()
+                .map(FilesystemBackupStore::toStatus)
+                .toList(),
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> delete(final BackupIdentifier id) {
+    return CompletableFuture.runAsync(
+        () -> {
+          manifestManager.deleteManifest(id);
+          fileSetManager.delete(id);
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Backup> restore(final BackupIdentifier id, final Path targetFolder) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          final var manifest = manifestManager.getManifest(id);
+          if (manifest == null) {
+            throw new RuntimeException(ERROR_MSG_BACKUP_NOT_FOUND.formatted(id));
+          }
+          return switch (manifest.statusCode()) {
+            case FAILED, IN_PROGRESS -> throw new RuntimeException(
+                ERROR_MSG_BACKUP_WRONG_STATE_TO_RESTORE.formatted(id, manifest.statusCode()));
+            case COMPLETED -> {
+              final var snapshot =
+                  fileSetManager.restore(
+                      id, SNAPSHOT_FILESET_NAME, manifest.snapshot(), targetFolder);
+              final var segments =
+                  fileSetManager.restore(
+                      id, SEGMENTS_FILESET_NAME, manifest.segments(), targetFolder);
+              yield new BackupImpl(id, manifest.descriptor(), snapshot, segments);
+            }
+          };
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<BackupStatusCode> markFailed(
+      final BackupIdentifier id, final String failureReason) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          manifestManager.markAsFailed(id, failureReason);
+          return BackupStatusCode.FAILED;
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> closeAsync() {
+    return CompletableFuture.runAsync(
+        () -> {
+          try {
+            executor.shutdown();
+            final var closed = executor.awaitTermination(1, TimeUnit.MINUTES);
+            if (!closed) {
+              executor.shutdownNow();
+            }
+          } catch (final Exception e) {
+            throw new RuntimeException(e);
+          }
+        });
+  }
+
+  /**
+   * Returns the latest completed backup of the same partition which was taken before the given
+   * backup, if any. Failing to find it is not an error, the backup is then simply not incremental.
+   */
+  private Optional<Manifest> findPreviousBackup(final BackupIdentifier id) {
+    try {
+      return manifestManager.listManifests(partitionWildcard(id)).stream()
+          .filter(manifest -> manifest.statusCode() == StatusCode.COMPLETED)
+          .filter(manifest -> manifest.id().checkpointId() < id.checkpointId())
+          .max(Comparator.comparingLong(manifest -> manifest.id().checkpointId()));
+    } catch (final Exception e) {
+      LOG.warn("Failed to find previous backup of {}, copying all files", id, e);
+      return Optional.empty();
+    }
+  }
+
+  private static BackupIdentifierWildcard partitionWildcard(final BackupIdentifier id) {
+    return new BackupIdentifierWildcardImpl(
+        Optional.empty(), Optional.of(id.partitionId()), Optional.empty());
+  }
+
+  private static BackupStatus toStatus(final Manifest manifest) {
+    final var statusCode =
+        switch (manifest.statusCode()) {
+          case IN_PROGRESS -> BackupStatusCode.IN_PROGRESS;
+          case COMPLETED -> BackupStatusCode.COMPLETED;
+          case FAILED -> BackupStatusCode.FAILED;
+        };
+    return new BackupStatusImpl(
+        manifest.id(),
+        Optional.ofNullable(manifest.descriptor()),
+        statusCode,
+        Optional.ofNullable(manifest.failureReason()),
+        Optional.ofNullable(manifest.createdAt()),
+        Optional.ofNullable(manifest.modifiedAt()));
+  }
+
+  /**
+   * Ensures that the base path exists, or can be created, and that backups can be written to it.
+   */
+  public static void validateConfig(final FilesystemBackupConfig config) {
+    final var basePath = Path.of(config.basePath());
+    try {
+      FileUtil.createDirectoriesDurably(basePath);
+    } catch (final Exception e) {
+      throw new ConfigurationException(
+          "Expected to create base path '%s', but failed".formatted(basePath), e);
+    }
+
+    if (!Files.isWritable(basePath)) {
+      throw new ConfigurationException(
+          "Expected base path '%s' to be writable, but it is not".formatted(basePath));
+    }
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import io.camunda.zeebe.backup.filesystem.manifest.Manifest.StatusCode;
+
+public abstract class FilesystemBackupStoreException extends RuntimeException {
+  public FilesystemBackupStoreException(final String message) {
+    super(message);
+  }
+
+  public FilesystemBackupStoreException(final String message, final Throwable cause) {
+    super(message, cause);
+  }
+
+  public static class UnexpectedManifestState extends FilesystemBackupStoreException {
+    public UnexpectedManifestState(final StatusCode expected, final StatusCode actual) {
+      super("Expected manifest in state '%s', but was in '%s'".formatted(expected, actual));
+    }
+
+    public UnexpectedManifestState(final String message) {
+      super(message);
+    }
+  }
+
+  public static class ConfigurationException extends FilesystemBackupStoreException {
+    public ConfigurationException(final String message) {
+      super(message);
+    }
+
+    public ConfigurationException(final String message, final Exception cause) {
+      super(message, cause);
+    }
+  }
+}
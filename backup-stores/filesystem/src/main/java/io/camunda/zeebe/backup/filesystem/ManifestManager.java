@@ -0,0 +1,195 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.filesystem.manifest.FileSet;
+import io.camunda.zeebe.backup.filesystem.manifest.Manifest;
+import io.camunda.zeebe.backup.filesystem.manifest.Manifest.StatusCode;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Reads and writes the manifests of backups. Manifests are written to a temporary file first, which
+ * is flushed and then atomically moved in place, so a manifest is never observed partially written.
+ * Writes are serialized, so that checking a manifest's state and updating it is atomic.
+ */
+final class ManifestManager {
+
+  static final String ERROR_MSG_MANIFEST_ALREADY_EXISTS =
+      "Expected to create new manifest for backup '%s', but already exists.";
+
+  /**
+   * Format for path to all manifests, relative to the manifests directory. Backups of the same
+   * partition share a directory, which is never removed, so that concurrently saving and deleting
+   * backups of different nodes never race on creating and removing directories.
+   *
+   * <ul>
+   *   <li>{@code partitionId}
+   *   <li>{@code checkpointId}
+   *   <li>{@code nodeId}
+   * </ul>
+   */
+  private static final String MANIFEST_PATH_FORMAT = "%s/%s-%s.json";
+
+  private static final String MANIFEST_EXTENSION = ".json";
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper()
+          .registerModule(new Jdk8Module())
+          .registerModule(new JavaTimeModule())
+          .disable(WRITE_DATES_AS_TIMESTAMPS)
+          .setSerializationInclusion(Include.NON_ABSENT);
+
+  private final Path manifestsDirectory;
+
+  ManifestManager(final Path manifestsDirectory) {
+    this.manifestsDirectory = manifestsDirectory;
+  }
+
+  synchronized Manifest createInitialManifest(final Backup backup) {
+    if (getManifest(backup.id()) != null) {
+      throw new UnexpectedManifestState(ERROR_MSG_MANIFEST_ALREADY_EXISTS.formatted(backup.id()));
+    }
+
+    final var manifest = Manifest.createInProgress(backup);
+    write(manifest);
+    return manifest;
+  }
+
+  synchronized Manifest completeManifest(
+      final Manifest inProgress, final FileSet snapshot, final FileSet segments) {
+    final var current = getManifest(inProgress.id());
+    final var currentStatus = current == null ? null : current.statusCode();
+    if (currentStatus != StatusCode.IN_PROGRESS) {
+      throw new UnexpectedManifestState(StatusCode.IN_PROGRESS, currentStatus);
+    }
+
+    final var completed = current.complete(snapshot, segments);
+    write(completed);
+    return completed;
+  }
+
+  synchronized void markAsFailed(final BackupIdentifier id, final String failureReason) {
+    final var current = getManifest(id);
+    if (current == null) {
+      write(Manifest.createFailed(id, failureReason));
+    } else if (current.statusCode() != StatusCode.FAILED) {
+      write(current.fail(failureReason));
+    }
+  }
+
+  /**
+   * @return the manifest of the given backup, or null if it doesn't exist
+   */
+  Manifest getManifest(final BackupIdentifier id) {
+    return read(manifestPath(id));
+  }
+
+  Collection<Manifest> listManifests(final BackupIdentifierWildcard wildcard) {
+    final var searchDirectory =
+        wildcard
+            .partitionId()
+            .map(partitionId -> manifestsDirectory.resolve(String.valueOf(partitionId)))
+            .orElse(manifestsDirectory);
+    final var depth = wildcard.partitionId().isPresent() ? 1 : 2;
+    if (!Files.isDirectory(searchDirectory)) {
+      return List.of();
+    }
+
+    try (final Stream<Path> manifests =
+        Files.find(
+            searchDirectory,
+            depth,
+            (path, attributes) ->
+                attributes.isRegularFile()
+                    && path.getFileName().toString().endsWith(MANIFEST_EXTENSION))) {
+      return manifests
+          .map(this::read)
+          .filter(Objects::nonNull)
+          .filter(manifest -> wildcard.matches(manifest.id()))
+          .toList();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  synchronized void deleteManifest(final BackupIdentifier id) {
+    final var manifestPath = manifestPath(id);
+    try {
+      Files.deleteIfExists(manifestPath);
+      Files.deleteIfExists(temporaryPath(manifestPath));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void write(final Manifest manifest) {
+    final var manifestPath = manifestPath(manifest.id());
+    final var temporaryPath = temporaryPath(manifestPath);
+    try {
+      FileUtil.createDirectoriesDurably(manifestPath.getParent());
+      try (final var channel =
+          FileChannel.open(
+              temporaryPath,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.TRUNCATE_EXISTING,
+              StandardOpenOption.WRITE)) {
+        final var content = ByteBuffer.wrap(MAPPER.writeValueAsBytes(manifest));
+        while (content.hasRemaining()) {
+          channel.write(content);
+        }
+        channel.force(true);
+      }
+      FileUtil.moveDurably(temporaryPath, manifestPath, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Manifest read(final Path manifestPath) {
+    try {
+      return MAPPER.readValue(Files.readAllBytes(manifestPath), Manifest.class);
+    } catch (final NoSuchFileException e) {
+      // does not exist, or was deleted concurrently
+      return null;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Path manifestPath(final BackupIdentifier id) {
+    return manifestsDirectory.resolve(
+        MANIFEST_PATH_FORMAT.formatted(id.partitionId(), id.checkpointId(), id.nodeId()));
+  }
+
+  private static Path temporaryPath(final Path manifestPath) {
+    return manifestPath.resolveSibling(manifestPath.getFileName() + TEMPORARY_SUFFIX);
+  }
+}
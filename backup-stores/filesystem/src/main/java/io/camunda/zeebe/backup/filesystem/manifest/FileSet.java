@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.filesystem.manifest;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Lists the stored files of a file set, along with the digest of their content.
+ *
+ * @param files the stored files
+ */
+public record FileSet(List<NamedFile> files) {
+  public FileSet {
+    Objects.requireNonNull(files);
+  }
+
+  public static FileSet empty() {
+    return new FileSet(List.of());
+  }
+
+  /**
+   * @param name the name of the file
+   * @return the file with the given name, if it's part of this set
+   */
+  public Optional<NamedFile> file(final String name) {
+    return files.stream().filter(file -> file.name().equals(name)).findFirst();
+  }
+
+  /**
+   * @param name the name of the file
+   * @param digest the digest of the file's content, see {@link
+   *     io.camunda.zeebe.backup.common.ContentDigest}
+   */
+  public record NamedFile(String name, String digest) {}
+}
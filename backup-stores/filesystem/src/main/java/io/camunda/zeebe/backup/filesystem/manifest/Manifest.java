@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.filesystem.manifest;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import java.time.Instant;
+
+/**
+ * Describes a backup and its state. The descriptor is only absent for backups which were marked as
+ * failed before they were ever saved.
+ */
+public record Manifest(
+    BackupIdentifierImpl id,
+    BackupDescriptorImpl descriptor,
+    StatusCode statusCode,
+    FileSet snapshot,
+    FileSet segments,
+    Instant createdAt,
+    Instant modifiedAt,
+    String failureReason) {
+
+  public static Manifest createInProgress(final Backup backup) {
+    final var creationTime = Instant.now();
+    return new Manifest(
+        BackupIdentifierImpl.from(backup.id()),
+        BackupDescriptorImpl.from(backup.descriptor()),
+        StatusCode.IN_PROGRESS,
+        FileSet.empty(),
+        FileSet.empty(),
+        creationTime,
+        creationTime,
+        null);
+  }
+
+  public static Manifest createFailed(final BackupIdentifier id, final String failureReason) {
+    final var creationTime = Instant.now();
+    return new Manifest(
+        BackupIdentifierImpl.from(id),
+        null,
+        StatusCode.FAILED,
+        FileSet.empty(),
+        FileSet.empty(),
+        creationTime,
+        creationTime,
+        failureReason);
+  }
+
+  public Manifest complete(final FileSet snapshot, final FileSet segments) {
+    return new Manifest(
+        id, descriptor, StatusCode.COMPLETED, snapshot, segments, createdAt, Instant.now(), null);
+  }
+
+  public Manifest fail(final String failureReason) {
+    return new Manifest(
+        id,
+        descriptor,
+        StatusCode.FAILED,
+        snapshot,
+        segments,
+        createdAt,
+        Instant.now(),
+        failureReason);
+  }
+
+  public enum StatusCode {
+    IN_PROGRESS,
+    COMPLETED,
+    FAILED
+  }
+}
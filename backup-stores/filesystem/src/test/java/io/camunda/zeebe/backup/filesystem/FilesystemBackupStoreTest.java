@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.testkit.BackupStoreTestKit;
+import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class FilesystemBackupStoreTest {
+
+  private @TempDir Path basePath;
+  private FilesystemBackupStore store;
+
+  @BeforeEach
+  void setup() {
+    store =
+        new FilesystemBackupStore(
+            new FilesystemBackupConfig.Builder().withBasePath(basePath.toString()).build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    store.closeAsync().join();
+  }
+
+  @Test
+  void shouldLinkUnchangedFilesOfPreviousBackup() throws IOException {
+    // given
+    final var previousBackup = new TestBackupProvider().simpleBackup();
+    store.save(previousBackup).join();
+    final var changedFile = previousBackup.segments().namedFiles().get("segment-file-2");
+    Files.writeString(changedFile, "changed");
+
+    // when
+    final var backup = nextBackup(previousBackup);
+    store.save(backup).join();
+
+    // then
+    assertThat(
+            Files.isSameFile(
+                storedFile(backup, "segments", "segment-file-1"),
+                storedFile(previousBackup, "segments", "segment-file-1")))
+        .isTrue();
+    assertThat(
+            Files.isSameFile(
+                storedFile(backup, "segments", "segment-file-2"),
+                storedFile(previousBackup, "segments", "segment-file-2")))
+        .isFalse();
+    assertThat(storedFile(backup, "segments", "segment-file-2")).hasContent("changed");
+  }
+
+  @Test
+  void shouldKeepLinkedFilesWhenDeletingPreviousBackup(@TempDir final Path targetDir)
+      throws IOException {
+    // given
+    final var previousBackup = new TestBackupProvider().simpleBackup();
+    final var backup = nextBackup(previousBackup);
+    store.save(previousBackup).join();
+    store.save(backup).join();
+
+    // when
+    store.delete(previousBackup.id()).join();
+
+    // then
+    assertThat(basePath.resolve("contents/2/3-1")).doesNotExist();
+    final var restored = store.restore(backup.id(), targetDir).join();
+    for (final var file : backup.segments().namedFiles().entrySet()) {
+      assertThat(restored.segments().namedFiles().get(file.getKey()))
+          .hasSameBinaryContentAs(file.getValue());
+    }
+  }
+
+  @Test
+  void shouldNotModifyBackupWhenModifyingRestoredFiles(@TempDir final Path targetDir)
+      throws IOException {
+    // given
+    final var backup = new TestBackupProvider().simpleBackup();
+    store.save(backup).join();
+    final var restored = store.restore(backup.id(), targetDir).join();
+
+    // when
+    Files.writeString(restored.segments().namedFiles().get("segment-file-1"), "modified");
+
+    // then
+    assertThat(storedFile(backup, "segments", "segment-file-1"))
+        .hasSameBinaryContentAs(backup.segments().namedFiles().get("segment-file-1"));
+  }
+
+  private Path storedFile(final Backup backup, final String fileSetName, final String fileName) {
+    final var id = backup.id();
+    return basePath.resolve(
+        "contents/%d/%d-%d/%s/%s"
+            .formatted(id.partitionId(), id.checkpointId(), id.nodeId(), fileSetName, fileName));
+  }
+
+  private static Backup nextBackup(final Backup backup) {
+    final var id = backup.id();
+    return new BackupImpl(
+        new BackupIdentifierImpl(id.nodeId(), id.partitionId(), id.checkpointId() + 1),
+        backup.descriptor(),
+        backup.snapshot(),
+        backup.segments());
+  }
+
+  @Nested
+  final class TestKit implements BackupStoreTestKit {
+
+    @Override
+    public BackupStore getStore() {
+      return store;
+    }
+
+    @Override
+    public Class<? extends Exception> getBackupInInvalidStateExceptionClass() {
+      return UnexpectedManifestState.class;
+    }
+  }
+}
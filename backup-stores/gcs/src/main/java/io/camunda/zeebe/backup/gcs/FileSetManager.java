@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.backup.gcs;
 
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.BucketInfo;
 import com.google.cloud.storage.Storage;
@@ -14,14 +16,35 @@ import com.google.cloud.storage.Storage.BlobListOption;
 import com.google.cloud.storage.Storage.BlobWriteOption;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.ContentDigest;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import io.camunda.zeebe.backup.gcs.manifest.FileSet;
 import io.camunda.zeebe.backup.gcs.manifest.FileSet.NamedFile;
+import io.camunda.zeebe.backup.metrics.BackupStoreMetrics;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Saves, restores and deletes the files of backups. Files are transferred in parallel on the given
+ * transfer executor, whose number of threads limits the number of concurrent transfers. Each
+ * transfer buffers at most one part of a file in memory, so the memory used for transfers is
+ * bounded by the part size times the number of threads.
+ */
 final class FileSetManager {
   /**
    * The path format consists of the following elements:
@@ -37,56 +60,268 @@ final class FileSetManager {
    */
   private static final String PATH_FORMAT = "%scontents/%s/%s/%s/%s/";
 
+  private static final Logger LOG = LoggerFactory.getLogger(FileSetManager.class);
+
   private final Storage client;
   private final BucketInfo bucketInfo;
   private final String basePath;
+  private final Executor transferExecutor;
+  private final int partSize;
+  private final BackupStoreMetrics metrics = new BackupStoreMetrics("gcs");
 
-  FileSetManager(final Storage client, final BucketInfo bucketInfo, final String basePath) {
+  FileSetManager(
+      final Storage client,
+      final BucketInfo bucketInfo,
+      final String basePath,
+      final Executor transferExecutor,
+      final int partSize) {
     this.client = client;
     this.bucketInfo = bucketInfo;
     this.basePath = basePath;
+    this.transferExecutor = transferExecutor;
+    this.partSize = partSize;
   }
 
-  void save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
+  /**
+   * Saves the given files. Files which have the same name and content as a file of the given
+   * previous set are not uploaded again, instead the returned set refers to the previously uploaded
+   * blob.
+   *
+   * @param id the backup which the files belong to
+   * @param fileSetName the name of the file set
+   * @param fileSet the files to save
+   * @param previousFiles the same file set of a previous backup, where all files have a {@link
+   *     NamedFile#sourceBackup() source backup}
+   * @return the saved files
+   */
+  FileSet save(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final NamedFileSet fileSet,
+      final FileSet previousFiles) {
+    final var previousByName =
+        previousFiles.files().stream().collect(Collectors.toMap(NamedFile::name, f -> f));
+    final var savedFiles = new ArrayList<CompletableFuture<NamedFile>>();
     for (final var namedFile : fileSet.namedFiles().entrySet()) {
       final var fileName = namedFile.getKey();
       final var filePath = namedFile.getValue();
+      savedFiles.add(
+          CompletableFuture.supplyAsync(
+              () -> saveFile(id, fileSetName, fileName, filePath, previousByName.get(fileName)),
+              transferExecutor));
+    }
+
+    return new FileSet(awaitAll(savedFiles));
+  }
+
+  private NamedFile saveFile(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final String fileName,
+      final Path filePath,
+      final NamedFile previousFile) {
+    final var digest = ContentDigest.of(filePath);
+    if (previousFile != null && digest.equals(previousFile.digest())) {
+      return previousFile;
+    }
+
+    try {
+      final var transfer = metrics.startUpload(Files.size(filePath));
       try {
+        // the buffer size is the size of the chunks in which the file is uploaded
         client.createFrom(
-            blobInfo(id, fileSetName, fileName), filePath, BlobWriteOption.doesNotExist());
-      } catch (final IOException e) {
-        throw new UncheckedIOException(e);
+            blobInfo(id, fileSetName, fileName),
+            filePath,
+            partSize,
+            BlobWriteOption.doesNotExist());
+        transfer.complete(null, null);
+      } catch (final IOException | RuntimeException e) {
+        transfer.complete(null, e);
+        throw e;
       }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
     }
+    return new NamedFile(fileName, digest, null);
   }
 
-  public void delete(final BackupIdentifier id, final String fileSetName) {
+  /**
+   * Deletes all blobs of the given file set, except the given blobs which are still referenced by
+   * other backups.
+   *
+   * @param id the backup which the file set belongs to
+   * @param fileSetName the name of the file set
+   * @param referencedBlobs names of blobs which must not be deleted
+   */
+  public void delete(
+      final BackupIdentifier id, final String fileSetName, final Set<String> referencedBlobs) {
     for (final var blob :
         client
             .list(bucketInfo.getName(), BlobListOption.prefix(fileSetPath(id, fileSetName)))
             .iterateAll()) {
-      blob.delete();
+      if (!referencedBlobs.contains(blob.getName())) {
+        blob.delete();
+      }
     }
   }
 
+  /**
+   * Deletes the given file of the given backup, if it exists.
+   *
+   * @param id the backup which uploaded the file
+   * @param fileSetName the name of the file set
+   * @param fileName the name of the file
+   */
+  void deleteFile(final BackupIdentifier id, final String fileSetName, final String fileName) {
+    client.delete(blobInfo(id, fileSetName, fileName).getBlobId());
+  }
+
+  /**
+   * Returns the name of the blob in which the given file of the given file set is stored, taking
+   * into account that the file might have been uploaded by a previous backup.
+   */
+  String blobName(final BackupIdentifier id, final String fileSetName, final NamedFile file) {
+    return blobInfo(sourceBackup(id, file), fileSetName, file.name()).getName();
+  }
+
   public NamedFileSet restore(
       final BackupIdentifier id,
       final String filesetName,
       final FileSet fileSet,
       final Path targetFolder) {
-    final var pathByName =
-        fileSet.files().stream()
-            .collect(Collectors.toMap(NamedFile::name, (f) -> targetFolder.resolve(f.name())));
-
-    for (final var entry : pathByName.entrySet()) {
-      final var fileName = entry.getKey();
-      final var filePath = entry.getValue();
-      client.downloadTo(blobInfo(id, filesetName, fileName).getBlobId(), filePath);
+    final var pathByName = new HashMap<String, Path>();
+    final var downloads = new ArrayList<CompletableFuture<Void>>();
+    for (final var file : fileSet.files()) {
+      final var filePath = targetFolder.resolve(file.name());
+      final var blobId = blobInfo(sourceBackup(id, file), filesetName, file.name()).getBlobId();
+      pathByName.put(file.name(), filePath);
+      downloads.add(download(blobId, filePath));
     }
 
+    awaitAll(downloads);
     return new NamedFileSetImpl(pathByName);
   }
 
+  /**
+   * Downloads the given blob to the given file. Blobs larger than the part size are downloaded in
+   * parallel ranges, each range being buffered in memory until it's written to the file.
+   */
+  private CompletableFuture<Void> download(final BlobId blobId, final Path filePath) {
+    // the range downloads are scheduled without waiting for them, so they can't starve the executor
+    return CompletableFuture.supplyAsync(() -> client.get(blobId), transferExecutor)
+        .thenCompose(
+            blob -> {
+              if (blob != null && blob.getSize() != null && blob.getSize() > partSize) {
+                return downloadRanges(blob, filePath);
+              }
+
+              // if the blob does not exist, downloading it fails with a meaningful error
+              final var size = blob == null || blob.getSize() == null ? 0 : blob.getSize();
+              final var transfer = metrics.startDownload(size);
+              try {
+                client.downloadTo(blobId, filePath);
+                transfer.complete(null, null);
+              } catch (final RuntimeException e) {
+                transfer.complete(null, e);
+                throw e;
+              }
+              return CompletableFuture.completedFuture(null);
+            });
+  }
+
+  private CompletableFuture<Void> downloadRanges(final Blob blob, final Path filePath) {
+    final FileChannel channel;
+    try {
+      channel =
+          FileChannel.open(
+              filePath,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.TRUNCATE_EXISTING,
+              StandardOpenOption.WRITE);
+    } catch (final IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    final long size = blob.getSize();
+    LOG.trace("Downloading blob {} of {} bytes in parts of {} bytes", blob, size, partSize);
+    final var transfer = metrics.startDownload(size);
+    final var ranges = new ArrayList<CompletableFuture<Void>>();
+    for (long offset = 0; offset < size; offset += partSize) {
+      final long position = offset;
+      final int length = (int) Math.min(partSize, size - offset);
+      // the blob id includes the generation, so all ranges are read from the same blob version
+      ranges.add(
+          CompletableFuture.runAsync(
+              () -> downloadRange(blob.getBlobId(), channel, position, length), transferExecutor));
+    }
+
+    return CompletableFuture.allOf(ranges.toArray(CompletableFuture[]::new))
+        .whenComplete(
+            (success, error) -> {
+              transfer.complete(success, error);
+              closeQuietly(channel);
+              if (error != null) {
+                cleanupPartialDownload(filePath);
+              }
+            });
+  }
+
+  private void downloadRange(
+      final BlobId blobId, final FileChannel channel, final long position, final int length) {
+    final var buffer = ByteBuffer.allocate(length);
+    try (final var reader = client.reader(blobId)) {
+      reader.seek(position);
+      reader.limit(position + length);
+      while (buffer.hasRemaining()) {
+        if (reader.read(buffer) < 0) {
+          throw new IOException(
+              "Expected to read %d bytes of blob %s at position %d, but reached its end"
+                  .formatted(length, blobId, position));
+        }
+      }
+
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer, position + buffer.position());
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void closeQuietly(final FileChannel channel) {
+    try {
+      channel.close();
+    } catch (final IOException e) {
+      LOG.warn("Failed to close file channel", e);
+    }
+  }
+
+  private static void cleanupPartialDownload(final Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      LOG.warn("Failed to clean up partially downloaded file {}", file, e);
+    }
+  }
+
+  /** Waits for all given transfers, and rethrows the failure of the first failed transfer as is. */
+  private static <T> List<T> awaitAll(final List<CompletableFuture<T>> transfers) {
+    try {
+      CompletableFuture.allOf(transfers.toArray(CompletableFuture[]::new)).join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+    return transfers.stream().map(CompletableFuture::join).toList();
+  }
+
+  private BackupIdentifier sourceBackup(final BackupIdentifier id, final NamedFile file) {
+    return file.sourceBackup() != null ? file.sourceBackup() : id;
+  }
+
   private String fileSetPath(final BackupIdentifier id, final String fileSetName) {
     return PATH_FORMAT.formatted(
         basePath, id.partitionId(), id.checkpointId(), id.nodeId(), fileSetName);
@@ -12,11 +12,40 @@ import static java.util.Objects.requireNonNull;
 import io.camunda.zeebe.backup.gcs.GcsBackupStoreException.ConfigurationException;
 import io.camunda.zeebe.backup.gcs.GcsConnectionConfig.Authentication.Auto;
 
-public record GcsBackupConfig(String bucketName, String basePath, GcsConnectionConfig connection) {
-  public GcsBackupConfig(String bucketName, String basePath, GcsConnectionConfig connection) {
+/**
+ * @param bucketName the name of the bucket to store backups in
+ * @param basePath an optional prefix of all blob names
+ * @param connection how to connect to Google Cloud Storage
+ * @param maxConcurrentTransfers the maximum number of files, or parts of files, which are uploaded
+ *     or downloaded concurrently
+ * @param partSize size in bytes of the parts in which large files are transferred. Files larger
+ *     than this are downloaded in parallel ranges, and uploaded in chunks of this size. The memory
+ *     used for transfers is bounded by the part size times {@code maxConcurrentTransfers}.
+ */
+public record GcsBackupConfig(
+    String bucketName,
+    String basePath,
+    GcsConnectionConfig connection,
+    int maxConcurrentTransfers,
+    int partSize) {
+  public GcsBackupConfig(
+      String bucketName,
+      String basePath,
+      GcsConnectionConfig connection,
+      int maxConcurrentTransfers,
+      int partSize) {
     this.bucketName = requireBucketName(bucketName);
     this.basePath = sanitizeBasePath(basePath);
     this.connection = requireNonNull(connection);
+    this.maxConcurrentTransfers = requirePositive("maxConcurrentTransfers", maxConcurrentTransfers);
+    this.partSize = requirePositive("partSize", partSize);
+  }
+
+  private static int requirePositive(final String name, final int value) {
+    if (value < 1) {
+      throw new ConfigurationException("%s must be at least 1, but was %d".formatted(name, value));
+    }
+    return value;
   }
 
   private static String requireBucketName(final String bucketName) {
@@ -57,6 +86,8 @@ public record GcsBackupConfig(String bucketName, String basePath, GcsConnectionC
     private String basePath;
     private String host;
     private GcsConnectionConfig.Authentication auth;
+    private int maxConcurrentTransfers = 8;
+    private int partSize = 8 * 1024 * 1024;
 
     public Builder withBucketName(final String bucketName) {
       this.bucketName = bucketName;
@@ -83,8 +114,23 @@ public record GcsBackupConfig(String bucketName, String basePath, GcsConnectionC
       return this;
     }
 
+    public Builder withMaxConcurrentTransfers(final int maxConcurrentTransfers) {
+      this.maxConcurrentTransfers = maxConcurrentTransfers;
+      return this;
+    }
+
+    public Builder withPartSize(final int partSize) {
+      this.partSize = partSize;
+      return this;
+    }
+
     public GcsBackupConfig build() {
-      return new GcsBackupConfig(bucketName, basePath, new GcsConnectionConfig(host, auth));
+      return new GcsBackupConfig(
+          bucketName,
+          basePath,
+          new GcsConnectionConfig(host, auth),
+          maxConcurrentTransfers,
+          partSize);
     }
   }
 }
@@ -17,27 +17,54 @@ import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStatusImpl;
 import io.camunda.zeebe.backup.gcs.GcsBackupStoreException.ConfigurationException.CouldNotAccessBucketException;
+import io.camunda.zeebe.backup.gcs.GcsBackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.gcs.manifest.FileSet;
+import io.camunda.zeebe.backup.gcs.manifest.FileSet.NamedFile;
 import io.camunda.zeebe.backup.gcs.manifest.Manifest;
+import io.camunda.zeebe.backup.gcs.manifest.Manifest.CompletedManifest;
+import io.camunda.zeebe.backup.gcs.manifest.Manifest.StatusCode;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * {@link BackupStore} for Google Cloud Storage.
+ *
+ * <p>Backups are incremental: a file which has the same name and content as a file of the latest
+ * previous completed backup of the same partition is not uploaded again. Instead, the manifest
+ * refers to the blob of the backup which uploaded it (see {@link NamedFile#sourceBackup()}).
+ * References are always resolved when saving, so restoring never has to follow a chain of backups.
+ * When a backup is deleted, blobs which are still referenced by other backups are kept, and are
+ * deleted together with the last backup referencing them.
+ */
 public final class GcsBackupStore implements BackupStore {
   public static final String ERROR_MSG_BACKUP_NOT_FOUND =
       "Expected to restore from backup with id '%s', but does not exist.";
   public static final String ERROR_MSG_BACKUP_WRONG_STATE_TO_RESTORE =
       "Expected to restore from completed backup with id '%s', but was in state '%s'";
   public static final String ERROR_MSG_ACCESS_FAILED = "Expected to access bucket '%s', but failed";
+  public static final String ERROR_MSG_PREVIOUS_BACKUP_REMOVED =
+      "Expected previous backup '%s' to be completed, as files of it are reused, but it was removed";
   public static final String SNAPSHOT_FILESET_NAME = "snapshot";
   public static final String SEGMENTS_FILESET_NAME = "segments";
+  private static final Logger LOG = LoggerFactory.getLogger(GcsBackupStore.class);
   private final ExecutorService executor;
+  private final ExecutorService transferExecutor;
   private final ManifestManager manifestManager;
   private final FileSetManager fileSetManager;
   private final Storage client;
@@ -51,8 +78,13 @@ public final class GcsBackupStore implements BackupStore {
     final var basePath = Optional.ofNullable(config.basePath()).map(s -> s + "/").orElse("");
     this.client = client;
     executor = Executors.newWorkStealingPool(4);
+    transferExecutor =
+        Executors.newFixedThreadPool(
+            config.maxConcurrentTransfers(),
+            Thread.ofPlatform().name("gcs-backup-transfer-", 0).daemon().factory());
     manifestManager = new ManifestManager(client, bucketInfo, basePath);
-    fileSetManager = new FileSetManager(client, bucketInfo, basePath);
+    fileSetManager =
+        new FileSetManager(client, bucketInfo, basePath, transferExecutor, config.partSize());
   }
 
   @Override
@@ -61,9 +93,26 @@ public final class GcsBackupStore implements BackupStore {
         () -> {
           final var persistedManifest = manifestManager.createInitialManifest(backup);
           try {
-            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
-            fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
-            manifestManager.completeManifest(persistedManifest);
+            final var previous = findPreviousBackup(backup.id());
+            final var snapshot =
+                fileSetManager.save(
+                    backup.id(),
+                    SNAPSHOT_FILESET_NAME,
+                    backup.snapshot(),
+                    previous
+                        .map(manifest -> manifest.snapshot().withSourceBackup(manifest.id()))
+                        .orElseGet(() -> new FileSet(List.of())));
+            final var segments =
+                fileSetManager.save(
+                    backup.id(),
+                    SEGMENTS_FILESET_NAME,
+                    backup.segments(),
+                    previous
+                        .map(manifest -> manifest.segments().withSourceBackup(manifest.id()))
+                        .orElseGet(() -> new FileSet(List.of())));
+            manifestManager.completeManifest(persistedManifest, snapshot, segments);
+            // only checked once completed, so a concurrent deletion can't miss our references
+            previous.ifPresent(this::expectStillCompleted);
           } catch (final Exception e) {
             manifestManager.markAsFailed(persistedManifest.manifest(), e.getMessage());
             throw e;
@@ -97,9 +146,36 @@ public final class GcsBackupStore implements BackupStore {
   public CompletableFuture<Void> delete(final BackupIdentifier id) {
     return CompletableFuture.runAsync(
         () -> {
+          final var manifest = manifestManager.getManifest(id);
+          // the manifest must be deleted before looking up the references of other backups, see
+          // expectStillCompleted
           manifestManager.deleteManifest(id);
-          fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
-          fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
+          final var otherManifests =
+              manifestManager.listManifests(partitionWildcard(id)).stream()
+                  .filter(other -> !other.id().equals(BackupIdentifierImpl.from(id)))
+                  .toList();
+          final var existingBackups =
+              otherManifests.stream().map(Manifest::id).collect(Collectors.toSet());
+          final var referencedByOthers =
+              otherManifests.stream()
+                  .flatMap(this::referencedFiles)
+                  .map(ReferencedFile::blobName)
+                  .collect(Collectors.toSet());
+
+          fileSetManager.delete(id, SNAPSHOT_FILESET_NAME, referencedByOthers);
+          fileSetManager.delete(id, SEGMENTS_FILESET_NAME, referencedByOthers);
+
+          // files of already deleted backups, which were only kept because this backup used them
+          if (manifest != null) {
+            referencedFiles(manifest)
+                .filter(file -> !file.sourceBackup().equals(manifest.id()))
+                .filter(file -> !existingBackups.contains(file.sourceBackup()))
+                .filter(file -> !referencedByOthers.contains(file.blobName()))
+                .forEach(
+                    file ->
+                        fileSetManager.deleteFile(
+                            file.sourceBackup(), file.fileSetName(), file.fileName()));
+          }
         },
         executor);
   }
@@ -151,6 +227,7 @@ public final class GcsBackupStore implements BackupStore {
             if (!closed) {
               executor.shutdownNow();
             }
+            transferExecutor.shutdownNow();
             client.close();
           } catch (final Exception e) {
             throw new RuntimeException(e);
@@ -158,6 +235,72 @@ public final class GcsBackupStore implements BackupStore {
         });
   }
 
+  /**
+   * Returns the latest completed backup of the same partition which was taken before the given
+   * backup, if any. Failing to find it is not an error, the backup is then simply not incremental.
+   */
+  private Optional<CompletedManifest> findPreviousBackup(final BackupIdentifier id) {
+    try {
+      return manifestManager.listManifests(partitionWildcard(id)).stream()
+          .filter(manifest -> manifest.statusCode() == StatusCode.COMPLETED)
+          .filter(manifest -> manifest.id().checkpointId() < id.checkpointId())
+          .max(Comparator.comparingLong(manifest -> manifest.id().checkpointId()))
+          .map(Manifest::asCompleted);
+    } catch (final Exception e) {
+      LOG.warn("Failed to find previous backup of {}, saving all files", id, e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Fails if the previous backup, whose blobs may be referenced by the backup being saved, was
+   * deleted or failed in the meantime.
+   *
+   * <p>The backup being saved doesn't list its files until its manifest is completed, so this must
+   * only be called afterwards. As deleting a backup removes its manifest before looking up the
+   * files referenced by other backups, either the deletion sees the completed manifest and keeps
+   * the shared files, or this check sees the previous backup removed and fails the backup.
+   */
+  private void expectStillCompleted(final CompletedManifest previous) {
+    final var manifest = manifestManager.getManifest(previous.id());
+    if (manifest == null || manifest.statusCode() != StatusCode.COMPLETED) {
+      throw new UnexpectedManifestState(ERROR_MSG_PREVIOUS_BACKUP_REMOVED.formatted(previous.id()));
+    }
+  }
+
+  private Stream<ReferencedFile> referencedFiles(final Manifest manifest) {
+    return switch (manifest.statusCode()) {
+      case IN_PROGRESS -> Stream.empty();
+      case COMPLETED -> Stream.concat(
+          referencedFiles(manifest.id(), SNAPSHOT_FILESET_NAME, manifest.asCompleted().snapshot()),
+          referencedFiles(manifest.id(), SEGMENTS_FILESET_NAME, manifest.asCompleted().segments()));
+      case FAILED -> Stream.concat(
+          referencedFiles(manifest.id(), SNAPSHOT_FILESET_NAME, manifest.asFailed().snapshot()),
+          referencedFiles(manifest.id(), SEGMENTS_FILESET_NAME, manifest.asFailed().segments()));
+    };
+  }
+
+  private Stream<ReferencedFile> referencedFiles(
+      final BackupIdentifierImpl id, final String fileSetName, final FileSet fileSet) {
+    if (fileSet == null) {
+      return Stream.empty();
+    }
+
+    return fileSet.files().stream()
+        .map(
+            file ->
+                new ReferencedFile(
+                    file.sourceBackup() != null ? file.sourceBackup() : id,
+                    fileSetName,
+                    file.name(),
+                    fileSetManager.blobName(id, fileSetName, file)));
+  }
+
+  private static BackupIdentifierWildcard partitionWildcard(final BackupIdentifier id) {
+    return new BackupIdentifierWildcardImpl(
+        Optional.empty(), Optional.of(id.partitionId()), Optional.empty());
+  }
+
   private static BackupStatus toStatus(final Manifest manifest) {
     return switch (manifest.statusCode()) {
       case IN_PROGRESS -> new BackupStatusImpl(
@@ -200,4 +343,7 @@ public final class GcsBackupStore implements BackupStore {
           ERROR_MSG_ACCESS_FAILED.formatted(config.bucketName()), e);
     }
   }
+
+  private record ReferencedFile(
+      BackupIdentifierImpl sourceBackup, String fileSetName, String fileName, String blobName) {}
 }
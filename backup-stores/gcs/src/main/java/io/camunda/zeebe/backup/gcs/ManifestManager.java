@@ -25,7 +25,9 @@ import io.camunda.zeebe.backup.api.Backup;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.gcs.GcsBackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.gcs.manifest.FileSet;
 import io.camunda.zeebe.backup.gcs.manifest.Manifest;
+import io.camunda.zeebe.backup.gcs.manifest.Manifest.CompletedManifest;
 import io.camunda.zeebe.backup.gcs.manifest.Manifest.InProgressManifest;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -109,8 +111,16 @@ public final class ManifestManager {
   }
 
   void completeManifest(final PersistedManifest persistedManifest) {
-    final var generation = persistedManifest.generation();
-    final var completed = persistedManifest.manifest().complete();
+    completeManifest(persistedManifest.generation(), persistedManifest.manifest().complete());
+  }
+
+  void completeManifest(
+      final PersistedManifest persistedManifest, final FileSet snapshot, final FileSet segments) {
+    completeManifest(
+        persistedManifest.generation(), persistedManifest.manifest().complete(snapshot, segments));
+  }
+
+  private void completeManifest(final Long generation, final CompletedManifest completed) {
     try {
       client.create(
           manifestBlobInfo(completed.id()),
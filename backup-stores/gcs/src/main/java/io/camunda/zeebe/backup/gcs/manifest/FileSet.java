@@ -8,6 +8,7 @@
 package io.camunda.zeebe.backup.gcs.manifest;
 
 import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -43,9 +44,39 @@ public record FileSet(List<NamedFile> files) {
     return new FileSet(fileSet.namedFiles().keySet().stream().map(NamedFile::new).toList());
   }
 
-  public record NamedFile(String name) {
+  /**
+   * Returns a copy of this set in which all files that were uploaded by the given backup, i.e. all
+   * files without a {@link NamedFile#sourceBackup() source backup}, refer to the given backup.
+   * Files of the returned set can be referenced by subsequent backups as is.
+   *
+   * @param backup the backup which this set belongs to
+   * @return a copy of this set where every file has a source backup
+   */
+  public FileSet withSourceBackup(final BackupIdentifierImpl backup) {
+    return new FileSet(files.stream().map(file -> file.withSourceBackup(backup)).toList());
+  }
+
+  /**
+   * @param name the name of the file
+   * @param digest the {@link io.camunda.zeebe.backup.common.ContentDigest digest} of the file's
+   *     content, used to recognize identical files in subsequent backups; null if unknown
+   * @param sourceBackup the backup which uploaded the file, or null if it was uploaded by the
+   *     backup of the manifest itself
+   */
+  public record NamedFile(String name, String digest, BackupIdentifierImpl sourceBackup) {
     public NamedFile {
       Objects.requireNonNull(name);
     }
+
+    public NamedFile(final String name) {
+      this(name, null, null);
+    }
+
+    NamedFile withSourceBackup(final BackupIdentifierImpl backup) {
+      if (sourceBackup != null) {
+        return this;
+      }
+      return new NamedFile(name, digest, backup);
+    }
   }
 }
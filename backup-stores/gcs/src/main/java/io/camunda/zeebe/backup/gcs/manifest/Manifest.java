@@ -60,6 +60,12 @@ public sealed interface Manifest {
 
     CompletedManifest complete();
 
+    /**
+     * Completes the backup, replacing the listed files with the given, saved, files. The saved
+     * files can carry additional metadata, e.g. whether they were uploaded by a previous backup.
+     */
+    CompletedManifest complete(final FileSet snapshot, final FileSet segments);
+
     FailedManifest fail(final String failureReason);
   }
 
@@ -75,6 +81,12 @@ public sealed interface Manifest {
   sealed interface FailedManifest extends Manifest permits ManifestImpl {
 
     String failureReason();
+
+    /** Returns the snapshot files of the backup, or null if it failed before they were known. */
+    FileSet snapshot();
+
+    /** Returns the segment files of the backup, or null if it failed before they were known. */
+    FileSet segments();
   }
 
   enum StatusCode {
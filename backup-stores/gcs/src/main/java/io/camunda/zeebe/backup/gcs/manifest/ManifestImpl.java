@@ -51,6 +51,11 @@ record ManifestImpl(
 
   @Override
   public CompletedManifest complete() {
+    return complete(snapshot, segments);
+  }
+
+  @Override
+  public CompletedManifest complete(final FileSet snapshot, final FileSet segments) {
     return new ManifestImpl(
         id, descriptor, COMPLETED, snapshot, segments, createdAt, Instant.now());
   }
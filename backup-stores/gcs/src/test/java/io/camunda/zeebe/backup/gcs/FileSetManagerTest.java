@@ -11,54 +11,118 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.RestorableState;
 import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BucketInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageException;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.ContentDigest;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import io.camunda.zeebe.backup.gcs.manifest.FileSet;
 import io.camunda.zeebe.backup.gcs.manifest.FileSet.NamedFile;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 final class FileSetManagerTest {
+  private static final FileSet NO_PREVIOUS_FILES = new FileSet(List.of());
+  private static final int PART_SIZE = 1024;
+
+  private @TempDir Path tempDir;
+  private Path file1;
+  private Path file2;
+
+  @BeforeEach
+  void setup() throws IOException {
+    file1 = Files.writeString(tempDir.resolve("file1"), "content1");
+    file2 = Files.writeString(tempDir.resolve("file2"), "content2");
+  }
+
   @Test
   void shouldSaveFileSet() throws IOException {
     // given
     final var mockClient = mock(Storage.class);
-    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
+    final var manager =
+        new FileSetManager(
+            mockClient, BucketInfo.of("bucket"), "basePath", Runnable::run, PART_SIZE);
     final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
     final var namedFileSet =
-        new NamedFileSetImpl(
-            Map.of("snapshotFile1", Path.of("file1"), "snapshotFile2", Path.of("file2")));
+        new NamedFileSetImpl(Map.of("snapshotFile1", file1, "snapshotFile2", file2));
+
+    // when
+    final var fileSet =
+        manager.save(backupIdentifier, "filesetName", namedFileSet, NO_PREVIOUS_FILES);
+
+    // then
+    verify(mockClient).createFrom(any(), eq(file1), eq(PART_SIZE), any());
+    verify(mockClient).createFrom(any(), eq(file2), eq(PART_SIZE), any());
+    Assertions.assertThat(fileSet.files())
+        .containsExactlyInAnyOrder(
+            new NamedFile("snapshotFile1", ContentDigest.of(file1), null),
+            new NamedFile("snapshotFile2", ContentDigest.of(file2), null));
+  }
+
+  @Test
+  void shouldNotUploadFilesOfPreviousBackup() throws IOException {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager =
+        new FileSetManager(
+            mockClient, BucketInfo.of("bucket"), "basePath", Runnable::run, PART_SIZE);
+    final var previousBackup = new BackupIdentifierImpl(1, 2, 2);
+    final var previousFiles =
+        new FileSet(
+            List.of(
+                new NamedFile("snapshotFile1", ContentDigest.of(file1), null),
+                new NamedFile("snapshotFile2", ContentDigest.of(file1), null)));
+    final var namedFileSet =
+        new NamedFileSetImpl(Map.of("snapshotFile1", file1, "snapshotFile2", file2));
 
     // when
-    manager.save(backupIdentifier, "filesetName", namedFileSet);
+    final var fileSet =
+        manager.save(
+            new BackupIdentifierImpl(1, 2, 3),
+            "filesetName",
+            namedFileSet,
+            previousFiles.withSourceBackup(previousBackup));
 
     // then
-    verify(mockClient).createFrom(any(), eq(Path.of("file1")), any());
-    verify(mockClient).createFrom(any(), eq(Path.of("file2")), any());
+    verify(mockClient, never()).createFrom(any(), eq(file1), eq(PART_SIZE), any());
+    verify(mockClient).createFrom(any(), eq(file2), eq(PART_SIZE), any());
+    Assertions.assertThat(fileSet.files())
+        .containsExactlyInAnyOrder(
+            new NamedFile("snapshotFile1", ContentDigest.of(file1), previousBackup),
+            new NamedFile("snapshotFile2", ContentDigest.of(file2), null));
   }
 
   @Test
   void shouldThrowExceptionOnSaveFileSet() throws IOException {
     // given
     final var mockClient = mock(Storage.class);
-    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
+    final var manager =
+        new FileSetManager(
+            mockClient, BucketInfo.of("bucket"), "basePath", Runnable::run, PART_SIZE);
     final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
     final var namedFileSet =
-        new NamedFileSetImpl(
-            Map.of("snapshotFile1", Path.of("file1"), "snapshotFile2", Path.of("file2")));
-    when(mockClient.createFrom(any(), any(Path.class), any()))
+        new NamedFileSetImpl(Map.of("snapshotFile1", file1, "snapshotFile2", file2));
+    when(mockClient.createFrom(any(), any(Path.class), anyInt(), any()))
         .thenThrow(new StorageException(412, "expected"));
 
     // when throw
-    Assertions.assertThatThrownBy(() -> manager.save(backupIdentifier, "filesetName", namedFileSet))
+    Assertions.assertThatThrownBy(
+            () -> manager.save(backupIdentifier, "filesetName", namedFileSet, NO_PREVIOUS_FILES))
         .isInstanceOf(StorageException.class)
         .hasMessageContaining("expected");
   }
@@ -68,31 +132,62 @@ final class FileSetManagerTest {
   void shouldDeleteFileSet() {
     // given
     final var mockClient = mock(Storage.class);
-    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
+    final var manager =
+        new FileSetManager(
+            mockClient, BucketInfo.of("bucket"), "basePath", Runnable::run, PART_SIZE);
     final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
 
     final var mockBlob = mock(Blob.class);
+    when(mockBlob.getName()).thenReturn("blob");
     final var mockPage = mock(Page.class);
     when(mockPage.iterateAll()).thenReturn(List.of(mockBlob));
     when(mockClient.list(eq("bucket"), any())).thenReturn(mockPage);
 
     // when
-    manager.delete(backupIdentifier, "filesetName");
+    manager.delete(backupIdentifier, "filesetName", Set.of());
 
     // then
     verify(mockBlob).delete();
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  void shouldNotDeleteReferencedBlobs() {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager =
+        new FileSetManager(
+            mockClient, BucketInfo.of("bucket"), "basePath", Runnable::run, PART_SIZE);
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+
+    final var referencedBlob = mock(Blob.class);
+    when(referencedBlob.getName()).thenReturn("referenced");
+    final var otherBlob = mock(Blob.class);
+    when(otherBlob.getName()).thenReturn("other");
+    final var mockPage = mock(Page.class);
+    when(mockPage.iterateAll()).thenReturn(List.of(referencedBlob, otherBlob));
+    when(mockClient.list(eq("bucket"), any())).thenReturn(mockPage);
+
+    // when
+    manager.delete(backupIdentifier, "filesetName", Set.of("referenced"));
+
+    // then
+    verify(referencedBlob, never()).delete();
+    verify(otherBlob).delete();
+  }
+
   @Test
   void shouldThrowExceptionOnDeleteFileSetWhenListThrows() {
     // given
     final var mockClient = mock(Storage.class);
-    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
+    final var manager =
+        new FileSetManager(
+            mockClient, BucketInfo.of("bucket"), "basePath", Runnable::run, PART_SIZE);
     final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
     when(mockClient.list(eq("bucket"), any())).thenThrow(new StorageException(412, "expected"));
 
     // when throw
-    Assertions.assertThatThrownBy(() -> manager.delete(backupIdentifier, "filesetName"))
+    Assertions.assertThatThrownBy(() -> manager.delete(backupIdentifier, "filesetName", Set.of()))
         .isInstanceOf(StorageException.class)
         .hasMessageContaining("expected");
   }
@@ -102,17 +197,20 @@ final class FileSetManagerTest {
   void shouldThrowExceptionOnDeleteFileSetWhenBlobDeleteThrows() {
     // given
     final var mockClient = mock(Storage.class);
-    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
+    final var manager =
+        new FileSetManager(
+            mockClient, BucketInfo.of("bucket"), "basePath", Runnable::run, PART_SIZE);
     final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
 
     final Blob mockBlob = mock(Blob.class);
+    when(mockBlob.getName()).thenReturn("blob");
     when(mockBlob.delete()).thenThrow(new StorageException(412, "expected"));
     final var mockPage = mock(Page.class);
     when(mockPage.iterateAll()).thenReturn(List.of(mockBlob));
     when(mockClient.list(eq("bucket"), any())).thenReturn(mockPage);
 
     // when throw
-    Assertions.assertThatThrownBy(() -> manager.delete(backupIdentifier, "filesetName"))
+    Assertions.assertThatThrownBy(() -> manager.delete(backupIdentifier, "filesetName", Set.of()))
         .isInstanceOf(StorageException.class)
         .hasMessageContaining("expected");
   }
@@ -121,7 +219,9 @@ final class FileSetManagerTest {
   void shouldRestoreFileSet() {
     // given
     final var mockClient = mock(Storage.class);
-    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
+    final var manager =
+        new FileSetManager(
+            mockClient, BucketInfo.of("bucket"), "basePath", Runnable::run, PART_SIZE);
     final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
     final var fileSet =
         new FileSet(List.of(new NamedFile("snapshotFile"), new NamedFile("snapshotFile2")));
@@ -141,11 +241,72 @@ final class FileSetManagerTest {
     verify(mockClient).downloadTo(any(), eq(expectedPath2));
   }
 
+  @Test
+  void shouldRestoreFileOfPreviousBackup() {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager =
+        new FileSetManager(
+            mockClient, BucketInfo.of("bucket"), "basePath/", Runnable::run, PART_SIZE);
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var fileSet =
+        new FileSet(
+            List.of(
+                new NamedFile("snapshotFile", "digest", new BackupIdentifierImpl(1, 2, 2)),
+                new NamedFile("snapshotFile2")));
+    final Path restorePath = Path.of("restorePath");
+
+    // when
+    manager.restore(backupIdentifier, "filesetName", fileSet, restorePath);
+
+    // then
+    verify(mockClient)
+        .downloadTo(
+            eq(BlobId.of("bucket", "basePath/contents/2/2/1/filesetName/snapshotFile")),
+            eq(Path.of("restorePath/snapshotFile")));
+    verify(mockClient)
+        .downloadTo(
+            eq(BlobId.of("bucket", "basePath/contents/2/3/1/filesetName/snapshotFile2")),
+            eq(Path.of("restorePath/snapshotFile2")));
+  }
+
+  @Test
+  void shouldRestoreLargeFileInRanges() throws IOException {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager =
+        new FileSetManager(
+            mockClient, BucketInfo.of("bucket"), "basePath", Runnable::run, PART_SIZE);
+    final var content = new byte[(int) (2.5 * PART_SIZE)];
+    new Random().nextBytes(content);
+    final var blobId = BlobId.of("bucket", "basePathcontents/2/3/1/filesetName/segment");
+    final var mockBlob = mock(Blob.class);
+    when(mockBlob.getSize()).thenReturn((long) content.length);
+    when(mockBlob.getBlobId()).thenReturn(blobId);
+    when(mockClient.get(blobId)).thenReturn(mockBlob);
+    when(mockClient.reader(blobId)).thenAnswer(invocation -> new InMemoryReadChannel(content));
+
+    // when
+    final var namedFileSet =
+        manager.restore(
+            new BackupIdentifierImpl(1, 2, 3),
+            "filesetName",
+            new FileSet(List.of(new NamedFile("segment"))),
+            tempDir);
+
+    // then
+    Assertions.assertThat(namedFileSet.namedFiles().get("segment")).hasBinaryContent(content);
+    verify(mockClient, times(3)).reader(blobId);
+    verify(mockClient, never()).downloadTo(any(), any(Path.class));
+  }
+
   @Test
   void shouldThrowRestoreFileSetWhenDownloadToFails() {
     // given
     final var mockClient = mock(Storage.class);
-    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
+    final var manager =
+        new FileSetManager(
+            mockClient, BucketInfo.of("bucket"), "basePath", Runnable::run, PART_SIZE);
     final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
     final var fileSet =
         new FileSet(List.of(new NamedFile("snapshotFile"), new NamedFile("snapshotFile2")));
@@ -159,4 +320,58 @@ final class FileSetManagerTest {
         .isInstanceOf(StorageException.class)
         .hasMessageContaining("expected");
   }
+
+  private static final class InMemoryReadChannel implements ReadChannel {
+    private final byte[] content;
+    private long position;
+    private long limit = Long.MAX_VALUE;
+
+    private InMemoryReadChannel(final byte[] content) {
+      this.content = content;
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public void seek(final long position) {
+      this.position = position;
+    }
+
+    @Override
+    public void setChunkSize(final int chunkSize) {}
+
+    @Override
+    public RestorableState<ReadChannel> capture() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ReadChannel limit(final long limit) {
+      this.limit = limit;
+      return this;
+    }
+
+    @Override
+    public long limit() {
+      return limit;
+    }
+
+    @Override
+    public int read(final ByteBuffer dst) {
+      final var end = Math.min(content.length, limit);
+      if (position >= end) {
+        return -1;
+      }
+      final var length = (int) Math.min(dst.remaining(), end - position);
+      dst.put(content, (int) position, length);
+      position += length;
+      return length;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+  }
 }
@@ -7,16 +7,35 @@
  */
 package io.camunda.zeebe.backup.gcs;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.BucketInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobTargetOption;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.gcs.GcsBackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.gcs.manifest.Manifest;
+import io.camunda.zeebe.backup.gcs.manifest.Manifest.StatusCode;
 import io.camunda.zeebe.backup.gcs.util.GcsContainer;
 import io.camunda.zeebe.backup.testkit.BackupStoreTestKit;
+import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
+import java.io.IOException;
+import java.time.Duration;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
@@ -111,4 +130,76 @@ public class GcsBackupStoreIT {
       return UnexpectedManifestState.class;
     }
   }
+
+  @Nested
+  final class WithConcurrentDeletion {
+    private final TestBackupProvider backupProvider = new TestBackupProvider();
+    private Storage client;
+    private GcsBackupStore store;
+
+    @BeforeEach
+    void setup() throws Exception {
+      final var bucketName = RandomStringUtils.randomAlphabetic(10).toLowerCase();
+      final var config =
+          new GcsBackupConfig.Builder()
+              .withBucketName(bucketName)
+              .withHost(GCS.externalEndpoint())
+              .withoutAuthentication()
+              .build();
+
+      client = spy(GcsBackupStore.buildClient(config));
+      client.create(BucketInfo.of(bucketName));
+      store = new GcsBackupStore(config, client);
+    }
+
+    @AfterEach
+    void tearDown() {
+      store.closeAsync().join();
+    }
+
+    @Test
+    void shouldFailBackupIfPreviousBackupIsDeletedBeforeCompleting() throws IOException {
+      // given
+      final var previousBackup = backupProvider.simpleBackup();
+      final var id = previousBackup.id();
+      final var backup =
+          new BackupImpl(
+              new BackupIdentifierImpl(id.nodeId(), id.partitionId(), id.checkpointId() + 1),
+              previousBackup.descriptor(),
+              previousBackup.snapshot(),
+              previousBackup.segments());
+      store.save(previousBackup).join();
+
+      // delete the previous backup after the files were saved, but before the manifest is
+      // completed
+      doAnswer(
+              invocation -> {
+                store.delete(previousBackup.id()).join();
+                return invocation.callRealMethod();
+              })
+          .when(client)
+          .create(
+              any(BlobInfo.class),
+              argThat((byte[] content) -> isCompletedManifestOf(content, backup.id())),
+              any(BlobTargetOption[].class));
+
+      // when
+      final var result = store.save(backup);
+
+      // then
+      assertThat(result).failsWithin(Duration.ofSeconds(10));
+      assertThat(store.getStatus(backup.id()).join().statusCode())
+          .isEqualTo(BackupStatusCode.FAILED);
+    }
+
+    private boolean isCompletedManifestOf(final byte[] content, final BackupIdentifier id) {
+      try {
+        final var manifest = ManifestManager.MAPPER.readValue(content, Manifest.class);
+        return manifest.statusCode() == StatusCode.COMPLETED
+            && manifest.id().equals(BackupIdentifierImpl.from(id));
+      } catch (final IOException e) {
+        return false;
+      }
+    }
+  }
 }
@@ -7,8 +7,11 @@
  */
 package io.camunda.zeebe.backup.s3;
 
+import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.ContentDigest;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.metrics.BackupStoreMetrics;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupCompressionFailed;
 import io.camunda.zeebe.backup.s3.manifest.FileSet;
 import io.camunda.zeebe.backup.s3.manifest.FileSet.FileMetadata;
@@ -17,11 +20,16 @@ import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Semaphore;
+import java.util.function.Function;
 import org.apache.commons.compress.compressors.CompressorException;
 import org.apache.commons.compress.compressors.CompressorStreamFactory;
 import org.apache.commons.compress.utils.IOUtils;
@@ -32,6 +40,7 @@ import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 
 /** Can save and restore {@link NamedFileSet NamedFileSets}. */
 final class FileSetManager {
@@ -43,60 +52,193 @@ final class FileSetManager {
 
   private final S3AsyncClient client;
   private final S3BackupConfig config;
-  private final Semaphore uploadLimit;
+  private final Semaphore transferLimit;
+  private final BackupStoreMetrics metrics = new BackupStoreMetrics("s3");
 
   public FileSetManager(final S3AsyncClient client, final S3BackupConfig config) {
     this.client = client;
     this.config = config;
 
     // We try not to exhaust the available connections by restricting the number of
-    // concurrent uploads to half of the number of available connections.
+    // concurrent transfers to half of the number of available connections.
     // This should prevent ConnectionAcquisitionTimeout for backups with many and/or large files
-    // where we would otherwise occupy all connections, preventing some uploads from starting.
-    uploadLimit = new Semaphore(Math.max(1, config.maxConcurrentConnections() / 2));
+    // where we would otherwise occupy all connections, preventing some transfers from starting.
+    // As each transfer buffers at most a part in memory, this also bounds the memory used.
+    transferLimit = new Semaphore(Math.max(1, config.maxConcurrentConnections() / 2));
   }
 
-  CompletableFuture<FileSet> save(final String prefix, final NamedFileSet files) {
+  /**
+   * Saves the given files under the given prefix. Files which have the same name and content as a
+   * file of the given previous set are not uploaded again, instead the returned set refers to the
+   * previously uploaded object.
+   *
+   * @param prefix the prefix under which the files are uploaded
+   * @param files the files to save
+   * @param previousFiles the files of a previous backup, where all files have a {@link
+   *     FileMetadata#sourceBackup() source backup}
+   * @return the saved files
+   */
+  CompletableFuture<FileSet> save(
+      final String prefix, final NamedFileSet files, final FileSet previousFiles) {
     LOG.debug("Saving {} files to prefix {}", files.files().size(), prefix);
     return CompletableFutureUtils.mapAsync(
             files.namedFiles().entrySet(),
             Entry::getKey,
-            namedFile -> saveFile(prefix, namedFile.getKey(), namedFile.getValue()))
+            namedFile ->
+                CompletableFuture.supplyAsync(() -> ContentDigest.of(namedFile.getValue()))
+                    .thenCompose(
+                        digest ->
+                            saveFile(
+                                prefix,
+                                namedFile.getKey(),
+                                namedFile.getValue(),
+                                digest,
+                                previousFiles.files().get(namedFile.getKey()))))
         .thenApply(FileSet::new);
   }
 
-  private CompletableFuture<FileSet.FileMetadata> saveFile(
+  private CompletableFuture<FileMetadata> saveFile(
+      final String prefix,
+      final String fileName,
+      final Path filePath,
+      final String digest,
+      final FileMetadata previousFile) {
+    if (previousFile != null && previousFile.digest().filter(digest::equals).isPresent()) {
+      LOG.trace(
+          "Skipping upload of file {}({}), it was already uploaded by {}",
+          fileName,
+          filePath,
+          previousFile.sourceBackup());
+      return CompletableFuture.completedFuture(previousFile);
+    }
+
+    return uploadFile(prefix, fileName, filePath)
+        .thenApply(metadata -> metadata.withDigest(digest));
+  }
+
+  private CompletableFuture<FileMetadata> uploadFile(
       final String prefix, final String fileName, final Path filePath) {
 
     if (shouldCompressFile(filePath)) {
       final var algorithm = config.compressionAlgorithm().orElseThrow();
-      return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
+      // compressing takes a transfer permit too, to bound the number of temporary files
+      return CompletableFuture.runAsync(transferLimit::acquireUninterruptibly)
           .thenApply((success) -> compressFile(filePath, algorithm))
+          .whenComplete((success, error) -> transferLimit.release())
           .thenCompose(
               (compressedFile) -> {
                 LOG.trace(
                     "Saving compressed file {}({}) in prefix {}", fileName, compressedFile, prefix);
-                return client
-                    .putObject(
-                        put -> put.bucket(config.bucketName()).key(prefix + fileName),
-                        AsyncRequestBody.fromFile(compressedFile))
-                    .thenRunAsync(() -> cleanupCompressedFile(compressedFile))
+                return putObject(prefix + fileName, compressedFile)
+                    .whenCompleteAsync((success, error) -> cleanupCompressedFile(compressedFile))
                     .thenApply(unused -> FileSet.FileMetadata.withCompression(algorithm));
-              })
-          .whenComplete((success, error) -> uploadLimit.release());
+              });
+    }
+
+    LOG.trace("Saving file {}({}) in prefix {}", fileName, filePath, prefix);
+    return putObject(prefix + fileName, filePath).thenApply(unused -> FileSet.FileMetadata.none());
+  }
+
+  /**
+   * Uploads the given file. Files larger than the configured part size are uploaded as multipart
+   * upload, whose parts are uploaded in parallel. Every request takes a transfer permit and buffers
+   * at most one part in memory.
+   */
+  private CompletableFuture<Void> putObject(final String key, final Path file) {
+    final long size;
+    try {
+      size = Files.size(file);
+    } catch (final IOException e) {
+      return CompletableFuture.failedFuture(e);
     }
 
-    return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
+    final var transfer = metrics.startUpload(size);
+    final var upload =
+        size <= config.partSize() ? putWholeObject(key, file) : putObjectParts(key, file, size);
+    return upload.whenComplete(transfer::complete);
+  }
+
+  private CompletableFuture<Void> putWholeObject(final String key, final Path file) {
+    return CompletableFuture.runAsync(transferLimit::acquireUninterruptibly)
         .thenCompose(
-            (nothing) -> {
-              LOG.trace("Saving file {}({}) in prefix {}", fileName, filePath, prefix);
-              return client
-                  .putObject(
-                      put -> put.bucket(config.bucketName()).key(prefix + fileName),
-                      AsyncRequestBody.fromFile(filePath))
-                  .thenApply(unused -> FileSet.FileMetadata.none());
-            })
-        .whenComplete((success, error) -> uploadLimit.release());
+            nothing ->
+                client.putObject(
+                    put -> put.bucket(config.bucketName()).key(key),
+                    AsyncRequestBody.fromFile(file)))
+        .whenComplete((success, error) -> transferLimit.release())
+        .thenApply(response -> null);
+  }
+
+  private CompletableFuture<Void> putObjectParts(
+      final String key, final Path file, final long size) {
+    final FileChannel channel;
+    try {
+      channel = FileChannel.open(file, StandardOpenOption.READ);
+    } catch (final IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    LOG.trace("Uploading file {} of {} bytes in parts of {} bytes", file, size, config.partSize());
+    return client
+        .createMultipartUpload(req -> req.bucket(config.bucketName()).key(key))
+        .thenCompose(upload -> putObjectParts(key, upload.uploadId(), channel, size))
+        .whenComplete((success, error) -> closeQuietly(channel));
+  }
+
+  private CompletableFuture<Void> putObjectParts(
+      final String key, final String uploadId, final FileChannel channel, final long size) {
+    final var parts = new ArrayList<CompletableFuture<CompletedPart>>();
+    int partNumber = 1;
+    for (long offset = 0; offset < size; offset += config.partSize(), partNumber++) {
+      final var length = (int) Math.min(config.partSize(), size - offset);
+      parts.add(putObjectPart(key, uploadId, channel, partNumber, offset, length));
+    }
+
+    return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+        .thenCompose(
+            nothing ->
+                client.completeMultipartUpload(
+                    req ->
+                        req.bucket(config.bucketName())
+                            .key(key)
+                            .uploadId(uploadId)
+                            .multipartUpload(
+                                upload ->
+                                    upload.parts(
+                                        parts.stream().map(CompletableFuture::join).toList()))))
+        .<Void>thenApply(response -> null)
+        .exceptionallyCompose(
+            error ->
+                client
+                    .abortMultipartUpload(
+                        req -> req.bucket(config.bucketName()).key(key).uploadId(uploadId))
+                    .handle((response, abortError) -> null)
+                    .thenCompose(nothing -> CompletableFuture.failedFuture(error)));
+  }
+
+  private CompletableFuture<CompletedPart> putObjectPart(
+      final String key,
+      final String uploadId,
+      final FileChannel channel,
+      final int partNumber,
+      final long offset,
+      final int length) {
+    return CompletableFuture.runAsync(transferLimit::acquireUninterruptibly)
+        .thenApply(nothing -> readFully(channel, offset, length))
+        .thenCompose(
+            part ->
+                client.uploadPart(
+                    req ->
+                        req.bucket(config.bucketName())
+                            .key(key)
+                            .uploadId(uploadId)
+                            .partNumber(partNumber)
+                            .contentLength((long) length),
+                    AsyncRequestBody.fromByteBuffer(part)))
+        .whenComplete((success, error) -> transferLimit.release())
+        .thenApply(
+            response ->
+                CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
   }
 
   private void cleanupCompressedFile(final Path compressedFile) {
@@ -143,18 +285,36 @@ final class FileSetManager {
     }
   }
 
+  /**
+   * Restores the given files of the given backup. Files which were uploaded by a previous backup
+   * are downloaded from the prefix of that backup.
+   *
+   * @param id the backup which the files belong to
+   * @param prefixOf returns the prefix under which a backup's files are stored
+   * @param fileSet the files to restore
+   * @param targetFolder the folder to restore the files to
+   * @return the restored files
+   */
   CompletableFuture<NamedFileSet> restore(
-      final String sourcePrefix, final FileSet fileSet, final Path targetFolder) {
+      final BackupIdentifier id,
+      final Function<BackupIdentifier, String> prefixOf,
+      final FileSet fileSet,
+      final Path targetFolder) {
     LOG.debug(
         "Restoring {} files from prefix {} to {}",
         fileSet.files().size(),
-        sourcePrefix,
+        prefixOf.apply(id),
         targetFolder);
     return CompletableFutureUtils.mapAsync(
             fileSet.files().entrySet(),
             Entry::getKey,
-            namedFile ->
-                restoreFile(sourcePrefix, targetFolder, namedFile.getKey(), namedFile.getValue()))
+            namedFile -> {
+              final var metadata = namedFile.getValue();
+              final var sourcePrefix =
+                  prefixOf.apply(
+                      metadata.sourceBackup().map(BackupIdentifier.class::cast).orElse(id));
+              return restoreFile(sourcePrefix, targetFolder, namedFile.getKey(), metadata);
+            })
         .thenApply(NamedFileSetImpl::new);
   }
 
@@ -173,14 +333,7 @@ final class FileSetManager {
           targetFolder);
       try {
         final var compressed = Files.createTempFile(TMP_DECOMPRESSION_PREFIX, null);
-        return client
-            .getObject(
-                req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName),
-                AsyncResponseTransformer.toFile(
-                    compressed,
-                    cfg ->
-                        cfg.fileWriteOption(FileWriteOption.CREATE_OR_REPLACE_EXISTING)
-                            .failureBehavior(FailureBehavior.DELETE)))
+        return getObject(sourcePrefix + fileName, compressed)
             .thenApplyAsync(
                 response -> decompressFile(compressed, decompressed, compressionAlgorithm.get()));
 
@@ -191,9 +344,131 @@ final class FileSetManager {
 
     LOG.trace("Restoring file {} from prefix {} to {}", fileName, sourcePrefix, targetFolder);
     final var path = targetFolder.resolve(fileName);
+    return getObject(sourcePrefix + fileName, path).thenApply(response -> path);
+  }
+
+  /**
+   * Downloads the given object to the given file, replacing it if it exists. Objects larger than
+   * the configured part size are downloaded in parallel ranges, each range being buffered in memory
+   * until it's written to the file.
+   */
+  private CompletableFuture<Void> getObject(final String key, final Path file) {
     return client
-        .getObject(req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName), path)
-        .thenApply(response -> path);
+        .headObject(req -> req.bucket(config.bucketName()).key(key))
+        .thenCompose(
+            head -> {
+              final long size = head.contentLength();
+              final var transfer = metrics.startDownload(size);
+              final var download =
+                  size <= config.partSize()
+                      ? getWholeObject(key, file)
+                      : getObjectRanges(key, file, size);
+              return download.whenComplete(transfer::complete);
+            });
+  }
+
+  private CompletableFuture<Void> getWholeObject(final String key, final Path file) {
+    return CompletableFuture.runAsync(transferLimit::acquireUninterruptibly)
+        .thenCompose(
+            nothing ->
+                client.getObject(
+                    req -> req.bucket(config.bucketName()).key(key),
+                    AsyncResponseTransformer.toFile(
+                        file,
+                        cfg ->
+                            cfg.fileWriteOption(FileWriteOption.CREATE_OR_REPLACE_EXISTING)
+                                .failureBehavior(FailureBehavior.DELETE))))
+        .whenComplete((success, error) -> transferLimit.release())
+        .thenApply(response -> null);
+  }
+
+  private CompletableFuture<Void> getObjectRanges(
+      final String key, final Path file, final long size) {
+    final FileChannel channel;
+    try {
+      channel =
+          FileChannel.open(
+              file,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.TRUNCATE_EXISTING,
+              StandardOpenOption.WRITE);
+    } catch (final IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    LOG.trace(
+        "Downloading object {} of {} bytes in parts of {} bytes", key, size, config.partSize());
+    final var ranges = new ArrayList<CompletableFuture<Void>>();
+    for (long offset = 0; offset < size; offset += config.partSize()) {
+      final long start = offset;
+      final long end = Math.min(size, offset + config.partSize()) - 1;
+      ranges.add(
+          CompletableFuture.runAsync(transferLimit::acquireUninterruptibly)
+              .thenCompose(
+                  nothing ->
+                      client.getObject(
+                          req ->
+                              req.bucket(config.bucketName())
+                                  .key(key)
+                                  .range("bytes=%d-%d".formatted(start, end)),
+                          AsyncResponseTransformer.toBytes()))
+              .thenAccept(range -> writeFully(channel, range.asByteBuffer(), start))
+              .whenComplete((success, error) -> transferLimit.release()));
+    }
+
+    return CompletableFuture.allOf(ranges.toArray(CompletableFuture[]::new))
+        .whenComplete(
+            (success, error) -> {
+              closeQuietly(channel);
+              if (error != null) {
+                cleanupPartialDownload(file);
+              }
+            });
+  }
+
+  private static ByteBuffer readFully(
+      final FileChannel channel, final long position, final int length) {
+    final var buffer = ByteBuffer.allocate(length);
+    try {
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, position + buffer.position()) < 0) {
+          throw new IOException(
+              "Expected to read %d bytes at position %d, but reached end of file"
+                  .formatted(length, position));
+        }
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return buffer.flip();
+  }
+
+  private static void closeQuietly(final FileChannel channel) {
+    try {
+      channel.close();
+    } catch (final IOException e) {
+      LOG.warn("Failed to close file channel", e);
+    }
+  }
+
+  private static void cleanupPartialDownload(final Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      LOG.warn("Failed to clean up partially downloaded file {}", file, e);
+    }
+  }
+
+  private static void writeFully(
+      final FileChannel channel, final ByteBuffer buffer, final long position) {
+    try {
+      long written = 0;
+      while (buffer.hasRemaining()) {
+        written += channel.write(buffer, position + written);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   private Path decompressFile(
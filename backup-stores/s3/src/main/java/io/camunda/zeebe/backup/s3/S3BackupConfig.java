@@ -32,6 +32,11 @@ import org.apache.commons.compress.compressors.CompressorStreamFactory;
  * @param maxConcurrentConnections Maximum number of connections allowed in a connection pool.
  * @param connectionAcquisitionTimeout Timeout for acquiring an already-established connection from
  *     a connection pool to a remote service.
+ * @param partSize Size in bytes of the parts in which large files are uploaded and downloaded in
+ *     parallel. Files larger than this are transferred as multipart uploads and ranged downloads.
+ *     The memory used for transfers is bounded by the part size times the number of concurrent
+ *     transfers, which is half of {@code maxConcurrentConnections}. Must be at least 5 MiB, the
+ *     minimum part size supported by S3.
  * @see <a
  *     href=https://docs.aws.amazon.com/sdk-for-java/latest/developer-guide/region-selection.html#automatically-determine-the-aws-region-from-the-environment>
  *     Automatically determine the Region from the environment</a>
@@ -50,7 +55,11 @@ public record S3BackupConfig(
     Optional<String> compressionAlgorithm,
     Optional<String> basePath,
     Integer maxConcurrentConnections,
-    Duration connectionAcquisitionTimeout) {
+    Duration connectionAcquisitionTimeout,
+    long partSize) {
+
+  /** The minimum size of all but the last part of a multipart upload, as required by S3. */
+  static final long MIN_PART_SIZE = 5 * 1024 * 1024;
 
   public S3BackupConfig {
     if (bucketName == null || bucketName.isEmpty()) {
@@ -70,6 +79,10 @@ public record S3BackupConfig(
                 .formatted(compressionAlgorithm.get(), supported));
       }
     }
+    if (partSize < MIN_PART_SIZE) {
+      throw new IllegalArgumentException(
+          "partSize must be at least %d bytes, but was %d".formatted(MIN_PART_SIZE, partSize));
+    }
     if (basePath.isPresent()) {
       final var prefix = basePath.get();
       if (prefix.isEmpty()) {
@@ -114,6 +127,8 @@ public record S3BackupConfig(
     /** Default from `SdkHttpConfigurationOption.DEFAULT_CONNECTION_ACQUIRE_TIMEOUT` */
     private Duration connectionAcquisitionTimeout = Duration.ofSeconds(45);
 
+    private long partSize = 8 * 1024 * 1024;
+
     public Builder withBucketName(final String bucketName) {
       this.bucketName = bucketName;
       return this;
@@ -164,6 +179,11 @@ public record S3BackupConfig(
       return this;
     }
 
+    public Builder withPartSize(final long partSize) {
+      this.partSize = partSize;
+      return this;
+    }
+
     public S3BackupConfig build() {
       return new S3BackupConfig(
           bucketName,
@@ -175,7 +195,8 @@ public record S3BackupConfig(
           Optional.ofNullable(compressionAlgorithm),
           Optional.ofNullable(basePath),
           maxConcurrentConnections,
-          connectionAcquisitionTimeout);
+          connectionAcquisitionTimeout,
+          partSize);
     }
   }
 }
@@ -18,11 +18,14 @@ import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupDeletionIncomplete;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupInInvalidStateException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupReadException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.ManifestParseException;
+import io.camunda.zeebe.backup.s3.manifest.CompletedBackupManifest;
+import io.camunda.zeebe.backup.s3.manifest.FailedBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.FileSet;
 import io.camunda.zeebe.backup.s3.manifest.Manifest;
 import io.camunda.zeebe.backup.s3.manifest.NoBackupManifest;
@@ -31,7 +34,10 @@ import io.camunda.zeebe.backup.s3.util.AsyncAggregatingSubscriber;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -71,6 +77,21 @@ import software.amazon.awssdk.services.s3.model.S3Object;
  *   <li>Objects for segment files, additionally prefixed with 'segments', for example
  *       <pre>partitionId/checkpointId/nodeId/segments/segment-file-1</pre>
  * </ol>
+ *
+ * <p>Backups are incremental: a file which has the same name and content as a file of the latest
+ * previous completed backup of the same partition is not uploaded again. Instead, the manifest
+ * refers to the object of the backup which uploaded it (see {@link
+ * FileSet.FileMetadata#sourceBackup()}). References are always resolved when saving, so restoring
+ * never has to follow a chain of backups. When a backup is deleted, objects which are still
+ * referenced by other backups are kept, and are deleted together with the last backup referencing
+ * them.
+ *
+ * <p>A backup may be deleted while a backup which reuses its objects is being saved. As the
+ * in-progress backup doesn't list its files yet, deleting first marks the backup as failed and only
+ * then looks up which objects other backups reference, while saving first completes the manifest
+ * and only then verifies that the previous backup is still completed. Either the deletion sees the
+ * completed manifest and keeps the shared objects, or the save sees the failed previous backup and
+ * fails as well.
  */
 public final class S3BackupStore implements BackupStore {
   static final ObjectMapper MAPPER =
@@ -80,6 +101,7 @@ public final class S3BackupStore implements BackupStore {
   static final String MANIFEST_OBJECT_KEY = "manifest.json";
   private static final Logger LOG = LoggerFactory.getLogger(S3BackupStore.class);
   private static final int SCAN_PARALLELISM = 16;
+  private static final String DELETION_FAILURE_REASON = "Backup is being deleted";
   private final Pattern backupIdentifierPattern;
   private final S3BackupConfig config;
   private final S3AsyncClient client;
@@ -170,10 +192,11 @@ public final class S3BackupStore implements BackupStore {
     LOG.info("Saving {}", backup.id());
     return updateManifestObject(
             backup.id(), Manifest::expectNoBackup, manifest -> manifest.asInProgress(backup))
+        .thenComposeAsync(status -> findPreviousBackup(backup.id()))
         .thenComposeAsync(
-            status -> {
-              final var snapshot = saveSnapshotFiles(backup);
-              final var segments = saveSegmentFiles(backup);
+            previous -> {
+              final var snapshot = saveSnapshotFiles(backup, previous);
+              final var segments = saveSegmentFiles(backup, previous);
 
               return CompletableFuture.allOf(snapshot, segments)
                   .thenComposeAsync(
@@ -183,6 +206,8 @@ public final class S3BackupStore implements BackupStore {
                               Manifest::expectInProgress,
                               inProgress ->
                                   inProgress.asCompleted(snapshot.join(), segments.join())))
+                  // only checked once completed, so a concurrent deletion can't miss our references
+                  .thenComposeAsync(ignored -> expectStillCompleted(previous))
                   .exceptionallyComposeAsync(
                       throwable ->
                           updateManifestObject(
@@ -221,26 +246,39 @@ public final class S3BackupStore implements BackupStore {
                     "Can't delete in-progress backup %s, must be marked as failed first"
                         .formatted(manifest.id()));
               } else {
-                return manifest.id();
+                return manifest;
               }
             })
-        .thenComposeAsync(this::listBackupObjects)
+        .thenComposeAsync(this::markAsDeleting)
+        .thenComposeAsync(
+            manifest ->
+                listBackupObjects(manifest.id())
+                    .thenCombineAsync(
+                        readManifestObjects(partitionWildcard(manifest.id())),
+                        (ownObjects, partitionManifests) ->
+                            objectsToDelete(manifest, ownObjects, partitionManifests)))
         .thenComposeAsync(this::deleteBackupObjects);
   }
 
   @Override
   public CompletableFuture<Backup> restore(final BackupIdentifier id, final Path targetFolder) {
     LOG.info("Restoring {} to {}", id, targetFolder);
-    final var backupPrefix = objectPrefix(id);
     return readManifestObject(id)
         .thenApply(Manifest::expectCompleted)
         .thenComposeAsync(
             manifest ->
                 fileSetManager
-                    .restore(backupPrefix + SEGMENTS_PREFIX, manifest.segmentFiles(), targetFolder)
+                    .restore(
+                        id,
+                        backupId -> objectPrefix(backupId) + SEGMENTS_PREFIX,
+                        manifest.segmentFiles(),
+                        targetFolder)
                     .thenCombineAsync(
                         fileSetManager.restore(
-                            backupPrefix + SNAPSHOT_PREFIX, manifest.snapshotFiles(), targetFolder),
+                            id,
+                            backupId -> objectPrefix(backupId) + SNAPSHOT_PREFIX,
+                            manifest.snapshotFiles(),
+                            targetFolder),
                         (segments, snapshot) ->
                             new BackupImpl(id, manifest.descriptor(), snapshot, segments)));
   }
@@ -259,16 +297,153 @@ public final class S3BackupStore implements BackupStore {
     return CompletableFuture.completedFuture(null);
   }
 
-  private CompletableFuture<List<ObjectIdentifier>> listBackupObjects(final BackupIdentifier id) {
+  private CompletableFuture<List<String>> listBackupObjects(final BackupIdentifier id) {
     LOG.debug("Listing objects of {}", id);
     return client
         .listObjectsV2(req -> req.bucket(config.bucketName()).prefix(objectPrefix(id)))
-        .thenApplyAsync(
-            objects ->
-                objects.contents().stream()
-                    .map(S3Object::key)
-                    .map(key -> ObjectIdentifier.builder().key(key).build())
-                    .toList());
+        .thenApplyAsync(objects -> objects.contents().stream().map(S3Object::key).toList());
+  }
+
+  /**
+   * Marks a completed backup as failed before deleting it, so that backups which are concurrently
+   * saved don't complete with references to its objects, see the class documentation.
+   */
+  private CompletableFuture<Manifest> markAsDeleting(final Manifest manifest) {
+    if (manifest instanceof final CompletedBackupManifest completed) {
+      return writeManifestObject(completed.asFailed(DELETION_FAILURE_REASON))
+          .thenApply(Manifest.class::cast);
+    }
+    return CompletableFuture.completedFuture(manifest);
+  }
+
+  /**
+   * Returns the objects which can be deleted together with the given backup: its own objects which
+   * are not referenced by any other backup, and the objects of already deleted backups which were
+   * only kept because the given backup referenced them.
+   */
+  private List<ObjectIdentifier> objectsToDelete(
+      final Manifest manifest,
+      final Collection<String> ownObjects,
+      final Collection<Manifest> partitionManifests) {
+    final var otherManifests =
+        partitionManifests.stream().filter(other -> !other.id().equals(manifest.id())).toList();
+    final var existingBackups =
+        otherManifests.stream().map(Manifest::id).collect(Collectors.toSet());
+    final var referencedByOthers =
+        otherManifests.stream()
+            .flatMap(this::referencedObjects)
+            .map(ReferencedObject::key)
+            .collect(Collectors.toSet());
+
+    final var orphanedObjects =
+        referencedObjects(manifest)
+            .filter(object -> !object.sourceBackup().equals(manifest.id()))
+            .filter(object -> !existingBackups.contains(object.sourceBackup()))
+            .map(ReferencedObject::key);
+    final var deletable =
+        Stream.concat(ownObjects.stream(), orphanedObjects)
+            .filter(key -> !referencedByOthers.contains(key))
+            .distinct()
+            .map(key -> ObjectIdentifier.builder().key(key).build())
+            .toList();
+
+    if (LOG.isDebugEnabled() && deletable.size() != ownObjects.size()) {
+      LOG.debug(
+          "Deleting {} objects for {}, of which {} objects are kept as they're still referenced",
+          deletable.size(),
+          manifest.id(),
+          ownObjects.stream().filter(referencedByOthers::contains).count());
+    }
+    return deletable;
+  }
+
+  private Stream<ReferencedObject> referencedObjects(final Manifest manifest) {
+    return switch (manifest) {
+      case final CompletedBackupManifest completed -> Stream.concat(
+          referencedObjects(completed.id(), SNAPSHOT_PREFIX, completed.snapshotFiles()),
+          referencedObjects(completed.id(), SEGMENTS_PREFIX, completed.segmentFiles()));
+      case final FailedBackupManifest failed -> Stream.concat(
+          referencedObjects(failed.id(), SNAPSHOT_PREFIX, failed.snapshotFiles()),
+          referencedObjects(failed.id(), SEGMENTS_PREFIX, failed.segmentFiles()));
+      default -> Stream.empty();
+    };
+  }
+
+  private Stream<ReferencedObject> referencedObjects(
+      final BackupIdentifier id, final String fileSetPrefix, final FileSet fileSet) {
+    if (fileSet == null) {
+      return Stream.empty();
+    }
+
+    return fileSet.files().entrySet().stream()
+        .map(
+            file -> {
+              final BackupIdentifier source =
+                  file.getValue().sourceBackup().map(BackupIdentifier.class::cast).orElse(id);
+              return new ReferencedObject(
+                  BackupIdentifierImpl.from(source),
+                  objectPrefix(source) + fileSetPrefix + file.getKey());
+            });
+  }
+
+  /**
+   * Returns the latest completed backup of the same partition which was taken before the given
+   * backup, if any. Failing to find it is not an error, the backup is then simply not incremental.
+   */
+  private CompletableFuture<Optional<CompletedBackupManifest>> findPreviousBackup(
+      final BackupIdentifier id) {
+    final var previousIds = new ArrayList<BackupIdentifier>();
+    return findBackupIds(partitionWildcard(id))
+        .filter(other -> other.checkpointId() < id.checkpointId())
+        .subscribe(previousIds::add)
+        .thenComposeAsync(
+            ignored -> {
+              previousIds.sort(Comparator.comparingLong(BackupIdentifier::checkpointId).reversed());
+              return findFirstCompletedBackup(previousIds.iterator());
+            })
+        .exceptionally(
+            error -> {
+              LOG.warn("Failed to find previous backup of {}, saving all files", id, error);
+              return Optional.empty();
+            });
+  }
+
+  private CompletableFuture<Optional<CompletedBackupManifest>> findFirstCompletedBackup(
+      final Iterator<BackupIdentifier> ids) {
+    if (!ids.hasNext()) {
+      return CompletableFuture.completedFuture(Optional.empty());
+    }
+
+    return readManifestObject(ids.next())
+        .thenComposeAsync(
+            manifest -> {
+              if (manifest instanceof final CompletedBackupManifest completed) {
+                LOG.debug("Found previous backup {} to save files incrementally", completed.id());
+                return CompletableFuture.completedFuture(Optional.of(completed));
+              }
+              return findFirstCompletedBackup(ids);
+            });
+  }
+
+  /**
+   * Fails if the previous backup, whose objects may be referenced by the backup being saved, was
+   * deleted or failed in the meantime. Must only be called after the manifest of the backup being
+   * saved was completed, see the class documentation.
+   */
+  private CompletableFuture<Void> expectStillCompleted(
+      final Optional<CompletedBackupManifest> previous) {
+    return previous
+        .map(
+            manifest ->
+                readManifestObject(manifest.id())
+                    .thenApply(Manifest::expectCompleted)
+                    .<Void>thenApply(ignored -> null))
+        .orElseGet(() -> CompletableFuture.completedFuture(null));
+  }
+
+  private static BackupIdentifierWildcard partitionWildcard(final BackupIdentifier id) {
+    return new BackupIdentifierWildcardImpl(
+        Optional.empty(), Optional.of(id.partitionId()), Optional.empty());
   }
 
   private CompletableFuture<Void> deleteBackupObjects(
@@ -381,16 +556,26 @@ public final class S3BackupStore implements BackupStore {
         .thenApply(resp -> manifest);
   }
 
-  private CompletableFuture<FileSet> saveSnapshotFiles(final Backup backup) {
+  private CompletableFuture<FileSet> saveSnapshotFiles(
+      final Backup backup, final Optional<CompletedBackupManifest> previous) {
     LOG.debug("Saving snapshot files for {}", backup.id());
     final var prefix = objectPrefix(backup.id()) + SNAPSHOT_PREFIX;
-    return fileSetManager.save(prefix, backup.snapshot());
+    final var previousFiles =
+        previous
+            .map(manifest -> manifest.snapshotFiles().withSourceBackup(manifest.id()))
+            .orElseGet(FileSet::empty);
+    return fileSetManager.save(prefix, backup.snapshot(), previousFiles);
   }
 
-  private CompletableFuture<FileSet> saveSegmentFiles(final Backup backup) {
+  private CompletableFuture<FileSet> saveSegmentFiles(
+      final Backup backup, final Optional<CompletedBackupManifest> previous) {
     LOG.debug("Saving segment files for {}", backup.id());
     final var prefix = objectPrefix(backup.id()) + SEGMENTS_PREFIX;
-    return fileSetManager.save(prefix, backup.segments());
+    final var previousFiles =
+        previous
+            .map(manifest -> manifest.segmentFiles().withSourceBackup(manifest.id()))
+            .orElseGet(FileSet::empty);
+    return fileSetManager.save(prefix, backup.segments(), previousFiles);
   }
 
   public static S3AsyncClient buildClient(final S3BackupConfig config) {
@@ -424,4 +609,6 @@ public final class S3BackupStore implements BackupStore {
         .ifPresent(timeout -> builder.overrideConfiguration(cfg -> cfg.apiCallTimeout(timeout)));
     return builder.build();
   }
+
+  private record ReferencedObject(BackupIdentifierImpl sourceBackup, String key) {}
 }
@@ -15,8 +15,11 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -47,14 +50,59 @@ public record FileSet(Map<String, FileMetadata> files) {
     return files.keySet();
   }
 
+  /**
+   * Returns a copy of this set in which all files that were uploaded by the given backup, i.e. all
+   * files without a {@link FileMetadata#sourceBackup() source backup}, refer to the given backup.
+   * Files of the returned set can be referenced by subsequent backups as is.
+   *
+   * @param backup the backup which this set belongs to
+   * @return a copy of this set where every file has a source backup
+   */
+  public FileSet withSourceBackup(final BackupIdentifierImpl backup) {
+    final var reusableFiles =
+        files.entrySet().stream()
+            .collect(
+                Collectors.toMap(Entry::getKey, file -> file.getValue().withSourceBackup(backup)));
+    return new FileSet(reusableFiles);
+  }
+
+  /**
+   * @param compressionAlgorithm the algorithm with which the uploaded object was compressed, if any
+   * @param digest the {@link io.camunda.zeebe.backup.common.ContentDigest digest} of the file's
+   *     content, used to recognize identical files in subsequent backups
+   * @param sourceBackup the backup which uploaded the file's object, if it was not uploaded by the
+   *     backup of the manifest itself
+   */
   @JsonInclude(Include.NON_EMPTY)
-  public record FileMetadata(Optional<String> compressionAlgorithm) {
+  public record FileMetadata(
+      Optional<String> compressionAlgorithm,
+      Optional<String> digest,
+      Optional<BackupIdentifierImpl> sourceBackup) {
+
+    public FileMetadata {
+      // the fields are missing in manifests of previous versions
+      compressionAlgorithm = Objects.requireNonNullElse(compressionAlgorithm, Optional.empty());
+      digest = Objects.requireNonNullElse(digest, Optional.empty());
+      sourceBackup = Objects.requireNonNullElse(sourceBackup, Optional.empty());
+    }
+
     public static FileMetadata withCompression(final String algorithm) {
-      return new FileMetadata(Optional.of(algorithm));
+      return new FileMetadata(Optional.of(algorithm), Optional.empty(), Optional.empty());
     }
 
     public static FileMetadata none() {
-      return new FileMetadata(Optional.empty());
+      return new FileMetadata(Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    public FileMetadata withDigest(final String digest) {
+      return new FileMetadata(compressionAlgorithm, Optional.of(digest), sourceBackup);
+    }
+
+    FileMetadata withSourceBackup(final BackupIdentifierImpl backup) {
+      if (sourceBackup.isPresent()) {
+        return this;
+      }
+      return new FileMetadata(compressionAlgorithm, digest, Optional.of(backup));
     }
   }
 
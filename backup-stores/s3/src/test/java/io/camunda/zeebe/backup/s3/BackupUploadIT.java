@@ -28,6 +28,7 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
 import org.testcontainers.containers.localstack.LocalStackContainer;
 import org.testcontainers.containers.localstack.LocalStackContainer.Service;
 import org.testcontainers.junit.jupiter.Container;
@@ -65,6 +66,14 @@ final class BackupUploadIT {
 
   public S3BackupStore buildBackupStore(
       final int parallelUploadsLimit, final Duration connectionAcquisitionTimeout) {
+    return buildBackupStore(
+        parallelUploadsLimit, connectionAcquisitionTimeout, S3BackupConfig.MIN_PART_SIZE);
+  }
+
+  public S3BackupStore buildBackupStore(
+      final int parallelUploadsLimit,
+      final Duration connectionAcquisitionTimeout,
+      final long partSize) {
     final S3BackupConfig backupConfig =
         new Builder()
             .withBucketName(BUCKET_NAME)
@@ -77,6 +86,7 @@ final class BackupUploadIT {
             .withCompressionAlgorithm(null)
             .withConnectionAcquisitionTimeout(connectionAcquisitionTimeout)
             .withParallelUploadsLimit(parallelUploadsLimit)
+            .withPartSize(partSize)
             .build();
 
     final S3AsyncClient asyncClient = S3BackupStore.buildClient(backupConfig);
@@ -107,6 +117,27 @@ final class BackupUploadIT {
     Assertions.assertThat(saveFuture).succeedsWithin(Duration.ofSeconds(60));
   }
 
+  @Test
+  void shouldRestoreFilesTransferredInParts(@TempDir final Path restoreDir) throws IOException {
+    // given - files which span multiple parts, where the last part is smaller than the others
+    final var store = buildBackupStore(4, Duration.ofSeconds(10), S3BackupConfig.MIN_PART_SIZE);
+    final var backup = backupWithLargeFiles((int) (2.5 * S3BackupConfig.MIN_PART_SIZE));
+    store.save(backup).join();
+
+    // when
+    final var restored = store.restore(backup.id(), restoreDir).join();
+
+    // then
+    for (final var file : backup.segments().namedFiles().entrySet()) {
+      Assertions.assertThat(restored.segments().namedFiles().get(file.getKey()))
+          .hasSameBinaryContentAs(file.getValue());
+    }
+    for (final var file : backup.snapshot().namedFiles().entrySet()) {
+      Assertions.assertThat(restored.snapshot().namedFiles().get(file.getKey()))
+          .hasSameBinaryContentAs(file.getValue());
+    }
+  }
+
   Backup backupWithManyFiles(final int numberOfSegments) throws IOException {
     final var tempDir = Files.createTempDirectory("backup");
     Files.createDirectory(tempDir.resolve("segments/"));
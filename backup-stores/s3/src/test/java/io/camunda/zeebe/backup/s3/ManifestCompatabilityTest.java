@@ -7,11 +7,15 @@
  */
 package io.camunda.zeebe.backup.s3;
 
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
 import io.camunda.zeebe.backup.s3.manifest.CompletedBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.FailedBackupManifest;
+import io.camunda.zeebe.backup.s3.manifest.FileSet;
+import io.camunda.zeebe.backup.s3.manifest.FileSet.FileMetadata;
 import io.camunda.zeebe.backup.s3.manifest.InProgressBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.ValidBackupManifest;
 import java.io.IOException;
+import java.util.Map;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -89,4 +93,45 @@ final class ManifestCompatabilityTest {
     Assertions.assertThat(manifest.segmentFiles().files()).isNotEmpty();
     Assertions.assertThat(manifest.snapshotFiles().files()).isNotEmpty();
   }
+
+  @Test
+  void shouldParseFileMetadataWithoutDigestFromPreviousVersion() throws IOException {
+    // given
+    final var objectReader = S3BackupStore.MAPPER.readerFor(ValidBackupManifest.class);
+
+    // when
+    final var manifest =
+        objectReader.readValue(
+            getClass().getResourceAsStream("/manifests/8.3/completed.json"),
+            CompletedBackupManifest.class);
+
+    // then
+    Assertions.assertThat(manifest.snapshotFiles().files())
+        .containsEntry("000144.sst", FileMetadata.withCompression("zstd"))
+        .containsEntry("CURRENT", FileMetadata.none());
+    Assertions.assertThat(manifest.segmentFiles().files())
+        .containsEntry("raft-partition-partition-1-49.log", FileMetadata.none());
+  }
+
+  @Test
+  void shouldSerializeFileMetadataWithSourceBackup() throws IOException {
+    // given
+    final var sourceBackup = new BackupIdentifierImpl(1, 2, 3);
+    final var fileSet =
+        new FileSet(
+                Map.of(
+                    "file", FileMetadata.withCompression("zstd").withDigest("digest"),
+                    "other", FileMetadata.none()))
+            .withSourceBackup(sourceBackup);
+
+    // when
+    final var serialized = S3BackupStore.MAPPER.writeValueAsBytes(fileSet);
+    final var deserialized = S3BackupStore.MAPPER.readValue(serialized, FileSet.class);
+
+    // then
+    Assertions.assertThat(deserialized).isEqualTo(fileSet);
+    Assertions.assertThat(deserialized.files().values())
+        .allSatisfy(
+            metadata -> Assertions.assertThat(metadata.sourceBackup()).contains(sourceBackup));
+  }
 }
@@ -8,8 +8,14 @@
 package io.camunda.zeebe.backup.s3;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
 
 import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupStatusCode;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupInInvalidStateException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.ManifestParseException;
 import io.camunda.zeebe.backup.s3.manifest.CompletedBackupManifest;
@@ -19,6 +25,7 @@ import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
 import org.awaitility.Awaitility;
@@ -185,6 +192,106 @@ public interface S3BackupStoreTests extends BackupStoreTestKit {
             });
   }
 
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  default void reusesObjectsOfPreviousBackup(final Backup previousBackup) {
+    // given
+    final var id = previousBackup.id();
+    final var backup =
+        new BackupImpl(
+            new BackupIdentifierImpl(id.nodeId(), id.partitionId(), id.checkpointId() + 1),
+            previousBackup.descriptor(),
+            previousBackup.snapshot(),
+            previousBackup.segments());
+    getStore().save(previousBackup).join();
+
+    // when
+    getStore().save(backup).join();
+
+    // then
+    assertThat(listObjects(getStore().objectPrefix(backup.id())))
+        .containsExactly(getStore().objectPrefix(backup.id()) + S3BackupStore.MANIFEST_OBJECT_KEY);
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  default void keepsObjectsReferencedByOtherBackupsWhenDeleting(final Backup previousBackup) {
+    // given
+    final var id = previousBackup.id();
+    final var backup =
+        new BackupImpl(
+            new BackupIdentifierImpl(id.nodeId(), id.partitionId(), id.checkpointId() + 1),
+            previousBackup.descriptor(),
+            previousBackup.snapshot(),
+            previousBackup.segments());
+    getStore().save(previousBackup).join();
+    getStore().save(backup).join();
+    final var previousPrefix = getStore().objectPrefix(previousBackup.id());
+
+    // when
+    getStore().delete(previousBackup.id()).join();
+
+    // then
+    assertThat(listObjects(previousPrefix))
+        .hasSize(
+            previousBackup.snapshot().names().size() + previousBackup.segments().names().size())
+        .doesNotContain(previousPrefix + S3BackupStore.MANIFEST_OBJECT_KEY);
+
+    // when
+    getStore().delete(backup.id()).join();
+
+    // then
+    Awaitility.await("Finds no objects after deleting all backups")
+        .pollInterval(Duration.ofSeconds(1))
+        .atMost(Duration.ofSeconds(30))
+        .untilAsserted(() -> assertThat(listObjects(previousPrefix)).isEmpty());
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  default void failsBackupIfPreviousBackupIsDeletedBeforeCompleting(final Backup previousBackup) {
+    // given
+    final var id = previousBackup.id();
+    final var backup =
+        new BackupImpl(
+            new BackupIdentifierImpl(id.nodeId(), id.partitionId(), id.checkpointId() + 1),
+            previousBackup.descriptor(),
+            previousBackup.snapshot(),
+            previousBackup.segments());
+    getStore().save(previousBackup).join();
+
+    // delete the previous backup after the objects were saved, but before the manifest is completed
+    final var store = spy(getStore());
+    doAnswer(
+            invocation -> {
+              store.delete(previousBackup.id()).join();
+              return invocation.callRealMethod();
+            })
+        .when(store)
+        .writeManifestObject(
+            argThat(
+                manifest ->
+                    manifest instanceof CompletedBackupManifest
+                        && manifest.id().equals(backup.id())));
+
+    // when
+    final var result = store.save(backup);
+
+    // then
+    assertThat(result).failsWithin(Duration.ofSeconds(10));
+    assertThat(store.getStatus(backup.id()).join().statusCode()).isEqualTo(BackupStatusCode.FAILED);
+  }
+
+  private List<String> listObjects(final String prefix) {
+    return getClient()
+        .listObjectsV2(req -> req.bucket(getConfig().bucketName()).prefix(prefix))
+        .join()
+        .contents()
+        .stream()
+        .map(S3Object::key)
+        .toList();
+  }
+
   @ParameterizedTest
   @ArgumentsSource(TestBackupProvider.class)
   default void statusQueryFailsIfManifestIsCorrupt(final Backup backup) {
@@ -9,6 +9,8 @@ package io.camunda.zeebe.backup.testkit;
 
 import io.camunda.zeebe.backup.api.Backup;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.testkit.support.BackupAssert;
 import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
 import java.nio.file.Path;
@@ -49,4 +51,27 @@ public interface RestoringBackup {
         .hasSameContentsAs(originalBackup)
         .residesInPath(targetDir);
   }
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  default void canRestoreBackupWithSameFilesAsDeletedBackup(
+      final Backup previousBackup, @TempDir final Path targetDir) {
+    // given
+    final var id = previousBackup.id();
+    final var backup =
+        new BackupImpl(
+            new BackupIdentifierImpl(id.nodeId(), id.partitionId(), id.checkpointId() + 1),
+            previousBackup.descriptor(),
+            previousBackup.snapshot(),
+            previousBackup.segments());
+    getStore().save(previousBackup).join();
+    getStore().save(backup).join();
+
+    // when
+    getStore().delete(previousBackup.id()).join();
+    final var restored = getStore().restore(backup.id(), targetDir).join();
+
+    // then
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(backup).residesInPath(targetDir);
+  }
 }
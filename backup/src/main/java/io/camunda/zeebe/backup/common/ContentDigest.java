@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.common;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Computes digests of the contents of backed up files. Backup stores use them to recognize files
+ * which were already uploaded by a previous backup, and which don't have to be uploaded again.
+ */
+public final class ContentDigest {
+  private static final String ALGORITHM = "SHA-256";
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private ContentDigest() {}
+
+  /**
+   * Returns the hex encoded SHA-256 digest of the given file's content.
+   *
+   * @param file the file to digest
+   * @return the digest of the file
+   * @throws UncheckedIOException if the file cannot be read
+   */
+  public static String of(final Path file) {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance(ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      // every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+
+    try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+      while (channel.read(buffer) != -1) {
+        digest.update(buffer.flip());
+        buffer.clear();
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to compute digest of %s".formatted(file), e);
+    }
+
+    return HexFormat.of().formatHex(digest.digest());
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+/**
+ * Metrics of the transfers of backup stores, i.e. of uploading and downloading files. The
+ * throughput of a store is the rate of its transferred bytes.
+ */
+public final class BackupStoreMetrics {
+  private static final String NAMESPACE = "zeebe";
+  private static final String LABEL_NAME_STORE = "store";
+  private static final String LABEL_NAME_DIRECTION = "direction";
+
+  private static final String UPLOAD = "upload";
+  private static final String DOWNLOAD = "download";
+
+  private static final Counter TRANSFERRED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("backup_store_transferred_bytes_total")
+          .help("Total number of bytes of files uploaded to or downloaded from the backup store")
+          .labelNames(LABEL_NAME_STORE, LABEL_NAME_DIRECTION)
+          .register();
+  private static final Gauge TRANSFERS_IN_PROGRESS =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("backup_store_transfers_in_progress")
+          .help("Number of files which are currently uploaded to or downloaded from the store")
+          .labelNames(LABEL_NAME_STORE, LABEL_NAME_DIRECTION)
+          .register();
+  private static final Histogram TRANSFER_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("backup_store_transfer_latency")
+          .help("Time to upload or download a single file, in seconds")
+          .labelNames(LABEL_NAME_STORE, LABEL_NAME_DIRECTION)
+          .buckets(0.01, 0.1, 0.5, 1, 5, 10, 30, 60, 5 * 60)
+          .register();
+
+  private final String store;
+
+  /**
+   * @param store the name of the store, e.g. {@code s3}
+   */
+  public BackupStoreMetrics(final String store) {
+    this.store = store;
+  }
+
+  public TransferMetrics startUpload(final long bytes) {
+    return TransferMetrics.start(store, UPLOAD, bytes);
+  }
+
+  public TransferMetrics startDownload(final long bytes) {
+    return TransferMetrics.start(store, DOWNLOAD, bytes);
+  }
+
+  public static final class TransferMetrics {
+    private final String store;
+    private final String direction;
+    private final long bytes;
+    private final Histogram.Timer timer;
+
+    private TransferMetrics(
+        final String store, final String direction, final long bytes, final Histogram.Timer timer) {
+      this.store = store;
+      this.direction = direction;
+      this.bytes = bytes;
+      this.timer = timer;
+    }
+
+    private static TransferMetrics start(
+        final String store, final String direction, final long bytes) {
+      TRANSFERS_IN_PROGRESS.labels(store, direction).inc();
+      return new TransferMetrics(
+          store, direction, bytes, TRANSFER_LATENCY.labels(store, direction).startTimer());
+    }
+
+    /** Completes the transfer; only the bytes of successful transfers are counted. */
+    public <T> void complete(final T ignored, final Throwable throwable) {
+      timer.close();
+      TRANSFERS_IN_PROGRESS.labels(store, direction).dec();
+      if (throwable == null) {
+        TRANSFERRED_BYTES.labels(store, direction).inc(bytes);
+      }
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import java.time.Duration;
+
+/**
+ * Chooses how many records the {@link ExporterDirector} reads and exports in one go, i.e. without
+ * yielding its actor thread in between, and how many records are passed at once to a batch
+ * exporter.
+ *
+ * <p>The batch size is doubled while exporting lags behind, i.e. when there are still records to
+ * export after a full batch, and halved when exporting a batch takes longer than the target
+ * latency, so that the director doesn't block other actors and tasks for too long. After a failed
+ * export, it starts over with a single record.
+ */
+final class ExportBatchSizer {
+
+  static final Duration DEFAULT_TARGET_LATENCY = Duration.ofMillis(25);
+
+  private final int maxBatchSize;
+  private final long targetLatencyNanos;
+  private int batchSize = 1;
+
+  ExportBatchSizer(final int maxBatchSize, final Duration targetLatency) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException(
+          "Expected max export batch size to be at least 1, but was " + maxBatchSize);
+    }
+
+    this.maxBatchSize = maxBatchSize;
+    targetLatencyNanos = targetLatency.toNanos();
+  }
+
+  int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * @param exportedRecords how many records were read in the batch, including skipped ones
+   * @param latencyNanos how long it took to export the batch
+   * @param hasMoreRecords true if there are more records to export right away
+   */
+  void onBatchExported(
+      final int exportedRecords, final long latencyNanos, final boolean hasMoreRecords) {
+    if (latencyNanos > targetLatencyNanos) {
+      batchSize = Math.max(1, batchSize / 2);
+    } else if (hasMoreRecords && exportedRecords >= batchSize) {
+      batchSize = Math.min(maxBatchSize, batchSize * 2);
+    }
+  }
+
+  void onExportFailed() {
+    batchSize = 1;
+  }
+}
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.exporter.stream;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.exporter.context.ExporterContext;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.exporter.api.BatchExporter;
 import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
@@ -21,6 +22,8 @@ import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.jar.ThreadContextUtil;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
@@ -35,6 +38,8 @@ final class ExporterContainer implements Controller {
 
   private final ExporterContext context;
   private final Exporter exporter;
+  // copies of the records which were accepted by a batch exporter, but not passed to it yet
+  private final List<Record<?>> pendingBatch = new ArrayList<>();
   private long position;
   private long lastUnacknowledgedPosition;
   private ExportersState exportersState;
@@ -177,11 +182,45 @@ final class ExporterContainer implements Controller {
   }
 
   private void export(final Record<?> record) {
-    ThreadContextUtil.runWithClassLoader(
-        () -> exporter.export(record), exporter.getClass().getClassLoader());
+    if (exporter instanceof BatchExporter) {
+      pendingBatch.add(record.copyOf());
+    } else {
+      ThreadContextUtil.runWithClassLoader(
+          () -> exporter.export(record), exporter.getClass().getClassLoader());
+    }
+
     lastUnacknowledgedPosition = record.getPosition();
   }
 
+  /**
+   * Passes the pending records to the exporter, if it's a {@link BatchExporter}. If this fails, the
+   * records are kept and passed again on the next call.
+   *
+   * @return true if there are no pending records anymore, false otherwise
+   */
+  boolean flushBatch() {
+    if (pendingBatch.isEmpty()) {
+      return true;
+    }
+
+    final var batchExporter = (BatchExporter) exporter;
+    try {
+      ThreadContextUtil.runWithClassLoader(
+          () -> batchExporter.exportBatch(pendingBatch), exporter.getClass().getClassLoader());
+      pendingBatch.clear();
+      return true;
+    } catch (final Exception ex) {
+      context
+          .getLogger()
+          .warn(
+              "Error on exporting batch of {} records, up to position {}",
+              pendingBatch.size(),
+              lastUnacknowledgedPosition,
+              ex);
+      return false;
+    }
+  }
+
   public void close() {
     try {
       ThreadContextUtil.runCheckedWithClassLoader(
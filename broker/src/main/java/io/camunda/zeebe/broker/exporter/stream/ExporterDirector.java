@@ -66,6 +66,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private final String name;
   private final RetryStrategy exportingRetryStrategy;
   private final RetryStrategy recordWrapStrategy;
+  private final ExportBatchSizer batchSizer;
   private final Set<FailureListener> listeners = new HashSet<>();
   private LogStreamReader logStreamReader;
   private EventFilter eventFilter;
@@ -75,6 +76,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private volatile HealthReport healthReport = HealthReport.healthy(this);
 
   private boolean inExportingPhase;
+  private long batchStartTime;
+  private int batchReadRecords;
   private boolean isPaused;
   private ExporterPhase exporterPhase;
   private final PartitionMessagingService partitionMessagingService;
@@ -95,6 +98,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     recordExporter = new RecordExporter(metrics, containers, partitionId);
     exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
     recordWrapStrategy = new EndlessRetryStrategy(actor);
+    batchSizer =
+        new ExportBatchSizer(
+            context.getMaxExportBatchSize(), ExportBatchSizer.DEFAULT_TARGET_LATENCY);
     zeebeDb = context.getZeebeDb();
     isPaused = shouldPauseOnStart;
     partitionMessagingService = context.getPartitionMessagingService();
@@ -382,24 +388,63 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     for (final ExporterContainer container : containers) {
       container.updatePositionOnSkipIfUpToDate(eventPosition);
     }
-
-    actor.submit(this::readNextEvent);
   }
 
   private void readNextEvent() {
     if (shouldExport()) {
+      inExportingPhase = true;
+      batchStartTime = System.nanoTime();
+      batchReadRecords = 0;
+      exportNextEvents();
+    }
+  }
+
+  private boolean shouldExport() {
+    return isOpened.get() && logStreamReader.hasNext() && !inExportingPhase && !isPaused;
+  }
+
+  /**
+   * Reads and exports the next events of the current batch directly, one after another. Only if an
+   * event can't be exported right away, it's exported via the retry strategies, which continue with
+   * the batch afterwards.
+   */
+  private void exportNextEvents() {
+    while (isOpened.get()
+        && !isPaused
+        && logStreamReader.hasNext()
+        && batchReadRecords < batchSizer.getBatchSize()) {
       final LoggedEvent currentEvent = logStreamReader.next();
+      batchReadRecords++;
+
       if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        inExportingPhase = true;
-        exportEvent(currentEvent);
+        if (!tryToExportEvent(currentEvent)) {
+          return;
+        }
       } else {
         skipRecord(currentEvent);
       }
     }
+
+    flushBatch();
   }
 
-  private boolean shouldExport() {
-    return isOpened.get() && logStreamReader.hasNext() && !inExportingPhase && !isPaused;
+  private boolean tryToExportEvent(final LoggedEvent event) {
+    try {
+      recordExporter.wrap(event);
+    } catch (final Exception e) {
+      batchSizer.onExportFailed();
+      exportEvent(event);
+      return false;
+    }
+
+    if (!recordExporter.export()) {
+      batchSizer.onExportFailed();
+      retryExport(event);
+      return false;
+    }
+
+    metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+    return true;
   }
 
   private void exportEvent(final LoggedEvent event) {
@@ -415,25 +460,67 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         wrapRetryFuture,
         (b, t) -> {
           assert t == null : "Throwable must be null";
+          retryExport(event);
+        });
+  }
+
+  private void retryExport(final LoggedEvent event) {
+    final ActorFuture<Boolean> retryFuture =
+        exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
 
-          final ActorFuture<Boolean> retryFuture =
-              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
-
-          actor.runOnCompletion(
-              retryFuture,
-              (bool, throwable) -> {
-                if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
-                  onFailure();
-                } else {
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
-                  inExportingPhase = false;
-                  actor.submit(this::readNextEvent);
-                }
-              });
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+            onFailure();
+          } else {
+            metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+            actor.submit(this::exportNextEvents);
+          }
+        });
+  }
+
+  private void flushBatch() {
+    if (isClosed()) {
+      // the exporters are closed already; the pending records are exported again after a restart
+      return;
+    }
+
+    if (recordExporter.flushBatches()) {
+      onBatchExported();
+      return;
+    }
+
+    batchSizer.onExportFailed();
+    final ActorFuture<Boolean> retryFuture =
+        exportingRetryStrategy.runWithRetry(recordExporter::flushBatches, this::isClosed);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(
+                "Expected to export batch of records up to '{}' successfully, but exception was thrown.",
+                recordExporter.getTypedEvent(),
+                throwable);
+            onFailure();
+          } else {
+            onBatchExported();
+          }
         });
   }
 
+  private void onBatchExported() {
+    final boolean hasMoreRecords = isOpened.get() && logStreamReader.hasNext();
+    batchSizer.onBatchExported(
+        batchReadRecords, System.nanoTime() - batchStartTime, hasMoreRecords);
+    metrics.setExportBatchSize(batchSizer.getBatchSize());
+
+    inExportingPhase = false;
+    actor.submit(this::readNextEvent);
+  }
+
   private void clearExporterState() {
     final List<String> exporterIds =
         containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
@@ -536,6 +623,16 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return true;
     }
 
+    boolean flushBatches() {
+      for (int i = 0; i < containers.size(); i++) {
+        if (!containers.get(i).flushBatch()) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
     TypedRecordImpl getTypedEvent() {
       return typedEvent;
     }
@@ -17,6 +17,7 @@ import java.util.Collection;
 public final class ExporterDirectorContext {
 
   public static final Duration DEFAULT_DISTRIBUTION_INTERVAL = Duration.ofSeconds(15);
+  public static final int DEFAULT_MAX_EXPORT_BATCH_SIZE = 1;
 
   private int id;
   private String name;
@@ -26,6 +27,7 @@ public final class ExporterDirectorContext {
   private PartitionMessagingService partitionMessagingService;
   private ExporterMode exporterMode = ExporterMode.ACTIVE; // per default we export records
   private Duration distributionInterval = DEFAULT_DISTRIBUTION_INTERVAL;
+  private int maxExportBatchSize = DEFAULT_MAX_EXPORT_BATCH_SIZE;
 
   public int getId() {
     return id;
@@ -59,6 +61,10 @@ public final class ExporterDirectorContext {
     return distributionInterval;
   }
 
+  public int getMaxExportBatchSize() {
+    return maxExportBatchSize;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -100,6 +106,11 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  public ExporterDirectorContext maxExportBatchSize(final int maxExportBatchSize) {
+    this.maxExportBatchSize = maxExportBatchSize;
+    return this;
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
@@ -37,6 +37,14 @@ public final class ExporterMetrics {
           .labelNames("exporter", "partition")
           .register();
 
+  private static final Gauge EXPORT_BATCH_SIZE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("exporter_batch_size")
+          .help("The number of records which are currently read and exported at once.")
+          .labelNames("partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public ExporterMetrics(final int partitionId) {
@@ -62,4 +70,8 @@ public final class ExporterMetrics {
   public void setLastExportedPosition(final String exporter, final long position) {
     LAST_EXPORTED_POSITION.labels(exporter, partitionIdLabel).set(position);
   }
+
+  public void setExportBatchSize(final int batchSize) {
+    EXPORT_BATCH_SIZE.labels(partitionIdLabel).set(batchSize);
+  }
 }
@@ -8,9 +8,11 @@
 package io.camunda.zeebe.broker.partitioning.startup;
 
 import io.atomix.primitive.partition.PartitionMetadata;
+import io.atomix.raft.metrics.FlushMetrics;
 import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
+import io.atomix.raft.storage.log.AdaptiveFlusher;
 import io.atomix.raft.storage.log.DelayedFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.zeebe.broker.Loggers;
@@ -27,6 +29,8 @@ import java.time.Duration;
 
 public final class RaftPartitionFactory {
   public static final String GROUP_NAME = "raft-partition";
+  // same format as RaftPartition#name(), from which the raft metrics derive their labels
+  private static final String PARTITION_NAME_FORMAT = "%s-partition-%d";
 
   private final BrokerCfg brokerCfg;
 
@@ -65,12 +69,16 @@ public final class RaftPartitionFactory {
 
     storageConfig.setFlusherFactory(
         createFlusherFactory(
-            brokerCfg.getCluster().getRaft().getFlush(), brokerCfg.getExperimental()));
+            partitionMetadata,
+            brokerCfg.getCluster().getRaft().getFlush(),
+            brokerCfg.getExperimental()));
     storageConfig.setFreeDiskSpace(
         brokerCfg.getData().getDisk().getFreeSpace().getReplication().toBytes());
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
+    storageConfig.setCompressSealedSegments(
+        brokerCfg.getExperimental().getRaft().isCompressSealedSegments());
 
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
@@ -91,22 +99,38 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getMinStepDownFailureCount());
     partitionConfig.setPreferSnapshotReplicationThreshold(
         brokerCfg.getExperimental().getRaft().getPreferSnapshotReplicationThreshold());
+    partitionConfig.setMaxSnapshotChunksInFlight(
+        brokerCfg.getExperimental().getRaft().getMaxSnapshotChunksInFlight());
 
     return new RaftPartition(partitionMetadata, partitionConfig, partitionDirectory.toFile());
   }
 
   private RaftLogFlusher.Factory createFlusherFactory(
-      final FlushConfig config, final ExperimentalCfg experimental) {
+      final PartitionMetadata partitionMetadata,
+      final FlushConfig config,
+      final ExperimentalCfg experimental) {
     // for backwards compatibility; remove this and flatten when this is removed
     if (experimental.isDisableExplicitRaftFlush()) {
-      return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
+      return createFlusherFactory(
+          partitionMetadata, new FlushConfig(false, Duration.ZERO, Duration.ZERO));
     }
 
-    return createFlusherFactory(config);
+    return createFlusherFactory(partitionMetadata, config);
   }
 
-  private RaftLogFlusher.Factory createFlusherFactory(final FlushConfig config) {
+  private RaftLogFlusher.Factory createFlusherFactory(
+      final PartitionMetadata partitionMetadata, final FlushConfig config) {
     if (config.enabled()) {
+      final Duration targetLatency = config.targetLatency();
+      if (targetLatency.isPositive()) {
+        final var partitionId = partitionMetadata.id();
+        final var metrics =
+            new FlushMetrics(
+                String.format(PARTITION_NAME_FORMAT, partitionId.group(), partitionId.id()));
+        return threadFactory ->
+            new AdaptiveFlusher(threadFactory.createContext(), targetLatency, metrics);
+      }
+
       final Duration delayTime = config.delayTime();
       if (delayTime.isZero()) {
         return RaftLogFlusher.Factory::direct;
@@ -22,10 +22,12 @@ public class ExperimentalCfg implements ConfigurationEntry {
   public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
+  public static final int DEFAULT_MAX_EXPORT_BATCH_SIZE = 1;
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
+  private int maxExportBatchSize = DEFAULT_MAX_EXPORT_BATCH_SIZE;
   private RocksdbCfg rocksdb = new RocksdbCfg();
   private ExperimentalRaftCfg raft = new ExperimentalRaftCfg();
   private PartitioningCfg partitioning = new PartitioningCfg();
@@ -40,6 +42,11 @@ public class ExperimentalCfg implements ConfigurationEntry {
     rocksdb.init(globalConfig, brokerBase);
     raft.init(globalConfig, brokerBase);
     engine.init(globalConfig, brokerBase);
+
+    if (maxExportBatchSize < 1) {
+      throw new IllegalArgumentException(
+          "maxExportBatchSize must be >= 1 but was %s".formatted(maxExportBatchSize));
+    }
   }
 
   public int getMaxAppendsPerFollower() {
@@ -62,6 +69,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
     return Optional.ofNullable(maxAppendBatchSize).orElse(DEFAULT_MAX_APPEND_BATCH_SIZE).toBytes();
   }
 
+  public int getMaxExportBatchSize() {
+    return maxExportBatchSize;
+  }
+
+  public void setMaxExportBatchSize(final int maxExportBatchSize) {
+    this.maxExportBatchSize = maxExportBatchSize;
+  }
+
   /**
    * @deprecated Deprecated in favor of {@link RaftCfg#getFlush()}. The equivalent is a null
    *     configuration, e.g. {@link new FlushConfig(null)}. Will be removed in 8.3.0.
@@ -146,6 +161,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + maxAppendBatchSize
         + ", disableExplicitRaftFlush="
         + disableExplicitRaftFlush
+        + ", maxExportBatchSize="
+        + maxExportBatchSize
         + ", rocksdb="
         + rocksdb
         + ", partitioning="
@@ -39,6 +39,8 @@ public final class FeatureFlagsCfg {
       DEFAULT_SETTINGS.enableStraightThroughProcessingLoopDetector();
 
   private boolean enableDynamicClusterTopology = DEFAULT_SETTINGS.enableDynamicClusterTopology();
+  private boolean enableTimerDueDateIndex = DEFAULT_SETTINGS.enableTimerDueDateIndex();
+  private boolean enableActorProfiling = DEFAULT_SETTINGS.enableActorProfiling();
 
   public boolean isEnableYieldingDueDateChecker() {
     return enableYieldingDueDateChecker;
@@ -89,6 +91,22 @@ public final class FeatureFlagsCfg {
     this.enableDynamicClusterTopology = enableDynamicClusterTopology;
   }
 
+  public boolean isEnableTimerDueDateIndex() {
+    return enableTimerDueDateIndex;
+  }
+
+  public void setEnableTimerDueDateIndex(final boolean enableTimerDueDateIndex) {
+    this.enableTimerDueDateIndex = enableTimerDueDateIndex;
+  }
+
+  public boolean isEnableActorProfiling() {
+    return enableActorProfiling;
+  }
+
+  public void setEnableActorProfiling(final boolean enableActorProfiling) {
+    this.enableActorProfiling = enableActorProfiling;
+  }
+
   public FeatureFlags toFeatureFlags() {
     return new FeatureFlags(
         enableYieldingDueDateChecker,
@@ -96,7 +114,9 @@ public final class FeatureFlagsCfg {
         enableMessageTtlCheckerAsync,
         enableTimerDueDateCheckerAsync,
         enableStraightThroughProcessingLoopDetector,
-        enableDynamicClusterTopology
+        enableDynamicClusterTopology,
+        enableTimerDueDateIndex,
+        enableActorProfiling
         /*, enableFoo*/ );
   }
 
@@ -11,7 +11,8 @@ import java.time.Duration;
 
 public final class RaftCfg implements ConfigurationEntry {
   public static final boolean DEFAULT_ENABLE_PRIORITY_ELECTION = true;
-  private static final FlushConfig DEFAULT_FLUSH_CONFIG = new FlushConfig(true, Duration.ZERO);
+  private static final FlushConfig DEFAULT_FLUSH_CONFIG =
+      new FlushConfig(true, Duration.ZERO, Duration.ZERO);
 
   private boolean enablePriorityElection = DEFAULT_ENABLE_PRIORITY_ELECTION;
 
@@ -43,10 +44,18 @@ public final class RaftCfg implements ConfigurationEntry {
         + '}';
   }
 
-  public record FlushConfig(boolean enabled, Duration delayTime) {
-    public FlushConfig(final boolean enabled, final Duration delayTime) {
+  /**
+   * @param enabled if false, the log is only flushed before a snapshot is taken
+   * @param delayTime if > 0, flushes are delayed by at least this period
+   * @param targetLatency if > 0, flushes are delayed adaptively, such that data is flushed within
+   *     this latency; takes precedence over the delay time
+   */
+  public record FlushConfig(boolean enabled, Duration delayTime, Duration targetLatency) {
+    public FlushConfig(
+        final boolean enabled, final Duration delayTime, final Duration targetLatency) {
       this.enabled = enabled;
       this.delayTime = delayTime == null ? Duration.ZERO : delayTime;
+      this.targetLatency = targetLatency == null ? Duration.ZERO : targetLatency;
     }
   }
 }
@@ -16,6 +16,7 @@ public class BackupStoreCfg implements ConfigurationEntry {
 
   private S3BackupStoreConfig s3 = new S3BackupStoreConfig();
   private GcsBackupStoreConfig gcs = new GcsBackupStoreConfig();
+  private FilesystemBackupStoreConfig filesystem = new FilesystemBackupStoreConfig();
 
   public S3BackupStoreConfig getS3() {
     return s3;
@@ -33,6 +34,14 @@ public class BackupStoreCfg implements ConfigurationEntry {
     this.gcs = gcs;
   }
 
+  public FilesystemBackupStoreConfig getFilesystem() {
+    return filesystem;
+  }
+
+  public void setFilesystem(final FilesystemBackupStoreConfig filesystem) {
+    this.filesystem = filesystem;
+  }
+
   public BackupStoreType getStore() {
     return store;
   }
@@ -45,6 +54,7 @@ public class BackupStoreCfg implements ConfigurationEntry {
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
     s3.init(globalConfig, brokerBase);
     gcs.init(globalConfig, brokerBase);
+    filesystem.init(globalConfig, brokerBase);
   }
 
   @Override
@@ -53,6 +63,7 @@ public class BackupStoreCfg implements ConfigurationEntry {
       case NONE -> "BackupStoreCfg{" + "store=" + store + '}';
       case S3 -> "BackupStoreCfg{" + "store=" + store + ", s3=" + s3 + '}';
       case GCS -> "BackupStoreCfg{" + "store=" + store + ", gcs=" + gcs + '}';
+      case FILESYSTEM -> "BackupStoreCfg{" + "store=" + store + ", filesystem=" + filesystem + '}';
     };
   }
 
@@ -69,6 +80,12 @@ public class BackupStoreCfg implements ConfigurationEntry {
      */
     GCS,
 
+    /**
+     * When type = FILESYSTEM, {@link io.camunda.zeebe.backup.filesystem.FilesystemBackupStore} will
+     * be used as the backup store
+     */
+    FILESYSTEM,
+
     /** Set type = NONE when no backup store is available. No backup will be taken. */
     NONE
   }
@@ -10,12 +10,15 @@ package io.camunda.zeebe.broker.system.configuration.backup;
 import io.camunda.zeebe.backup.gcs.GcsBackupConfig;
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import java.util.Objects;
+import org.springframework.util.unit.DataSize;
 
 public class GcsBackupStoreConfig implements ConfigurationEntry {
   private String bucketName;
   private String basePath;
   private String host;
   private GcsBackupStoreAuth auth = GcsBackupStoreAuth.AUTO;
+  private int maxConcurrentTransfers = 8;
+  private DataSize partSize = DataSize.ofMegabytes(8);
 
   public String getBucketName() {
     return bucketName;
@@ -49,12 +52,30 @@ public class GcsBackupStoreConfig implements ConfigurationEntry {
     this.auth = auth;
   }
 
+  public int getMaxConcurrentTransfers() {
+    return maxConcurrentTransfers;
+  }
+
+  public void setMaxConcurrentTransfers(final int maxConcurrentTransfers) {
+    this.maxConcurrentTransfers = maxConcurrentTransfers;
+  }
+
+  public DataSize getPartSize() {
+    return partSize;
+  }
+
+  public void setPartSize(final DataSize partSize) {
+    this.partSize = partSize;
+  }
+
   public static GcsBackupConfig toStoreConfig(GcsBackupStoreConfig config) {
     final var storeConfig =
         new GcsBackupConfig.Builder()
             .withBucketName(config.getBucketName())
             .withBasePath(config.getBasePath())
-            .withHost(config.getHost());
+            .withHost(config.getHost())
+            .withMaxConcurrentTransfers(config.getMaxConcurrentTransfers())
+            .withPartSize(Math.toIntExact(config.getPartSize().toBytes()));
     final var authenticated =
         switch (config.getAuth()) {
           case NONE -> storeConfig.withoutAuthentication();
@@ -75,12 +96,14 @@ public class GcsBackupStoreConfig implements ConfigurationEntry {
     return Objects.equals(bucketName, that.bucketName)
         && Objects.equals(basePath, that.basePath)
         && Objects.equals(host, that.host)
-        && auth == that.auth;
+        && auth == that.auth
+        && maxConcurrentTransfers == that.maxConcurrentTransfers
+        && Objects.equals(partSize, that.partSize);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(bucketName, basePath, host, auth);
+    return Objects.hash(bucketName, basePath, host, auth, maxConcurrentTransfers, partSize);
   }
 
   @Override
@@ -97,6 +120,10 @@ public class GcsBackupStoreConfig implements ConfigurationEntry {
         + '\''
         + ", auth="
         + auth
+        + ", maxConcurrentTransfers="
+        + maxConcurrentTransfers
+        + ", partSize="
+        + partSize
         + '}';
   }
 
@@ -12,6 +12,7 @@ import io.camunda.zeebe.backup.s3.S3BackupConfig.Builder;
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import java.time.Duration;
 import java.util.Objects;
+import org.springframework.util.unit.DataSize;
 
 public class S3BackupStoreConfig implements ConfigurationEntry {
 
@@ -23,6 +24,8 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
   private Duration apiCallTimeout = Duration.ofSeconds(180);
   private boolean forcePathStyleAccess = false;
   private String compression;
+  private int maxConcurrentConnections = 50;
+  private DataSize partSize = DataSize.ofMegabytes(8);
 
   private String basePath;
 
@@ -94,6 +97,22 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
     }
   }
 
+  public int getMaxConcurrentConnections() {
+    return maxConcurrentConnections;
+  }
+
+  public void setMaxConcurrentConnections(final int maxConcurrentConnections) {
+    this.maxConcurrentConnections = maxConcurrentConnections;
+  }
+
+  public DataSize getPartSize() {
+    return partSize;
+  }
+
+  public void setPartSize(final DataSize partSize) {
+    this.partSize = partSize;
+  }
+
   public void setBasePath(final String basePath) {
     this.basePath = basePath;
   }
@@ -111,7 +130,9 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
             .withApiCallTimeout(config.getApiCallTimeout())
             .forcePathStyleAccess(config.isForcePathStyleAccess())
             .withCompressionAlgorithm(config.getCompression())
-            .withBasePath(config.getBasePath());
+            .withBasePath(config.getBasePath())
+            .withParallelUploadsLimit(config.getMaxConcurrentConnections())
+            .withPartSize(config.getPartSize().toBytes());
     if (config.getAccessKey() != null && config.getSecretKey() != null) {
       builder.withCredentials(config.getAccessKey(), config.getSecretKey());
     }
@@ -128,6 +149,8 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
     result = 31 * result + (apiCallTimeout != null ? apiCallTimeout.hashCode() : 0);
     result = 31 * result + (forcePathStyleAccess ? 1 : 0);
     result = 31 * result + (compression != null ? compression.hashCode() : 0);
+    result = 31 * result + maxConcurrentConnections;
+    result = 31 * result + (partSize != null ? partSize.hashCode() : 0);
     result = 31 * result + (basePath != null ? basePath.hashCode() : 0);
     return result;
   }
@@ -146,6 +169,12 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
     if (forcePathStyleAccess != that.forcePathStyleAccess) {
       return false;
     }
+    if (maxConcurrentConnections != that.maxConcurrentConnections) {
+      return false;
+    }
+    if (!Objects.equals(partSize, that.partSize)) {
+      return false;
+    }
     if (!Objects.equals(compression, that.compression)) {
       return false;
     }
@@ -196,6 +225,10 @@ public class S3BackupStoreConfig implements ConfigurationEntry {
         + compression
         + ", basePath="
         + basePath
+        + ", maxConcurrentConnections="
+        + maxConcurrentConnections
+        + ", partSize="
+        + partSize
         + '}';
   }
 }
@@ -11,6 +11,7 @@ import static io.camunda.zeebe.broker.Broker.LOG;
 
 import io.camunda.zeebe.broker.system.configuration.DataCfg;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorPriority;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -38,6 +39,11 @@ public class DiskSpaceUsageMonitorActor extends Actor implements DiskSpaceUsageM
     freeDiskSpaceSupplier = directory::getUsableSpace;
   }
 
+  @Override
+  public ActorPriority getPriority() {
+    return ActorPriority.LOW;
+  }
+
   @Override
   protected void onActorStarted() {
     checkDiskUsageAndNotifyListeners();
@@ -12,6 +12,7 @@ import io.camunda.zeebe.broker.system.partitions.NoEntryAtSnapshotPosition;
 import io.camunda.zeebe.broker.system.partitions.StateController;
 import io.camunda.zeebe.logstreams.impl.Loggers;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorPriority;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
@@ -95,6 +96,11 @@ public final class AsyncSnapshotDirector extends Actor
     return actorName;
   }
 
+  @Override
+  public ActorPriority getPriority() {
+    return ActorPriority.LOW;
+  }
+
   @Override
   protected void onActorStarting() {
     final var firstSnapshotTime =
@@ -92,7 +92,8 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .zeebeDb(context.getZeebeDb())
             .partitionMessagingService(context.getMessagingService())
             .descriptors(exporterDescriptors)
-            .exporterMode(exporterMode);
+            .exporterMode(exporterMode)
+            .maxExportBatchSize(context.getBrokerCfg().getExperimental().getMaxExportBatchSize());
 
     final ExporterDirector director = new ExporterDirector(exporterCtx, !context.shouldExport());
 
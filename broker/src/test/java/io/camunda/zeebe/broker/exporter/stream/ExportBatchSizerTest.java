@@ -0,0 +1,103 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+final class ExportBatchSizerTest {
+
+  private static final Duration TARGET_LATENCY = Duration.ofMillis(10);
+  private static final long FAST = Duration.ofMillis(1).toNanos();
+  private static final long SLOW = Duration.ofMillis(20).toNanos();
+
+  private final ExportBatchSizer sizer = new ExportBatchSizer(16, TARGET_LATENCY);
+
+  @Test
+  void shouldStartWithSingleRecord() {
+    assertThat(sizer.getBatchSize()).isOne();
+  }
+
+  @Test
+  void shouldGrowWhileLagging() {
+    // when
+    sizer.onBatchExported(1, FAST, true);
+    sizer.onBatchExported(2, FAST, true);
+    sizer.onBatchExported(4, FAST, true);
+
+    // then
+    assertThat(sizer.getBatchSize()).isEqualTo(8);
+  }
+
+  @Test
+  void shouldNotGrowBeyondMaxBatchSize() {
+    // when
+    for (int i = 0; i < 10; i++) {
+      sizer.onBatchExported(sizer.getBatchSize(), FAST, true);
+    }
+
+    // then
+    assertThat(sizer.getBatchSize()).isEqualTo(16);
+  }
+
+  @Test
+  void shouldNotGrowIfNotLagging() {
+    // when
+    sizer.onBatchExported(1, FAST, false);
+
+    // then
+    assertThat(sizer.getBatchSize()).isOne();
+  }
+
+  @Test
+  void shouldNotGrowIfBatchWasNotFull() {
+    // given
+    sizer.onBatchExported(1, FAST, true);
+
+    // when
+    sizer.onBatchExported(1, FAST, true);
+
+    // then
+    assertThat(sizer.getBatchSize()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldShrinkIfExportingIsSlow() {
+    // given
+    sizer.onBatchExported(1, FAST, true);
+    sizer.onBatchExported(2, FAST, true);
+
+    // when
+    sizer.onBatchExported(4, SLOW, true);
+
+    // then
+    assertThat(sizer.getBatchSize()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldStartOverAfterFailure() {
+    // given
+    sizer.onBatchExported(1, FAST, true);
+    sizer.onBatchExported(2, FAST, true);
+
+    // when
+    sizer.onExportFailed();
+
+    // then
+    assertThat(sizer.getBatchSize()).isOne();
+  }
+
+  @Test
+  void shouldRejectMaxBatchSizeLessThanOne() {
+    assertThatThrownBy(() -> new ExportBatchSizer(0, TARGET_LATENCY))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.exporter.api.BatchExporter;
+import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.awaitility.Awaitility;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterDirectorBatchTest {
+
+  private static final String EXPORTER_ID = "batch-exporter";
+  private static final int RECORD_COUNT = 100;
+
+  @Rule public final ExporterRule rule = ExporterRule.activeExporter().withMaxExportBatchSize(32);
+
+  private final TestBatchExporter exporter = new TestBatchExporter();
+
+  @Test
+  public void shouldExportRecordsInBatches() {
+    // given
+    final List<Long> positions = writeRecords(RECORD_COUNT);
+
+    // when
+    startExporterDirector();
+
+    // then
+    Awaitility.await("batch exporter has exported all records")
+        .atMost(Duration.ofSeconds(10))
+        .untilAsserted(() -> assertThat(exporter.getExportedPositions()).hasSize(RECORD_COUNT));
+    assertThat(exporter.getExportedPositions()).containsExactlyElementsOf(positions);
+    assertThat(exporter.getBatchSizes()).allMatch(size -> size >= 1 && size <= 32);
+    assertThat(exporter.getBatchSizes()).anyMatch(size -> size > 1);
+  }
+
+  @Test
+  public void shouldUpdatePositionWithLastRecordOfBatch() {
+    // given
+    final List<Long> positions = writeRecords(RECORD_COUNT);
+
+    // when
+    startExporterDirector();
+
+    // then
+    final ExportersState state = rule.getExportersState();
+    Awaitility.await("batch exporter has acknowledged all records")
+        .atMost(Duration.ofSeconds(10))
+        .untilAsserted(
+            () -> assertThat(state.getPosition(EXPORTER_ID)).isEqualTo(positions.getLast()));
+  }
+
+  @Test
+  public void shouldRetryFailedBatch() {
+    // given
+    final List<Long> positions = writeRecords(RECORD_COUNT);
+    exporter.failNextBatches(1);
+
+    // when
+    startExporterDirector();
+
+    // then
+    Awaitility.await("batch exporter has exported all records")
+        .atMost(Duration.ofSeconds(10))
+        .untilAsserted(() -> assertThat(exporter.getExportedPositions()).containsAll(positions));
+    assertThat(exporter.getFailedBatches()).isOne();
+    assertThat(exporter.getExportedPositions()).isSorted();
+  }
+
+  private List<Long> writeRecords(final int count) {
+    final List<Long> positions = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      positions.add(rule.writeCommand(DeploymentIntent.CREATE, new DeploymentRecord()));
+    }
+    return positions;
+  }
+
+  private void startExporterDirector() {
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(EXPORTER_ID, TestBatchExporter.class, Collections.emptyMap()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+
+    rule.startExporterDirector(List.of(descriptor));
+  }
+
+  public static final class TestBatchExporter implements BatchExporter {
+
+    private final List<Long> exportedPositions = new CopyOnWriteArrayList<>();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger batchesToFail = new AtomicInteger();
+    private final AtomicInteger failedBatches = new AtomicInteger();
+    private Controller controller;
+
+    @Override
+    public void open(final Controller controller) {
+      this.controller = controller;
+    }
+
+    @Override
+    public void exportBatch(final List<Record<?>> records) {
+      if (batchesToFail.getAndDecrement() > 0) {
+        failedBatches.incrementAndGet();
+        throw new IllegalStateException("expected");
+      }
+
+      batchSizes.add(records.size());
+      records.forEach(record -> exportedPositions.add(record.getPosition()));
+      controller.updateLastExportedRecordPosition(records.getLast().getPosition());
+    }
+
+    void failNextBatches(final int count) {
+      batchesToFail.set(count);
+    }
+
+    List<Long> getExportedPositions() {
+      return exportedPositions;
+    }
+
+    List<Integer> getBatchSizes() {
+      return batchSizes;
+    }
+
+    int getFailedBatches() {
+      return failedBatches.get();
+    }
+  }
+}
@@ -54,6 +54,7 @@ public final class ExporterRule implements TestRule {
   private PartitionMessagingService partitionMessagingService = new SimplePartitionMessageService();
   private ExporterDirector director;
   private Duration distributionInterval = Duration.ofSeconds(15);
+  private int maxExportBatchSize = ExporterDirectorContext.DEFAULT_MAX_EXPORT_BATCH_SIZE;
 
   private ExporterRule(final ExporterMode exporterMode) {
     this.exporterMode = exporterMode;
@@ -83,6 +84,11 @@ public final class ExporterRule implements TestRule {
     return this;
   }
 
+  public ExporterRule withMaxExportBatchSize(final int maxExportBatchSize) {
+    this.maxExportBatchSize = maxExportBatchSize;
+    return this;
+  }
+
   @Override
   public Statement apply(final Statement base, final Description description) {
     return chain.apply(base, description);
@@ -101,6 +107,7 @@ public final class ExporterRule implements TestRule {
             .zeebeDb(capturedZeebeDb)
             .exporterMode(exporterMode)
             .distributionInterval(distributionInterval)
+            .maxExportBatchSize(maxExportBatchSize)
             .partitionMessagingService(partitionMessagingService)
             .descriptors(exporterDescriptors);
 
@@ -16,6 +16,7 @@ import io.camunda.zeebe.broker.system.configuration.backup.S3BackupStoreConfig;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
 final class BackupStoreCfgTest {
 
@@ -71,6 +72,44 @@ final class BackupStoreCfgTest {
     assertThat(cfg.getData().getBackup().getGcs().getHost()).isEqualTo(configuredHost);
   }
 
+  @Test
+  void canConfigureGcsTransfers() {
+    // given
+    final var env =
+        Map.of(
+            "zeebe.broker.data.backup.gcs.maxConcurrentTransfers",
+            "4",
+            "zeebe.broker.data.backup.gcs.partSize",
+            "16MB");
+
+    // when
+    final var cfg = TestConfigReader.readConfig("empty", env);
+
+    // then
+    final var gcs = cfg.getData().getBackup().getGcs();
+    assertThat(gcs.getMaxConcurrentTransfers()).isEqualTo(4);
+    assertThat(gcs.getPartSize()).isEqualTo(DataSize.ofMegabytes(16));
+  }
+
+  @Test
+  void canConfigureS3Transfers() {
+    // given
+    final var env =
+        Map.of(
+            "zeebe.broker.data.backup.s3.maxConcurrentConnections",
+            "10",
+            "zeebe.broker.data.backup.s3.partSize",
+            "16MB");
+
+    // when
+    final var cfg = TestConfigReader.readConfig("empty", env);
+
+    // then
+    final var s3 = cfg.getData().getBackup().getS3();
+    assertThat(s3.getMaxConcurrentConnections()).isEqualTo(10);
+    assertThat(s3.getPartSize()).isEqualTo(DataSize.ofMegabytes(16));
+  }
+
   @Test
   void shouldSetPartialS3Config() {
     // given
@@ -14,6 +14,7 @@ import static io.camunda.zeebe.broker.system.configuration.NetworkCfg.DEFAULT_HO
 import static io.camunda.zeebe.broker.system.configuration.NetworkCfg.DEFAULT_INTERNAL_API_PORT;
 import static io.camunda.zeebe.protocol.Protocol.START_PARTITION_ID;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.zeebe.broker.exporter.debug.DebugLogExporter;
@@ -42,6 +43,8 @@ public final class BrokerCfgTest {
       "zeebe.broker.experimental.maxAppendsPerFollower";
   private static final String ZEEBE_BROKER_EXPERIMENTAL_MAX_APPEND_BATCH_SIZE =
       "zeebe.broker.experimental.maxAppendBatchSize";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_MAX_EXPORT_BATCH_SIZE =
+      "zeebe.broker.experimental.maxExportBatchSize";
   private static final String ZEEBE_BROKER_EXPERIMENTAL_DISABLEEXPLICITRAFTFLUSH =
       "zeebe.broker.experimental.disableExplicitRaftFlush";
   private static final String ZEEBE_BROKER_CLUSTER_RAFT_ENABLEPRIORITYELECTION =
@@ -311,6 +314,38 @@ public final class BrokerCfgTest {
     assertThat(experimentalCfg.getMaxAppendBatchSizeInBytes()).isEqualTo(256 * 1024);
   }
 
+  @Test
+  public void shouldUseDefaultMaxExportBatchSize() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getMaxExportBatchSize()).isOne();
+  }
+
+  @Test
+  public void shouldOverrideMaxExportBatchSizeViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_MAX_EXPORT_BATCH_SIZE, "128");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getMaxExportBatchSize()).isEqualTo(128);
+  }
+
+  @Test
+  public void shouldRejectMaxExportBatchSizeLessThanOne() {
+    // given
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_MAX_EXPORT_BATCH_SIZE, "0");
+
+    // when - then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("cluster-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxExportBatchSize must be >= 1");
+  }
+
   @Test
   public void shouldOverrideDisableExplicitRaftFlushViaEnvironment() {
     // given
@@ -181,4 +181,27 @@ final class ExperimentalCfgTest {
     // then
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
+
+  @Test
+  void shouldSetCompressSealedSegmentsFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.compressSealedSegments", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isCompressSealedSegments()).isFalse();
+  }
+
+  @Test
+  void shouldSetCompressSealedSegmentsFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isCompressSealedSegments()).isTrue();
+  }
 }
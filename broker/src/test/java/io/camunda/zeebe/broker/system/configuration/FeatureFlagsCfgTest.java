@@ -162,4 +162,70 @@ final class FeatureFlagsCfgTest {
     // then
     assertThat(featureFlagsCfg.isEnableStraightThroughProcessingLoopDetector()).isTrue();
   }
+
+  @Test
+  void shouldDisableTimerDueDateIndexByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableTimerDueDateIndex()).isFalse();
+  }
+
+  @Test
+  void shouldSetEnableTimerDueDateIndexFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableTimerDueDateIndex()).isTrue();
+  }
+
+  @Test
+  void shouldSetEnableTimerDueDateIndexFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.features.enableTimerDueDateIndex", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableTimerDueDateIndex()).isFalse();
+  }
+
+  @Test
+  void shouldDisableActorProfilingByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableActorProfiling()).isFalse();
+  }
+
+  @Test
+  void shouldSetEnableActorProfilingFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableActorProfiling()).isTrue();
+  }
+
+  @Test
+  void shouldSetEnableActorProfilingFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.features.enableActorProfiling", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableActorProfiling()).isFalse();
+  }
 }
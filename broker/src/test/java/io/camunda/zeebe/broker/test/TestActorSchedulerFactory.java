@@ -28,6 +28,7 @@ public final class TestActorSchedulerFactory {
             .setCpuBoundActorThreadCount(threads.getCpuThreadCount())
             .setIoBoundActorThreadCount(threads.getIoThreadCount())
             .setMetricsEnabled(features.isEnableActorMetrics())
+            .setProfilingEnabled(features.isEnableActorProfiling())
             .setActorClock(clock)
             .build();
     scheduler.start();
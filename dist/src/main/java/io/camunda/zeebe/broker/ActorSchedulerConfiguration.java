@@ -34,14 +34,16 @@ public final class ActorSchedulerConfiguration {
 
     final var cpuThreads = cfg.getCpuThreadCount();
     final var ioThreads = cfg.getIoThreadCount();
-    final var metricsEnabled = brokerCfg.getExperimental().getFeatures().isEnableActorMetrics();
+    final var features = brokerCfg.getExperimental().getFeatures();
 
     final var scheduler =
         ActorScheduler.newActorScheduler()
             .setActorClock(actorClockConfiguration.getClock().orElse(null))
             .setCpuBoundActorThreadCount(cpuThreads)
             .setIoBoundActorThreadCount(ioThreads)
-            .setMetricsEnabled(metricsEnabled)
+            .setVirtualIoBoundActorThreads(cfg.isVirtualIoThreads())
+            .setMetricsEnabled(features.isEnableActorMetrics())
+            .setProfilingEnabled(features.isEnableActorProfiling())
             .setSchedulerName(String.format("Broker-%d", brokerCfg.getCluster().getNodeId()))
             .setIdleStrategySupplier(idleStrategySupplier)
             .build();
@@ -8,10 +8,12 @@
 package io.camunda.zeebe.restore;
 
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStore;
 import io.camunda.zeebe.backup.gcs.GcsBackupStore;
 import io.camunda.zeebe.backup.s3.S3BackupStore;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.configuration.backup.BackupStoreCfg;
+import io.camunda.zeebe.broker.system.configuration.backup.FilesystemBackupStoreConfig;
 import io.camunda.zeebe.broker.system.configuration.backup.GcsBackupStoreConfig;
 import io.camunda.zeebe.broker.system.configuration.backup.S3BackupStoreConfig;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,6 +40,7 @@ final class BackupStoreComponent {
     return switch (store) {
       case S3 -> buildS3BackupStore(backupCfg);
       case GCS -> buildGcsBackupStore(backupCfg);
+      case FILESYSTEM -> buildFilesystemBackupStore(backupCfg);
       case NONE -> throw new IllegalArgumentException(
           "No backup store configured, cannot restore from backup.");
     };
@@ -52,4 +55,11 @@ final class BackupStoreComponent {
     final var storeConfig = GcsBackupStoreConfig.toStoreConfig(backupStoreCfg.getGcs());
     return new GcsBackupStore(storeConfig);
   }
+
+  private static FilesystemBackupStore buildFilesystemBackupStore(
+      final BackupStoreCfg backupStoreCfg) {
+    final var storeConfig =
+        FilesystemBackupStoreConfig.toStoreConfig(backupStoreCfg.getFilesystem());
+    return new FilesystemBackupStore(storeConfig);
+  }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.shared.management;
+
+import io.camunda.zeebe.scheduler.ActorProfiler;
+import io.camunda.zeebe.scheduler.ActorProfiler.ActorSummary;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorTaskProfile;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * An actuator endpoint which exposes the profiles of the recent actor task executions, as recorded
+ * by the {@link ActorProfiler} of the actor scheduler. It's meant to find out which actors occupy
+ * the actor threads, or wait for a thread the longest, without attaching a profiler.
+ *
+ * <p>The profiler has to be enabled via the {@code enableActorProfiling} feature flag; otherwise,
+ * the endpoint returns no actors.
+ */
+@Component
+@WebEndpoint(id = "actors")
+public final class ActorProfilingEndpoint {
+  private final ActorScheduler scheduler;
+
+  @Autowired
+  public ActorProfilingEndpoint(final ActorScheduler scheduler) {
+    this.scheduler = Objects.requireNonNull(scheduler, "must specify an actor scheduler");
+  }
+
+  /**
+   * GET /actuator/actors - returns the recent executions of all actors, summed up per actor and
+   * ordered by their total execution time, the longest first.
+   */
+  @ReadOperation
+  public WebEndpointResponse<Profiles> summarize() {
+    final var profiler = scheduler.getProfiler();
+    final var actors = profiler.summarize().stream().map(this::transform).toList();
+    return new WebEndpointResponse<>(
+        new Profiles(profiler.isEnabled(), profiler.getRecordedProfileCount(), actors),
+        200,
+        MimeTypeUtils.APPLICATION_JSON);
+  }
+
+  /**
+   * GET /actuator/actors/{actorName} - returns the recent executions of the given actor, the newest
+   * first. If none of the recent executions belongs to the actor, returns a 404 with a singleton
+   * map containing an error field with an appropriate message.
+   *
+   * @param actorName the name of the actor
+   */
+  @ReadOperation
+  public WebEndpointResponse<?> executions(final @Selector String actorName) {
+    final var executions =
+        scheduler.getProfiler().getRecentProfiles().stream()
+            .filter(profile -> profile.actorName().equals(actorName))
+            .map(this::transform)
+            .toList();
+    if (executions.isEmpty()) {
+      return new WebEndpointResponse<>(
+          Map.of("error", "No recent executions of an actor named '%s'".formatted(actorName)),
+          404,
+          MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    return new WebEndpointResponse<>(executions, 200, MimeTypeUtils.APPLICATION_JSON);
+  }
+
+  private Actor transform(final ActorSummary summary) {
+    return new Actor(
+        summary.actorName(),
+        summary.executions(),
+        summary.jobs(),
+        Duration.ofNanos(summary.totalExecutionNanos()),
+        Duration.ofNanos(summary.maxExecutionNanos()),
+        Duration.ofNanos(summary.longestJobNanos()),
+        Duration.ofNanos(summary.totalQueueingDelayNanos() / summary.executions()),
+        Duration.ofNanos(summary.maxQueueingDelayNanos()),
+        summary.stolenExecutions());
+  }
+
+  private Execution transform(final ActorTaskProfile profile) {
+    return new Execution(
+        Instant.ofEpochMilli(profile.timestamp()),
+        profile.threadName(),
+        profile.priority().name(),
+        Duration.ofNanos(profile.queueingDelayNanos()),
+        Duration.ofNanos(profile.executionNanos()),
+        profile.jobCount(),
+        Duration.ofNanos(profile.longestJobNanos()),
+        profile.wasStolen() ? profile.stolenFrom() : null);
+  }
+
+  /** View model of the profiles of all actors. */
+  public record Profiles(boolean enabled, long recordedExecutions, Collection<Actor> actors) {}
+
+  /** View model of the summed up recent executions of a single actor. */
+  public record Actor(
+      String name,
+      long executions,
+      long jobs,
+      Duration totalExecutionTime,
+      Duration maxExecutionTime,
+      Duration longestJob,
+      Duration averageQueueingDelay,
+      Duration maxQueueingDelay,
+      long stolenExecutions) {}
+
+  /**
+   * View model of a single execution of an actor task. {@link #stolenFrom()} is the id of the
+   * thread from which the task was stolen, or null if it wasn't stolen.
+   */
+  public record Execution(
+      Instant startedAt,
+      String thread,
+      String priority,
+      Duration queueingDelay,
+      Duration executionTime,
+      int jobs,
+      Duration longestJob,
+      Integer stolenFrom) {}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.shared.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.shared.management.ActorProfilingEndpoint.Execution;
+import io.camunda.zeebe.shared.management.ActorProfilingEndpoint.Profiles;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class ActorProfilingEndpointTest {
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void afterEach() throws Exception {
+    scheduler.close();
+  }
+
+  @Test
+  void shouldSummarizeProfiledActors() {
+    // given
+    scheduler = startScheduler(true);
+    final var endpoint = new ActorProfilingEndpoint(scheduler);
+    final var actor = new TestActor();
+    scheduler.submitActor(actor).join();
+    actor.call(() -> null).join();
+
+    // when
+    final var response = endpoint.summarize();
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getBody())
+        .extracting(Profiles::enabled, profiles -> profiles.recordedExecutions() > 0)
+        .containsExactly(true, true);
+    assertThat(response.getBody().actors())
+        .anySatisfy(summary -> assertThat(summary.name()).isEqualTo("profiled"));
+  }
+
+  @Test
+  void shouldListExecutionsOfActor() {
+    // given
+    scheduler = startScheduler(true);
+    final var endpoint = new ActorProfilingEndpoint(scheduler);
+    final var actor = new TestActor();
+    scheduler.submitActor(actor).join();
+    actor.call(() -> null).join();
+
+    // when
+    final var response = endpoint.executions("profiled");
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat((List<?>) response.getBody())
+        .isNotEmpty()
+        .allSatisfy(execution -> assertThat(((Execution) execution).jobs()).isPositive());
+  }
+
+  @Test
+  void shouldReturnNotFoundForUnknownActor() {
+    // given
+    scheduler = startScheduler(true);
+    final var endpoint = new ActorProfilingEndpoint(scheduler);
+
+    // when
+    final var response = endpoint.executions("unknown");
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(404);
+  }
+
+  @Test
+  void shouldReturnNoActorsIfProfilingIsDisabled() {
+    // given
+    scheduler = startScheduler(false);
+    final var endpoint = new ActorProfilingEndpoint(scheduler);
+
+    // when
+    final var response = endpoint.summarize();
+
+    // then
+    assertThat(response.getBody().enabled()).isFalse();
+    assertThat(response.getBody().actors()).isEmpty();
+  }
+
+  private static ActorScheduler startScheduler(final boolean profilingEnabled) {
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setProfilingEnabled(profilingEnabled)
+            .build();
+    scheduler.start();
+    return scheduler;
+  }
+
+  private static final class TestActor extends Actor {
+    @Override
+    public String getName() {
+      return "profiled";
+    }
+  }
+}
@@ -21,10 +21,13 @@ public final class EngineConfiguration {
   public static final int BATCH_SIZE_CALCULATION_BUFFER = 1024 * 8;
 
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
+  // The capacity is the estimated size (in bytes) of all cached processes, see DbProcessState
+  public static final long DEFAULT_PROCESS_CACHE_CAPACITY = 64 * 1024 * 1024L;
 
   private int messagesTtlCheckerBatchLimit = DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration messagesTtlCheckerInterval = DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
   private int drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
+  private long processCacheCapacity = DEFAULT_PROCESS_CACHE_CAPACITY;
 
   public int getMessagesTtlCheckerBatchLimit() {
     return messagesTtlCheckerBatchLimit;
@@ -54,4 +57,13 @@ public final class EngineConfiguration {
     this.drgCacheCapacity = drgCacheCapacity;
     return this;
   }
+
+  public long getProcessCacheCapacity() {
+    return processCacheCapacity;
+  }
+
+  public EngineConfiguration setProcessCacheCapacity(final long processCacheCapacity) {
+    this.processCacheCapacity = processCacheCapacity;
+    return this;
+  }
 }
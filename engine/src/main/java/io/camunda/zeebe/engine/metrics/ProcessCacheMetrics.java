@@ -0,0 +1,52 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class ProcessCacheMetrics {
+
+  private static final Counter PROCESS_CACHE_REQUESTS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("process_cache_requests_total")
+          .help("Number of deployed process lookups, by whether they were served from the cache")
+          .labelNames("partition", "result")
+          .register();
+
+  private static final Counter PROCESS_CACHE_EVICTIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("process_cache_evictions_total")
+          .help("Number of deployed processes evicted from the cache because it was full")
+          .labelNames("partition")
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private final Counter.Child evictions;
+
+  public ProcessCacheMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    hits = PROCESS_CACHE_REQUESTS.labels(partitionIdLabel, "hit");
+    misses = PROCESS_CACHE_REQUESTS.labels(partitionIdLabel, "miss");
+    evictions = PROCESS_CACHE_EVICTIONS.labels(partitionIdLabel);
+  }
+
+  public void cacheHit() {
+    hits.inc();
+  }
+
+  public void cacheMiss() {
+    misses.inc();
+  }
+
+  public void processEvicted() {
+    evictions.inc();
+  }
+}
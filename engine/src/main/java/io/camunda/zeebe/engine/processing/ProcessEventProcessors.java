@@ -164,7 +164,10 @@ public final class ProcessEventProcessors {
             ValueType.TIMER,
             TimerIntent.CANCEL,
             new TimerCancelProcessor(
-                processingState.getTimerState(), writers.state(), writers.rejection()))
+                processingState.getTimerState(),
+                bpmnBehaviors.catchEventBehavior(),
+                writers.state(),
+                writers.rejection()))
         .withListener(timerChecker);
   }
 
@@ -18,6 +18,7 @@ import io.camunda.zeebe.engine.state.immutable.ProcessState;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.engine.state.instance.ElementInstance;
+import io.camunda.zeebe.engine.state.variable.IndexedDocument;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import java.util.List;
 import java.util.Optional;
@@ -166,7 +167,7 @@ public final class BpmnStateBehavior {
     final var targetScope = context.getFlowScopeKey();
 
     final var variablesAsDocument =
-        variablesState.getVariablesAsDocument(sourceScope, List.of(variableName));
+        variablesState.getVariablesAsIndexedDocument(sourceScope, List.of(variableName));
 
     variableBehavior.mergeDocument(
         targetScope,
@@ -181,7 +182,7 @@ public final class BpmnStateBehavior {
       final long sourceScopeKey,
       final long targetProcessInstanceKey,
       final DeployedProcess targetProcess) {
-    final var variables = variablesState.getVariablesAsDocument(sourceScopeKey);
+    final var variables = variablesState.getVariablesAsIndexedDocument(sourceScopeKey);
     copyVariablesToProcessInstance(targetProcessInstanceKey, targetProcess, variables);
   }
 
@@ -189,14 +190,14 @@ public final class BpmnStateBehavior {
       final long sourceScopeKey,
       final long targetProcessInstanceKey,
       final DeployedProcess targetProcess) {
-    final var variables = variablesState.getVariablesLocalAsDocument(sourceScopeKey);
+    final var variables = variablesState.getVariablesLocalAsIndexedDocument(sourceScopeKey);
     copyVariablesToProcessInstance(targetProcessInstanceKey, targetProcess, variables);
   }
 
   private void copyVariablesToProcessInstance(
       final long targetProcessInstanceKey,
       final DeployedProcess targetProcess,
-      final DirectBuffer variables) {
+      final IndexedDocument variables) {
     variableBehavior.mergeDocument(
         targetProcessInstanceKey,
         targetProcess.getKey(),
@@ -142,7 +142,8 @@ public final class BpmnVariableMappingBehavior {
         || (element.getElementType() == BpmnElementType.BOUNDARY_EVENT && !isErrorEvent(element))
         || element.getElementType() == BpmnElementType.START_EVENT) {
       // event variables are set local variables instead of temporary variables
-      final var localVariables = variablesState.getVariablesLocalAsDocument(elementInstanceKey);
+      final var localVariables =
+          variablesState.getVariablesLocalAsIndexedDocument(elementInstanceKey);
       variableBehavior.mergeDocument(
           scopeKey,
           processDefinitionKey,
@@ -308,6 +308,7 @@ public final class CatchEventBehavior {
       final String tenantId,
       final Timer timer) {
     final long dueDate = timer.getDueDate(ActorClock.currentTimeMillis());
+    final long timerKey = keyGenerator.nextKey();
     timerRecord.reset();
     timerRecord
         .setRepetitions(timer.getRepetitions())
@@ -322,11 +323,11 @@ public final class CatchEventBehavior {
         () -> {
           /* timerChecker implements onRecovered to recover from restart, so no need to schedule
           this in TimerCreatedApplier.*/
-          timerChecker.scheduleTimer(dueDate);
+          timerChecker.scheduleTimer(elementInstanceKey, timerKey, dueDate);
           return true;
         });
 
-    stateWriter.appendFollowUpEvent(keyGenerator.nextKey(), TimerIntent.CREATED, timerRecord);
+    stateWriter.appendFollowUpEvent(timerKey, TimerIntent.CREATED, timerRecord);
   }
 
   private void subscribeToSignalEvents(
@@ -390,6 +391,20 @@ public final class CatchEventBehavior {
         .setTenantId(timer.getTenantId());
 
     stateWriter.appendFollowUpEvent(timer.getKey(), TimerIntent.CANCELED, timerRecord);
+    unscheduleTimer(timer.getElementInstanceKey(), timer.getKey(), timer.getDueDate());
+  }
+
+  /**
+   * Removes the timer from the timer checker, once the command which triggered or canceled it is
+   * committed.
+   */
+  public void unscheduleTimer(
+      final long elementInstanceKey, final long timerKey, final long dueDate) {
+    sideEffectWriter.appendSideEffect(
+        () -> {
+          timerChecker.unscheduleTimer(elementInstanceKey, timerKey, dueDate);
+          return true;
+        });
   }
 
   private void unsubscribeFromMessageEvents(
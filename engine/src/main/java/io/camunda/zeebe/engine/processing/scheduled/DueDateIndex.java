@@ -0,0 +1,195 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.scheduled;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An in-memory index of due dates, which allows a {@link DueDateChecker} to find the due entries
+ * without iterating over the due dates stored in the state. The entries are kept in buckets of
+ * {@code bucketWidth} milliseconds, ordered by time, so finding the due entries only touches the
+ * buckets which are due.
+ *
+ * <p>The index is only a hint of what may be due: entries are added once the corresponding entity
+ * is committed, and {@link #remove(long, long, long) removed} once its removal is committed, since
+ * either may still be rolled back before. The visitor still checks each due entry against the state
+ * and tells the index to {@link VisitResult#REMOVE remove} it, if the entity no longer exists, e.g.
+ * because it was removed while the index was written concurrently.
+ *
+ * <p>The index can be written by the processing actor while it is read by an asynchronous checker,
+ * so all access to the buckets is synchronized. The due entries are visited outside the lock, to
+ * not block the processing while visiting.
+ */
+public final class DueDateIndex {
+
+  // same order as the due dates in the state, which are keyed by due date, scope key and key
+  private static final Comparator<Entry> BY_DUE_DATE =
+      Comparator.comparingLong(Entry::dueDate)
+          .thenComparingLong(Entry::scopeKey)
+          .thenComparingLong(Entry::key);
+
+  private final long bucketWidth;
+  private final TreeMap<Long, Set<Entry>> buckets = new TreeMap<>();
+  private int size;
+
+  /**
+   * @param bucketWidth the width of a bucket in milliseconds; should be about the resolution of the
+   *     checker, as all due entries of a bucket are collected at once
+   */
+  public DueDateIndex(final long bucketWidth) {
+    if (bucketWidth <= 0) {
+      throw new IllegalArgumentException(
+          "Expected bucket width to be greater than 0, but was " + bucketWidth);
+    }
+    this.bucketWidth = bucketWidth;
+  }
+
+  /**
+   * Adds an entry to the index; adding the same entry again has no effect.
+   *
+   * @param dueDate the due date of the entry
+   * @param key the key of the entity which is due, e.g. the timer key
+   * @param scopeKey a second key to look up the entity, e.g. the element instance key of a timer
+   */
+  public synchronized void add(final long dueDate, final long key, final long scopeKey) {
+    final var bucket = buckets.computeIfAbsent(bucketOf(dueDate), b -> new HashSet<>());
+    if (bucket.add(new Entry(dueDate, key, scopeKey))) {
+      size++;
+    }
+  }
+
+  /** Removes an entry from the index; removing an entry which is not indexed has no effect. */
+  public synchronized void remove(final long dueDate, final long key, final long scopeKey) {
+    remove(new Entry(dueDate, key, scopeKey));
+  }
+
+  public synchronized void clear() {
+    buckets.clear();
+    size = 0;
+  }
+
+  public synchronized int size() {
+    return size;
+  }
+
+  /**
+   * Visits all entries with a due date before or equal to the given timestamp, ordered by their due
+   * date, until the visitor returns {@link VisitResult#STOP}.
+   *
+   * @return the due date of the entry which the visitor stopped at, otherwise the due date of the
+   *     next entry after the given timestamp, or {@code -1} if there is no such entry
+   */
+  public long visitDue(final long timestamp, final EntryVisitor visitor) {
+    final long lastDueBucket = bucketOf(timestamp);
+    final List<Entry> removedEntries = new ArrayList<>();
+
+    // the buckets are visited one after another, so a visitor which stops early, e.g. to yield,
+    // doesn't require to collect all due entries
+    Long bucketKey = firstBucketKey();
+    long stoppedAt = -1L;
+    while (bucketKey != null && bucketKey <= lastDueBucket && stoppedAt < 0) {
+      for (final Entry entry : collectDueEntries(bucketKey, timestamp)) {
+        final var result = visitor.visit(entry.dueDate(), entry.key(), entry.scopeKey());
+        if (result == VisitResult.REMOVE) {
+          removedEntries.add(entry);
+        } else if (result == VisitResult.STOP) {
+          stoppedAt = entry.dueDate();
+          break;
+        }
+      }
+
+      bucketKey = removeAndGetNextBucketKey(removedEntries, bucketKey);
+      removedEntries.clear();
+    }
+
+    return stoppedAt >= 0 ? stoppedAt : nextDueDateAfter(timestamp);
+  }
+
+  private synchronized Long firstBucketKey() {
+    return buckets.isEmpty() ? null : buckets.firstKey();
+  }
+
+  private synchronized List<Entry> collectDueEntries(final long bucketKey, final long timestamp) {
+    final var bucket = buckets.get(bucketKey);
+    if (bucket == null) {
+      return List.of();
+    }
+
+    final List<Entry> dueEntries = new ArrayList<>(bucket.size());
+    for (final Entry entry : bucket) {
+      if (entry.dueDate() <= timestamp) {
+        dueEntries.add(entry);
+      }
+    }
+
+    dueEntries.sort(BY_DUE_DATE);
+    return dueEntries;
+  }
+
+  private synchronized Long removeAndGetNextBucketKey(
+      final List<Entry> removedEntries, final long bucketKey) {
+    removedEntries.forEach(this::remove);
+    return buckets.higherKey(bucketKey);
+  }
+
+  private void remove(final Entry entry) {
+    final long bucketKey = bucketOf(entry.dueDate());
+    final var bucket = buckets.get(bucketKey);
+    if (bucket != null && bucket.remove(entry)) {
+      size--;
+      if (bucket.isEmpty()) {
+        buckets.remove(bucketKey);
+      }
+    }
+  }
+
+  private synchronized long nextDueDateAfter(final long timestamp) {
+    for (final Map.Entry<Long, Set<Entry>> bucket :
+        buckets.tailMap(bucketOf(timestamp), true).entrySet()) {
+      long nextDueDate = Long.MAX_VALUE;
+      for (final Entry entry : bucket.getValue()) {
+        if (entry.dueDate() > timestamp) {
+          nextDueDate = Math.min(nextDueDate, entry.dueDate());
+        }
+      }
+
+      if (nextDueDate != Long.MAX_VALUE) {
+        return nextDueDate;
+      }
+    }
+
+    return -1L;
+  }
+
+  private long bucketOf(final long dueDate) {
+    return Math.floorDiv(dueDate, bucketWidth);
+  }
+
+  public enum VisitResult {
+    /** The entry was visited; it stays in the index and the next entry is visited. */
+    VISITED,
+    /** The entity of the entry doesn't exist anymore; it is removed from the index. */
+    REMOVE,
+    /** The entry could not be visited and needs to be visited again later on. */
+    STOP
+  }
+
+  @FunctionalInterface
+  public interface EntryVisitor {
+
+    VisitResult visit(long dueDate, long key, long scopeKey);
+  }
+
+  private record Entry(long dueDate, long key, long scopeKey) {}
+}
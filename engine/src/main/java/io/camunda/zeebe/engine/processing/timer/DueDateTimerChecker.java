@@ -8,6 +8,8 @@
 package io.camunda.zeebe.engine.processing.timer;
 
 import io.camunda.zeebe.engine.processing.scheduled.DueDateChecker;
+import io.camunda.zeebe.engine.processing.scheduled.DueDateIndex;
+import io.camunda.zeebe.engine.processing.scheduled.DueDateIndex.VisitResult;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.TimerVisitor;
 import io.camunda.zeebe.engine.state.instance.TimerInstance;
@@ -26,33 +28,77 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
   private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
   private static final double GIVE_YIELD_FACTOR = 0.5;
   private final DueDateChecker dueDateChecker;
+  private final TimerInstanceState timerInstanceState;
+  // null if the due dates are read from the state instead
+  private final DueDateIndex dueDateIndex;
 
   public DueDateTimerChecker(
       final TimerInstanceState timerInstanceState, final FeatureFlags featureFlags) {
+    this.timerInstanceState = timerInstanceState;
+    dueDateIndex =
+        featureFlags.enableTimerDueDateIndex() ? new DueDateIndex(TIMER_RESOLUTION) : null;
     dueDateChecker =
         new DueDateChecker(
             TIMER_RESOLUTION,
             featureFlags.enableTimerDueDateCheckerAsync(),
             new TriggerTimersSideEffect(
-                timerInstanceState, ActorClock.current(), featureFlags.yieldingDueDateChecker()));
+                timerInstanceState,
+                dueDateIndex,
+                ActorClock.current(),
+                featureFlags.yieldingDueDateChecker()));
   }
 
-  public void scheduleTimer(final long dueDate) {
+  /**
+   * Schedules the checker to trigger the given timer when it is due. Must only be called for timers
+   * which were committed to the state, e.g. from a side effect.
+   */
+  public void scheduleTimer(
+      final long elementInstanceKey, final long timerKey, final long dueDate) {
+    if (dueDateIndex != null) {
+      dueDateIndex.add(dueDate, timerKey, elementInstanceKey);
+    }
     dueDateChecker.schedule(dueDate);
   }
 
+  /**
+   * Forgets the given timer, so it is not kept in memory until it is due. Must only be called once
+   * the timer was removed from the state, i.e. it was triggered or canceled, e.g. from a side
+   * effect.
+   */
+  public void unscheduleTimer(
+      final long elementInstanceKey, final long timerKey, final long dueDate) {
+    if (dueDateIndex != null) {
+      dueDateIndex.remove(dueDate, timerKey, elementInstanceKey);
+    }
+  }
+
+  /** Returns the number of timers in the due date index, or 0 if the index is not used. */
+  int getIndexedTimersCount() {
+    return dueDateIndex != null ? dueDateIndex.size() : 0;
+  }
+
   @Override
   public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    if (dueDateIndex != null) {
+      // the index is only needed once processing starts, so it is built from the state which was
+      // recovered from the snapshot and the replayed events
+      dueDateIndex.clear();
+      timerInstanceState.forEachDueDate(
+          (dueDate, elementInstanceKey, timerKey) ->
+              dueDateIndex.add(dueDate, timerKey, elementInstanceKey));
+    }
     dueDateChecker.onRecovered(context);
   }
 
   @Override
   public void onClose() {
+    clearDueDateIndex();
     dueDateChecker.onClose();
   }
 
   @Override
   public void onFailed() {
+    clearDueDateIndex();
     dueDateChecker.onFailed();
   }
 
@@ -66,19 +112,38 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
     dueDateChecker.onResumed();
   }
 
+  private void clearDueDateIndex() {
+    if (dueDateIndex != null) {
+      dueDateIndex.clear();
+    }
+  }
+
   protected static final class TriggerTimersSideEffect
       implements Function<TaskResultBuilder, Long> {
 
     private final ActorClock actorClock;
 
     private final TimerInstanceState timerInstanceState;
+    private final DueDateIndex dueDateIndex;
     private final boolean yieldControl;
 
     public TriggerTimersSideEffect(
         final TimerInstanceState timerInstanceState,
         final ActorClock actorClock,
         final boolean yieldControl) {
+      this(timerInstanceState, null, actorClock, yieldControl);
+    }
+
+    /**
+     * @param dueDateIndex the index to find the due timers with, or null to find them in the state
+     */
+    public TriggerTimersSideEffect(
+        final TimerInstanceState timerInstanceState,
+        final DueDateIndex dueDateIndex,
+        final ActorClock actorClock,
+        final boolean yieldControl) {
       this.timerInstanceState = timerInstanceState;
+      this.dueDateIndex = dueDateIndex;
       this.actorClock = actorClock;
       this.yieldControl = yieldControl;
     }
@@ -98,7 +163,21 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
         timerVisitor = new WriteTriggerTimerCommandVisitor(taskResultBuilder);
       }
 
-      return timerInstanceState.processTimersWithDueDateBefore(now, timerVisitor);
+      if (dueDateIndex == null) {
+        return timerInstanceState.processTimersWithDueDateBefore(now, timerVisitor);
+      }
+
+      return dueDateIndex.visitDue(
+          now,
+          (dueDate, timerKey, elementInstanceKey) -> {
+            final var timer = timerInstanceState.get(elementInstanceKey, timerKey);
+            if (timer == null) {
+              // the timer was triggered or canceled in the meantime
+              return VisitResult.REMOVE;
+            }
+
+            return timerVisitor.visit(timer) ? VisitResult.VISITED : VisitResult.STOP;
+          });
     }
   }
 
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.timer;
 
+import io.camunda.zeebe.engine.processing.common.CatchEventBehavior;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
@@ -22,14 +23,17 @@ public final class TimerCancelProcessor implements TypedRecordProcessor<TimerRec
       "Expected to cancel timer with key '%d', but no such timer was found";
 
   private final TimerInstanceState timerInstanceState;
+  private final CatchEventBehavior catchEventBehavior;
   private final StateWriter stateWriter;
   private final TypedRejectionWriter rejectionWriter;
 
   public TimerCancelProcessor(
       final TimerInstanceState timerInstanceState,
+      final CatchEventBehavior catchEventBehavior,
       final StateWriter stateWriter,
       final TypedRejectionWriter rejectionWriter) {
     this.timerInstanceState = timerInstanceState;
+    this.catchEventBehavior = catchEventBehavior;
     this.stateWriter = stateWriter;
     this.rejectionWriter = rejectionWriter;
   }
@@ -45,6 +49,8 @@ public final class TimerCancelProcessor implements TypedRecordProcessor<TimerRec
           record, RejectionType.NOT_FOUND, String.format(NO_TIMER_FOUND_MESSAGE, record.getKey()));
     } else {
       stateWriter.appendFollowUpEvent(record.getKey(), TimerIntent.CANCELED, timer);
+      catchEventBehavior.unscheduleTimer(
+          timer.getElementInstanceKey(), record.getKey(), timerInstance.getDueDate());
     }
   }
 }
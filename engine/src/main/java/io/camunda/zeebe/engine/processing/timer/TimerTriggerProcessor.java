@@ -99,6 +99,8 @@ public final class TimerTriggerProcessor implements TypedRecordProcessor<TimerRe
       final long processInstanceKey = keyGenerator.nextKey();
       timer.setProcessInstanceKey(processInstanceKey);
       stateWriter.appendFollowUpEvent(record.getKey(), TimerIntent.TRIGGERED, timer);
+      catchEventBehavior.unscheduleTimer(
+          elementInstanceKey, record.getKey(), timerInstance.getDueDate());
       eventHandle.activateProcessInstanceForStartEvent(
           processDefinitionKey,
           processInstanceKey,
@@ -113,6 +115,8 @@ public final class TimerTriggerProcessor implements TypedRecordProcessor<TimerRe
       }
 
       stateWriter.appendFollowUpEvent(record.getKey(), TimerIntent.TRIGGERED, timer);
+      catchEventBehavior.unscheduleTimer(
+          elementInstanceKey, record.getKey(), timerInstance.getDueDate());
       eventHandle.activateElement(catchEvent, elementInstanceKey, elementInstance.getValue());
     }
 
@@ -65,6 +65,26 @@ public final class VariableBehavior {
       final String tenantId,
       final DirectBuffer document) {
     indexedDocument.index(document);
+    mergeLocalDocument(
+        scopeKey,
+        processDefinitionKey,
+        processInstanceKey,
+        bpmnProcessId,
+        tenantId,
+        indexedDocument);
+  }
+
+  /**
+   * Like {@link #mergeLocalDocument(long, long, long, DirectBuffer, String, DirectBuffer)}, but for
+   * a document that is already indexed, e.g. one read from the variable state.
+   */
+  public void mergeLocalDocument(
+      final long scopeKey,
+      final long processDefinitionKey,
+      final long processInstanceKey,
+      final DirectBuffer bpmnProcessId,
+      final String tenantId,
+      final IndexedDocument indexedDocument) {
     if (indexedDocument.isEmpty()) {
       return;
     }
@@ -110,6 +130,26 @@ public final class VariableBehavior {
       final String tenantId,
       final DirectBuffer document) {
     indexedDocument.index(document);
+    mergeDocument(
+        scopeKey,
+        processDefinitionKey,
+        processInstanceKey,
+        bpmnProcessId,
+        tenantId,
+        indexedDocument);
+  }
+
+  /**
+   * Like {@link #mergeDocument(long, long, long, DirectBuffer, String, DirectBuffer)}, but for a
+   * document that is already indexed, e.g. one read from the variable state.
+   */
+  public void mergeDocument(
+      final long scopeKey,
+      final long processDefinitionKey,
+      final long processInstanceKey,
+      final DirectBuffer bpmnProcessId,
+      final String tenantId,
+      final IndexedDocument indexedDocument) {
     if (indexedDocument.isEmpty()) {
       return;
     }
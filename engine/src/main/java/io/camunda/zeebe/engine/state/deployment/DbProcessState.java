@@ -9,6 +9,10 @@ package io.camunda.zeebe.engine.state.deployment;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -19,6 +23,8 @@ import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.ProcessCacheMetrics;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
@@ -40,20 +46,33 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
-import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Long2LongHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
 
 public final class DbProcessState implements MutableProcessState {
 
   private static final int DEFAULT_VERSION_VALUE = 0;
+  private static final long NO_PROCESS_KEY = -1L;
 
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
 
-  private final Map<String, Map<DirectBuffer, Long2ObjectHashMap<DeployedProcess>>>
-      processesByTenantAndProcessIdAndVersionCache = new HashMap<>();
-  private final Map<String, Long2ObjectHashMap<DeployedProcess>> processByTenantAndKeyCache;
+  /**
+   * Holds the parsed processes, bounded by the estimated size of their executable models. The least
+   * recently used processes are evicted first once the configured capacity is exceeded.
+   */
+  private final Cache<TenantIdAndProcessKey, DeployedProcess> processByTenantAndKeyCache;
+
+  /**
+   * [tenant id | process id | version] => process definition key, for the processes that are
+   * currently in the {@link #processByTenantAndKeyCache}. Entries are removed when the process is
+   * evicted, so this index is bounded by the cache.
+   */
+  private final Map<String, Map<DirectBuffer, Long2LongHashMap>>
+      processKeyByTenantAndProcessIdAndVersion = new HashMap<>();
+
+  private final ProcessCacheMetrics cacheMetrics;
 
   /** [tenant id | process definition key] => process */
   private final ColumnFamily<DbTenantAwareKey<DbLong>, PersistedProcess> processColumnFamily;
@@ -81,7 +100,10 @@ public final class DbProcessState implements MutableProcessState {
   private final VersionManager versionManager;
 
   public DbProcessState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final EngineConfiguration config) {
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     tenantIdKey = new DbString();
@@ -119,7 +141,18 @@ public final class DbProcessState implements MutableProcessState {
             fkTenantAwareProcessId,
             digest);
 
-    processByTenantAndKeyCache = new HashMap<>();
+    cacheMetrics = new ProcessCacheMetrics(partitionId);
+    // the cache is only accessed from the stream processor actor, so a single segment gives us a
+    // global LRU order instead of evicting per segment
+    processByTenantAndKeyCache =
+        CacheBuilder.newBuilder()
+            .concurrencyLevel(1)
+            .maximumWeight(config.getProcessCacheCapacity())
+            .weigher(
+                (final TenantIdAndProcessKey key, final DeployedProcess process) ->
+                    estimateWeight(process))
+            .removalListener(this::onProcessRemovedFromCache)
+            .build();
 
     versionManager =
         new VersionManager(
@@ -177,12 +210,9 @@ public final class DbProcessState implements MutableProcessState {
     processColumnFamily.deleteExisting(tenantAwareProcessDefinitionKey);
     processByIdAndVersionColumnFamily.deleteExisting(tenantAwareProcessIdAndVersionKey);
 
-    processesByTenantAndProcessIdAndVersionCache
-        .getOrDefault(processRecord.getTenantId(), new HashMap<>())
-        .remove(processRecord.getBpmnProcessIdBuffer());
-    processByTenantAndKeyCache
-        .getOrDefault(processRecord.getTenantId(), new Long2ObjectHashMap<>())
-        .remove(processRecord.getProcessDefinitionKey());
+    processByTenantAndKeyCache.invalidate(
+        new TenantIdAndProcessKey(
+            processRecord.getTenantId(), processRecord.getProcessDefinitionKey()));
 
     final long latestVersion =
         versionManager.getLatestResourceVersion(
@@ -260,73 +290,123 @@ public final class DbProcessState implements MutableProcessState {
   }
 
   private void addProcessToInMemoryState(final DeployedProcess deployedProcess) {
-    final DirectBuffer bpmnProcessId = deployedProcess.getBpmnProcessId();
+    final String tenantId = deployedProcess.getTenantId();
+    final long key = deployedProcess.getKey();
+
+    processByTenantAndKeyCache.put(new TenantIdAndProcessKey(tenantId, key), deployedProcess);
+
+    // the process may be evicted right away if it alone exceeds the capacity of the cache
+    if (processByTenantAndKeyCache.getIfPresent(new TenantIdAndProcessKey(tenantId, key)) != null) {
+      processKeyByTenantAndProcessIdAndVersion
+          .computeIfAbsent(tenantId, id -> new HashMap<>())
+          .computeIfAbsent(
+              deployedProcess.getBpmnProcessId(), id -> new Long2LongHashMap(NO_PROCESS_KEY))
+          .put(deployedProcess.getVersion(), key);
+    }
+  }
+
+  private void onProcessRemovedFromCache(
+      final RemovalNotification<TenantIdAndProcessKey, DeployedProcess> notification) {
+    final DeployedProcess removedProcess = notification.getValue();
+    if (notification.wasEvicted()) {
+      cacheMetrics.processEvicted();
+    }
+
+    if (removedProcess != null && notification.getCause() != RemovalCause.REPLACED) {
+      removeProcessKeyFromVersionIndex(
+          removedProcess.getTenantId(),
+          removedProcess.getBpmnProcessId(),
+          removedProcess.getVersion(),
+          removedProcess.getKey());
+    }
+  }
 
-    final Long2ObjectHashMap<DeployedProcess> keyMap =
-        processByTenantAndKeyCache.computeIfAbsent(
-            deployedProcess.getTenantId(), key -> new Long2ObjectHashMap<>());
-    keyMap.put(deployedProcess.getKey(), deployedProcess);
+  private void removeProcessKeyFromVersionIndex(
+      final String tenantId, final DirectBuffer bpmnProcessId, final int version, final long key) {
+    final Map<DirectBuffer, Long2LongHashMap> keysByProcessId =
+        processKeyByTenantAndProcessIdAndVersion.get(tenantId);
+    if (keysByProcessId == null) {
+      return;
+    }
+
+    final Long2LongHashMap keysByVersion = keysByProcessId.get(bpmnProcessId);
+    if (keysByVersion != null && keysByVersion.get(version) == key) {
+      keysByVersion.remove(version);
+      if (keysByVersion.isEmpty()) {
+        keysByProcessId.remove(bpmnProcessId);
+      }
+    }
+  }
+
+  /**
+   * Estimates the memory footprint of the given process. The executable model is built from the
+   * BPMN resource, so its size grows with the size of the resource.
+   */
+  private static int estimateWeight(final DeployedProcess process) {
+    return process.getResource().capacity() + process.getBpmnProcessId().capacity();
+  }
+
+  private DeployedProcess getCachedProcess(
+      final DirectBuffer processIdBuffer, final long version, final String tenantId) {
+    final Map<DirectBuffer, Long2LongHashMap> keysByProcessId =
+        processKeyByTenantAndProcessIdAndVersion.get(tenantId);
+    if (keysByProcessId == null) {
+      return null;
+    }
 
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByTenantAndProcessIdAndVersionCache
-            .computeIfAbsent(deployedProcess.getTenantId(), key -> new HashMap<>())
-            .computeIfAbsent(bpmnProcessId, key -> new Long2ObjectHashMap<>());
+    final Long2LongHashMap keysByVersion = keysByProcessId.get(processIdBuffer);
+    if (keysByVersion == null) {
+      return null;
+    }
 
-    final int version = deployedProcess.getVersion();
-    versionMap.put(version, deployedProcess);
+    final long key = keysByVersion.get(version);
+    return key == NO_PROCESS_KEY
+        ? null
+        : processByTenantAndKeyCache.getIfPresent(new TenantIdAndProcessKey(tenantId, key));
   }
 
   @Override
   public DeployedProcess getLatestProcessVersionByProcessId(
       final DirectBuffer processIdBuffer, final String tenantId) {
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByTenantAndProcessIdAndVersionCache
-            .getOrDefault(tenantId, new HashMap<>())
-            .get(processIdBuffer);
-
     processId.wrapBuffer(processIdBuffer);
     final long latestVersion = versionManager.getLatestResourceVersion(processIdBuffer, tenantId);
 
-    DeployedProcess deployedProcess;
-    if (versionMap == null) {
-      deployedProcess = lookupProcessByIdAndPersistedVersion(latestVersion, tenantId);
-    } else {
-      deployedProcess = versionMap.get(latestVersion);
-      if (deployedProcess == null) {
-        deployedProcess = lookupProcessByIdAndPersistedVersion(latestVersion, tenantId);
-      }
+    final DeployedProcess deployedProcess =
+        getCachedProcess(processIdBuffer, latestVersion, tenantId);
+    if (deployedProcess != null) {
+      cacheMetrics.cacheHit();
+      return deployedProcess;
     }
-    return deployedProcess;
+
+    cacheMetrics.cacheMiss();
+    return lookupProcessByIdAndPersistedVersion(latestVersion, tenantId);
   }
 
   @Override
   public DeployedProcess getProcessByProcessIdAndVersion(
       final DirectBuffer processId, final int version, final String tenantId) {
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByTenantAndProcessIdAndVersionCache
-            .getOrDefault(tenantId, new HashMap<>())
-            .get(processId);
-
-    if (versionMap != null) {
-      final DeployedProcess deployedProcess = versionMap.get(version);
-      return deployedProcess != null
-          ? deployedProcess
-          : lookupPersistenceState(processId, version, tenantId);
-    } else {
-      return lookupPersistenceState(processId, version, tenantId);
+    final DeployedProcess deployedProcess = getCachedProcess(processId, version, tenantId);
+    if (deployedProcess != null) {
+      cacheMetrics.cacheHit();
+      return deployedProcess;
     }
+
+    cacheMetrics.cacheMiss();
+    return lookupPersistenceState(processId, version, tenantId);
   }
 
   @Override
   public DeployedProcess getProcessByKeyAndTenant(final long key, final String tenantId) {
     final DeployedProcess deployedProcess =
-        processByTenantAndKeyCache.getOrDefault(tenantId, new Long2ObjectHashMap<>()).get(key);
+        processByTenantAndKeyCache.getIfPresent(new TenantIdAndProcessKey(tenantId, key));
 
     if (deployedProcess != null) {
+      cacheMetrics.cacheHit();
       return deployedProcess;
-    } else {
-      return lookupPersistenceStateForProcessByKey(key, tenantId);
     }
+
+    cacheMetrics.cacheMiss();
+    return lookupPersistenceStateForProcessByKey(key, tenantId);
   }
 
   @Override
@@ -383,8 +463,8 @@ public final class DbProcessState implements MutableProcessState {
 
   @Override
   public void clearCache() {
-    processByTenantAndKeyCache.clear();
-    processesByTenantAndProcessIdAndVersionCache.clear();
+    processByTenantAndKeyCache.invalidateAll();
+    processKeyByTenantAndProcessIdAndVersion.clear();
     versionManager.clear();
   }
 
@@ -412,16 +492,7 @@ public final class DbProcessState implements MutableProcessState {
         processByIdAndVersionColumnFamily.get(tenantAwareProcessIdAndVersionKey);
 
     if (processWithVersionAndId != null) {
-      updateInMemoryState(processWithVersionAndId);
-
-      final Long2ObjectHashMap<DeployedProcess> newVersionMap =
-          processesByTenantAndProcessIdAndVersionCache
-              .getOrDefault(tenantId, new HashMap<>())
-              .get(processIdBuffer);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(processWithVersionAndId);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -435,13 +506,11 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess processWithKey =
         processColumnFamily.get(tenantAwareProcessDefinitionKey);
     if (processWithKey != null) {
-      updateInMemoryState(processWithKey);
-
-      return processByTenantAndKeyCache
-          .getOrDefault(tenantId, new Long2ObjectHashMap<>())
-          .get(processDefinitionKey);
+      return updateInMemoryState(processWithKey);
     }
     // does not exist in persistence and in memory state
     return null;
   }
+
+  private record TenantIdAndProcessKey(String tenantId, long processDefinitionKey) {}
 }
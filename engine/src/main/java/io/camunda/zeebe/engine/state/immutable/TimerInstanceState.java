@@ -19,6 +19,12 @@ public interface TimerInstanceState {
    */
   long processTimersWithDueDateBefore(long timestamp, TimerVisitor consumer);
 
+  /**
+   * Presents the due dates of all timers to the {@code visitor}, ordered by due date, without
+   * reading the timers themselves.
+   */
+  void forEachDueDate(DueDateVisitor visitor);
+
   /**
    * NOTE: the timer instance given to the consumer is shared and will be mutated on the next
    * iteration.
@@ -36,4 +42,10 @@ public interface TimerInstanceState {
      */
     boolean visit(TimerInstance timer);
   }
+
+  @FunctionalInterface
+  interface DueDateVisitor {
+
+    void visit(long dueDate, long elementInstanceKey, long timerKey);
+  }
 }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.state.immutable;
 
+import io.camunda.zeebe.engine.state.variable.IndexedDocument;
 import io.camunda.zeebe.engine.state.variable.VariableInstance;
 import java.util.Collection;
 import org.agrona.DirectBuffer;
@@ -28,6 +29,18 @@ public interface VariableState {
 
   DirectBuffer getVariablesLocalAsDocument(long scopeKey);
 
+  /**
+   * Like {@link #getVariablesAsDocument(long)}, but the document is indexed while it is written, so
+   * it can be merged without parsing it again. The returned document is reused by the next call.
+   */
+  IndexedDocument getVariablesAsIndexedDocument(long scopeKey);
+
+  /** Like {@link #getVariablesAsDocument(long, Collection)}, but indexed while written. */
+  IndexedDocument getVariablesAsIndexedDocument(long scopeKey, Collection<DirectBuffer> names);
+
+  /** Like {@link #getVariablesLocalAsDocument(long)}, but indexed while written. */
+  IndexedDocument getVariablesLocalAsIndexedDocument(long scopeKey);
+
   boolean isEmpty();
 
   VariableInstance getVariableInstanceLocal(long scopeKey, DirectBuffer name);
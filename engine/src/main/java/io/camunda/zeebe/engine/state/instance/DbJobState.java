@@ -24,17 +24,25 @@ import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.MutableBoolean;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
 
+  /**
+   * The number of activatable jobs which are looked up at once, see {@link
+   * #forEachActivatableJobs(DirectBuffer, List, BiFunction)}.
+   */
+  private static final int ACTIVATABLE_JOBS_BATCH_SIZE = 32;
+
   // key => job record value
   // we need two separate wrapper to not interfere with get and put
   // see https://github.com/zeebe-io/zeebe/issues/1914
@@ -71,6 +79,11 @@ public final class DbJobState implements JobState, MutableJobState {
       backoffColumnFamily;
   private long nextBackOffDueDate;
 
+  // the keys of the activatable jobs which are looked up together
+  private final List<DbLong> activatableJobKeys;
+  private final List<DbLong> activatableJobKeysView;
+  private int activatableJobKeysCount;
+
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
 
@@ -106,6 +119,12 @@ public final class DbJobState implements JobState, MutableJobState {
     backoffColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.JOB_BACKOFF, transactionContext, backoffJobKey, DbNil.INSTANCE);
+
+    activatableJobKeys = new ArrayList<>(ACTIVATABLE_JOBS_BATCH_SIZE);
+    for (int i = 0; i < ACTIVATABLE_JOBS_BATCH_SIZE; i++) {
+      activatableJobKeys.add(new DbLong());
+    }
+    activatableJobKeysView = new ArrayList<>(ACTIVATABLE_JOBS_BATCH_SIZE);
   }
 
   @Override
@@ -345,7 +364,11 @@ public final class DbJobState implements JobState, MutableJobState {
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
     jobTypeKey.wrapBuffer(type);
+    activatableJobKeysCount = 0;
 
+    // the jobs are looked up in batches instead of one by one, which is cheaper when activating
+    // many jobs at once; the batches are small to not look up too many jobs which are not needed
+    final var shouldContinue = new MutableBoolean(true);
     activatableColumnFamily.whileEqualPrefix(
         jobTypeKey,
         ((tenantAwareCompositeKey, zbNil) -> {
@@ -353,11 +376,19 @@ public final class DbJobState implements JobState, MutableJobState {
           final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
 
           if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
+            activatableJobKeys.get(activatableJobKeysCount++).wrapLong(jobKey.getValue());
+            if (activatableJobKeysCount == ACTIVATABLE_JOBS_BATCH_SIZE) {
+              shouldContinue.set(visitActivatableJobs(callback));
+              return shouldContinue.get();
+            }
           }
           // we want to continue with the iteration
           return true;
         }));
+
+    if (shouldContinue.get()) {
+      visitActivatableJobs(callback);
+    }
   }
 
   @Override
@@ -396,6 +427,33 @@ public final class DbJobState implements JobState, MutableJobState {
     return nextBackOffDueDate;
   }
 
+  /**
+   * Visits the jobs of the collected {@link #activatableJobKeys}, and resets them afterwards.
+   *
+   * @return true if the callback wants to visit more jobs, false otherwise
+   */
+  private boolean visitActivatableJobs(final BiFunction<Long, JobRecord, Boolean> callback) {
+    activatableJobKeysView.clear();
+    for (int i = 0; i < activatableJobKeysCount; i++) {
+      activatableJobKeysView.add(activatableJobKeys.get(i));
+    }
+    activatableJobKeysCount = 0;
+
+    final var shouldContinue = new MutableBoolean(true);
+    jobsColumnFamily.multiGet(
+        activatableJobKeysView,
+        (key, job) -> {
+          if (job == null) {
+            LOG.error("Expected to find job with key {}, but no job found", key.getValue());
+            return true; // we want to continue with the iteration
+          }
+
+          shouldContinue.set(callback.apply(key.getValue(), job.getRecord()));
+          return shouldContinue.get();
+        });
+    return shouldContinue.get();
+  }
+
   boolean visitJob(final long jobKey, final BiPredicate<Long, JobRecord> callback) {
     final JobRecord job = getJob(jobKey);
     if (job == null) {
@@ -115,6 +115,18 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     return nextDueDate;
   }
 
+  @Override
+  public void forEachDueDate(final DueDateVisitor visitor) {
+    dueDateColumnFamily.forEach(
+        (key, nil) -> {
+          final var elementAndTimerKey = key.second();
+          visitor.visit(
+              key.first().getValue(),
+              elementAndTimerKey.first().inner().getValue(),
+              elementAndTimerKey.second().getValue());
+        });
+  }
+
   @Override
   public void forEachTimerForElementInstance(
       final long elementInstanceKey, final Consumer<TimerInstance> action) {
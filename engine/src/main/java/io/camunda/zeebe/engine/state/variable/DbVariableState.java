@@ -17,7 +17,9 @@ import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
@@ -33,6 +35,7 @@ public class DbVariableState implements MutableVariableState {
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
+  private final IndexedDocument resultDocument = new IndexedDocument();
 
   // (child scope key) => (parent scope key)
   private final ColumnFamily<DbLong, ParentScopeKey> childParentColumnFamily;
@@ -52,6 +55,9 @@ public class DbVariableState implements MutableVariableState {
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
+  // the keys of the requested variables, which are looked up together; grows as needed
+  private final List<DbCompositeKey<DbLong, DbString>> variableKeys = new ArrayList<>();
+  private final List<DbCompositeKey<DbLong, DbString>> variableKeysView = new ArrayList<>();
 
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
@@ -191,9 +197,14 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public DirectBuffer getVariablesAsDocument(final long scopeKey) {
+    return getVariablesAsIndexedDocument(scopeKey).getDocument();
+  }
 
+  @Override
+  public IndexedDocument getVariablesAsIndexedDocument(final long scopeKey) {
     collectedVariables.clear();
     writer.wrap(documentResultBuffer, 0);
+    resultDocument.reset();
 
     writer.reserveMapHeader();
 
@@ -202,8 +213,7 @@ public class DbVariableState implements MutableVariableState {
         name -> !collectedVariables.contains(name.getBuffer()),
         (name, value) -> {
           final DirectBuffer variableNameBuffer = name.getBuffer();
-          writer.writeString(variableNameBuffer);
-          writer.writeRaw(value.getValue());
+          writeEntry(variableNameBuffer, value.getValue());
 
           // must create a new name wrapper, because we keep them all in the hashset at the same
           // time
@@ -215,40 +225,51 @@ public class DbVariableState implements MutableVariableState {
     writer.writeReservedMapHeader(0, collectedVariables.size());
 
     resultView.wrap(documentResultBuffer, 0, writer.getOffset());
-    return resultView;
+    resultDocument.wrap(resultView);
+    return resultDocument;
   }
 
   @Override
   public DirectBuffer getVariablesAsDocument(
       final long scopeKey, final Collection<DirectBuffer> names) {
+    return getVariablesAsIndexedDocument(scopeKey, names).getDocument();
+  }
 
+  @Override
+  public IndexedDocument getVariablesAsIndexedDocument(
+      final long scopeKey, final Collection<DirectBuffer> names) {
     variablesToCollect.clear();
     variablesToCollect.addAll(names);
 
     writer.wrap(documentResultBuffer, 0);
+    resultDocument.reset();
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+    // look up the requested variables directly instead of iterating over all variables of each
+    // scope, which is cheaper when only a few of many variables are requested
+    long currentScope = scopeKey;
+    do {
+      collectVariablesLocal(currentScope);
+      currentScope = getParentScopeKey(currentScope);
+    } while (!variablesToCollect.isEmpty() && currentScope >= 0);
 
     writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
 
     resultView.wrap(documentResultBuffer, 0, writer.getOffset());
-    return resultView;
+    resultDocument.wrap(resultView);
+    return resultDocument;
   }
 
   @Override
   public DirectBuffer getVariablesLocalAsDocument(final long scopeKey) {
+    return getVariablesLocalAsIndexedDocument(scopeKey).getDocument();
+  }
+
+  @Override
+  public IndexedDocument getVariablesLocalAsIndexedDocument(final long scopeKey) {
     writer.wrap(documentResultBuffer, 0);
+    resultDocument.reset();
     writer.reserveMapHeader();
 
     final MutableInteger variableCount = new MutableInteger();
@@ -256,8 +277,7 @@ public class DbVariableState implements MutableVariableState {
         scopeKey,
         name -> true,
         (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+          writeEntry(name.getBuffer(), value.getValue());
 
           variableCount.addAndGet(1);
         },
@@ -266,7 +286,8 @@ public class DbVariableState implements MutableVariableState {
     writer.writeReservedMapHeader(0, variableCount.get());
 
     resultView.wrap(documentResultBuffer, 0, writer.getOffset());
-    return resultView;
+    resultDocument.wrap(resultView);
+    return resultDocument;
   }
 
   @Override
@@ -296,6 +317,46 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /**
+   * Splices the variable into the result document and indexes it on the way, so merging the
+   * document doesn't have to parse it again.
+   */
+  private void writeEntry(final DirectBuffer name, final DirectBuffer value) {
+    writer.writeMapEntry(name, value);
+    resultDocument.addEntry(
+        writer.getOffset() - value.capacity(), name.capacity(), value.capacity());
+  }
+
+  /**
+   * Writes the variables of the given scope which are still in {@link #variablesToCollect} to the
+   * document, and removes them from the variables to collect.
+   */
+  private void collectVariablesLocal(final long scopeKey) {
+    variableKeysView.clear();
+    for (final DirectBuffer name : variablesToCollect) {
+      if (variableKeys.size() == variableKeysView.size()) {
+        variableKeys.add(new DbCompositeKey<>(new DbLong(), new DbString()));
+      }
+
+      final var key = variableKeys.get(variableKeysView.size());
+      key.first().wrapLong(scopeKey);
+      key.second().wrapBuffer(name);
+      variableKeysView.add(key);
+    }
+
+    variablesColumnFamily.multiGet(
+        variableKeysView,
+        (key, variable) -> {
+          if (variable != null) {
+            final DirectBuffer name = key.second().getBuffer();
+            writeEntry(name, variable.getValue());
+
+            variablesToCollect.remove(name);
+          }
+          return true;
+        });
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
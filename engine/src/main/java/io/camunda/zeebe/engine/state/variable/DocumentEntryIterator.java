@@ -7,7 +7,6 @@
  */
 package io.camunda.zeebe.engine.state.variable;
 
-import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import org.agrona.DirectBuffer;
@@ -24,20 +23,11 @@ import org.agrona.concurrent.UnsafeBuffer;
  */
 final class DocumentEntryIterator implements Iterator<DocumentEntry> {
 
-  private final MsgPackReader reader;
   private final DocumentEntry entry = new DocumentEntry();
   private final DirectBuffer document = new UnsafeBuffer();
 
   private EntryIterator offsetIterator;
-  private int documentLength;
-
-  DocumentEntryIterator() {
-    this(new MsgPackReader());
-  }
-
-  DocumentEntryIterator(final MsgPackReader reader) {
-    this.reader = reader;
-  }
+  private int[] spans;
 
   @Override
   public boolean hasNext() {
@@ -51,18 +41,14 @@ final class DocumentEntryIterator implements Iterator<DocumentEntry> {
     }
 
     offsetIterator.next();
-    final int keyOffset = offsetIterator.getIntKey();
-    final int valueOffset = offsetIterator.getIntValue();
-
-    reader.wrap(document, keyOffset, documentLength - keyOffset);
-    final int nameLength = reader.readStringLength();
-    final int nameOffset = keyOffset + reader.getOffset();
-
-    reader.wrap(document, valueOffset, documentLength - valueOffset);
-    reader.skipValue();
-    final int valueLength = reader.getOffset();
+    final int span = offsetIterator.getIntValue() * IndexedDocument.SPAN_LENGTH;
 
-    entry.wrap(document, nameOffset, nameLength, valueOffset, valueLength);
+    entry.wrap(
+        document,
+        spans[span + IndexedDocument.NAME_OFFSET],
+        spans[span + IndexedDocument.NAME_LENGTH],
+        spans[span + IndexedDocument.VALUE_OFFSET],
+        spans[span + IndexedDocument.VALUE_LENGTH]);
     return entry;
   }
 
@@ -71,9 +57,9 @@ final class DocumentEntryIterator implements Iterator<DocumentEntry> {
     offsetIterator.remove();
   }
 
-  void wrap(final DirectBuffer document, final EntryIterator offsetIterator) {
+  void wrap(final DirectBuffer document, final int[] spans, final EntryIterator offsetIterator) {
     this.document.wrap(document);
+    this.spans = spans;
     this.offsetIterator = offsetIterator;
-    documentLength = document.capacity();
   }
 }
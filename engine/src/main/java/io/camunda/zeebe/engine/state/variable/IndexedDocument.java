@@ -8,14 +8,18 @@
 package io.camunda.zeebe.engine.state.variable;
 
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgpackReaderException;
+import java.util.Arrays;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2IntHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /**
  * This class indexes a MsgPack document from the given buffer by doing an initial parsing and
- * caching the offsets for each key-value pair. When iterating, it will then only iterate over these
- * pairs and access them directly via the buffer.
+ * caching the offsets and lengths of each name and value. When iterating, it will then only iterate
+ * over these pairs and access them directly via the buffer, without parsing the document again.
+ * This matters for large values, e.g. nested objects, as finding the end of a value requires to
+ * walk over all of its elements.
  *
  * <p>This class is meant to be mutable and reusable - this means that the expected usage is to
  * index the document and read it/iterate over it BEFORE indexing a new document again.
@@ -23,15 +27,32 @@ import org.agrona.concurrent.UnsafeBuffer;
  * <p>Similarly, the iterator will reuse and mutate the same {@link DocumentEntry} instance on each
  * {@link DocumentEntryIterator#next()} call, meaning that if you want to collect entries you should
  * clone them before calling {@link DocumentEntryIterator#next()} again.
+ *
+ * <p>A document that is written entry by entry, e.g. from the variable state, can be indexed while
+ * it is written (see {@link #reset()} and {@link #addEntry(int, int, int)}), so it never needs to
+ * be parsed at all.
  */
 public final class IndexedDocument implements Iterable<DocumentEntry> {
 
+  static final int SPAN_LENGTH = 4;
+  static final int NAME_OFFSET = 0;
+  static final int NAME_LENGTH = 1;
+  static final int VALUE_OFFSET = 2;
+  static final int VALUE_LENGTH = 3;
+  // a one byte name header followed by a one byte value
+  private static final int MIN_ENTRY_LENGTH = 2;
+
   private final MsgPackReader reader;
 
-  // variable name offset -> variable value offset
+  // variable name offset -> index of the entry in the spans
   private final Int2IntHashMap entries = new Int2IntHashMap(-1);
+  // name offset, name length, value offset and value length of each entry, in document order
+  private int[] spans = new int[SPAN_LENGTH * 8];
   private final DocumentEntryIterator iterator = new DocumentEntryIterator();
   private final DirectBuffer document = new UnsafeBuffer();
+  private final DirectBuffer nameView = new UnsafeBuffer();
+  private final DirectBuffer valueView = new UnsafeBuffer();
+  private int size;
 
   public IndexedDocument() {
     this(new MsgPackReader());
@@ -42,24 +63,66 @@ public final class IndexedDocument implements Iterable<DocumentEntry> {
   }
 
   public void index(final DirectBuffer document) {
+    reset();
     this.document.wrap(document);
-    entries.clear();
     reader.wrap(document, 0, document.capacity());
 
     final int variables = reader.readMapHeader();
+    // the header is client supplied, so don't trust it further than the document can reach
+    final int maxVariables = (document.capacity() - reader.getOffset()) / MIN_ENTRY_LENGTH;
+    if (variables > maxVariables) {
+      throw new MsgpackReaderException(
+          "Expected document to contain at most %d entries, but its header declares %d"
+              .formatted(maxVariables, variables));
+    }
+
     for (int i = 0; i < variables; i++) {
-      final int keyOffset = reader.getOffset();
-      reader.skipValue();
-      final int valueOffset = reader.getOffset();
-      reader.skipValue();
+      reader.readMapEntry(nameView, valueView);
+      // the value directly follows the name, and the reader stops right after the value
+      addEntry(
+          reader.getOffset() - valueView.capacity(), nameView.capacity(), valueView.capacity());
+    }
+  }
 
-      entries.put(keyOffset, valueOffset);
+  /** Clears the index, to index a document which is written entry by entry afterwards. */
+  void reset() {
+    entries.clear();
+    size = 0;
+  }
+
+  /**
+   * Indexes the next entry of the document which is currently written, where the name directly
+   * precedes the value.
+   *
+   * @param valueOffset the offset of the entry's encoded value in the document
+   * @param nameLength the length of the entry's name, without its header
+   * @param valueLength the length of the entry's encoded value
+   */
+  void addEntry(final int valueOffset, final int nameLength, final int valueLength) {
+    final int span = size * SPAN_LENGTH;
+    if (spans.length < span + SPAN_LENGTH) {
+      spans = Arrays.copyOf(spans, spans.length * 2);
     }
+    spans[span + NAME_OFFSET] = valueOffset - nameLength;
+    spans[span + NAME_LENGTH] = nameLength;
+    spans[span + VALUE_OFFSET] = valueOffset;
+    spans[span + VALUE_LENGTH] = valueLength;
+    entries.put(valueOffset, size);
+    size++;
+  }
+
+  /** Wraps the document that was written entry by entry since the last {@link #reset()}. */
+  void wrap(final DirectBuffer document) {
+    this.document.wrap(document);
+  }
+
+  public DirectBuffer getDocument() {
+    return document;
   }
 
   @Override
   public DocumentEntryIterator iterator() {
-    iterator.wrap(document, entries.entrySet().iterator());
+    iterator.wrap(document, spans, entries.entrySet().iterator());
     return iterator;
   }
 
@@ -0,0 +1,158 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.timer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.processing.scheduled.DueDateIndex;
+import io.camunda.zeebe.engine.processing.scheduled.DueDateIndex.VisitResult;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class DueDateIndexTest {
+
+  private final DueDateIndex index = new DueDateIndex(100);
+
+  @Test
+  void shouldVisitDueEntriesOrderedByDueDate() {
+    // given
+    index.add(250, 3, -1);
+    index.add(50, 1, -1);
+    index.add(120, 2, -1);
+    index.add(301, 4, -1);
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    final long nextDueDate =
+        index.visitDue(
+            300,
+            (dueDate, key, scopeKey) -> {
+              visitedKeys.add(key);
+              return VisitResult.VISITED;
+            });
+
+    // then
+    assertThat(visitedKeys).containsExactly(1L, 2L, 3L);
+    assertThat(nextDueDate).isEqualTo(301);
+  }
+
+  @Test
+  void shouldKeepVisitedEntries() {
+    // given
+    index.add(50, 1, -1);
+
+    // when
+    index.visitDue(100, (dueDate, key, scopeKey) -> VisitResult.VISITED);
+
+    // then
+    assertThat(index.size()).isOne();
+  }
+
+  @Test
+  void shouldRemoveEntries() {
+    // given
+    index.add(50, 1, -1);
+    index.add(60, 2, -1);
+
+    // when
+    final long nextDueDate =
+        index.visitDue(
+            100, (dueDate, key, scopeKey) -> key == 1 ? VisitResult.REMOVE : VisitResult.VISITED);
+
+    // then
+    assertThat(index.size()).isOne();
+    assertThat(nextDueDate).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldRemoveEntry() {
+    // given
+    index.add(50, 1, 10);
+    index.add(60, 2, 10);
+
+    // when
+    index.remove(50, 1, 10);
+
+    // then
+    final List<Long> visitedKeys = new ArrayList<>();
+    index.visitDue(
+        100,
+        (dueDate, key, scopeKey) -> {
+          visitedKeys.add(key);
+          return VisitResult.VISITED;
+        });
+    assertThat(visitedKeys).containsExactly(2L);
+    assertThat(index.size()).isOne();
+  }
+
+  @Test
+  void shouldIgnoreRemovingUnknownEntry() {
+    // given
+    index.add(50, 1, 10);
+
+    // when
+    index.remove(50, 1, 11);
+    index.remove(150, 1, 10);
+
+    // then
+    assertThat(index.size()).isOne();
+  }
+
+  @Test
+  void shouldStopVisiting() {
+    // given
+    index.add(50, 1, -1);
+    index.add(60, 2, -1);
+    index.add(160, 3, -1);
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    final long nextDueDate =
+        index.visitDue(
+            200,
+            (dueDate, key, scopeKey) -> {
+              visitedKeys.add(key);
+              return VisitResult.STOP;
+            });
+
+    // then
+    assertThat(visitedKeys).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(50);
+  }
+
+  @Test
+  void shouldNotAddSameEntryTwice() {
+    // given
+    index.add(50, 1, 10);
+
+    // when
+    index.add(50, 1, 10);
+
+    // then
+    assertThat(index.size()).isOne();
+  }
+
+  @Test
+  void shouldPassScopeKeyToVisitor() {
+    // given
+    index.add(50, 1, 10);
+
+    // when
+    final List<Long> scopeKeys = new ArrayList<>();
+    index.visitDue(
+        100,
+        (dueDate, key, scopeKey) -> {
+          scopeKeys.add(scopeKey);
+          return VisitResult.VISITED;
+        });
+
+    // then
+    assertThat(scopeKeys).containsExactly(10L);
+  }
+}
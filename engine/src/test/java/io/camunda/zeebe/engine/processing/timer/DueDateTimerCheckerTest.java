@@ -26,6 +26,7 @@ import io.camunda.zeebe.protocol.record.intent.TimerIntent;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
+import io.camunda.zeebe.util.FeatureFlags;
 import java.time.Duration;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
@@ -114,6 +115,39 @@ class DueDateTimerCheckerTest {
     }
   }
 
+  @Nested
+  final class DueDateIndexMaintenanceTest {
+
+    private final DueDateTimerChecker checker =
+        new DueDateTimerChecker(
+            mock(TimerInstanceState.class), FeatureFlags.createDefaultForTests());
+
+    @Test
+    void shouldForgetTriggeredOrCanceledTimer() {
+      // given
+      checker.scheduleTimer(1, 10, 1_000);
+      checker.scheduleTimer(2, 20, 2_000);
+
+      // when
+      checker.unscheduleTimer(1, 10, 1_000);
+
+      // then
+      assertThat(checker.getIndexedTimersCount()).isOne();
+    }
+
+    @Test
+    void shouldIgnoreTimerWhichWasNeverScheduled() {
+      // given
+      checker.scheduleTimer(1, 10, 1_000);
+
+      // when
+      checker.unscheduleTimer(2, 20, 1_000);
+
+      // then
+      assertThat(checker.getIndexedTimersCount()).isOne();
+    }
+  }
+
   @Nested
   final class YieldingDecoratorTest {
 
@@ -231,6 +265,9 @@ class DueDateTimerCheckerTest {
       return 0;
     }
 
+    @Override
+    public void forEachDueDate(final DueDateVisitor visitor) {}
+
     @Override
     public void forEachTimerForElementInstance(
         final long elementInstanceKey, final Consumer<TimerInstance> action) {}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.engine.state.deployment.ProcessStateTest.creatingProcessRecord;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateRule;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ProcessStateCacheTest {
+
+  private static final String TENANT_ID = "defaultTenant";
+
+  // too small to hold even a single process, so every process is evicted right away
+  @Rule
+  public final ProcessingStateRule stateRule =
+      new ProcessingStateRule(
+          Protocol.DEPLOYMENT_PARTITION, new EngineConfiguration().setProcessCacheCapacity(1));
+
+  private MutableProcessState processState;
+  private MutableProcessingState processingState;
+
+  @Before
+  public void setUp() {
+    processingState = stateRule.getProcessingState();
+    processState = processingState.getProcessState();
+  }
+
+  @Test
+  public void shouldGetProcessByKeyIfEvicted() {
+    // given
+    final ProcessRecord processRecord = creatingProcessRecord(processingState);
+    processState.putProcess(processRecord.getKey(), processRecord);
+
+    // when
+    final DeployedProcess first =
+        processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+    final DeployedProcess second =
+        processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // then
+    assertThat(first).isNotNull();
+    assertThat(second).isNotNull();
+    assertThat(second.getKey()).isEqualTo(processRecord.getKey());
+    assertThat(second.getProcess().getId()).isEqualTo(wrapString("processId"));
+  }
+
+  @Test
+  public void shouldGetProcessByIdAndVersionIfEvicted() {
+    // given
+    final ProcessRecord version1 = creatingProcessRecord(processingState);
+    processState.putProcess(version1.getKey(), version1);
+    final ProcessRecord version2 = creatingProcessRecord(processingState);
+    processState.putProcess(version2.getKey(), version2);
+
+    // when
+    final DeployedProcess first =
+        processState.getProcessByProcessIdAndVersion(wrapString("processId"), 1, TENANT_ID);
+    final DeployedProcess latest =
+        processState.getLatestProcessVersionByProcessId(wrapString("processId"), TENANT_ID);
+
+    // then
+    assertThat(first.getKey()).isEqualTo(version1.getKey());
+    assertThat(first.getVersion()).isEqualTo(1);
+    assertThat(latest.getKey()).isEqualTo(version2.getKey());
+    assertThat(latest.getVersion()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotGetDeletedProcessIfEvicted() {
+    // given
+    final ProcessRecord processRecord = creatingProcessRecord(processingState);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // when
+    processState.deleteProcess(processRecord);
+
+    // then
+    assertThat(processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID)).isNull();
+    assertThat(processState.getProcessByProcessIdAndVersion(wrapString("processId"), 1, TENANT_ID))
+        .isNull();
+  }
+}
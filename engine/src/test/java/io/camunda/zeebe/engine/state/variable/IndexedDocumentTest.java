@@ -8,11 +8,15 @@
 package io.camunda.zeebe.engine.state.variable;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.msgpack.spec.MsgpackReaderException;
 import io.camunda.zeebe.test.util.MsgPackUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.agrona.DirectBuffer;
@@ -89,6 +93,56 @@ final class IndexedDocumentTest {
             new DocumentEntry(packStringWithoutLength("buz"), packString("baz")));
   }
 
+  @Test
+  void shouldIndexNestedValues() {
+    // given
+    final Map<String, Object> nested = Map.of("a", List.of(1, 2, Map.of("b", "c")), "d", 4);
+    final Map<String, Object> other = Map.of("x", List.of("y", "z"));
+    final Map<String, Object> document = Map.of("foo", nested, "bar", other);
+
+    // when
+    indexedDocument.index(MsgPackUtil.asMsgPack(document));
+
+    // then
+    final List<DocumentEntry> entries = collectEntries();
+    assertThat(entries)
+        .containsExactlyInAnyOrder(
+            new DocumentEntry(packStringWithoutLength("foo"), MsgPackUtil.asMsgPack(nested)),
+            new DocumentEntry(packStringWithoutLength("bar"), MsgPackUtil.asMsgPack(other)));
+  }
+
+  @Test
+  void shouldIndexDocumentWithManyEntries() {
+    // given
+    final Map<String, Object> largeDocument = new HashMap<>();
+    for (int i = 0; i < 100; i++) {
+      largeDocument.put("var" + i, "value" + i);
+    }
+    indexedDocument.index(MsgPackUtil.asMsgPack(largeDocument));
+    assertThat(collectEntries()).hasSize(100);
+
+    // when
+    indexedDocument.index(MsgPackUtil.asMsgPack(Map.of("foo", "bar")));
+
+    // then
+    assertThat(collectEntries())
+        .containsExactly(new DocumentEntry(packStringWithoutLength("foo"), packString("bar")));
+  }
+
+  @Test
+  void shouldRejectDocumentDeclaringMoreEntriesThanItContains() {
+    // given - a map header declaring Integer.MAX_VALUE entries, followed by a single entry
+    final var document = new UnsafeBuffer(new byte[64]);
+    final var writer = new MsgPackWriter().wrap(document, 0);
+    writer.writeMapHeader(Integer.MAX_VALUE);
+    writer.writeString(BufferUtil.wrapString("foo"));
+    writer.writeInteger(1);
+
+    // when - then
+    assertThatThrownBy(() -> indexedDocument.index(document))
+        .isInstanceOf(MsgpackReaderException.class);
+  }
+
   private List<DocumentEntry> collectEntries() {
     final List<DocumentEntry> entries = new ArrayList<>();
     for (final DocumentEntry entry : indexedDocument) {
@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.state.variable;
 
 import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
 import static io.camunda.zeebe.test.util.MsgPackUtil.assertEquality;
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,6 +26,8 @@ import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstan
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import org.agrona.DirectBuffer;
 import org.junit.After;
@@ -184,6 +187,24 @@ public final class VariableStateTest {
     assertEquality(variableState.getVariablesLocalAsDocument(child), "{'b': 3}");
   }
 
+  @Test
+  public void shouldIndexVariablesWhileCollectingThem() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("{'x': [1, 2, {'y': 'z'}]}"));
+    setVariableLocal(child, wrapString("bc"), asMsgPack("3"));
+
+    // when
+    final IndexedDocument variables = variableState.getVariablesAsIndexedDocument(child);
+
+    // then
+    final IndexedDocument parsed = new IndexedDocument();
+    parsed.index(cloneBuffer(variables.getDocument()));
+    assertThat(collectEntries(variables)).isEqualTo(collectEntries(parsed)).hasSize(2);
+  }
+
   @Test
   public void shouldCollectVariablesByName() {
     // given
@@ -450,4 +471,12 @@ public final class VariableStateTest {
     variableState.setVariableLocal(key, scopeKey, PROCESS_KEY, name, value);
     return key;
   }
+
+  private static Map<String, DirectBuffer> collectEntries(final IndexedDocument document) {
+    final Map<String, DirectBuffer> entries = new HashMap<>();
+    for (final DocumentEntry entry : document) {
+      entries.put(bufferAsString(entry.getName()), cloneBuffer(entry.getValue()));
+    }
+    return entries;
+  }
 }
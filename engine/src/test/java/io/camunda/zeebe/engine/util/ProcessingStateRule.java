@@ -23,6 +23,7 @@ public final class ProcessingStateRule extends ExternalResource {
 
   private final TemporaryFolder tempFolder = new TemporaryFolder();
   private final int partition;
+  private final EngineConfiguration config;
   private ZeebeDb<ZbColumnFamilies> db;
   private MutableProcessingState processingState;
 
@@ -31,7 +32,12 @@ public final class ProcessingStateRule extends ExternalResource {
   }
 
   public ProcessingStateRule(final int partition) {
+    this(partition, new EngineConfiguration());
+  }
+
+  public ProcessingStateRule(final int partition, final EngineConfiguration config) {
     this.partition = partition;
+    this.config = config;
   }
 
   @Override
@@ -49,7 +55,7 @@ public final class ProcessingStateRule extends ExternalResource {
             keyGenerator,
             new TransientPendingSubscriptionState(),
             new TransientPendingSubscriptionState(),
-            new EngineConfiguration());
+            config);
   }
 
   @Override
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.exporter.api;
+
+import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.protocol.record.Record;
+import java.util.List;
+
+/**
+ * An exporter which receives the records in batches, e.g. to write them to an external system with
+ * a single request. Implementing this interface opts in to batch exporting; the size of a batch is
+ * chosen by the broker, based on how far exporting lags behind and how long exporting takes.
+ *
+ * <p>Records are passed to {@link #exportBatch(List)} instead of {@link #export(Record)}, in the
+ * order in which they were written to the log. Once the records are guaranteed to have been
+ * exported, implementations should call {@link Controller#updateLastExportedRecordPosition(long)}
+ * with the position of the last record of the batch.
+ */
+public interface BatchExporter extends Exporter {
+
+  /**
+   * Called at least once for every batch of records to be exported. Should the method throw an
+   * unexpected {@link RuntimeException}, the whole batch is passed again until it terminates
+   * without any exception, so implementations must be able to handle records which were already
+   * exported.
+   *
+   * <p>In contrast to {@link #export(Record)}, the records passed by the broker are copies which
+   * don't refer to any internal buffer, so they can be kept after this method returns. The list
+   * itself is reused and must not be kept.
+   *
+   * @param records the records to export, never empty
+   */
+  void exportBatch(List<Record<?>> records);
+
+  /**
+   * Exports a single record as a batch of one; batch exporters don't need to implement this, as the
+   * broker only calls {@link #exportBatch(List)}. The record is passed as is, without copying it.
+   *
+   * @param record the record to export
+   */
+  @Override
+  default void export(final Record<?> record) {
+    exportBatch(List.of(record));
+  }
+}
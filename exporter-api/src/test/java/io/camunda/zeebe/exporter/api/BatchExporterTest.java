@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.exporter.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.protocol.record.ImmutableRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class BatchExporterTest {
+
+  @Test
+  public void shouldExportSingleRecordAsBatch() {
+    // given
+    final List<List<Record<?>>> batches = new ArrayList<>();
+    final BatchExporter exporter = records -> batches.add(List.copyOf(records));
+    final Record<?> record = ImmutableRecord.builder().withPosition(1).build();
+
+    // when
+    exporter.export(record);
+
+    // then
+    assertThat(batches).containsExactly(List.of(record));
+  }
+}
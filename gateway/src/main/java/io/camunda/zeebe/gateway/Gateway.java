@@ -70,6 +70,7 @@ public final class Gateway implements CloseableSilently {
 
   private Server server;
   private ExecutorService grpcExecutor;
+  private volatile ActivateJobsHandler activateJobsHandler;
   private final BrokerClient brokerClient;
 
   public Gateway(
@@ -265,6 +266,17 @@ public final class Gateway implements CloseableSilently {
       }
     }
 
+    // no requests are received anymore, so the prefetched jobs can be returned to the brokers
+    if (activateJobsHandler instanceof final LongPollingActivateJobsHandler longPollingHandler) {
+      try {
+        longPollingHandler.close().join(10, TimeUnit.SECONDS);
+      } catch (final Exception e) {
+        LOG.warn("Failed to return prefetched jobs to the brokers", e);
+      } finally {
+        activateJobsHandler = null;
+      }
+    }
+
     if (grpcExecutor != null) {
       grpcExecutor.shutdownNow();
       try {
@@ -281,7 +293,12 @@ public final class Gateway implements CloseableSilently {
   private CompletableFuture<ActivateJobsHandler> createAndStartActivateJobsHandler(
       final BrokerClient brokerClient) {
     final var handler = buildActivateJobsHandler(brokerClient);
-    return submitActorToActivateJobs(handler);
+    return submitActorToActivateJobs(handler)
+        .thenApply(
+            started -> {
+              activateJobsHandler = started;
+              return started;
+            });
   }
 
   private CompletableFuture<ActivateJobsHandler> submitActorToActivateJobs(
@@ -305,7 +322,10 @@ public final class Gateway implements CloseableSilently {
   }
 
   private LongPollingActivateJobsHandler buildLongPollingHandler(final BrokerClient brokerClient) {
-    return LongPollingActivateJobsHandler.newBuilder().setBrokerClient(brokerClient).build();
+    return LongPollingActivateJobsHandler.newBuilder()
+        .setBrokerClient(brokerClient)
+        .setPrefetchCapacity(gatewayCfg.getLongPolling().getPrefetchCapacity())
+        .build();
   }
 
   private ServerServiceDefinition applyInterceptors(final BindableService service) {
@@ -12,6 +12,7 @@ import java.util.Objects;
 public final class LongPollingCfg {
 
   private boolean enabled = ConfigurationDefaults.DEFAULT_LONG_POLLING_ENABLED;
+  private int prefetchCapacity = ConfigurationDefaults.DEFAULT_LONG_POLLING_PREFETCH_CAPACITY;
 
   public boolean isEnabled() {
     return enabled;
@@ -22,9 +23,18 @@ public final class LongPollingCfg {
     return this;
   }
 
+  public int getPrefetchCapacity() {
+    return prefetchCapacity;
+  }
+
+  public LongPollingCfg setPrefetchCapacity(final int prefetchCapacity) {
+    this.prefetchCapacity = prefetchCapacity;
+    return this;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(enabled);
+    return Objects.hash(enabled, prefetchCapacity);
   }
 
   @Override
@@ -36,11 +46,16 @@ public final class LongPollingCfg {
       return false;
     }
     final LongPollingCfg that = (LongPollingCfg) o;
-    return enabled == that.enabled;
+    return enabled == that.enabled && prefetchCapacity == that.prefetchCapacity;
   }
 
   @Override
   public String toString() {
-    return "LongPollingCfg{" + "enabled=" + enabled + '}';
+    return "LongPollingCfg{"
+        + "enabled="
+        + enabled
+        + ", prefetchCapacity="
+        + prefetchCapacity
+        + '}';
   }
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.msgpack.value.StringValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps a bounded number of jobs which were activated ahead of time, so that activate jobs requests
+ * can be answered without a round trip to the brokers.
+ *
+ * <p>Activated jobs are bound to the worker, the timeout, the fetched variables and the tenants of
+ * the request which activated them. The jobs are therefore buffered per {@link Key}, and are only
+ * handed out to requests with the same key. A buffered job is considered stale as soon as less than
+ * half of its timeout is left, as the worker would otherwise receive a job which times out shortly
+ * after. Stale jobs must be returned to the brokers by the caller.
+ *
+ * <p>This class is not thread safe, and must only be accessed from the actor of the {@link
+ * LongPollingActivateJobsHandler}.
+ */
+final class JobPrefetchBuffer {
+
+  private final int capacity;
+  private final Map<Key, Deque<ActivatedJob>> buffers = new HashMap<>();
+  private final Set<Key> refillingKeys = new HashSet<>();
+
+  JobPrefetchBuffer(final int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException(
+          "Expected prefetch capacity to be greater than 0, but was " + capacity);
+    }
+    this.capacity = capacity;
+  }
+
+  /**
+   * Removes up to the given number of jobs of the given key, in the order they were added.
+   *
+   * @param key the key of the request to answer
+   * @param maxJobs the maximum number of jobs to remove
+   * @return the removed jobs, which may be empty
+   */
+  List<ActivatedJob> take(final Key key, final int maxJobs) {
+    final var buffer = buffers.get(key);
+    if (buffer == null) {
+      return List.of();
+    }
+
+    final var jobs = new ArrayList<ActivatedJob>(Math.min(maxJobs, buffer.size()));
+    while (jobs.size() < maxJobs && !buffer.isEmpty()) {
+      jobs.add(buffer.poll());
+    }
+
+    removeIfEmpty(key, buffer);
+    return jobs;
+  }
+
+  /**
+   * Adds the given jobs to the buffer of the given key, as long as it has capacity left.
+   *
+   * @param key the key of the request which activated the jobs
+   * @param jobs the activated jobs
+   * @return the jobs which didn't fit into the buffer anymore
+   */
+  List<ActivatedJob> add(final Key key, final List<ActivatedJob> jobs) {
+    final var buffer = buffers.computeIfAbsent(key, k -> new ArrayDeque<>());
+    final var freeCapacity = capacity - buffer.size();
+    if (jobs.size() <= freeCapacity) {
+      buffer.addAll(jobs);
+      return List.of();
+    }
+
+    buffer.addAll(jobs.subList(0, freeCapacity));
+    removeIfEmpty(key, buffer);
+    return jobs.subList(freeCapacity, jobs.size());
+  }
+
+  /**
+   * Removes all jobs of the given key which have less than half of their timeout left.
+   *
+   * @param key the key of the buffer to check
+   * @param now the current time in milliseconds
+   * @return the removed jobs
+   */
+  List<ActivatedJob> removeStaleJobs(final Key key, final long now) {
+    final var buffer = buffers.get(key);
+    if (buffer == null) {
+      return List.of();
+    }
+
+    final var staleJobs = new ArrayList<ActivatedJob>();
+    removeStaleJobs(key, buffer, now, staleJobs);
+    return staleJobs;
+  }
+
+  /**
+   * Removes all jobs of all keys which have less than half of their timeout left.
+   *
+   * @param now the current time in milliseconds
+   * @return the removed jobs
+   */
+  List<ActivatedJob> removeStaleJobs(final long now) {
+    final var staleJobs = new ArrayList<ActivatedJob>();
+    new ArrayList<>(buffers.entrySet())
+        .forEach(entry -> removeStaleJobs(entry.getKey(), entry.getValue(), now, staleJobs));
+    return staleJobs;
+  }
+
+  /**
+   * Removes all jobs of all keys.
+   *
+   * @return the removed jobs
+   */
+  List<ActivatedJob> removeAll() {
+    final var jobs = new ArrayList<ActivatedJob>();
+    buffers.values().forEach(jobs::addAll);
+    buffers.clear();
+    return jobs;
+  }
+
+  /**
+   * Marks the buffer of the given key as being refilled, if it's at most half full and not already
+   * being refilled. A started refill must be completed with {@link #completeRefill(Key)}.
+   *
+   * @param key the key of the buffer to refill
+   * @return the number of jobs to activate to fill up the buffer, or 0 if no refill was started
+   */
+  int startRefill(final Key key) {
+    final var bufferedJobs = getBufferedJobsCount(key);
+    if (bufferedJobs > capacity / 2 || !refillingKeys.add(key)) {
+      return 0;
+    }
+
+    return capacity - bufferedJobs;
+  }
+
+  void completeRefill(final Key key) {
+    refillingKeys.remove(key);
+  }
+
+  int getBufferedJobsCount(final Key key) {
+    final var buffer = buffers.get(key);
+    return buffer == null ? 0 : buffer.size();
+  }
+
+  private void removeStaleJobs(
+      final Key key,
+      final Deque<ActivatedJob> buffer,
+      final long now,
+      final List<ActivatedJob> staleJobs) {
+    final var minRemainingTime = key.timeout() / 2;
+    buffer.removeIf(
+        job -> {
+          final var isStale = job.getDeadline() - now < minRemainingTime;
+          if (isStale) {
+            staleJobs.add(job);
+          }
+          return isStale;
+        });
+
+    removeIfEmpty(key, buffer);
+  }
+
+  private void removeIfEmpty(final Key key, final Deque<ActivatedJob> buffer) {
+    if (buffer.isEmpty()) {
+      buffers.remove(key);
+    }
+  }
+
+  /** Identifies the requests which activated jobs can be handed out to interchangeably. */
+  record Key(
+      String type,
+      String worker,
+      long timeout,
+      List<String> fetchVariables,
+      List<String> tenantIds) {
+
+    static Key of(final JobBatchRecord request) {
+      final var fetchVariables = new ArrayList<String>();
+      for (final StringValue variable : request.variables()) {
+        fetchVariables.add(bufferAsString(variable.getValue()));
+      }
+
+      return new Key(
+          request.getType(),
+          request.getWorker(),
+          request.getTimeout(),
+          List.copyOf(fetchVariables),
+          List.copyOf(request.getTenantIds()));
+    }
+  }
+}
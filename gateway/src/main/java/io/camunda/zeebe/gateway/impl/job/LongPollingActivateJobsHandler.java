@@ -19,10 +19,13 @@ import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.ScheduledTimer;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.grpc.protobuf.StatusProto;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
@@ -32,6 +35,10 @@ import org.slf4j.Logger;
 /**
  * Adds long polling to the handling of activate job requests. When there are no jobs available to
  * activate, the response will be kept open.
+ *
+ * <p>Optionally, jobs can be activated ahead of time into a {@link JobPrefetchBuffer}. Requests are
+ * then answered from the buffer first, and the buffer is refilled in the background whenever it was
+ * used, or whenever a request activated as many jobs as it asked for.
  */
 public final class LongPollingActivateJobsHandler implements ActivateJobsHandler {
 
@@ -39,6 +46,12 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
   private static final Logger LOG = Loggers.LONG_POLLING;
   private static final String ERROR_MSG_ACTIVATED_EXHAUSTED =
       "Expected to activate jobs of type '%s', but no jobs available and at least one broker returned 'RESOURCE_EXHAUSTED'. Please try again later.";
+  private static final String PREFETCHED_JOBS_NOT_SENT_MSG =
+      "Failed to send prefetched jobs to client";
+  private static final String PREFETCHED_JOBS_STALE_MSG =
+      "Prefetched job was not requested by any worker before half of its timeout elapsed";
+  private static final String PREFETCHED_JOBS_CLOSED_MSG =
+      "Prefetched job was not requested by any worker before the gateway was closed";
 
   private final RoundRobinActivateJobsHandler activateJobsHandler;
   private final BrokerClient brokerClient;
@@ -51,20 +64,25 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
   private final int failedAttemptThreshold;
 
   private final LongPollingMetrics metrics;
+  // null if prefetching is disabled
+  private final JobPrefetchBuffer prefetchBuffer;
 
   private ActorControl actor;
+  private boolean closed;
 
   private LongPollingActivateJobsHandler(
       final BrokerClient brokerClient,
       final long longPollingTimeout,
       final long probeTimeoutMillis,
-      final int failedAttemptThreshold) {
+      final int failedAttemptThreshold,
+      final int prefetchCapacity) {
     this.brokerClient = brokerClient;
     activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
     this.failedAttemptThreshold = failedAttemptThreshold;
     metrics = new LongPollingMetrics();
+    prefetchBuffer = prefetchCapacity > 0 ? new JobPrefetchBuffer(prefetchCapacity) : null;
   }
 
   @Override
@@ -83,6 +101,21 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
         });
   }
 
+  /**
+   * Returns all prefetched jobs to the brokers, as no request will be answered from them anymore.
+   * Jobs which are still being prefetched are returned as soon as they were activated.
+   */
+  public ActorFuture<Void> close() {
+    return actor.call(
+        () -> {
+          closed = true;
+          if (prefetchBuffer != null) {
+            returnJobs(prefetchBuffer.removeAll(), PREFETCHED_JOBS_CLOSED_MSG);
+          }
+          return null;
+        });
+  }
+
   @Override
   public void activateJobs(
       final BrokerActivateJobsRequest request,
@@ -140,6 +173,10 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
   public void activateJobs(final InflightActivateJobsRequest request) {
     actor.run(
         () -> {
+          if (tryToActivatePrefetchedJobs(request)) {
+            return;
+          }
+
           final InFlightLongPollingActivateJobsRequestsState state =
               getJobTypeState(request.getType());
 
@@ -229,6 +266,10 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
             request.complete();
             state.removeActiveRequest(request);
             resetFailedAttemptsAndHandlePendingRequests(request.getType());
+            if (remainingAmount == 0) {
+              // the request activated all jobs it asked for, so more are likely available
+              refillPrefetchBuffer(request);
+            }
           });
     }
   }
@@ -291,8 +332,105 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
     request.setScheduledTimer(timeout);
   }
 
+  private boolean tryToActivatePrefetchedJobs(final InflightActivateJobsRequest request) {
+    if (prefetchBuffer == null || !request.isOpen()) {
+      return false;
+    }
+
+    final var key = JobPrefetchBuffer.Key.of(request.getRequest().getRequestWriter());
+    returnJobs(prefetchBuffer.removeStaleJobs(key, currentTimeMillis()), PREFETCHED_JOBS_STALE_MSG);
+    final var jobs = prefetchBuffer.take(key, request.getMaxJobsToActivate());
+    if (jobs.isEmpty()) {
+      return false;
+    }
+
+    final var response = ActivateJobsResponse.newBuilder().addAllJobs(jobs).build();
+    final var responseWasSent = request.tryToSendActivatedJobs(response).getOrElse(false);
+    if (responseWasSent) {
+      request.complete();
+    } else {
+      returnJobs(jobs, PREFETCHED_JOBS_NOT_SENT_MSG);
+      final var status =
+          Status.newBuilder()
+              .setCode(Code.CANCELLED_VALUE)
+              .setMessage(PREFETCHED_JOBS_NOT_SENT_MSG)
+              .build();
+      request.onError(StatusProto.toStatusException(status));
+    }
+
+    final var state = jobTypeState.get(request.getType());
+    if (state != null) {
+      state.removeRequest(request);
+    }
+
+    refillPrefetchBuffer(key);
+    return true;
+  }
+
+  private void refillPrefetchBuffer(final InflightActivateJobsRequest request) {
+    if (prefetchBuffer != null) {
+      refillPrefetchBuffer(JobPrefetchBuffer.Key.of(request.getRequest().getRequestWriter()));
+    }
+  }
+
+  private void refillPrefetchBuffer(final JobPrefetchBuffer.Key key) {
+    if (closed) {
+      return;
+    }
+
+    final BrokerClusterState topology = brokerClient.getTopologyManager().getTopology();
+    if (topology == null) {
+      return;
+    }
+
+    final var jobsToActivate = prefetchBuffer.startRefill(key);
+    if (jobsToActivate <= 0) {
+      return;
+    }
+
+    final var brokerRequest =
+        new BrokerActivateJobsRequest(key.type())
+            .setWorker(key.worker())
+            .setTimeout(key.timeout())
+            .setMaxJobsToActivate(jobsToActivate)
+            .setVariables(key.fetchVariables())
+            .setTenantIds(key.tenantIds());
+    final var refillRequest =
+        toInflightActivateJobsRequest(brokerRequest, new PrefetchResponseObserver(key), -1);
+
+    activateJobsHandler.activateJobs(
+        topology.getPartitionsCount(),
+        refillRequest,
+        error ->
+            actor.run(
+                () -> {
+                  LOG.debug("Failed to prefetch jobs of type {}", key.type(), error);
+                  prefetchBuffer.completeRefill(key);
+                }),
+        (remainingAmount, containedResourceExhaustedResponse) ->
+            actor.run(
+                () -> {
+                  prefetchBuffer.completeRefill(key);
+                  if (remainingAmount < jobsToActivate && jobTypeState.containsKey(key.type())) {
+                    // blocked requests may be answered from the prefetched jobs now
+                    resetFailedAttemptsAndHandlePendingRequests(key.type());
+                  }
+                }));
+  }
+
+  private void returnJobs(final List<ActivatedJob> jobs, final String reason) {
+    if (!jobs.isEmpty()) {
+      LOG.trace("Returning {} prefetched jobs to the brokers: {}", jobs.size(), reason);
+      activateJobsHandler.reactivateJobs(jobs, reason);
+    }
+  }
+
   private void probe() {
     final long now = currentTimeMillis();
+    if (prefetchBuffer != null) {
+      returnJobs(prefetchBuffer.removeStaleJobs(now), PREFETCHED_JOBS_STALE_MSG);
+    }
+
     jobTypeState.forEach(
         (type, state) -> {
           if (state.getLastUpdatedTime() < (now - probeTimeoutMillis)) {
@@ -324,6 +462,7 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
     private long longPollingTimeout = DEFAULT_LONG_POLLING_TIMEOUT;
     private long probeTimeoutMillis = DEFAULT_PROBE_TIMEOUT;
     private int minEmptyResponses = EMPTY_RESPONSE_THRESHOLD;
+    private int prefetchCapacity;
 
     public Builder setBrokerClient(final BrokerClient brokerClient) {
       this.brokerClient = brokerClient;
@@ -345,10 +484,60 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
       return this;
     }
 
+    /**
+     * @param prefetchCapacity the maximum number of jobs to activate ahead of time per {@link
+     *     JobPrefetchBuffer.Key}; 0 disables prefetching
+     */
+    public Builder setPrefetchCapacity(final int prefetchCapacity) {
+      this.prefetchCapacity = prefetchCapacity;
+      return this;
+    }
+
     public LongPollingActivateJobsHandler build() {
       Objects.requireNonNull(brokerClient, "brokerClient");
       return new LongPollingActivateJobsHandler(
-          brokerClient, longPollingTimeout, probeTimeoutMillis, minEmptyResponses);
+          brokerClient,
+          longPollingTimeout,
+          probeTimeoutMillis,
+          minEmptyResponses,
+          prefetchCapacity);
     }
   }
+
+  /** Collects the jobs activated by a refill request into the prefetch buffer. */
+  private final class PrefetchResponseObserver
+      implements ServerStreamObserver<ActivateJobsResponse> {
+
+    private final JobPrefetchBuffer.Key key;
+
+    private PrefetchResponseObserver(final JobPrefetchBuffer.Key key) {
+      this.key = key;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return false;
+    }
+
+    @Override
+    public void setOnCancelHandler(final Runnable handler) {}
+
+    @Override
+    public void onNext(final ActivateJobsResponse response) {
+      // called from the actor, as the round robin handler shares it
+      if (closed) {
+        returnJobs(response.getJobsList(), PREFETCHED_JOBS_CLOSED_MSG);
+        return;
+      }
+
+      final var overflow = prefetchBuffer.add(key, response.getJobsList());
+      returnJobs(overflow, PREFETCHED_JOBS_NOT_SENT_MSG);
+    }
+
+    @Override
+    public void onError(final Throwable error) {}
+
+    @Override
+    public void onCompleted() {}
+  }
 }
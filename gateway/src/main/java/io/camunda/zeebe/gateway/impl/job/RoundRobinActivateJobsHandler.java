@@ -192,7 +192,7 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
     return errorMessage;
   }
 
-  private void reactivateJobs(final List<ActivatedJob> activateJobs, final String message) {
+  void reactivateJobs(final List<ActivatedJob> activateJobs, final String message) {
     if (activateJobs != null) {
       activateJobs.forEach(j -> tryToReactivateJob(j, message));
     }
@@ -73,6 +73,7 @@ public final class LongPollingActivateJobsTest {
   private static final long PROBE_TIMEOUT = 20000;
   private static final int FAILED_RESPONSE_THRESHOLD = 3;
   private static final int MAX_JOBS_TO_ACTIVATE = 2;
+  private static final int PREFETCH_CAPACITY = 4;
   private final ControlledActorClock actorClock = new ControlledActorClock();
   @Rule public final ActorSchedulerRule actorSchedulerRule = new ActorSchedulerRule(actorClock);
   private LongPollingActivateJobsHandler handler;
@@ -926,6 +927,85 @@ public final class LongPollingActivateJobsTest {
     assertThat(brokerRequestValue.getErrorMessageBuffer()).isNotNull();
   }
 
+  @Test
+  public void shouldActivatePrefetchedJobs() throws Exception {
+    // given
+    actorClock.setCurrentTime(ActivateJobsStub.DEADLINE - 1000);
+    final var prefetchingHandler = buildPrefetchingHandler();
+    activateJobsStub.addAvailableJobs(TYPE, 10);
+
+    // the first request activates all jobs it asked for, which triggers a refill of the buffer
+    final InflightActivateJobsRequest firstRequest = getLongPollingActivateJobsRequest();
+    prefetchingHandler.activateJobs(firstRequest);
+    Awaitility.await().until(firstRequest::isCompleted);
+    verify(activateJobsStub, timeout(2000).times(2)).handle(any());
+    activateJobsStub.addAvailableJobs(TYPE, 0);
+
+    // when
+    final InflightActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    prefetchingHandler.activateJobs(request);
+    Awaitility.await().until(request::isCompleted);
+
+    // then
+    final var responseCaptor = ArgumentCaptor.forClass(ActivateJobsResponse.class);
+    verify(request.getResponseObserver()).onNext(responseCaptor.capture());
+    assertThat(responseCaptor.getValue().getJobsCount()).isEqualTo(MAX_JOBS_TO_ACTIVATE);
+  }
+
+  @Test
+  public void shouldReturnStalePrefetchedJobs() throws Exception {
+    // given
+    actorClock.setCurrentTime(ActivateJobsStub.DEADLINE - 1000);
+    final var prefetchingHandler = buildPrefetchingHandler();
+    activateJobsStub.addAvailableJobs(TYPE, 10);
+
+    final InflightActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    prefetchingHandler.activateJobs(request);
+    Awaitility.await().until(request::isCompleted);
+    verify(activateJobsStub, timeout(2000).times(2)).handle(any());
+
+    // when - then
+    Awaitility.await()
+        .untilAsserted(
+            () -> {
+              // the prefetched jobs exceed their deadline before the next probe
+              actorClock.addTime(Duration.ofMillis(PROBE_TIMEOUT));
+              verify(failJobStub, times(PREFETCH_CAPACITY)).handle(any());
+            });
+  }
+
+  @Test
+  public void shouldReturnPrefetchedJobsOnClose() throws Exception {
+    // given
+    actorClock.setCurrentTime(ActivateJobsStub.DEADLINE - 1000);
+    final var prefetchingHandler = buildPrefetchingHandler();
+    activateJobsStub.addAvailableJobs(TYPE, 10);
+
+    final InflightActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    prefetchingHandler.activateJobs(request);
+    Awaitility.await().until(request::isCompleted);
+    verify(activateJobsStub, timeout(2000).times(2)).handle(any());
+
+    // when
+    prefetchingHandler.close().join();
+
+    // then
+    verify(failJobStub, timeout(2000).times(PREFETCH_CAPACITY)).handle(any());
+  }
+
+  private LongPollingActivateJobsHandler buildPrefetchingHandler() {
+    final var prefetchingHandler =
+        LongPollingActivateJobsHandler.newBuilder()
+            .setBrokerClient(brokerClient)
+            .setLongPollingTimeout(LONG_POLLING_TIMEOUT)
+            .setProbeTimeoutMillis(PROBE_TIMEOUT)
+            .setMinEmptyResponses(FAILED_RESPONSE_THRESHOLD)
+            .setPrefetchCapacity(PREFETCH_CAPACITY)
+            .build();
+    submitActorToActivateJobs(prefetchingHandler);
+    return prefetchingHandler;
+  }
+
   private List<InflightActivateJobsRequest> activateJobsAndWaitUntilBlocked(final int amount) {
     return IntStream.range(0, amount)
         .boxed()
@@ -49,6 +49,7 @@ public final class GatewayCfgTest {
         .setPrivateKeyPath(new File("privateKeyPath"));
     CUSTOM_CFG.getThreads().setManagementThreads(100);
     CUSTOM_CFG.getLongPolling().setEnabled(false);
+    CUSTOM_CFG.getLongPolling().setPrefetchCapacity(16);
     CUSTOM_CFG.getMultiTenancy().setEnabled(true);
     CUSTOM_CFG.getInterceptors().add(new InterceptorCfg());
     CUSTOM_CFG.getInterceptors().get(0).setId("example");
@@ -137,6 +138,7 @@ public final class GatewayCfgTest {
             .getPath());
     setEnv("zeebe.gateway.network.minKeepAliveInterval", Duration.ofSeconds(30).toString());
     setEnv("zeebe.gateway.longPolling.enabled", String.valueOf(true));
+    setEnv("zeebe.gateway.longPolling.prefetchCapacity", "32");
     setEnv("zeebe.gateway.multiTenancy.enabled", String.valueOf(false));
     setEnv("zeebe.gateway.interceptors.0.id", "overwritten");
     setEnv("zeebe.gateway.interceptors.0.className", "Overwritten");
@@ -167,6 +169,7 @@ public final class GatewayCfgTest {
             new File(
                 getClass().getClassLoader().getResource("security/test-chain.cert.pem").getPath()));
     expected.getLongPolling().setEnabled(true);
+    expected.getLongPolling().setPrefetchCapacity(32);
     expected.getMultiTenancy().setEnabled(false);
 
     expected.getInterceptors().add(new InterceptorCfg());
@@ -0,0 +1,439 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import com.github.luben.zstd.Zstd;
+import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.journal.record.JournalRecordSerializer;
+import io.camunda.zeebe.journal.record.SBESerializer;
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A sealed segment whose entries are compressed with zstd. The entries are split into blocks of
+ * whole frames, each of roughly {@link #DEFAULT_BLOCK_SIZE} uncompressed bytes, which are
+ * compressed independently. A block table maps the uncompressed position of every block to its
+ * compressed bytes, so that a reader can seek to any position known from the {@link JournalIndex}
+ * by decompressing a single block.
+ *
+ * <p>The file starts with the segment descriptor as it was in the uncompressed segment, such that
+ * the file can be recognized as a segment and its descriptor read as usual. It's followed by a
+ * marker byte which can't be the version of a frame, then, in little endian: a magic number (int),
+ * the format version (int), the last index (long), the position of the last entry (int), the last
+ * asqn (long), the position at which the entries end (int), the block count (int), and for every
+ * block its uncompressed offset (int), uncompressed length (int), compressed offset (long) and
+ * compressed length (int). The header is followed by a CRC32C checksum (long) of everything from
+ * the marker on, and then by the compressed blocks. The entries themselves are still verified by
+ * their own checksums when they're read.
+ */
+final class CompressedSegmentFile implements SegmentContent, AutoCloseable {
+  static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final byte MARKER = (byte) 0xFF;
+  private static final int MAGIC = 0x5A534547;
+  private static final int VERSION = 1;
+  private static final int COMPRESSION_LEVEL = 3;
+  private static final String TEMPORARY_EXTENSION = ".compressing";
+  // from the marker up to and including the block count
+  private static final int HEADER_LENGTH = Byte.BYTES + 5 * Integer.BYTES + 2 * Long.BYTES;
+  private static final int BLOCK_ENTRY_LENGTH = 3 * Integer.BYTES + Long.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private final Path file;
+  private final FileChannel channel;
+  private final int descriptorLength;
+  private final long lastIndex;
+  private final int lastPosition;
+  private final long lastAsqn;
+  private final int endPosition;
+  private final int[] offsets;
+  private final int[] lengths;
+  private final long[] compressedOffsets;
+  private final int[] compressedLengths;
+
+  // the last decompressed block, shared between readers as they often read the same block
+  private volatile Block lastBlock;
+
+  private CompressedSegmentFile(
+      final Path file,
+      final FileChannel channel,
+      final int descriptorLength,
+      final ByteBuffer header) {
+    this.file = file;
+    this.channel = channel;
+    this.descriptorLength = descriptorLength;
+
+    lastIndex = header.getLong();
+    lastPosition = header.getInt();
+    lastAsqn = header.getLong();
+    endPosition = header.getInt();
+
+    final int blockCount = header.getInt();
+    offsets = new int[blockCount];
+    lengths = new int[blockCount];
+    compressedOffsets = new long[blockCount];
+    compressedLengths = new int[blockCount];
+    for (int i = 0; i < blockCount; i++) {
+      offsets[i] = header.getInt();
+      lengths[i] = header.getInt();
+      compressedOffsets[i] = header.getLong();
+      compressedLengths[i] = header.getInt();
+    }
+  }
+
+  long lastIndex() {
+    return lastIndex;
+  }
+
+  int lastPosition() {
+    return lastPosition;
+  }
+
+  long lastAsqn() {
+    return lastAsqn;
+  }
+
+  int endPosition() {
+    return endPosition;
+  }
+
+  int blockCount() {
+    return offsets.length;
+  }
+
+  @Override
+  public Block blockAt(final int position) {
+    if (offsets.length == 0) {
+      return new Block(0, descriptorLength, ByteBuffer.allocate(0).order(ENDIANNESS));
+    }
+
+    int number = Arrays.binarySearch(offsets, position);
+    if (number < 0) {
+      // the insertion point is the first block after the position
+      number = Math.max(0, -number - 2);
+    }
+
+    return readBlock(number);
+  }
+
+  @Override
+  public Block nextBlock(final Block block) {
+    final int number = block.number() + 1;
+    return number < offsets.length ? readBlock(number) : null;
+  }
+
+  /**
+   * Writes the uncompressed segment, i.e. its descriptor followed by all its entries, into the
+   * given buffer, starting at position 0.
+   *
+   * @param target the buffer to write the uncompressed segment to
+   */
+  void decompressTo(final ByteBuffer target) {
+    final var descriptor = ByteBuffer.allocate(descriptorLength);
+    readFully(descriptor, 0);
+    target.put(0, descriptor.array());
+
+    for (int i = 0; i < offsets.length; i++) {
+      target.put(offsets[i], readBlock(i).buffer().array());
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      channel.close();
+    } catch (final IOException e) {
+      throw new JournalException(e);
+    }
+  }
+
+  /**
+   * Returns the file to which a segment file is compressed before it atomically replaces the
+   * segment file.
+   */
+  static Path temporaryPathOf(final Path segmentFile) {
+    return segmentFile.resolveSibling(segmentFile.getFileName() + TEMPORARY_EXTENSION);
+  }
+
+  /** Returns true if the given file name is a leftover of an interrupted compression. */
+  static boolean isTemporaryFile(final String journalName, final String fileName) {
+    return fileName.endsWith(TEMPORARY_EXTENSION)
+        && SegmentFile.isSegmentFile(
+            journalName, fileName.substring(0, fileName.length() - TEMPORARY_EXTENSION.length()));
+  }
+
+  /**
+   * Returns true if the given segment, which starts with a descriptor of the given length, is
+   * compressed. Uncompressed segments have a frame version, or nothing, after their descriptor.
+   */
+  static boolean isCompressed(final ByteBuffer segment, final int descriptorLength) {
+    return segment.limit() >= descriptorLength + Byte.BYTES + Integer.BYTES
+        && segment.get(descriptorLength) == MARKER
+        && segment.duplicate().order(ENDIANNESS).getInt(descriptorLength + Byte.BYTES) == MAGIC;
+  }
+
+  /**
+   * Opens a compressed segment file.
+   *
+   * @param file the compressed segment file
+   * @param descriptor the descriptor of the segment, as read from the file
+   * @return the opened file
+   * @throws CorruptedJournalException if the file is not a valid compressed segment
+   */
+  static CompressedSegmentFile open(final Path file, final SegmentDescriptor descriptor)
+      throws IOException {
+    final var channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      return open(file, channel, descriptor.length());
+    } catch (final IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Compresses the entries of an uncompressed segment into the given file, and flushes it. The
+   * segment must not be modified while it's compressed.
+   *
+   * @param target the file to write, replacing it if it exists
+   * @param segment the uncompressed segment, with position 0 at the start of its descriptor
+   * @param descriptorLength the length of the segment's descriptor
+   * @param endPosition the position at which the segment's last entry ends
+   * @param lastIndex the index of the segment's last entry
+   * @param lastPosition the position of the segment's last entry
+   * @param lastAsqn the last asqn of the segment
+   * @param blockSize the minimum uncompressed length of a block, except for the last one
+   * @return the size of the compressed file
+   */
+  static long write(
+      final Path target,
+      final ByteBuffer segment,
+      final int descriptorLength,
+      final int endPosition,
+      final long lastIndex,
+      final int lastPosition,
+      final long lastAsqn,
+      final int blockSize)
+      throws IOException {
+    final var blockOffsets = splitIntoBlocks(segment, descriptorLength, endPosition, blockSize);
+    final int blockCount = blockOffsets.size() - 1;
+    final var header =
+        ByteBuffer.allocate(HEADER_LENGTH + blockCount * BLOCK_ENTRY_LENGTH + CHECKSUM_LENGTH)
+            .order(ENDIANNESS);
+    header
+        .put(MARKER)
+        .putInt(MAGIC)
+        .putInt(VERSION)
+        .putLong(lastIndex)
+        .putInt(lastPosition)
+        .putLong(lastAsqn)
+        .putInt(endPosition)
+        .putInt(blockCount);
+
+    try (final var channel =
+        FileChannel.open(
+            target,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      long compressedOffset = descriptorLength + header.capacity();
+      for (int i = 0; i < blockCount; i++) {
+        final int offset = blockOffsets.getInt(i);
+        final int length = blockOffsets.getInt(i + 1) - offset;
+        final var compressed = compress(segment, offset, length);
+        writeFully(channel, compressed, compressedOffset);
+        header.putInt(offset).putInt(length).putLong(compressedOffset).putInt(compressed.limit());
+        compressedOffset += compressed.limit();
+      }
+
+      header.putLong(new ChecksumGenerator().compute(header, 0, header.position()));
+      writeFully(channel, segment.duplicate().position(0).limit(descriptorLength), 0);
+      writeFully(channel, header.flip(), descriptorLength);
+      channel.force(true);
+      return compressedOffset;
+    }
+  }
+
+  private static CompressedSegmentFile open(
+      final Path file, final FileChannel channel, final int descriptorLength) throws IOException {
+    final var fixedHeader = ByteBuffer.allocate(HEADER_LENGTH).order(ENDIANNESS);
+    readFully(channel, fixedHeader, descriptorLength);
+    if (fixedHeader.get(0) != MARKER || fixedHeader.getInt(Byte.BYTES) != MAGIC) {
+      throw new CorruptedJournalException(
+          "Expected segment %s to be compressed, but it has no compression header".formatted(file));
+    }
+
+    final int version = fixedHeader.getInt(Byte.BYTES + Integer.BYTES);
+    if (version != VERSION) {
+      throw new CorruptedJournalException(
+          "Expected compressed segment %s to have version %d, but it has version %d"
+              .formatted(file, VERSION, version));
+    }
+
+    final int blockCount = fixedHeader.getInt(HEADER_LENGTH - Integer.BYTES);
+    if (blockCount < 0 || blockCount > (channel.size() - HEADER_LENGTH) / BLOCK_ENTRY_LENGTH) {
+      throw new CorruptedJournalException(
+          "Compressed segment %s has an invalid block count %d".formatted(file, blockCount));
+    }
+
+    final int tableLength = blockCount * BLOCK_ENTRY_LENGTH;
+    final var header =
+        ByteBuffer.allocate(HEADER_LENGTH + tableLength + CHECKSUM_LENGTH).order(ENDIANNESS);
+    readFully(channel, header, descriptorLength);
+    final int checksumOffset = HEADER_LENGTH + tableLength;
+    if (new ChecksumGenerator().compute(header, 0, checksumOffset)
+        != header.getLong(checksumOffset)) {
+      throw new CorruptedJournalException(
+          "Header checksum of compressed segment %s doesn't match".formatted(file));
+    }
+
+    header.position(Byte.BYTES + 2 * Integer.BYTES);
+    return new CompressedSegmentFile(file, channel, descriptorLength, header);
+  }
+
+  /**
+   * Returns the offsets at which blocks start, plus the end position. Blocks always start at a
+   * frame, i.e. frames are never split between blocks.
+   */
+  private static IntArrayList splitIntoBlocks(
+      final ByteBuffer segment,
+      final int descriptorLength,
+      final int endPosition,
+      final int blockSize) {
+    final JournalRecordSerializer serializer = new SBESerializer();
+    final var buffer = new UnsafeBuffer(segment);
+    final var offsets = new IntArrayList();
+    int blockStart = descriptorLength;
+    int position = descriptorLength;
+    offsets.addInt(blockStart);
+
+    while (position < endPosition) {
+      final int metadataOffset = position + FrameUtil.getLength();
+      final int recordLength = serializer.readMetadata(buffer, metadataOffset).length();
+      if (recordLength < 0) {
+        throw new CorruptedJournalException(
+            "Expected a record at position %d, but its length is %d"
+                .formatted(position, recordLength));
+      }
+
+      position =
+          metadataOffset + serializer.getMetadataLength(buffer, metadataOffset) + recordLength;
+      if (position - blockStart >= blockSize && position < endPosition) {
+        blockStart = position;
+        offsets.addInt(blockStart);
+      }
+    }
+
+    if (position != endPosition) {
+      throw new CorruptedJournalException(
+          "Expected the last frame of the segment to end at %d, but it ends at %d"
+              .formatted(endPosition, position));
+    }
+
+    if (endPosition > descriptorLength) {
+      offsets.addInt(endPosition);
+    }
+    return offsets;
+  }
+
+  private static ByteBuffer compress(final ByteBuffer segment, final int offset, final int length) {
+    final var uncompressed = new byte[length];
+    segment.get(offset, uncompressed);
+
+    final var compressed = new byte[Math.toIntExact(Zstd.compressBound(length))];
+    final long compressedLength =
+        Zstd.compressByteArray(
+            compressed, 0, compressed.length, uncompressed, 0, length, COMPRESSION_LEVEL);
+    if (Zstd.isError(compressedLength)) {
+      throw new JournalException(
+          "Failed to compress block at position %d: %s"
+              .formatted(offset, Zstd.getErrorName(compressedLength)));
+    }
+
+    return ByteBuffer.wrap(compressed, 0, (int) compressedLength);
+  }
+
+  private Block readBlock(final int number) {
+    final var cached = lastBlock;
+    if (cached != null && cached.number() == number) {
+      // every reader gets its own buffer, as they modify its position
+      return new Block(number, cached.offset(), cached.buffer().duplicate().order(ENDIANNESS));
+    }
+
+    final var compressed = ByteBuffer.allocate(compressedLengths[number]);
+    readFully(compressed, compressedOffsets[number]);
+
+    final var uncompressed = new byte[lengths[number]];
+    final long length =
+        Zstd.decompressByteArray(
+            uncompressed, 0, uncompressed.length, compressed.array(), 0, compressed.capacity());
+    if (Zstd.isError(length) || length != uncompressed.length) {
+      throw new CorruptedJournalException(
+          "Failed to decompress block %d of segment %s: %s"
+              .formatted(
+                  number,
+                  file,
+                  Zstd.isError(length)
+                      ? Zstd.getErrorName(length)
+                      : "expected %d bytes, got %d".formatted(uncompressed.length, length)));
+    }
+
+    final var block =
+        new Block(number, offsets[number], ByteBuffer.wrap(uncompressed).order(ENDIANNESS));
+    lastBlock = block;
+    return new Block(number, block.offset(), block.buffer().duplicate().order(ENDIANNESS));
+  }
+
+  private void readFully(final ByteBuffer target, final long position) {
+    try {
+      readFully(channel, target, position);
+    } catch (final IOException e) {
+      throw new JournalException(e);
+    }
+  }
+
+  private static void readFully(
+      final FileChannel channel, final ByteBuffer target, final long position) throws IOException {
+    long readPosition = position;
+    while (target.hasRemaining()) {
+      final int read = channel.read(target, readPosition);
+      if (read < 0) {
+        throw new EOFException(
+            "Expected to read %d more bytes at position %d, but reached the end of the file"
+                .formatted(target.remaining(), readPosition));
+      }
+      readPosition += read;
+    }
+    target.flip();
+  }
+
+  private static void writeFully(
+      final FileChannel channel, final ByteBuffer source, final long position) throws IOException {
+    long writePosition = position;
+    while (source.hasRemaining()) {
+      writePosition += channel.write(source, writePosition);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "CompressedSegmentFile{file=%s, blocks=%d, lastIndex=%d}"
+        .formatted(file, offsets.length, lastIndex);
+  }
+}
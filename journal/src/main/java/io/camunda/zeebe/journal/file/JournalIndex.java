@@ -31,6 +31,26 @@ interface JournalIndex {
    */
   void index(JournalRecord record, int position);
 
+  /**
+   * Adds the given entry to the index as is, e.g. to restore entries which were previously returned
+   * by {@link #forEach(long, long, EntryConsumer)}.
+   *
+   * @param index the index of the entry
+   * @param position the position of the entry within its segment
+   * @param asqn the asqn of the entry, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+   */
+  void restore(long index, int position, long asqn);
+
+  /**
+   * Passes all indexed entries between the given indexes (both inclusive) to the consumer, in
+   * ascending order of their index.
+   *
+   * @param fromIndex the lowest index to pass
+   * @param toIndex the highest index to pass
+   * @param consumer the consumer of the entries
+   */
+  void forEach(long fromIndex, long toIndex, EntryConsumer consumer);
+
   /**
    * Looks up the position of the given index.
    *
@@ -89,4 +109,15 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  @FunctionalInterface
+  interface EntryConsumer {
+
+    /**
+     * @param index the index of the entry
+     * @param position the position of the entry within its segment
+     * @param asqn the asqn of the entry, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+     */
+    void accept(long index, int position, long asqn);
+  }
 }
@@ -79,6 +79,14 @@ final class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Histogram SEGMENT_COMPRESSION_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("segment_compression_time")
+          .help("Time spent to compress a sealed segment")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private static final Counter APPEND_DATA_RATE =
       Counter.build()
           .namespace(NAMESPACE)
@@ -119,6 +127,7 @@ final class JournalMetrics {
   private final Gauge.Child segmentCount;
   private final Gauge.Child journalOpenTime;
   private final Histogram.Child segmentAllocationTime;
+  private final Histogram.Child segmentCompressionTime;
   private final Histogram.Child appendLatency;
   private final Counter.Child appendRate;
   private final Counter.Child appendDataRate;
@@ -132,6 +141,7 @@ final class JournalMetrics {
     segmentCount = SEGMENT_COUNT.labels(partitionId);
     journalOpenTime = JOURNAL_OPEN_DURATION.labels(partitionId);
     segmentAllocationTime = SEGMENT_ALLOCATION_TIME.labels(partitionId);
+    segmentCompressionTime = SEGMENT_COMPRESSION_TIME.labels(partitionId);
     appendLatency = APPEND_LATENCY.labels(partitionId);
     appendRate = APPEND_RATE.labels(partitionId);
     appendDataRate = APPEND_DATA_RATE.labels(partitionId);
@@ -170,6 +180,10 @@ final class JournalMetrics {
     return segmentAllocationTime.startTimer();
   }
 
+  Histogram.Timer observeSegmentCompression() {
+    return segmentCompressionTime.startTimer();
+  }
+
   void observeAppend(final long appendedBytes) {
     appendRate.inc();
     appendDataRate.inc(appendedBytes / 1024f);
@@ -27,7 +27,12 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Set;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
@@ -46,11 +51,24 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private final SegmentFile file;
   private final SegmentDescriptor descriptor;
   private final JournalIndex index;
-  private final SegmentWriter writer;
   private final Set<SegmentReader> readers = Sets.newConcurrentHashSet();
-  private final MappedByteBuffer buffer;
+  // readers which may still refer to the mapped buffer which was replaced by compressing the
+  // segment
+  private final Set<SegmentReader> readersOfRetiredBuffer = Sets.newConcurrentHashSet();
   private final JournalMetrics metrics;
 
+  // The following are null while the segment is compressed (buffer and writer), respectively
+  // while it's not compressed (compressedFile). They are only replaced with the journal's write
+  // lock, but need to be volatile in case the flushing is asynchronous
+  private volatile MappedByteBuffer buffer;
+  private volatile SegmentWriter writer;
+  private volatile CompressedSegmentFile compressedFile;
+  private volatile SegmentContent content;
+  private MappedByteBuffer retiredBuffer;
+  private long lastWrittenAsqn;
+  private long compressedLastAsqn;
+  private volatile int modificationCount;
+
   // This needs to be volatile in case the flushing is asynchronous
   private volatile boolean open = true;
   // This need to be volatile because both the writer and the readers access it concurrently
@@ -68,10 +86,30 @@ final class Segment implements AutoCloseable, FlushableSegment {
     this.buffer = buffer;
     this.index = index;
     this.metrics = metrics;
+    this.lastWrittenAsqn = lastWrittenAsqn;
 
+    content = SegmentContent.mapped(buffer);
     writer = createWriter(lastWrittenAsqn, metrics);
   }
 
+  Segment(
+      final SegmentFile file,
+      final SegmentDescriptor descriptor,
+      final CompressedSegmentFile compressedFile,
+      final long lastWrittenAsqn,
+      final JournalIndex index,
+      final JournalMetrics metrics) {
+    this.file = file;
+    this.descriptor = descriptor;
+    this.compressedFile = compressedFile;
+    this.index = index;
+    this.metrics = metrics;
+    this.lastWrittenAsqn = lastWrittenAsqn;
+
+    content = compressedFile;
+    compressedLastAsqn = Math.max(compressedFile.lastAsqn(), lastWrittenAsqn);
+  }
+
   /**
    * Returns the segment ID.
    *
@@ -97,7 +135,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
    */
   @Override
   public long lastIndex() {
-    return writer.getLastIndex();
+    final var currentWriter = writer;
+    return currentWriter != null ? currentWriter.getLastIndex() : compressedFile.lastIndex();
   }
 
   /**
@@ -119,6 +158,11 @@ final class Segment implements AutoCloseable, FlushableSegment {
    */
   @Override
   public boolean flush() {
+    if (isCompressed()) {
+      // compressed segments are flushed before they replace the uncompressed segment
+      return true;
+    }
+
     final long lastIndex = lastIndex();
 
     try (final var ignored = metrics.observeSegmentFlush()) {
@@ -146,7 +190,23 @@ final class Segment implements AutoCloseable, FlushableSegment {
    * @return The last application sequence number in the segment.
    */
   long lastAsqn() {
-    return writer.getLastAsqn();
+    final var currentWriter = writer;
+    return currentWriter != null ? currentWriter.getLastAsqn() : compressedLastAsqn;
+  }
+
+  /**
+   * Sets the last application sequence number of the previous segment, if it wasn't known when this
+   * segment was loaded.
+   *
+   * @param lastWrittenAsqn the last application sequence number of the previous segment
+   */
+  void setLastWrittenAsqn(final long lastWrittenAsqn) {
+    this.lastWrittenAsqn = lastWrittenAsqn;
+    if (isCompressed()) {
+      compressedLastAsqn = Math.max(compressedLastAsqn, lastWrittenAsqn);
+    } else {
+      writer.setLastWrittenAsqn(lastWrittenAsqn);
+    }
   }
 
   /**
@@ -168,12 +228,16 @@ final class Segment implements AutoCloseable, FlushableSegment {
   }
 
   /**
-   * Returns the segment writer.
+   * Returns the segment writer. A compressed segment is decompressed first, as entries can only be
+   * appended to or truncated from an uncompressed segment.
    *
    * @return The segment writer.
    */
   SegmentWriter writer() {
     checkOpen();
+    if (isCompressed()) {
+      decompress();
+    }
     return writer;
   }
 
@@ -184,12 +248,75 @@ final class Segment implements AutoCloseable, FlushableSegment {
    */
   SegmentReader createReader() {
     checkOpen();
-    final SegmentReader reader =
-        new SegmentReader(buffer.asReadOnlyBuffer().position(0).order(ENDIANNESS), this, index);
+    final SegmentReader reader = new SegmentReader(this, index);
     readers.add(reader);
     return reader;
   }
 
+  /** Returns the content which readers read the entries from. */
+  SegmentContent content() {
+    return content;
+  }
+
+  /** Returns true if the segment's entries are stored in a {@link CompressedSegmentFile}. */
+  boolean isCompressed() {
+    return compressedFile != null;
+  }
+
+  /**
+   * Returns how often the segment was truncated. Used to detect whether a segment was modified
+   * while it was compressed.
+   */
+  int modificationCount() {
+    return modificationCount;
+  }
+
+  /**
+   * Compresses the entries of this segment into the given file. The segment must be sealed, i.e. no
+   * more entries are appended to it, and it's not modified as long as the segment is not truncated
+   * (see {@link #modificationCount()}).
+   *
+   * @param target the file to write the compressed segment to
+   * @param blockSize the minimum uncompressed size of a compressed block
+   * @return the size of the compressed segment
+   */
+  long compressTo(final Path target, final int blockSize) throws IOException {
+    checkOpen();
+    final var currentWriter = writer;
+    final var mappedBuffer = buffer;
+    checkState(currentWriter != null && mappedBuffer != null, "Segment is already compressed");
+    return CompressedSegmentFile.write(
+        target,
+        mappedBuffer.asReadOnlyBuffer().order(ENDIANNESS),
+        descriptor.length(),
+        currentWriter.getEndPosition(),
+        currentWriter.getLastIndex(),
+        currentWriter.getLastEntryPosition(),
+        currentWriter.getLastAsqn(),
+        blockSize);
+  }
+
+  /**
+   * Switches to the given compressed file, which has already replaced the segment's file. The
+   * mapped buffer is unmapped once all readers which may still refer to it are closed. Must be
+   * called with the journal's write lock, such that no reader is reading concurrently.
+   *
+   * @param compressedFile the compressed segment file
+   */
+  synchronized void switchToCompressed(final CompressedSegmentFile compressedFile) {
+    compressedLastAsqn = writer.getLastAsqn();
+    this.compressedFile = compressedFile;
+    content = compressedFile;
+    writer = null;
+
+    readersOfRetiredBuffer.addAll(readers);
+    retiredBuffer = buffer;
+    buffer = null;
+    if (readersOfRetiredBuffer.isEmpty()) {
+      releaseRetiredBuffer();
+    }
+  }
+
   private SegmentWriter createWriter(final long lastWrittenAsqn, final JournalMetrics metrics) {
     return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics);
   }
@@ -201,6 +328,9 @@ final class Segment implements AutoCloseable, FlushableSegment {
    */
   void onReaderClosed(final SegmentReader reader) {
     readers.remove(reader);
+    if (readersOfRetiredBuffer.remove(reader)) {
+      onRetiredBufferReaderClosed();
+    }
     // When multiple readers are closed simultaneously, both readers might try to delete the file.
     // This is ok, as safeDelete is idempotent. Hence we keep it simple, and doesn't add more
     // concurrency control.
@@ -228,12 +358,13 @@ final class Segment implements AutoCloseable, FlushableSegment {
   public void close() {
     open = false;
     readers.forEach(SegmentReader::close);
-    IoUtil.unmap(buffer);
+    releaseResources();
   }
 
   /** Deletes the segment. */
   void delete() {
     open = false;
+    SegmentIndexFile.delete(file.file().toPath());
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
@@ -248,7 +379,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
               readers.size()));
     }
     try {
-      IoUtil.unmap(buffer);
+      releaseResources();
       Files.deleteIfExists(file.getFileMarkedForDeletion());
     } catch (final IOException e) {
       LOG.warn(
@@ -284,11 +415,84 @@ final class Segment implements AutoCloseable, FlushableSegment {
     descriptor.updateIfCurrentVersion(buffer);
   }
 
+  /**
+   * Persists the index entries of this segment next to it, such that they can be restored instead
+   * of being rebuilt when the segment is loaded again. Must only be called once no more entries
+   * will be appended to this segment.
+   */
+  void persistIndex() {
+    SegmentIndexFile.write(
+        file.file().toPath(),
+        descriptor.id(),
+        descriptor.index(),
+        writer.getLastIndex(),
+        writer.getLastEntryPosition(),
+        index);
+  }
+
   void resetLastEntryInDescriptor() {
+    modificationCount++;
+    // the segment is about to be truncated, so the persisted index entries may not be valid anymore
+    SegmentIndexFile.delete(file.file().toPath());
     descriptor.setLastIndex(0);
     descriptor.setLastPosition(0);
     descriptor.updateIfCurrentVersion(buffer);
     // flush immediately to prevent inconsistencies between descriptor and actual last written entry
     buffer.force(0, descriptor.length());
   }
+
+  private void decompress() {
+    final var segmentFile = file.file().toPath();
+    final var temporaryFile = CompressedSegmentFile.temporaryPathOf(segmentFile);
+    final var compressed = compressedFile;
+    try (final var channel =
+        FileChannel.open(
+            temporaryFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+      final var decompressed = channel.map(MapMode.READ_WRITE, 0, descriptor.maxSegmentSize());
+      decompressed.order(ENDIANNESS);
+      compressed.decompressTo(decompressed);
+      decompressed.force();
+      FileUtil.moveDurably(temporaryFile, segmentFile, StandardCopyOption.ATOMIC_MOVE);
+      buffer = decompressed;
+    } catch (final IOException e) {
+      throw new JournalException(String.format("Failed to decompress segment %s", segmentFile), e);
+    }
+
+    writer = createWriter(lastWrittenAsqn, metrics);
+    content = SegmentContent.mapped(buffer);
+    compressedFile = null;
+    compressed.close();
+    LOG.debug("Decompressed segment {} to modify it", this);
+  }
+
+  private synchronized void onRetiredBufferReaderClosed() {
+    if (readersOfRetiredBuffer.isEmpty()) {
+      releaseRetiredBuffer();
+    }
+  }
+
+  private synchronized void releaseRetiredBuffer() {
+    if (retiredBuffer != null) {
+      IoUtil.unmap(retiredBuffer);
+      retiredBuffer = null;
+    }
+  }
+
+  private void releaseResources() {
+    final var mappedBuffer = buffer;
+    if (mappedBuffer != null) {
+      IoUtil.unmap(mappedBuffer);
+    }
+
+    releaseRetiredBuffer();
+
+    final var compressed = compressedFile;
+    if (compressed != null) {
+      compressed.close();
+    }
+  }
 }
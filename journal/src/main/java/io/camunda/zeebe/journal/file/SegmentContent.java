@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+
+/**
+ * The entries of a segment as seen by its readers. The content is split into blocks, which are
+ * contiguous ranges of the segment. A memory mapped segment is made of a single block spanning the
+ * whole file, while a compressed segment is made of many blocks which are decompressed on demand
+ * (see {@link CompressedSegmentFile}).
+ *
+ * <p>Positions are always positions in the uncompressed segment, i.e. the same positions that are
+ * stored in the {@link JournalIndex}, regardless of how the content is stored.
+ */
+interface SegmentContent {
+
+  /**
+   * Returns the block containing the given position of the segment. If the position is at or after
+   * the end of the content, the last block is returned.
+   *
+   * @param position the position in the uncompressed segment
+   * @return the block containing the position
+   */
+  Block blockAt(int position);
+
+  /**
+   * Returns the block following the given block, or null if it's the last block.
+   *
+   * @param block a block of this content
+   * @return the following block, or null if there is none
+   */
+  Block nextBlock(Block block);
+
+  /**
+   * Returns the content of the given memory mapped segment, which consists of a single block.
+   *
+   * @param buffer the mapped segment file
+   * @return the content of the mapped segment
+   */
+  static SegmentContent mapped(final MappedByteBuffer buffer) {
+    return new MappedSegmentContent(buffer);
+  }
+
+  /**
+   * A contiguous range of a segment. Position 0 of the buffer corresponds to the given offset in
+   * the segment. The buffer is owned by the caller which requested the block, so its position can
+   * be modified freely.
+   *
+   * @param number the number of the block in its segment, starting at 0
+   * @param offset the position in the segment at which the block starts
+   * @param buffer the content of the block
+   */
+  record Block(int number, int offset, ByteBuffer buffer) {
+
+    /** Returns true if the given segment position is within this block, including its end. */
+    boolean contains(final int position) {
+      return position >= offset && position <= offset + buffer.capacity();
+    }
+  }
+
+  final class MappedSegmentContent implements SegmentContent {
+    private final MappedByteBuffer buffer;
+
+    private MappedSegmentContent(final MappedByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public Block blockAt(final int position) {
+      return new Block(0, 0, buffer.asReadOnlyBuffer().position(0).order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    @Override
+    public Block nextBlock(final Block block) {
+      return null;
+    }
+  }
+}
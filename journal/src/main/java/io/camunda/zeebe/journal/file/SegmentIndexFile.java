@@ -0,0 +1,250 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.LongArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link JournalIndex} entries of a sealed segment, persisted in a file next to the segment.
+ * When the segment is loaded again, its entries can be restored from this file instead of
+ * rebuilding them by reading every record of the segment.
+ *
+ * <p>The file is only a cache: it's written on a best effort basis, without flushing, and it's
+ * ignored and deleted if it can't be read, if its checksum doesn't match, or if it doesn't match
+ * the segment it belongs to.
+ *
+ * <p>Layout, in little endian: version (int), segment id (long), first index (long), last index
+ * (long), position of the last entry (int), entry count (int), followed by the entries, each made
+ * of its index (long), position (int) and asqn (long), and finally a CRC32C checksum (long) of all
+ * the preceding bytes.
+ */
+final class SegmentIndexFile {
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final String EXTENSION = ".idx";
+  private static final String TEMPORARY_EXTENSION = ".tmp";
+  private static final int VERSION = 1;
+  private static final int HEADER_LENGTH = 3 * Integer.BYTES + 3 * Long.BYTES;
+  private static final int ENTRY_LENGTH = 2 * Long.BYTES + Integer.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private final long segmentId;
+  private final long firstIndex;
+  private final long lastIndex;
+  private final int lastPosition;
+  private final LongArrayList indexes;
+  private final IntArrayList positions;
+  private final LongArrayList asqns;
+
+  private SegmentIndexFile(
+      final long segmentId,
+      final long firstIndex,
+      final long lastIndex,
+      final int lastPosition,
+      final LongArrayList indexes,
+      final IntArrayList positions,
+      final LongArrayList asqns) {
+    this.segmentId = segmentId;
+    this.firstIndex = firstIndex;
+    this.lastIndex = lastIndex;
+    this.lastPosition = lastPosition;
+    this.indexes = indexes;
+    this.positions = positions;
+    this.asqns = asqns;
+  }
+
+  long segmentId() {
+    return segmentId;
+  }
+
+  long firstIndex() {
+    return firstIndex;
+  }
+
+  long lastIndex() {
+    return lastIndex;
+  }
+
+  int lastPosition() {
+    return lastPosition;
+  }
+
+  int entryCount() {
+    return indexes.size();
+  }
+
+  /** Adds all persisted entries to the given index. */
+  void restoreTo(final JournalIndex journalIndex) {
+    for (int i = 0; i < indexes.size(); i++) {
+      journalIndex.restore(indexes.getLong(i), positions.getInt(i), asqns.getLong(i));
+    }
+  }
+
+  /**
+   * Returns true if this file describes the segment with the given descriptor. If the descriptor
+   * knows its last entry, it must match the last entry of this file as well.
+   */
+  boolean matches(final SegmentDescriptor descriptor) {
+    if (segmentId != descriptor.id() || firstIndex != descriptor.index()) {
+      return false;
+    }
+
+    return descriptor.lastPosition() <= 0
+        || (descriptor.lastPosition() == lastPosition && descriptor.lastIndex() == lastIndex);
+  }
+
+  /** Returns the path of the index file of the given segment file. */
+  static Path pathOf(final Path segmentFile) {
+    return segmentFile.resolveSibling(segmentFile.getFileName() + EXTENSION);
+  }
+
+  /**
+   * Writes the entries of the given journal index which belong to the given segment to the index
+   * file of the segment, replacing any existing one. Failures are logged, but not propagated, as
+   * the segment can still be loaded without its index file.
+   */
+  static void write(
+      final Path segmentFile,
+      final long segmentId,
+      final long firstIndex,
+      final long lastIndex,
+      final int lastPosition,
+      final JournalIndex journalIndex) {
+    final var indexes = new LongArrayList();
+    final var positions = new IntArrayList();
+    final var asqns = new LongArrayList();
+    journalIndex.forEach(
+        firstIndex,
+        lastIndex,
+        (index, position, asqn) -> {
+          indexes.addLong(index);
+          positions.addInt(position);
+          asqns.addLong(asqn);
+        });
+
+    final var buffer =
+        ByteBuffer.allocate(HEADER_LENGTH + indexes.size() * ENTRY_LENGTH + CHECKSUM_LENGTH)
+            .order(ENDIANNESS);
+    buffer
+        .putInt(VERSION)
+        .putLong(segmentId)
+        .putLong(firstIndex)
+        .putLong(lastIndex)
+        .putInt(lastPosition)
+        .putInt(indexes.size());
+    for (int i = 0; i < indexes.size(); i++) {
+      buffer.putLong(indexes.getLong(i)).putInt(positions.getInt(i)).putLong(asqns.getLong(i));
+    }
+    buffer.putLong(new ChecksumGenerator().compute(buffer, 0, buffer.position()));
+
+    final var indexFile = pathOf(segmentFile);
+    final var temporaryFile =
+        indexFile.resolveSibling(indexFile.getFileName() + TEMPORARY_EXTENSION);
+    try {
+      Files.write(temporaryFile, buffer.array());
+      Files.move(
+          temporaryFile,
+          indexFile,
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to write index file {}; the segment will be scanned when it's loaded again",
+          indexFile,
+          e);
+      deleteQuietly(temporaryFile);
+    }
+  }
+
+  /**
+   * Reads the index file of the given segment file.
+   *
+   * @return the index file, or null if there is none or it's invalid, in which case it's deleted
+   */
+  static SegmentIndexFile read(final Path segmentFile) {
+    final var indexFile = pathOf(segmentFile);
+    final byte[] content;
+    try {
+      content = Files.readAllBytes(indexFile);
+    } catch (final NoSuchFileException e) {
+      return null;
+    } catch (final IOException e) {
+      LOG.warn("Failed to read index file {}, ignoring it", indexFile, e);
+      return null;
+    }
+
+    final var result = decode(ByteBuffer.wrap(content).order(ENDIANNESS));
+    if (result == null) {
+      LOG.warn("Index file {} is invalid, ignoring and deleting it", indexFile);
+      delete(segmentFile);
+    }
+
+    return result;
+  }
+
+  /** Deletes the index file of the given segment file, if there is one. */
+  static void delete(final Path segmentFile) {
+    deleteQuietly(pathOf(segmentFile));
+  }
+
+  private static SegmentIndexFile decode(final ByteBuffer buffer) {
+    if (buffer.remaining() < HEADER_LENGTH + CHECKSUM_LENGTH) {
+      return null;
+    }
+
+    final int checksumOffset = buffer.limit() - CHECKSUM_LENGTH;
+    final long expectedChecksum = buffer.getLong(checksumOffset);
+    if (new ChecksumGenerator().compute(buffer, 0, checksumOffset) != expectedChecksum) {
+      return null;
+    }
+
+    if (buffer.getInt() != VERSION) {
+      return null;
+    }
+
+    final long segmentId = buffer.getLong();
+    final long firstIndex = buffer.getLong();
+    final long lastIndex = buffer.getLong();
+    final int lastPosition = buffer.getInt();
+    final int entryCount = buffer.getInt();
+    if (entryCount < 0 || HEADER_LENGTH + (long) entryCount * ENTRY_LENGTH != checksumOffset) {
+      return null;
+    }
+
+    final var indexes = new LongArrayList(entryCount, Long.MIN_VALUE);
+    final var positions = new IntArrayList(entryCount, Integer.MIN_VALUE);
+    final var asqns = new LongArrayList(entryCount, Long.MIN_VALUE);
+    for (int i = 0; i < entryCount; i++) {
+      indexes.addLong(buffer.getLong());
+      positions.addInt(buffer.getInt());
+      asqns.addLong(buffer.getLong());
+    }
+
+    return new SegmentIndexFile(
+        segmentId, firstIndex, lastIndex, lastPosition, indexes, positions, asqns);
+  }
+
+  private static void deleteQuietly(final Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete index file {}", file, e);
+    }
+  }
+}
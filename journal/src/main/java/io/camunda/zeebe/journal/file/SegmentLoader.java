@@ -26,6 +26,9 @@ import org.slf4j.LoggerFactory;
 
 /** Create a segment file. Load a segment from the segment file. */
 final class SegmentLoader {
+  /** Pass to {@link #loadExistingSegment} to not use the persisted index of a segment. */
+  static final long NOT_RESTORABLE = -1;
+
   private static final Logger LOGGER = LoggerFactory.getLogger(SegmentLoader.class);
   private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
 
@@ -112,14 +115,36 @@ final class SegmentLoader {
         journalIndex);
   }
 
+  /**
+   * Loads an existing segment. If the segment is sealed and has a persisted index (see {@link
+   * SegmentIndexFile}), its index entries are restored from it, and the segment isn't scanned to
+   * find its last entry.
+   *
+   * @param segmentFile the segment file to load
+   * @param lastWrittenAsqn the last asqn of the previous segment
+   * @param journalIndex the index to add the segment's entries to
+   * @param restorableIndex the persisted index is only used if the segment's last index is less
+   *     than or equal to this index, i.e. if the segment is sealed and its entries are known to be
+   *     flushed; pass {@link #NOT_RESTORABLE} to always scan the segment
+   * @return the loaded segment
+   */
   Segment loadExistingSegment(
-      final Path segmentFile, final long lastWrittenAsqn, final JournalIndex journalIndex) {
+      final Path segmentFile,
+      final long lastWrittenAsqn,
+      final JournalIndex journalIndex,
+      final long restorableIndex) {
     try (final var channel =
         FileChannel.open(segmentFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
       MappedByteBuffer mappedSegment;
       final var initialMappedLength = Files.size(segmentFile);
       mappedSegment = mapSegment(channel, initialMappedLength);
       final var descriptor = readDescriptor(mappedSegment, segmentFile.getFileName().toString());
+      if (CompressedSegmentFile.isCompressed(mappedSegment, descriptor.length())) {
+        // must not be remapped to the max segment size, as that would grow the file
+        IoUtil.unmap(mappedSegment);
+        return loadCompressedSegment(
+            segmentFile, descriptor, lastWrittenAsqn, journalIndex, restorableIndex);
+      }
 
       if (descriptor.maxSegmentSize() > initialMappedLength) {
         // remap with actual size
@@ -127,7 +152,21 @@ final class SegmentLoader {
         mappedSegment = mapSegment(channel, descriptor.maxSegmentSize());
       }
 
-      return loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
+      final var indexFile = readIndexFile(segmentFile, descriptor, restorableIndex);
+      if (indexFile != null && descriptor.lastPosition() <= 0) {
+        // let the writer jump to the last entry instead of scanning the whole segment; this is only
+        // kept in memory, the descriptor in the segment is left as is
+        descriptor.setLastIndex(indexFile.lastIndex());
+        descriptor.setLastPosition(indexFile.lastPosition());
+      }
+
+      final var segment =
+          loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
+      if (indexFile != null) {
+        restoreIndex(segmentFile, segment, indexFile, journalIndex);
+      }
+
+      return segment;
     } catch (final IOException e) {
       throw new JournalException(
           String.format("Failed to load existing segment %s", segmentFile), e);
@@ -135,6 +174,79 @@ final class SegmentLoader {
   }
 
   /* ---- Internal methods ------ */
+  private Segment loadCompressedSegment(
+      final Path segmentFile,
+      final SegmentDescriptor descriptor,
+      final long lastWrittenAsqn,
+      final JournalIndex journalIndex,
+      final long restorableIndex)
+      throws IOException {
+    final var compressedFile = CompressedSegmentFile.open(segmentFile, descriptor);
+    final var segment =
+        new Segment(
+            new SegmentFile(segmentFile.toFile()),
+            descriptor,
+            compressedFile,
+            lastWrittenAsqn,
+            journalIndex,
+            metrics);
+
+    // compressed segments are not scanned when loaded, so their entries are only indexed when
+    // they're read, unless the persisted index can be restored
+    final var indexFile = readIndexFile(segmentFile, descriptor, restorableIndex);
+    if (indexFile != null) {
+      restoreIndex(segmentFile, segment, indexFile, journalIndex);
+    }
+
+    LOGGER.trace("Loaded compressed segment {} ({})", segmentFile, compressedFile);
+    return segment;
+  }
+
+  private SegmentIndexFile readIndexFile(
+      final Path segmentFile, final SegmentDescriptor descriptor, final long restorableIndex) {
+    if (restorableIndex == NOT_RESTORABLE) {
+      return null;
+    }
+
+    final var indexFile = SegmentIndexFile.read(segmentFile);
+    if (indexFile == null) {
+      return null;
+    }
+
+    if (!indexFile.matches(descriptor)) {
+      LOGGER.debug(
+          "Index file of segment {} doesn't match its descriptor {}, deleting it",
+          segmentFile,
+          descriptor);
+      SegmentIndexFile.delete(segmentFile);
+      return null;
+    }
+
+    return indexFile.lastIndex() <= restorableIndex ? indexFile : null;
+  }
+
+  private void restoreIndex(
+      final Path segmentFile,
+      final Segment segment,
+      final SegmentIndexFile indexFile,
+      final JournalIndex journalIndex) {
+    if (segment.lastIndex() != indexFile.lastIndex()) {
+      LOGGER.debug(
+          "Expected segment {} to end at index {} as stated by its index file, but it ends at {}; deleting the index file",
+          segmentFile,
+          indexFile.lastIndex(),
+          segment.lastIndex());
+      SegmentIndexFile.delete(segmentFile);
+      return;
+    }
+
+    indexFile.restoreTo(journalIndex);
+    LOGGER.trace(
+        "Restored {} index entries of segment {} from its index file",
+        indexFile.entryCount(),
+        segmentFile);
+  }
+
   private Segment loadSegment(
       final Path file,
       final MappedByteBuffer buffer,
@@ -18,28 +18,35 @@ package io.camunda.zeebe.journal.file;
 
 import com.google.common.base.Preconditions;
 import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.file.SegmentContent.Block;
 import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
 import io.camunda.zeebe.journal.record.SBESerializer;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
-/** Log segment reader. */
+/**
+ * Log segment reader. Positions are positions in the uncompressed segment, which are translated to
+ * the blocks of the segment's {@link SegmentContent}. If the content of the segment is replaced,
+ * e.g. because the segment was compressed, the reader switches to the new content at its current
+ * position on its next operation.
+ */
 final class SegmentReader implements Iterator<JournalRecord> {
 
-  private final ByteBuffer buffer;
   private final JournalIndex index;
   private final Segment segment;
   private long currentIndex;
   private final JournalRecordReaderUtil recordReader;
   private final int descriptorLength;
+  private SegmentContent content;
+  private Block block;
+  private ByteBuffer buffer;
 
-  SegmentReader(final ByteBuffer buffer, final Segment segment, final JournalIndex index) {
+  SegmentReader(final Segment segment, final JournalIndex index) {
     this.index = index;
     this.segment = segment;
     descriptorLength = segment.descriptor().length();
     recordReader = new JournalRecordReaderUtil(new SBESerializer());
-    this.buffer = buffer;
     reset();
   }
 
@@ -51,8 +58,11 @@ final class SegmentReader implements Iterator<JournalRecord> {
       return false;
     }
 
+    ensureCurrentContent();
+
     // if the next entry exists the version would be non-zero
-    return FrameUtil.hasValidVersion(buffer);
+    return FrameUtil.hasValidVersion(buffer)
+        || (moveToNextBlock() && FrameUtil.hasValidVersion(buffer));
   }
 
   @Override
@@ -71,7 +81,8 @@ final class SegmentReader implements Iterator<JournalRecord> {
   }
 
   void reset() {
-    buffer.position(descriptorLength);
+    switchToCurrentContent();
+    moveTo(descriptorLength);
     currentIndex = segment.index() - 1;
   }
 
@@ -84,7 +95,7 @@ final class SegmentReader implements Iterator<JournalRecord> {
 
     final var position = this.index.lookup(index - 1);
     if (position != null && position.index() >= firstIndex && position.index() <= lastIndex) {
-      buffer.position(position.position());
+      moveTo(position.position());
       currentIndex = position.index() - 1;
     }
 
@@ -93,7 +104,7 @@ final class SegmentReader implements Iterator<JournalRecord> {
     final boolean shouldIndex = !this.index.hasIndexed(index);
 
     while (getNextIndex() < index && hasNext()) {
-      final var nextPosition = buffer.position();
+      final var nextPosition = position();
       final var nextEntry = next();
       if (shouldIndex) {
         this.index.index(nextEntry, nextPosition);
@@ -109,6 +120,51 @@ final class SegmentReader implements Iterator<JournalRecord> {
     return currentIndex + 1;
   }
 
+  /** Returns the position of the next entry in the uncompressed segment. */
+  private int position() {
+    return block.offset() + buffer.position();
+  }
+
+  private void moveTo(final int position) {
+    if (block == null || !block.contains(position)) {
+      block = content.blockAt(position);
+      buffer = block.buffer();
+    }
+
+    buffer.position(Math.min(position - block.offset(), buffer.limit()));
+  }
+
+  private boolean moveToNextBlock() {
+    if (buffer.hasRemaining()) {
+      return false;
+    }
+
+    final var nextBlock = content.nextBlock(block);
+    if (nextBlock == null) {
+      return false;
+    }
+
+    block = nextBlock;
+    buffer = nextBlock.buffer();
+    return true;
+  }
+
+  private void ensureCurrentContent() {
+    if (segment.content() != content) {
+      final int position = position();
+      switchToCurrentContent();
+      moveTo(position);
+    }
+  }
+
+  private void switchToCurrentContent() {
+    final var currentContent = segment.content();
+    if (currentContent != content) {
+      content = currentContent;
+      block = null;
+    }
+  }
+
   private void checkSegmentOpen() {
     Preconditions.checkState(
         segment.isOpen(), "Segment is already closed. Reader must reset to a valid index.");
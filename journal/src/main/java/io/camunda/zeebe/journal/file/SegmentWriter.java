@@ -49,7 +49,7 @@ final class SegmentWriter {
   private final Segment segment;
   private final JournalIndex index;
   private final long firstIndex;
-  private final long firstAsqn;
+  private long firstAsqn;
   private long lastAsqn;
   private JournalRecord lastEntry;
   private int lastEntryPosition;
@@ -100,6 +100,11 @@ final class SegmentWriter {
     return lastEntryPosition;
   }
 
+  /** Returns the position at which the next entry will be written, i.e. the end of the entries. */
+  int getEndPosition() {
+    return buffer.position();
+  }
+
   long getNextIndex() {
     if (lastEntry != null) {
       return lastEntry.index() + 1;
@@ -112,6 +117,16 @@ final class SegmentWriter {
     return lastAsqn;
   }
 
+  /**
+   * Updates the last asqn written before this segment, e.g. when the segment was loaded before the
+   * previous segment and thus without knowing it. The last asqn of this segment stays as is if any
+   * of its entries has an asqn.
+   */
+  void setLastWrittenAsqn(final long lastWrittenAsqn) {
+    firstAsqn = lastWrittenAsqn + 1;
+    lastAsqn = Math.max(lastAsqn, lastWrittenAsqn);
+  }
+
   // Used to append records received from a leader that are at version 8.2.x or older.
   Either<SegmentFull, JournalRecord> append(final JournalRecord record) {
     final var entryIndex = record.index();
@@ -41,19 +41,27 @@ public final class SegmentedJournal implements Journal {
   private final SegmentedJournalWriter writer;
   private final StampedLock rwlock = new StampedLock();
   private final SegmentsManager segments;
+  private final SegmentsCompressor compressor;
 
   SegmentedJournal(
       final JournalIndex journalIndex,
       final SegmentsManager segments,
       final JournalMetrics journalMetrics,
-      final SegmentsFlusher segmentsFlusher) {
+      final SegmentsFlusher segmentsFlusher,
+      final boolean compressSealedSegments) {
     this.journalMetrics = Objects.requireNonNull(journalMetrics, "must specify journal metrics");
     this.journalIndex = Objects.requireNonNull(journalIndex, "must specify a journal index");
     this.segments = Objects.requireNonNull(segments, "must specify a journal segments manager");
     Objects.requireNonNull(segmentsFlusher, "must specify a segments flusher");
 
+    compressor =
+        compressSealedSegments
+            ? SegmentsCompressor.enabled(segments.name(), segments, rwlock, journalMetrics)
+            : SegmentsCompressor.disabled();
+
     this.segments.open();
-    writer = new SegmentedJournalWriter(segments, segmentsFlusher, journalMetrics);
+    writer = new SegmentedJournalWriter(segments, segmentsFlusher, journalMetrics, compressor);
+    compressor.compressSealedSegments();
   }
 
   /**
@@ -190,6 +198,7 @@ public final class SegmentedJournal implements Journal {
   @Override
   public void close() {
     flush();
+    compressor.close();
     segments.close();
     open = false;
   }
@@ -273,6 +282,11 @@ public final class SegmentedJournal implements Journal {
     rwlock.unlockRead(stamp);
   }
 
+  @VisibleForTesting("Allows waiting until sealed segments are compressed")
+  SegmentsCompressor compressor() {
+    return compressor;
+  }
+
   @VisibleForTesting(
       "The simplest way to guarantee certain methods acquire/release the write lock is to access directly")
   StampedLock rwlock() {
@@ -32,6 +32,7 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_COMPRESS_SEALED_SEGMENTS = false;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -43,6 +44,7 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean compressSealedSegments = DEFAULT_COMPRESS_SEALED_SEGMENTS;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -140,6 +142,19 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether sealed segments are compressed in the background. Compressed segments take less
+   * disk space, but reading from them requires decompressing blocks of entries, and truncating them
+   * requires decompressing them first. The most recently sealed segment is never compressed.
+   *
+   * @param compressSealedSegments true to compress sealed segments, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withCompressSealedSegments(final boolean compressSealedSegments) {
+    this.compressSealedSegments = compressSealedSegments;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -178,6 +193,7 @@ public class SegmentedJournalBuilder {
             journalMetaStore);
     final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
 
-    return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
+    return new SegmentedJournal(
+        journalIndex, segmentsManager, journalMetrics, segmentsFlusher, compressSealedSegments);
   }
 }
@@ -27,6 +27,7 @@ final class SegmentedJournalWriter {
   private final SegmentsManager segments;
   private final SegmentsFlusher flusher;
   private final JournalMetrics journalMetrics;
+  private final SegmentsCompressor compressor;
 
   private Segment currentSegment;
   private SegmentWriter currentWriter;
@@ -34,10 +35,12 @@ final class SegmentedJournalWriter {
   SegmentedJournalWriter(
       final SegmentsManager segments,
       final SegmentsFlusher flusher,
-      final JournalMetrics journalMetrics) {
+      final JournalMetrics journalMetrics,
+      final SegmentsCompressor compressor) {
     this.segments = segments;
     this.flusher = flusher;
     this.journalMetrics = journalMetrics;
+    this.compressor = compressor;
 
     currentSegment = segments.getLastSegment();
     currentWriter = currentSegment.writer();
@@ -107,9 +110,11 @@ final class SegmentedJournalWriter {
     while (index < currentSegment.index() && currentSegment != segments.getFirstSegment()) {
       segments.removeSegment(currentSegment);
       currentSegment = segments.getLastSegment();
-      currentWriter = currentSegment.writer();
     }
 
+    // only obtain the writer of the remaining segment, as this decompresses it if necessary
+    currentWriter = currentSegment.writer();
+
     // Reset last entry position in descriptor to 0, to ensure that after a restart it is not using
     // the old truncated entry.
     currentSegment.resetLastEntryInDescriptor();
@@ -127,7 +132,10 @@ final class SegmentedJournalWriter {
 
   private void createNewSegment() {
     currentSegment.updateDescriptor();
+    currentSegment.persistIndex();
+    final var sealedSegment = currentSegment;
     currentSegment = segments.getNextSegment();
     currentWriter = currentSegment.writer();
+    compressor.onSegmentSealed(sealedSegment);
   }
 }
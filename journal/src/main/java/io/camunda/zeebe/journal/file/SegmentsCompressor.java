@@ -0,0 +1,224 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.VisibleForTesting;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compresses sealed segments in the background (see {@link CompressedSegmentFile}). A segment is
+ * first compressed into a temporary file, which then atomically replaces the segment file while
+ * holding the journal's write lock. Readers of the segment switch to the compressed content on
+ * their next read, at the same position.
+ *
+ * <p>The most recently sealed segment is kept uncompressed, as it's the most likely to be read by
+ * lagging followers or to be truncated. If a segment is truncated while it's compressed, the
+ * compressed file is discarded.
+ */
+final class SegmentsCompressor implements AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentsCompressor.class);
+  private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+  private final SegmentsManager segments;
+  private final StampedLock lock;
+  private final JournalMetrics metrics;
+  private final int blockSize;
+  private final ExecutorService executor;
+  private final Set<Segment> pendingSegments = ConcurrentHashMap.newKeySet();
+
+  private SegmentsCompressor(
+      final String name,
+      final SegmentsManager segments,
+      final StampedLock lock,
+      final JournalMetrics metrics,
+      final int blockSize) {
+    this.segments = segments;
+    this.lock = lock;
+    this.metrics = metrics;
+    this.blockSize = blockSize;
+    executor =
+        segments == null
+            ? null
+            : Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name(name + "-segment-compressor").daemon().factory());
+  }
+
+  /** Returns a compressor which never compresses any segment. */
+  static SegmentsCompressor disabled() {
+    return new SegmentsCompressor(null, null, null, null, 0);
+  }
+
+  /**
+   * Returns a compressor which compresses the sealed segments of the given manager on a dedicated
+   * thread.
+   *
+   * @param name the name of the journal, used to name the compressor's thread
+   * @param segments the segments of the journal
+   * @param lock the journal's lock, whose write lock is acquired to replace a segment's file
+   * @param metrics the journal's metrics
+   * @return an enabled compressor
+   */
+  static SegmentsCompressor enabled(
+      final String name,
+      final SegmentsManager segments,
+      final StampedLock lock,
+      final JournalMetrics metrics) {
+    return new SegmentsCompressor(
+        name, segments, lock, metrics, CompressedSegmentFile.DEFAULT_BLOCK_SIZE);
+  }
+
+  /** Schedules the compression of all sealed segments but the most recently sealed one. */
+  void compressSealedSegments() {
+    if (executor == null) {
+      return;
+    }
+
+    final var firstSegment = segments.getFirstSegment();
+    if (firstSegment == null) {
+      return;
+    }
+
+    final var allSegments = new ArrayList<>(segments.getTailSegments(firstSegment.index()));
+    for (int i = 0; i < allSegments.size() - 2; i++) {
+      compressLater(allSegments.get(i));
+    }
+  }
+
+  /**
+   * Schedules the compression of the segment preceding the given, just sealed, segment.
+   *
+   * @param sealedSegment the segment which was just sealed
+   */
+  void onSegmentSealed(final Segment sealedSegment) {
+    if (executor == null) {
+      return;
+    }
+
+    final var previousSegment = segments.getPreviousSegment(sealedSegment.index());
+    if (previousSegment != null) {
+      compressLater(previousSegment);
+    }
+  }
+
+  /** Blocks until all compressions which were scheduled so far are done. */
+  @VisibleForTesting
+  void awaitScheduledCompressions() throws InterruptedException, ExecutionException {
+    if (executor != null) {
+      executor.submit(() -> {}).get();
+    }
+  }
+
+  @Override
+  public void close() {
+    if (executor == null) {
+      return;
+    }
+
+    executor.shutdownNow();
+    try {
+      if (!executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        LOG.warn("Segment compression did not stop within {}s", CLOSE_TIMEOUT_SECONDS);
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void compressLater(final Segment segment) {
+    if (segment.isCompressed() || !pendingSegments.add(segment)) {
+      return;
+    }
+
+    executor.execute(
+        () -> {
+          try {
+            compress(segment);
+          } catch (final Exception e) {
+            LOG.warn("Failed to compress segment {}, keeping it uncompressed", segment, e);
+          } finally {
+            pendingSegments.remove(segment);
+          }
+        });
+  }
+
+  private void compress(final Segment segment) throws IOException {
+    final SegmentReader pin;
+    try {
+      // keeps the segment's buffer mapped, even if the segment is deleted concurrently
+      pin = segment.createReader();
+    } catch (final IllegalStateException e) {
+      LOG.trace("Skipping compression of closed segment {}", segment);
+      return;
+    }
+
+    final var segmentFile = segment.file().file().toPath();
+    final var temporaryFile = CompressedSegmentFile.temporaryPathOf(segmentFile);
+    try {
+      if (segment.isCompressed()) {
+        return;
+      }
+
+      final int modificationCount = segment.modificationCount();
+      final long lastIndex = segment.lastIndex();
+      final long compressedSize;
+      try (final var ignored = metrics.observeSegmentCompression()) {
+        compressedSize = segment.compressTo(temporaryFile, blockSize);
+      }
+
+      if (replaceSegmentFile(segment, segmentFile, temporaryFile, modificationCount, lastIndex)) {
+        LOG.debug(
+            "Compressed segment {} from {} to {} bytes",
+            segment,
+            segment.descriptor().maxSegmentSize(),
+            compressedSize);
+      }
+    } finally {
+      pin.close();
+      Files.deleteIfExists(temporaryFile);
+    }
+  }
+
+  private boolean replaceSegmentFile(
+      final Segment segment,
+      final Path segmentFile,
+      final Path compressedFile,
+      final int modificationCount,
+      final long lastIndex)
+      throws IOException {
+    final var stamp = lock.writeLock();
+    try {
+      if (!segment.isOpen()
+          || segment.modificationCount() != modificationCount
+          || segment.lastIndex() != lastIndex
+          || segments.getCurrentSegment() == segment) {
+        LOG.debug("Segment {} was modified or removed while compressing it, skipping it", segment);
+        return false;
+      }
+
+      FileUtil.moveDurably(compressedFile, segmentFile, StandardCopyOption.ATOMIC_MOVE);
+      segment.switchToCompressed(CompressedSegmentFile.open(segmentFile, segment.descriptor()));
+      return true;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+}
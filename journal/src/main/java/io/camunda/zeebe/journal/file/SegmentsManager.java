@@ -30,6 +30,7 @@ import java.util.SortedMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -95,6 +96,10 @@ final class SegmentsManager implements AutoCloseable {
     currentSegment = null;
   }
 
+  String name() {
+    return name;
+  }
+
   Segment getCurrentSegment() {
     return currentSegment;
   }
@@ -150,6 +155,11 @@ final class SegmentsManager implements AutoCloseable {
     return nextSegment != null ? nextSegment.getValue() : null;
   }
 
+  Segment getPreviousSegment(final long index) {
+    final Map.Entry<Long, Segment> previousSegment = segments.lowerEntry(index);
+    return previousSegment != null ? previousSegment.getValue() : null;
+  }
+
   Segment getSegment(final long index) {
     // Check if the current segment contains the given index first in order to prevent an
     // unnecessary map lookup.
@@ -308,8 +318,8 @@ final class SegmentsManager implements AutoCloseable {
     openDurationTimer.close();
 
     // Delete files that were previously marked for deletion but did not get deleted because the
-    // node was stopped. It is safe to delete it now since there are no readers opened for these
-    // segments.
+    // node was stopped, as well as leftovers of interrupted segment compressions. It is safe to
+    // delete it now since there are no readers opened for these segments.
     deleteDeferredFiles();
   }
 
@@ -344,7 +354,8 @@ final class SegmentsManager implements AutoCloseable {
   }
 
   /**
-   * Loads all segments from disk.
+   * Loads all segments from disk. The segments are mapped, validated and indexed concurrently, but
+   * checked for gaps and corruption in order.
    *
    * @return A collection of segments for the log.
    */
@@ -357,21 +368,18 @@ final class SegmentsManager implements AutoCloseable {
     final List<Segment> segments = new ArrayList<>();
 
     final List<File> files = getSortedLogSegments();
-    Segment previousSegment = null;
+    final List<CompletableFuture<Segment>> loadingSegments =
+        loadSegmentsConcurrently(files, lastFlushedIndex);
     for (int i = 0; i < files.size(); i++) {
-      final File file = files.get(i);
-
       try {
-        LOG.debug("Found segment file: {}", file.getName());
-        final Segment segment =
-            segmentLoader.loadExistingSegment(
-                file.toPath(),
-                previousSegment != null ? previousSegment.lastAsqn() : INITIAL_ASQN,
-                journalIndex);
+        final Segment segment = awaitSegment(loadingSegments.get(i));
 
         if (i > 0) {
+          final Segment previousSegment = segments.get(i - 1);
+          // the segment was loaded without knowing the previous one
+          segment.setLastWrittenAsqn(previousSegment.lastAsqn());
           // throws CorruptedJournalException if there is gap
-          checkForIndexGaps(segments.get(i - 1), segment);
+          checkForIndexGaps(previousSegment, segment);
         }
 
         final boolean isLastSegment = i == files.size() - 1;
@@ -382,9 +390,12 @@ final class SegmentsManager implements AutoCloseable {
         }
 
         segments.add(segment);
-        previousSegment = segment;
       } catch (final CorruptedJournalException e) {
+        // neither this nor any of the following segments will be used
+        closeSegments(loadingSegments.subList(i, loadingSegments.size()));
+
         if (handleSegmentCorruption(files, segments, i, lastFlushedIndex)) {
+          removeIndexEntriesAfter(segments);
           return segments;
         }
 
@@ -395,6 +406,78 @@ final class SegmentsManager implements AutoCloseable {
     return segments;
   }
 
+  private List<CompletableFuture<Segment>> loadSegmentsConcurrently(
+      final List<File> files, final long lastFlushedIndex) {
+    if (files.isEmpty()) {
+      return List.of();
+    }
+
+    final int threadCount = Math.min(files.size(), Runtime.getRuntime().availableProcessors());
+    final var executor =
+        Executors.newFixedThreadPool(
+            threadCount, Thread.ofPlatform().name(name + "-segment-loader-", 0).factory());
+    try {
+      final List<CompletableFuture<Segment>> loadingSegments = new ArrayList<>(files.size());
+      for (int i = 0; i < files.size(); i++) {
+        final File file = files.get(i);
+        final boolean isLastSegment = i == files.size() - 1;
+        // only sealed segments which were flushed have a trustworthy persisted index
+        final long restorableIndex =
+            isLastSegment || !metaStore.hasLastFlushedIndex()
+                ? SegmentLoader.NOT_RESTORABLE
+                : lastFlushedIndex;
+        loadingSegments.add(
+            CompletableFuture.supplyAsync(
+                () -> {
+                  LOG.debug("Found segment file: {}", file.getName());
+                  // the last asqn of the previous segment is set once it's loaded
+                  return segmentLoader.loadExistingSegment(
+                      file.toPath(), INITIAL_ASQN, journalIndex, restorableIndex);
+                },
+                executor));
+      }
+
+      return loadingSegments;
+    } finally {
+      // lets the already submitted segments load, but stops the threads afterwards
+      executor.shutdown();
+    }
+  }
+
+  private Segment awaitSegment(final CompletableFuture<Segment> loadingSegment) {
+    try {
+      return loadingSegment.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+
+      throw new JournalException(e.getCause());
+    }
+  }
+
+  private void closeSegments(final List<CompletableFuture<Segment>> loadingSegments) {
+    for (final var loadingSegment : loadingSegments) {
+      try {
+        loadingSegment.join().close();
+      } catch (final CompletionException e) {
+        LOG.trace("Segment failed to load, nothing to close", e);
+      }
+    }
+  }
+
+  /**
+   * Removes the index entries which were added by segments that were loaded but are not used, as
+   * they follow a corrupted segment.
+   */
+  private void removeIndexEntriesAfter(final List<Segment> segments) {
+    if (segments.isEmpty()) {
+      journalIndex.clear();
+    } else {
+      journalIndex.deleteAfter(segments.get(segments.size() - 1).lastIndex());
+    }
+  }
+
   private void checkForIndexGaps(final Segment prevSegment, final Segment segment) {
     if (prevSegment.lastIndex() != segment.index() - 1) {
       throw new CorruptedJournalException(
@@ -440,6 +523,7 @@ final class SegmentsManager implements AutoCloseable {
     for (int i = failedIndex; i < files.size(); i++) {
       final File file = files.get(i);
       try {
+        SegmentIndexFile.delete(file.toPath());
         Files.delete(file.toPath());
       } catch (final IOException e) {
         throw new JournalException(
@@ -470,8 +554,7 @@ final class SegmentsManager implements AutoCloseable {
   private void deleteDeferredFiles() {
     try (final DirectoryStream<Path> segmentsToDelete =
         Files.newDirectoryStream(
-            directory.toPath(),
-            path -> SegmentFile.isDeletedSegmentFile(name, path.getFileName().toString()))) {
+            directory.toPath(), path -> isDeferredFile(path.getFileName().toString()))) {
       segmentsToDelete.forEach(this::deleteDeferredFile);
     } catch (final IOException e) {
       LOG.warn(
@@ -481,6 +564,11 @@ final class SegmentsManager implements AutoCloseable {
     }
   }
 
+  private boolean isDeferredFile(final String fileName) {
+    return SegmentFile.isDeletedSegmentFile(name, fileName)
+        || CompressedSegmentFile.isTemporaryFile(name, fileName);
+  }
+
   private void deleteDeferredFile(final Path segmentFileToDelete) {
     try {
       Files.deleteIfExists(segmentFileToDelete);
@@ -47,6 +47,24 @@ final class SparseJournalIndex implements JournalIndex {
     }
   }
 
+  @Override
+  public void restore(final long index, final int position, final long asqn) {
+    indexToPosition.put(index, position);
+    if (asqn != SegmentedJournal.ASQN_IGNORE) {
+      asqnToIndex.put(asqn, index);
+      indexToAsqn.put(index, asqn);
+    }
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final EntryConsumer consumer) {
+    for (final var entry : indexToPosition.subMap(fromIndex, true, toIndex, true).entrySet()) {
+      final long index = entry.getKey();
+      final Long asqn = indexToAsqn.get(index);
+      consumer.accept(index, entry.getValue(), asqn != null ? asqn : SegmentedJournal.ASQN_IGNORE);
+    }
+  }
+
   @Override
   public IndexInfo lookup(final long index) {
     final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
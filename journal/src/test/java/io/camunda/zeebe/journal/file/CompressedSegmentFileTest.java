@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.journal.CorruptedJournalException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class CompressedSegmentFileTest {
+  private static final int ENTRY_COUNT = 50;
+
+  private @TempDir Path directory;
+  private TestJournalFactory journalFactory;
+  private SegmentedJournal journal;
+  private Segment segment;
+  private Path compressedFile;
+
+  @BeforeEach
+  void beforeEach() {
+    journalFactory = new TestJournalFactory("test", 2 * ENTRY_COUNT);
+    journal = journalFactory.journal(journalFactory.segmentsManager(directory));
+    for (int i = 1; i <= ENTRY_COUNT; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+
+    segment = journal.getFirstSegment();
+    compressedFile = directory.resolve("compressed.log");
+  }
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(journal);
+  }
+
+  @Test
+  void shouldDecompressToOriginalSegment() throws IOException {
+    // given
+    segment.compressTo(compressedFile, 3 * journalFactory.serializedEntrySize());
+    final var endPosition = segment.writer().getEndPosition();
+    final var original = Files.readAllBytes(segment.file().file().toPath());
+
+    // when
+    final var decompressed = ByteBuffer.allocate(journalFactory.maxSegmentSize());
+    try (final var file = CompressedSegmentFile.open(compressedFile, segment.descriptor())) {
+      file.decompressTo(decompressed);
+    }
+
+    // then
+    assertThat(Arrays.copyOf(decompressed.array(), endPosition))
+        .isEqualTo(Arrays.copyOf(original, endPosition));
+  }
+
+  @Test
+  void shouldSplitEntriesIntoBlocksOfWholeFrames() throws IOException {
+    // given
+    final int entrySize = journalFactory.serializedEntrySize();
+    segment.compressTo(compressedFile, 3 * entrySize);
+    final var descriptorLength = segment.descriptor().length();
+
+    // when
+    try (final var file = CompressedSegmentFile.open(compressedFile, segment.descriptor())) {
+      // then
+      assertThat(file.lastIndex()).isEqualTo(ENTRY_COUNT);
+      assertThat(file.lastAsqn()).isEqualTo(ENTRY_COUNT);
+      assertThat(file.endPosition()).isEqualTo(descriptorLength + ENTRY_COUNT * entrySize);
+      assertThat(file.blockCount()).isEqualTo((ENTRY_COUNT + 2) / 3);
+
+      final var entryPosition = descriptorLength + 10 * entrySize;
+      final var block = file.blockAt(entryPosition + 1);
+      assertThat(block.number()).isEqualTo(3);
+      assertThat(block.offset()).isEqualTo(descriptorLength + 9 * entrySize);
+      assertThat(block.buffer().capacity()).isEqualTo(3 * entrySize);
+      assertThat(file.nextBlock(block).offset()).isEqualTo(block.offset() + 3 * entrySize);
+      assertThat(file.nextBlock(file.blockAt(file.endPosition()))).isNull();
+    }
+  }
+
+  @Test
+  void shouldCompressEntries() throws IOException {
+    // when
+    final long size = segment.compressTo(compressedFile, CompressedSegmentFile.DEFAULT_BLOCK_SIZE);
+
+    // then
+    assertThat(compressedFile).hasSize(size);
+    assertThat(size).isLessThan(segment.writer().getEndPosition());
+  }
+
+  @Test
+  void shouldRecognizeCompressedSegment() throws IOException {
+    // given
+    segment.compressTo(compressedFile, CompressedSegmentFile.DEFAULT_BLOCK_SIZE);
+    final var descriptorLength = segment.descriptor().length();
+
+    // when - then
+    assertThat(
+            CompressedSegmentFile.isCompressed(
+                ByteBuffer.wrap(Files.readAllBytes(compressedFile)), descriptorLength))
+        .isTrue();
+    assertThat(
+            CompressedSegmentFile.isCompressed(
+                ByteBuffer.wrap(Files.readAllBytes(segment.file().file().toPath())),
+                descriptorLength))
+        .isFalse();
+  }
+
+  @Test
+  void shouldRejectCorruptedHeader() throws IOException {
+    // given
+    segment.compressTo(compressedFile, CompressedSegmentFile.DEFAULT_BLOCK_SIZE);
+    final var content = Files.readAllBytes(compressedFile);
+    // flip a bit of the last index
+    content[segment.descriptor().length() + 10] ^= 1;
+    Files.write(compressedFile, content);
+
+    // when - then
+    assertThatThrownBy(() -> CompressedSegmentFile.open(compressedFile, segment.descriptor()))
+        .isInstanceOf(CorruptedJournalException.class);
+  }
+
+  @Test
+  void shouldRecognizeTemporaryFiles() {
+    assertThat(CompressedSegmentFile.isTemporaryFile("journal", "journal-1.log.compressing"))
+        .isTrue();
+    assertThat(CompressedSegmentFile.isTemporaryFile("journal", "journal-1.log")).isFalse();
+    assertThat(CompressedSegmentFile.isTemporaryFile("journal", "other-1.log.compressing"))
+        .isFalse();
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static io.camunda.zeebe.journal.file.SparseJournalIndexTest.asJournalRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SegmentIndexFileTest {
+
+  private @TempDir Path directory;
+
+  @Test
+  void shouldRestoreWrittenEntries() {
+    // given
+    final var segmentFile = directory.resolve("journal-2.log");
+    final var index = new SparseJournalIndex(2);
+    for (int i = 1; i <= 10; i++) {
+      index.index(asJournalRecord(i, i == 6 ? SegmentedJournal.ASQN_IGNORE : i * 10), i * 100);
+    }
+
+    // when
+    SegmentIndexFile.write(segmentFile, 2, 5, 9, 900, index);
+    final var indexFile = SegmentIndexFile.read(segmentFile);
+    final var restoredIndex = new SparseJournalIndex(2);
+    indexFile.restoreTo(restoredIndex);
+
+    // then
+    assertThat(indexFile.segmentId()).isEqualTo(2);
+    assertThat(indexFile.firstIndex()).isEqualTo(5);
+    assertThat(indexFile.lastIndex()).isEqualTo(9);
+    assertThat(indexFile.lastPosition()).isEqualTo(900);
+    assertThat(indexFile.entryCount()).isEqualTo(2);
+    assertThat(restoredIndex.lookup(4)).isNull();
+    assertThat(restoredIndex.lookup(7)).isEqualTo(new IndexInfo(6, 600));
+    assertThat(restoredIndex.lookup(10)).isEqualTo(new IndexInfo(8, 800));
+    assertThat(restoredIndex.lookupAsqn(85)).isEqualTo(8);
+    assertThat(restoredIndex.lookupAsqn(60)).isNull();
+  }
+
+  @Test
+  void shouldNotReadMissingFile() {
+    // when
+    final var indexFile = SegmentIndexFile.read(directory.resolve("journal-1.log"));
+
+    // then
+    assertThat(indexFile).isNull();
+  }
+
+  @Test
+  void shouldDeleteCorruptedFile() throws IOException {
+    // given
+    final var segmentFile = directory.resolve("journal-1.log");
+    final var index = new SparseJournalIndex(1);
+    index.index(asJournalRecord(1, 1), 10);
+    SegmentIndexFile.write(segmentFile, 1, 1, 1, 10, index);
+    final var path = SegmentIndexFile.pathOf(segmentFile);
+    final var content = Files.readAllBytes(path);
+    content[content.length / 2] ^= 1;
+    Files.write(path, content);
+
+    // when
+    final var indexFile = SegmentIndexFile.read(segmentFile);
+
+    // then
+    assertThat(indexFile).isNull();
+    assertThat(path).doesNotExist();
+  }
+
+  @Test
+  void shouldMatchDescriptorOfSameSegment() {
+    // given
+    final var segmentFile = directory.resolve("journal-1.log");
+    SegmentIndexFile.write(segmentFile, 1, 1, 10, 500, new SparseJournalIndex(1));
+    final var indexFile = SegmentIndexFile.read(segmentFile);
+    final var descriptor =
+        SegmentDescriptor.builder().withId(1).withIndex(1).withMaxSegmentSize(1024).build();
+
+    // when - then
+    assertThat(indexFile.matches(descriptor)).isTrue();
+    descriptor.setLastIndex(10);
+    descriptor.setLastPosition(500);
+    assertThat(indexFile.matches(descriptor)).isTrue();
+    descriptor.setLastIndex(11);
+    descriptor.setLastPosition(550);
+    assertThat(indexFile.matches(descriptor)).isFalse();
+    assertThat(
+            indexFile.matches(
+                SegmentDescriptor.builder()
+                    .withId(1)
+                    .withIndex(2)
+                    .withMaxSegmentSize(1024)
+                    .build()))
+        .isFalse();
+  }
+}
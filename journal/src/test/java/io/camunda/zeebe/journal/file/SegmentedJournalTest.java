@@ -30,7 +30,9 @@ import io.camunda.zeebe.journal.util.PosixPathAssert;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.io.File;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Objects;
@@ -911,6 +913,253 @@ class SegmentedJournalTest {
         .hasMessage("Nope, no free space.");
   }
 
+  @Test
+  void shouldPersistIndexOfSealedSegments() {
+    // given
+    journal = openJournal(2);
+
+    // when
+    for (int i = 1; i <= 5; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+
+    // then
+    assertThat(indexFileOf(1)).exists();
+    assertThat(indexFileOf(2)).exists();
+    assertThat(indexFileOf(3)).doesNotExist();
+  }
+
+  @Test
+  void shouldRestoreIndexOfSealedSegmentsOnRestart() {
+    // given
+    journal = openJournal(2);
+    for (int i = 1; i <= 5; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    journal.flush();
+    journal.close();
+
+    // when
+    journal = reopenJournalWithEmptyIndex(2);
+
+    // then
+    assertThat(journal.getJournalIndex().lookup(1).index()).isEqualTo(1);
+    assertThat(journal.getJournalIndex().lookup(4).index()).isEqualTo(4);
+    assertThat(journal.getJournalIndex().lookupAsqn(3)).isEqualTo(3);
+    assertThat(journal.getLastIndex()).isEqualTo(5);
+    try (final var reader = journal.openReader()) {
+      reader.seek(3);
+      assertThat(reader.next().asqn()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  void shouldNotRestoreIndexOfUnflushedSegments() {
+    // given
+    journal = openJournal(2);
+    for (int i = 1; i <= 5; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    journal.close();
+    // only the first segment is known to be flushed
+    journalFactory.metaStore().storeLastFlushedIndex(2);
+
+    // when
+    journal = reopenJournalWithEmptyIndex(2);
+
+    // then - of the second segment, only its last entry is indexed when loading it
+    assertThat(journal.getJournalIndex().lookup(1).index()).isEqualTo(1);
+    assertThat(journal.getJournalIndex().lookup(3).index()).isEqualTo(2);
+    assertThat(journal.getLastIndex()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldLoadSegmentWithCorruptedIndexFile() throws IOException {
+    // given
+    journal = openJournal(2);
+    for (int i = 1; i <= 5; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    journal.flush();
+    journal.close();
+    Files.write(indexFileOf(1), new byte[] {1, 2, 3});
+
+    // when
+    journal = reopenJournalWithEmptyIndex(2);
+
+    // then
+    assertThat(indexFileOf(1)).doesNotExist();
+    assertThat(journal.getJournalIndex().lookup(1)).isNull();
+    assertThat(journal.getJournalIndex().lookup(3).index()).isEqualTo(3);
+    try (final var reader = journal.openReader()) {
+      assertThat(reader.next().asqn()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void shouldDeleteIndexFileOnTruncate() {
+    // given
+    journal = openJournal(2);
+    for (int i = 1; i <= 5; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+
+    // when
+    journal.deleteAfter(3);
+
+    // then
+    assertThat(indexFileOf(1)).exists();
+    assertThat(indexFileOf(2)).doesNotExist();
+    assertThat(indexFileOf(3)).doesNotExist();
+  }
+
+  @Test
+  void shouldDeleteIndexFileOnCompact() {
+    // given
+    journal = openJournal(2);
+    for (int i = 1; i <= 5; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+
+    // when
+    journal.deleteUntil(3);
+
+    // then
+    assertThat(indexFileOf(1)).doesNotExist();
+    assertThat(indexFileOf(2)).exists();
+  }
+
+  @Test
+  void shouldCompressSealedSegmentsButTheMostRecentOne() throws Exception {
+    // given
+    journal = openCompressedJournal(2);
+
+    // when - seals segments 1 to 3
+    for (int i = 1; i <= 7; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    journal.compressor().awaitScheduledCompressions();
+
+    // then
+    assertThat(journal.getSegment(1).isCompressed()).isTrue();
+    assertThat(journal.getSegment(3).isCompressed()).isTrue();
+    assertThat(journal.getSegment(5).isCompressed()).isFalse();
+    assertThat(journal.getSegment(7).isCompressed()).isFalse();
+    try (final var reader = journal.openReader()) {
+      for (int i = 1; i <= 7; i++) {
+        assertThat(reader.next().asqn()).isEqualTo(i);
+      }
+      assertThat(reader.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  void shouldContinueReadingWhenSegmentIsCompressed() throws Exception {
+    // given
+    journal = openCompressedJournal(2);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    final var reader = journal.openReader();
+    final var firstRecord = reader.next();
+
+    // when
+    for (int i = 3; i <= 7; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    journal.compressor().awaitScheduledCompressions();
+
+    // then - the previously read entry remains valid as long as the reader is in its segment
+    assertThat(journal.getSegment(1).isCompressed()).isTrue();
+    assertThat(reader.next().asqn()).isEqualTo(2);
+    assertThat(firstRecord.asqn()).isEqualTo(1);
+    assertThat(firstRecord.data()).isEqualTo(journalFactory.entryData());
+    assertThat(reader.next().asqn()).isEqualTo(3);
+    reader.close();
+  }
+
+  @Test
+  void shouldSeekInCompressedSegmentsAfterRestart() throws Exception {
+    // given
+    journal = openCompressedJournal(2);
+    for (int i = 1; i <= 7; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    journal.compressor().awaitScheduledCompressions();
+    journal.close();
+
+    // when
+    journal = reopenJournalWithEmptyIndex(2);
+
+    // then
+    assertThat(journal.getSegment(1).isCompressed()).isTrue();
+    assertThat(journal.getLastIndex()).isEqualTo(7);
+    try (final var reader = journal.openReader()) {
+      assertThat(reader.seek(4)).isEqualTo(4);
+      assertThat(reader.next().asqn()).isEqualTo(4);
+      assertThat(reader.seekToAsqn(2)).isEqualTo(2);
+      assertThat(reader.next().index()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void shouldDecompressSegmentOnTruncate() throws Exception {
+    // given
+    journal = openCompressedJournal(2);
+    for (int i = 1; i <= 7; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    journal.compressor().awaitScheduledCompressions();
+
+    // when
+    journal.deleteAfter(3);
+    journal.append(8, journalFactory.entry());
+
+    // then
+    assertThat(journal.getSegment(3).isCompressed()).isFalse();
+    assertThat(journal.getLastIndex()).isEqualTo(4);
+    try (final var reader = journal.openReader()) {
+      assertThat(reader.seek(3)).isEqualTo(3);
+      assertThat(reader.next().asqn()).isEqualTo(3);
+      assertThat(reader.next().asqn()).isEqualTo(8);
+      assertThat(reader.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  void shouldDeleteCompressedSegmentsOnCompact() throws Exception {
+    // given
+    journal = openCompressedJournal(2);
+    for (int i = 1; i <= 7; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    journal.compressor().awaitScheduledCompressions();
+
+    // when
+    journal.deleteUntil(5);
+
+    // then
+    assertThat(segmentFileOf(1)).doesNotExist();
+    assertThat(segmentFileOf(2)).doesNotExist();
+    assertThat(journal.getFirstIndex()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldDeleteLeftoverOfInterruptedCompression() throws IOException {
+    // given
+    journal = openJournal(2);
+    journal.append(1, journalFactory.entry());
+    journal.close();
+    final var leftover = CompressedSegmentFile.temporaryPathOf(segmentFileOf(1));
+    Files.write(leftover, new byte[] {1, 2, 3});
+
+    // when
+    journal = reopenJournalWithEmptyIndex(2);
+
+    // then
+    assertThat(leftover).doesNotExist();
+    assertThat(journal.getLastIndex()).isOne();
+  }
+
   private SegmentedJournal openJournal(final int entriesPerSegment) {
     return openJournal("test", entriesPerSegment);
   }
@@ -920,6 +1169,32 @@ class SegmentedJournalTest {
     return journalFactory.journal(journalFactory.segmentsManager(directory));
   }
 
+  private SegmentedJournal openCompressedJournal(final int entriesPerSegment) {
+    journalFactory = new TestJournalFactory("test", entriesPerSegment);
+    return journalFactory.journal(journalFactory.segmentsManager(directory), true);
+  }
+
+  /**
+   * Reopens the journal with the same meta store, but a new and empty journal index, as it would be
+   * after a restart.
+   */
+  private SegmentedJournal reopenJournalWithEmptyIndex(final int entriesPerSegment) {
+    final var metaStore = journalFactory.metaStore();
+    journalFactory = new TestJournalFactory("test", entriesPerSegment);
+    return journalFactory.journal(
+        journalFactory.segmentsManager(directory, journalFactory.segmentLoader(), metaStore));
+  }
+
+  private Path indexFileOf(final long segmentId) {
+    return SegmentIndexFile.pathOf(segmentFileOf(segmentId));
+  }
+
+  private Path segmentFileOf(final long segmentId) {
+    return SegmentFile.createSegmentFile(
+            JOURNAL_NAME, directory.resolve("data").toFile(), segmentId)
+        .toPath();
+  }
+
   /**
    * Creates a segment allocator, which should fail after the given segments count has been reached.
    * Failing will be done via throwing an OutOfDiskException.
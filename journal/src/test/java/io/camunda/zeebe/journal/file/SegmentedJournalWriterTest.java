@@ -41,7 +41,9 @@ final class SegmentedJournalWriterTest {
   void beforeEach(final @TempDir Path tempDir) {
     segments = journalFactory.segmentsManager(tempDir);
     segments.open();
-    writer = new SegmentedJournalWriter(segments, flusher, journalFactory.metrics());
+    writer =
+        new SegmentedJournalWriter(
+            segments, flusher, journalFactory.metrics(), SegmentsCompressor.disabled());
   }
 
   @AfterEach
@@ -152,7 +154,8 @@ final class SegmentedJournalWriterTest {
         new SegmentedJournalWriter(
             followerSegments,
             new SegmentsFlusher(followerJournalFactory.metaStore()),
-            followerJournalFactory.metrics());
+            followerJournalFactory.metrics(),
+            SegmentsCompressor.disabled());
 
     try (final SegmentedJournalReader reader =
         new SegmentedJournalReader(
@@ -106,6 +106,65 @@ class SegmentsManagerTest {
         .containsExactly(index, index);
   }
 
+  @Test
+  void shouldLoadAllSegmentsInOrder() {
+    // given
+    final int segmentCount = 20;
+    try (final var journal = openJournal()) {
+      for (int i = 1; i <= segmentCount; i++) {
+        // every other entry has no asqn, to verify the asqn is carried over between segments
+        journal.append(i % 2 == 0 ? SegmentedJournal.ASQN_IGNORE : i, journalFactory.entry());
+      }
+    }
+
+    // when
+    final var reopenedFactory = new TestJournalFactory();
+    segments =
+        reopenedFactory.segmentsManager(
+            directory, reopenedFactory.segmentLoader(), journalFactory.metaStore());
+    segments.open();
+
+    // then
+    final var loadedSegments = new ArrayList<>(segments.getTailSegments(1));
+    assertThat(loadedSegments).hasSize(segmentCount);
+    for (int i = 0; i < segmentCount; i++) {
+      final var segment = loadedSegments.get(i);
+      final long expectedLastAsqn = (i + 1) % 2 == 0 ? i : i + 1;
+      assertThat(segment)
+          .extracting(Segment::index, Segment::lastIndex, Segment::lastAsqn)
+          .containsExactly(i + 1L, i + 1L, expectedLastAsqn);
+    }
+  }
+
+  @Test
+  void shouldRemoveIndexEntriesOfSegmentsAfterCorruption() throws Exception {
+    // given
+    final long index;
+    try (final var journal = openJournal()) {
+      index = journal.append(journalFactory.entry()).index();
+      journal.append(journalFactory.entry());
+      journal.append(journalFactory.entry());
+    }
+    journalFactory.metaStore().storeLastFlushedIndex(index);
+
+    final File dataFile = directory.resolve("data").toFile();
+    final File logFile =
+        Objects.requireNonNull(dataFile.listFiles(f -> f.getName().endsWith("2.log")))[0];
+    LogCorrupter.corruptDescriptor(logFile);
+
+    // when
+    final var reopenedFactory = new TestJournalFactory();
+    segments =
+        reopenedFactory.segmentsManager(
+            directory, reopenedFactory.segmentLoader(), journalFactory.metaStore());
+    segments.open();
+
+    // then - the third segment was loaded as well, but its entries must not be indexed
+    assertThat(segments.getLastSegment().lastIndex()).isEqualTo(index);
+    final var journalIndex = reopenedFactory.journal(segments).getJournalIndex();
+    assertThat(journalIndex.lookup(3)).isEqualTo(journalIndex.lookup(index));
+  }
+
   @Test
   void shouldNotThrowExceptionWhenCorruptionAtDescriptorWithoutAckedEntries() throws Exception {
     // given
@@ -272,7 +331,7 @@ class SegmentsManagerTest {
     //noinspection resource
     Mockito.doAnswer(call -> Mockito.spy(call.callRealMethod()))
         .when(loader)
-        .loadExistingSegment(Mockito.any(), Mockito.anyLong(), Mockito.any());
+        .loadExistingSegment(Mockito.any(), Mockito.anyLong(), Mockito.any(), Mockito.anyLong());
 
     // when
     segments = journalFactory.segmentsManager(directory, loader, metaStore);
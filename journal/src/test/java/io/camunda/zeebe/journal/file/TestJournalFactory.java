@@ -114,8 +114,12 @@ final class TestJournalFactory {
   }
 
   SegmentedJournal journal(final SegmentsManager segments) {
+    return journal(segments, false);
+  }
+
+  SegmentedJournal journal(final SegmentsManager segments, final boolean compressSealedSegments) {
     final var segmentsFlusher = new SegmentsFlusher(metaStore);
-    return new SegmentedJournal(index, segments, metrics, segmentsFlusher);
+    return new SegmentedJournal(index, segments, metrics, segmentsFlusher, compressSealedSegments);
   }
 
   DirectBuffer entryData() {
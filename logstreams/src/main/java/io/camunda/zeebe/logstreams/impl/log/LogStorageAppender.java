@@ -16,6 +16,7 @@ import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorPriority;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.util.health.FailureListener;
@@ -64,6 +65,11 @@ final class LogStorageAppender extends Actor implements HealthMonitorable, Appen
     return name;
   }
 
+  @Override
+  public ActorPriority getPriority() {
+    return ActorPriority.HIGH;
+  }
+
   @Override
   protected void onActorStarting() {
     sequencer.registerConsumer(actor.onCondition("sequencer", this::tryWriteBatch));
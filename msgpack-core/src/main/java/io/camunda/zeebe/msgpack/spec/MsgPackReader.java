@@ -460,6 +460,23 @@ public final class MsgPackReader {
     }
   }
 
+  /**
+   * Reads the next entry of a map without copying it: the name view is wrapped around the bytes of
+   * the string key (without its header) and the value view around the encoded value.
+   *
+   * @param nameView the view to wrap around the entry's name
+   * @param valueView the view to wrap around the entry's encoded value
+   */
+  public void readMapEntry(final DirectBuffer nameView, final DirectBuffer valueView) {
+    final int nameLength = readStringLength();
+    nameView.wrap(buffer, offset, nameLength);
+    offset += nameLength;
+
+    final int valueOffset = offset;
+    skipValue();
+    valueView.wrap(buffer, valueOffset, offset - valueOffset);
+  }
+
   public void skipBytes(final int stringLength) {
     offset += stringLength;
   }
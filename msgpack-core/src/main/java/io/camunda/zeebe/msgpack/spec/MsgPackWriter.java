@@ -145,6 +145,29 @@ public final class MsgPackWriter {
     return this;
   }
 
+  /**
+   * Splices a map entry from an already encoded value, e.g. one read with {@link
+   * MsgPackReader#readMapEntry(DirectBuffer, DirectBuffer)}, without decoding it.
+   *
+   * @param name the bytes of the entry's name
+   * @param value the encoded value of the entry
+   * @return this object
+   */
+  public MsgPackWriter writeMapEntry(final DirectBuffer name, final DirectBuffer value) {
+    return writeMapEntry(name, 0, name.capacity(), value, 0, value.capacity());
+  }
+
+  public MsgPackWriter writeMapEntry(
+      final DirectBuffer name,
+      final int nameOffset,
+      final int nameLength,
+      final DirectBuffer value,
+      final int valueOffset,
+      final int valueLength) {
+    writeString(name, nameOffset, nameLength);
+    return writeRaw(value, valueOffset, valueLength);
+  }
+
   /**
    * Integer is the term in the msgpack spec for all natural numbers
    *
@@ -9,6 +9,9 @@ package io.camunda.zeebe.msgpack.spec;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.charset.StandardCharsets;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
 
 public final class MsgPackWriterMiscTest {
@@ -68,4 +71,43 @@ public final class MsgPackWriterMiscTest {
     assertThat(MsgPackWriter.getEncodedStringLength(0xffff)).isEqualTo(3 + 0xffff);
     assertThat(MsgPackWriter.getEncodedStringLength(0x7fff_fffa)).isEqualTo(5 + 0x7fff_fffa);
   }
+
+  @Test
+  public void shouldSpliceMapEntriesWithoutDecodingValues() {
+    // given
+    final UnsafeBuffer source = new UnsafeBuffer(new byte[64]);
+    final MsgPackWriter writer = new MsgPackWriter().wrap(source, 0);
+    writer.writeMapHeader(2);
+    writer.writeString(utf8("a")).writeArrayHeader(2).writeInteger(1).writeInteger(2);
+    writer.writeString(utf8("bc")).writeInteger(3);
+    final int sourceLength = writer.getOffset();
+
+    final MsgPackReader reader = new MsgPackReader().wrap(source, 0, sourceLength);
+    final DirectBuffer name = new UnsafeBuffer(0, 0);
+    final DirectBuffer value = new UnsafeBuffer(0, 0);
+    final UnsafeBuffer target = new UnsafeBuffer(new byte[64]);
+    final MsgPackWriter targetWriter = new MsgPackWriter().wrap(target, 0);
+
+    // when
+    final int entries = reader.readMapHeader();
+    targetWriter.writeMapHeader(entries);
+    reader.readMapEntry(name, value);
+    assertThat(name.getStringWithoutLengthUtf8(0, name.capacity())).isEqualTo("a");
+    assertThat(value.capacity()).isEqualTo(3);
+    targetWriter.writeMapEntry(name, value);
+    reader.readMapEntry(name, value);
+    assertThat(name.getStringWithoutLengthUtf8(0, name.capacity())).isEqualTo("bc");
+    assertThat(value.capacity()).isEqualTo(1);
+    targetWriter.writeMapEntry(name, value);
+
+    // then
+    assertThat(reader.hasNext()).isFalse();
+    assertThat(targetWriter.getOffset()).isEqualTo(sourceLength);
+    assertThat(new UnsafeBuffer(target, 0, sourceLength))
+        .isEqualTo(new UnsafeBuffer(source, 0, sourceLength));
+  }
+
+  private static DirectBuffer utf8(final String value) {
+    return new UnsafeBuffer(value.getBytes(StandardCharsets.UTF_8));
+  }
 }
@@ -20,13 +20,13 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
     implements ValueArray<T> {
   public ArrayProperty(final String keyString, final Supplier<T> innerValueFactory) {
     super(keyString, new ArrayValue<>(innerValueFactory));
-    isSet = true;
+    set();
   }
 
   @Override
   public void reset() {
     super.reset();
-    isSet = true;
+    set();
   }
 
   @Override
@@ -36,6 +36,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
 
   @Override
   public T add() {
+    decodeIfNecessary();
     try {
       return value.add();
     } catch (final Exception e) {
@@ -45,6 +46,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
 
   @Override
   public T add(final int index) {
+    decodeIfNecessary();
     try {
       return value.add(index);
     } catch (final Exception e) {
@@ -60,6 +62,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
   }
 
   public boolean isEmpty() {
+    decodeIfNecessary();
     return value.isEmpty();
   }
 }
@@ -14,13 +14,27 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.BaseValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import java.util.Objects;
-
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A named value of an {@link io.camunda.zeebe.msgpack.value.ObjectValue}.
+ *
+ * <p>A property can be read eagerly, i.e. its value is decoded right away, or {@link
+ * #readLazily(MsgPackReader) lazily}, in which case only the location of the encoded value is
+ * remembered. A lazily read value is decoded on first access, and it's written as is if it was
+ * never accessed, which saves decoding values which are only passed through. Note that this means
+ * the underlying buffer must not be modified until the value was accessed.
+ */
 public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final StringValue key;
   protected final T value;
   protected final T defaultValue;
   protected boolean isSet;
 
+  private final UnsafeBuffer encodedValue = new UnsafeBuffer(0, 0);
+  private boolean hasEncodedValue;
+  private MsgPackReader encodedValueReader;
+
   public BaseProperty(final T value) {
     this(StringValue.EMPTY_STRING, value);
   }
@@ -40,11 +54,13 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   public void set() {
     isSet = true;
+    hasEncodedValue = false;
   }
 
   @Override
   public void reset() {
     isSet = false;
+    hasEncodedValue = false;
     value.reset();
   }
 
@@ -57,6 +73,8 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   protected T resolveValue() {
+    decodeIfNecessary();
+
     if (isSet) {
       return value;
     } else if (defaultValue != null) {
@@ -68,6 +86,10 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   public int getEncodedLength() {
+    if (hasEncodedValue) {
+      return key.getEncodedLength() + encodedValue.capacity();
+    }
+
     return key.getEncodedLength() + resolveValue().getEncodedLength();
   }
 
@@ -76,7 +98,48 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     set();
   }
 
+  /**
+   * Skips the value and only remembers where it is located in the reader's buffer; the value is
+   * decoded when it's accessed for the first time.
+   */
+  public void readLazily(final MsgPackReader reader) {
+    final int offset = reader.getOffset();
+    reader.skipValue();
+
+    encodedValue.wrap(reader.getBuffer(), offset, reader.getOffset() - offset);
+    hasEncodedValue = true;
+    isSet = true;
+  }
+
+  /**
+   * Decodes the value if it was {@link #readLazily(MsgPackReader) read lazily} and not accessed
+   * yet. Subclasses must call this before modifying the value in place.
+   */
+  protected void decodeIfNecessary() {
+    if (!hasEncodedValue) {
+      return;
+    }
+
+    hasEncodedValue = false;
+    if (encodedValueReader == null) {
+      encodedValueReader = new MsgPackReader();
+    }
+
+    encodedValueReader.wrap(encodedValue, 0, encodedValue.capacity());
+    try {
+      value.read(encodedValueReader);
+    } catch (final Exception e) {
+      throw new MsgpackPropertyException(key, e);
+    }
+  }
+
   public void write(final MsgPackWriter writer) {
+    if (hasEncodedValue) {
+      key.write(writer);
+      writer.writeRaw(encodedValue);
+      return;
+    }
+
     T valueToWrite = value;
     if (!isSet) {
       valueToWrite = defaultValue;
@@ -103,6 +166,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public int hashCode() {
+    decodeIfNecessary();
     return Objects.hash(getKey(), value, defaultValue, isSet);
   }
 
@@ -123,6 +187,8 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public String toString() {
+    decodeIfNecessary();
+
     final StringBuilder builder = new StringBuilder();
     builder.append(key.toString());
     builder.append(" => ");
@@ -11,17 +11,31 @@ import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class EnumValue<E extends Enum<E>> extends BaseValue {
+  // the encoded constants are shared by all values of the same enum, so reading and writing an enum
+  // value doesn't need to allocate strings
+  private static final ClassValue<EncodedConstants> ENCODED_CONSTANTS =
+      new ClassValue<>() {
+        @Override
+        protected EncodedConstants computeValue(final Class<?> type) {
+          return EncodedConstants.of(type);
+        }
+      };
+
   private final StringValue decodedValue = new StringValue();
   private E value;
   private final Class<E> klass;
+  private final EncodedConstants encodedConstants;
 
   public EnumValue(final Class<E> e, final E defaultValue) {
     klass = e;
+    encodedConstants = ENCODED_CONSTANTS.get(e);
     value = defaultValue;
     if (value != null) {
-      decodedValue.wrap(value.toString().getBytes(StandardCharsets.UTF_8));
+      decodedValue.wrap(encodedConstants.names()[value.ordinal()]);
     }
   }
 
@@ -34,7 +48,7 @@ public final class EnumValue<E extends Enum<E>> extends BaseValue {
   }
 
   public void setValue(final E val) {
-    decodedValue.wrap(val.toString().getBytes(StandardCharsets.UTF_8));
+    decodedValue.wrap(encodedConstants.names()[val.ordinal()]);
     value = val;
   }
 
@@ -57,7 +71,20 @@ public final class EnumValue<E extends Enum<E>> extends BaseValue {
   @Override
   public void read(final MsgPackReader reader) {
     decodedValue.read(reader);
-    value = Enum.valueOf(klass, decodedValue.toString());
+    value = decodeValue();
+  }
+
+  private E decodeValue() {
+    final DirectBuffer decodedName = decodedValue.getValue();
+    final DirectBuffer[] names = encodedConstants.names();
+    for (int i = 0; i < names.length; i++) {
+      if (names[i].equals(decodedName)) {
+        return klass.cast(encodedConstants.constants()[i]);
+      }
+    }
+
+    // fails with the usual exception if there is no such constant
+    return Enum.valueOf(klass, decodedValue.toString());
   }
 
   @Override
@@ -82,4 +109,16 @@ public final class EnumValue<E extends Enum<E>> extends BaseValue {
 
     return false;
   }
+
+  private record EncodedConstants(Object[] constants, DirectBuffer[] names) {
+    private static EncodedConstants of(final Class<?> type) {
+      final Object[] constants = type.getEnumConstants();
+      final DirectBuffer[] names = new DirectBuffer[constants.length];
+      for (int i = 0; i < constants.length; i++) {
+        names[i] = new UnsafeBuffer(constants[i].toString().getBytes(StandardCharsets.UTF_8));
+      }
+
+      return new EncodedConstants(constants, names);
+    }
+  }
 }
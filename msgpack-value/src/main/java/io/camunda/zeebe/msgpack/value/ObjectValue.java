@@ -21,12 +21,27 @@ public class ObjectValue extends BaseValue {
   private final List<UndeclaredProperty> recycledProperties = new ArrayList<>();
 
   private final StringValue decodedKey = new StringValue();
+  private boolean lazyDecoding;
 
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
     return this;
   }
 
+  /**
+   * If enabled, the values of the declared properties are only decoded when they're accessed, which
+   * is cheaper if only a few properties are read. As a downside, malformed values are only detected
+   * on access, and the buffer which was read must not be modified while the object is in use.
+   *
+   * @param lazyDecoding true to decode the declared properties lazily, false to decode them eagerly
+   * @return this object for chaining
+   * @see BaseProperty#readLazily(MsgPackReader)
+   */
+  public ObjectValue setLazyDecoding(final boolean lazyDecoding) {
+    this.lazyDecoding = lazyDecoding;
+    return this;
+  }
+
   @Override
   public void reset() {
     for (int i = 0; i < declaredProperties.size(); ++i) {
@@ -90,24 +105,18 @@ public class ObjectValue extends BaseValue {
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
-
-      if (prop == null) {
+      BaseProperty<? extends BaseValue> prop = findDeclaredProperty(i);
+      final boolean isDeclared = prop != null;
+      if (!isDeclared) {
         prop = newUndeclaredProperty(decodedKey);
       }
 
       try {
-        prop.read(reader);
+        if (isDeclared && lazyDecoding) {
+          prop.readLazily(reader);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
@@ -123,6 +132,26 @@ public class ObjectValue extends BaseValue {
     }
   }
 
+  private BaseProperty<? extends BaseValue> findDeclaredProperty(final int index) {
+    // the declared properties are written in order, so the property at the same index is most
+    // likely the one we're looking for
+    if (index < declaredProperties.size()) {
+      final BaseProperty<? extends BaseValue> declaredProperty = declaredProperties.get(index);
+      if (declaredProperty.getKey().equals(decodedKey)) {
+        return declaredProperty;
+      }
+    }
+
+    for (int k = 0; k < declaredProperties.size(); ++k) {
+      final BaseProperty<? extends BaseValue> declaredProperty = declaredProperties.get(k);
+      if (declaredProperty.getKey().equals(decodedKey)) {
+        return declaredProperty;
+      }
+    }
+
+    return null;
+  }
+
   @Override
   public int getEncodedLength() {
     final int size = declaredProperties.size() + undeclaredProperties.size();
@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.msgpack;
+
+import static io.camunda.zeebe.msgpack.MsgPackUtil.encodeMsgPack;
+import static io.camunda.zeebe.test.util.BufferAssert.assertThatBuffer;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.msgpack.POJO.POJOEnum;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class ObjectMappingLazyDecodingTest {
+
+  private static final DirectBuffer STRING = wrapString("foo");
+  private static final DirectBuffer BINARY = wrapString("bar");
+  private static final DirectBuffer PACKED =
+      encodeMsgPack(
+          (w) -> {
+            w.writeMapHeader(1);
+            w.writeString(STRING);
+            w.writeInteger(123L);
+          });
+
+  @Test
+  public void shouldDecodePropertiesOnAccess() {
+    // given
+    final DirectBuffer buffer = write(newPOJO());
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+
+    // when
+    pojo.wrap(buffer);
+
+    // then
+    assertThat(pojo.getEnum()).isEqualTo(POJOEnum.BAR);
+    assertThat(pojo.getLong()).isEqualTo(456L);
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThatBuffer(pojo.getString()).hasBytes(STRING);
+    assertThatBuffer(pojo.getBinary()).hasBytes(BINARY);
+    assertThatBuffer(pojo.getPacked()).hasBytes(PACKED);
+    assertThat(pojo.nestedObject().getLong()).isEqualTo(24L);
+  }
+
+  @Test
+  public void shouldWriteUndecodedPropertiesAsIs() {
+    // given
+    final DirectBuffer buffer = write(newPOJO());
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    pojo.wrap(buffer);
+
+    // when
+    pojo.getLong();
+    final DirectBuffer result = write(pojo);
+
+    // then
+    assertThatBuffer(result).hasBytes(buffer);
+  }
+
+  @Test
+  public void shouldOverwriteUndecodedProperty() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    pojo.wrap(write(newPOJO()));
+
+    // when
+    pojo.setLong(789L);
+    pojo.nestedObject().setLong(42L);
+
+    // then
+    final POJO result = new POJO();
+    result.wrap(write(pojo));
+    assertThat(result.getLong()).isEqualTo(789L);
+    assertThat(result.nestedObject().getLong()).isEqualTo(42L);
+    assertThat(result.getInt()).isEqualTo(123);
+  }
+
+  @Test
+  public void shouldNotDecodePreviousValueAfterReset() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    pojo.wrap(write(newPOJO()));
+
+    // when
+    pojo.reset();
+    pojo.setLong(1L);
+
+    // then
+    assertThat(pojo.getLong()).isEqualTo(1L);
+  }
+
+  @Test
+  public void shouldFailOnAccessOfMalformedProperty() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(7);
+              w.writeString(wrapString("enumProp"));
+              w.writeString(wrapString(POJOEnum.BAR.toString()));
+              w.writeString(wrapString("binaryProp"));
+              w.writeBinary(BINARY);
+              w.writeString(wrapString("stringProp"));
+              w.writeString(STRING);
+              w.writeString(wrapString("packedProp"));
+              w.writeRaw(PACKED);
+              w.writeString(wrapString("longProp"));
+              w.writeString(STRING);
+              w.writeString(wrapString("intProp"));
+              w.writeInteger(123L);
+              w.writeString(wrapString("objectProp"));
+              w.writeRaw(PACKED);
+            });
+
+    // when
+    pojo.wrap(buffer);
+
+    // then
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThatThrownBy(pojo::getLong)
+        .isInstanceOf(MsgpackPropertyException.class)
+        .hasMessageContaining("longProp");
+  }
+
+  private static POJO newPOJO() {
+    final POJO pojo = new POJO();
+    pojo.setEnum(POJOEnum.BAR);
+    pojo.setLong(456L);
+    pojo.setInt(123);
+    pojo.setString(STRING);
+    pojo.setBinary(BINARY);
+    pojo.setPacked(PACKED);
+    pojo.nestedObject().setLong(24L);
+    return pojo;
+  }
+
+  private static DirectBuffer write(final POJO pojo) {
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(buffer, 0);
+    return buffer;
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.perf;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackHelper;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.BpmnEventType;
+import io.camunda.zeebe.test.util.jmh.JMHAssert;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures how fast common records are read from a buffer, and verifies that reading them doesn't
+ * allocate, either with eagerly or with lazily decoded properties.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class RecordDeserializationPerformanceTest {
+
+  // allows for some noise of the profiler, but not for a single allocated object per operation
+  private static final double MAX_ALLOCATED_BYTES_PER_OP = 1;
+  private static final String ALLOCATION_RATE_LABEL = "gc.alloc.rate.norm";
+
+  @Param({"false", "true"})
+  public boolean lazyDecoding;
+
+  private final JobRecord jobRecord = new JobRecord();
+  private final ProcessInstanceRecord processInstanceRecord = new ProcessInstanceRecord();
+  private final MutableDirectBuffer writeBuffer = new UnsafeBuffer(new byte[4 * 1024]);
+
+  private DirectBuffer jobRecordBuffer;
+  private DirectBuffer processInstanceRecordBuffer;
+
+  @Setup
+  public void setup() {
+    final var job =
+        new JobRecord()
+            .setType("payment-service")
+            .setWorker("payment-worker-1")
+            .setRetries(3)
+            .setDeadline(1_700_000_000_000L)
+            .setTimeout(300_000L)
+            .setCustomHeaders(new UnsafeBuffer(MsgPackHelper.EMTPY_OBJECT))
+            .setVariables(new UnsafeBuffer(MsgPackHelper.EMTPY_OBJECT))
+            .setBpmnProcessId("order-process")
+            .setProcessDefinitionKey(2251799813685249L)
+            .setProcessDefinitionVersion(1)
+            .setProcessInstanceKey(2251799813685251L)
+            .setElementId("charge-payment")
+            .setElementInstanceKey(2251799813685260L);
+    jobRecordBuffer = copyOf(job);
+
+    final var processInstance =
+        new ProcessInstanceRecord()
+            .setBpmnProcessId("order-process")
+            .setVersion(1)
+            .setProcessDefinitionKey(2251799813685249L)
+            .setProcessInstanceKey(2251799813685251L)
+            .setElementId("charge-payment")
+            .setFlowScopeKey(2251799813685251L)
+            .setBpmnElementType(BpmnElementType.SERVICE_TASK)
+            .setBpmnEventType(BpmnEventType.UNSPECIFIED);
+    processInstanceRecordBuffer = copyOf(processInstance);
+
+    jobRecord.setLazyDecoding(lazyDecoding);
+    processInstanceRecord.setLazyDecoding(lazyDecoding);
+  }
+
+  @Benchmark
+  public int measureJobRecordRead() {
+    jobRecord.wrap(jobRecordBuffer);
+    return jobRecord.getRetries();
+  }
+
+  @Benchmark
+  public long measureProcessInstanceRecordRead() {
+    processInstanceRecord.wrap(processInstanceRecordBuffer);
+    return processInstanceRecord.getProcessInstanceKey()
+        + processInstanceRecord.getBpmnElementType().ordinal();
+  }
+
+  @Benchmark
+  public int measureJobRecordCopy() {
+    jobRecord.wrap(jobRecordBuffer);
+    jobRecord.write(writeBuffer, 0);
+    return jobRecord.getLength();
+  }
+
+  @JMHTest("measureJobRecordRead")
+  void shouldReadJobRecordWithoutAllocating(final JMHTestCase testCase) {
+    // when
+    final var assertResult = runWithGcProfiler(testCase, false);
+
+    // then
+    assertResult.hasSecondaryResultAtMost(ALLOCATION_RATE_LABEL, MAX_ALLOCATED_BYTES_PER_OP);
+  }
+
+  @JMHTest("measureJobRecordRead")
+  void shouldReadJobRecordLazilyWithoutAllocating(final JMHTestCase testCase) {
+    // when
+    final var assertResult = runWithGcProfiler(testCase, true);
+
+    // then
+    assertResult.hasSecondaryResultAtMost(ALLOCATION_RATE_LABEL, MAX_ALLOCATED_BYTES_PER_OP);
+  }
+
+  @JMHTest("measureProcessInstanceRecordRead")
+  void shouldReadProcessInstanceRecordWithoutAllocating(final JMHTestCase testCase) {
+    // when
+    final var assertResult = runWithGcProfiler(testCase, false);
+
+    // then
+    assertResult.hasSecondaryResultAtMost(ALLOCATION_RATE_LABEL, MAX_ALLOCATED_BYTES_PER_OP);
+  }
+
+  @JMHTest("measureProcessInstanceRecordRead")
+  void shouldReadProcessInstanceRecordLazilyWithoutAllocating(final JMHTestCase testCase) {
+    // when
+    final var assertResult = runWithGcProfiler(testCase, true);
+
+    // then
+    assertResult.hasSecondaryResultAtMost(ALLOCATION_RATE_LABEL, MAX_ALLOCATED_BYTES_PER_OP);
+  }
+
+  private static JMHAssert runWithGcProfiler(
+      final JMHTestCase testCase, final boolean lazyDecoding) {
+    return testCase
+        .withOptions(
+            options ->
+                options
+                    .addProfiler(GCProfiler.class)
+                    .param("lazyDecoding", String.valueOf(lazyDecoding)))
+        .run();
+  }
+
+  private static DirectBuffer copyOf(final BufferWriter writer) {
+    final var buffer = new UnsafeBuffer(new byte[writer.getLength()]);
+    writer.write(buffer, 0);
+    return buffer;
+  }
+}
@@ -43,6 +43,16 @@ public abstract class Actor implements AutoCloseable, AsyncClosable, Concurrency
     return getClass().getSimpleName();
   }
 
+  /**
+   * Should be overwritten by sub classes which are on the latency critical path, or which are
+   * background actors. The priority is read once, when the actor is submitted to the scheduler.
+   *
+   * @return the priority of the actor's tasks, see {@link ActorPriority}
+   */
+  public ActorPriority getPriority() {
+    return ActorPriority.NORMAL;
+  }
+
   /**
    * @return a map which defines the context where the actor is run. Per default it just returns a
    *     map with the actor name. Ideally sub classes add more context, like the partition id etc.
@@ -32,6 +32,15 @@ final class ActorMetrics {
           .labelNames("subscriptionType")
           .register();
 
+  private static final Histogram QUEUEING_DELAY =
+      Histogram.build()
+          .exponentialBuckets(1 / 1_000_000f, 4, 12)
+          .namespace("zeebe")
+          .name("actor_task_queueing_delay")
+          .help("Time between queuing an actor task and executing it on an actor thread")
+          .labelNames("actorName", "priority")
+          .register();
+
   private static final Counter EXECUTION_COUNT =
       Counter.build()
           .namespace("zeebe")
@@ -60,6 +69,13 @@ final class ActorMetrics {
     return EXECUTION_LATENCY.labels(name).startTimer();
   }
 
+  void observeQueueingDelay(
+      final String actorName, final ActorPriority priority, final long delayNs) {
+    if (enabled) {
+      QUEUEING_DELAY.labels(actorName, priority.name()).observe(delayNs / 1_000_000_000f);
+    }
+  }
+
   void countExecution(final String name) {
     if (enabled) {
       EXECUTION_COUNT.labels(name).inc();
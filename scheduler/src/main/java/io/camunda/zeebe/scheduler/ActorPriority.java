@@ -0,0 +1,24 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+/**
+ * The priority of an actor's tasks. When several actor tasks are queued on an actor thread, the
+ * thread executes the tasks with the highest priority first. To prevent starvation, every few tasks
+ * the thread starts with the lowest priority instead, so that lower priority actors still make
+ * progress under load.
+ *
+ * <p>Actors define their priority by overriding {@link Actor#getPriority()}.
+ */
+public enum ActorPriority {
+  /** Actors on the latency critical path, e.g. processing and appending records. */
+  HIGH,
+  NORMAL,
+  /** Background actors, whose latency is not critical, e.g. taking snapshots or monitoring. */
+  LOW
+}
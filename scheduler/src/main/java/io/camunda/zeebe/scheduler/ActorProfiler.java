@@ -0,0 +1,178 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Profiles the executions of actor tasks, if actor profiling is enabled. For every execution, the
+ * time the task waited in the queue, its execution time, the number and the longest of its jobs,
+ * and whether the task was stolen from another thread are recorded.
+ *
+ * <p>The profiles are kept in a ring buffer shared by all threads of the scheduler, which only
+ * retains the most recent executions, and are emitted as flight recorder events. When profiling is
+ * disabled, the actor threads don't take any additional measurements.
+ */
+public final class ActorProfiler {
+  public static final int DEFAULT_CAPACITY = 8192;
+  private static final ActorProfiler DISABLED = new ActorProfiler(false, 1);
+
+  private final boolean enabled;
+  private final int mask;
+  private final AtomicReferenceArray<ActorTaskProfile> profiles;
+  private final AtomicLong recordedProfiles = new AtomicLong();
+
+  private ActorProfiler(final boolean enabled, final int capacity) {
+    this.enabled = enabled;
+    mask = capacity - 1;
+    profiles = new AtomicReferenceArray<>(capacity);
+  }
+
+  /** Returns a profiler which doesn't record anything. */
+  public static ActorProfiler disabled() {
+    return DISABLED;
+  }
+
+  /**
+   * Returns a profiler which retains the given number of most recent task executions.
+   *
+   * @param capacity the number of retained executions, rounded up to the next power of two
+   * @return an enabled profiler
+   */
+  public static ActorProfiler enabled(final int capacity) {
+    if (capacity < 1 || capacity > 1 << 30) {
+      throw new IllegalArgumentException(
+          "Expected the capacity of the actor profiler to be between 1 and 2^30, but was "
+              + capacity);
+    }
+
+    final int roundedCapacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    return new ActorProfiler(true, roundedCapacity);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /** Returns the number of task executions which were recorded so far, including discarded ones. */
+  public long getRecordedProfileCount() {
+    return recordedProfiles.get();
+  }
+
+  /** Returns the retained profiles of the most recent task executions, the newest first. */
+  public List<ActorTaskProfile> getRecentProfiles() {
+    final long recorded = recordedProfiles.get();
+    final int retained = (int) Math.min(recorded, profiles.length());
+    final var recent = new ArrayList<ActorTaskProfile>(retained);
+
+    for (long sequence = recorded - 1; sequence >= recorded - retained; sequence--) {
+      final var profile = profiles.getAcquire((int) (sequence & mask));
+      // a slot may still be in the process of being written to by another thread
+      if (profile != null) {
+        recent.add(profile);
+      }
+    }
+
+    return recent;
+  }
+
+  /**
+   * Summarizes the retained profiles per actor, ordered by their total execution time, the longest
+   * first. This points to the actors which occupied the actor threads the most recently.
+   */
+  public List<ActorSummary> summarize() {
+    final var summaries = new HashMap<String, ActorSummary>();
+    for (final var profile : getRecentProfiles()) {
+      summaries.merge(profile.actorName(), ActorSummary.of(profile), ActorSummary::merge);
+    }
+
+    return summaries.values().stream()
+        .sorted(Comparator.comparingLong(ActorSummary::totalExecutionNanos).reversed())
+        .toList();
+  }
+
+  void record(final ActorTaskProfile profile, final ActorTaskExecutionEvent event) {
+    final long sequence = recordedProfiles.getAndIncrement();
+    profiles.setRelease((int) (sequence & mask), profile);
+
+    if (event.shouldCommit()) {
+      event.actorName = profile.actorName();
+      event.priority = profile.priority().name();
+      event.queueingDelay = profile.queueingDelayNanos();
+      event.jobCount = profile.jobCount();
+      event.longestJob = profile.longestJobNanos();
+      event.stolenFrom = profile.stolenFrom();
+      event.commit();
+    }
+  }
+
+  void recordSteal(final ActorTask task, final int victimRunnerId) {
+    final var event = new ActorTaskStealEvent();
+    if (event.shouldCommit()) {
+      event.actorName = task.getActor().getName();
+      event.victimRunnerId = victimRunnerId;
+      event.commit();
+    }
+  }
+
+  /**
+   * The profiles of the recent executions of an actor, summed up.
+   *
+   * @param actorName the name of the actor
+   * @param executions the number of executions of the actor's task
+   * @param jobs the total number of jobs executed
+   * @param totalExecutionNanos the total execution time of the task
+   * @param maxExecutionNanos the longest execution of the task
+   * @param longestJobNanos the longest job of the actor
+   * @param totalQueueingDelayNanos the total time the task waited for a thread
+   * @param maxQueueingDelayNanos the longest time the task waited for a thread
+   * @param stolenExecutions the number of executions of the task after it was stolen
+   */
+  public record ActorSummary(
+      String actorName,
+      long executions,
+      long jobs,
+      long totalExecutionNanos,
+      long maxExecutionNanos,
+      long longestJobNanos,
+      long totalQueueingDelayNanos,
+      long maxQueueingDelayNanos,
+      long stolenExecutions) {
+
+    private static ActorSummary of(final ActorTaskProfile profile) {
+      return new ActorSummary(
+          profile.actorName(),
+          1,
+          profile.jobCount(),
+          profile.executionNanos(),
+          profile.executionNanos(),
+          profile.longestJobNanos(),
+          profile.queueingDelayNanos(),
+          profile.queueingDelayNanos(),
+          profile.wasStolen() ? 1 : 0);
+    }
+
+    private ActorSummary merge(final ActorSummary other) {
+      return new ActorSummary(
+          actorName,
+          executions + other.executions,
+          jobs + other.jobs,
+          totalExecutionNanos + other.totalExecutionNanos,
+          Math.max(maxExecutionNanos, other.maxExecutionNanos),
+          Math.max(longestJobNanos, other.longestJobNanos),
+          totalQueueingDelayNanos + other.totalQueueingDelayNanos,
+          Math.max(maxQueueingDelayNanos, other.maxQueueingDelayNanos),
+          stolenExecutions + other.stolenExecutions);
+    }
+  }
+}
@@ -20,10 +20,12 @@ import org.agrona.concurrent.IdleStrategy;
 public final class ActorScheduler implements AutoCloseable, ActorSchedulingService {
   private final AtomicReference<SchedulerState> state = new AtomicReference<>();
   private final ActorExecutor actorTaskExecutor;
+  private final ActorProfiler profiler;
 
   public ActorScheduler(final ActorSchedulerBuilder builder) {
     state.set(SchedulerState.NEW);
     actorTaskExecutor = builder.getActorExecutor();
+    profiler = builder.getActorProfiler();
   }
 
   /**
@@ -97,6 +99,11 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     stop().get(10, TimeUnit.SECONDS);
   }
 
+  /** Returns the profiler of the scheduler's actor threads, which may be disabled. */
+  public ActorProfiler getProfiler() {
+    return profiler;
+  }
+
   public static ActorSchedulerBuilder newActorScheduler() {
     return new ActorSchedulerBuilder();
   }
@@ -127,10 +134,14 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorThreadGroup cpuBoundActorGroup;
     private int ioBoundThreadsCount = 2;
     private ActorThreadGroup ioBoundActorGroup;
+    private boolean virtualIoBoundActorThreads = false;
     private ActorThreadFactory actorThreadFactory;
     private ActorExecutor actorExecutor;
     private ActorTimerQueue actorTimerQueue;
     private boolean enableMetrics = false;
+    private boolean enableProfiling = false;
+    private int profilingCapacity = ActorProfiler.DEFAULT_CAPACITY;
+    private ActorProfiler actorProfiler;
     private Supplier<IdleStrategy> idleStrategySupplier =
         ActorSchedulerBuilder::defaultIdleStrategySupplier;
 
@@ -197,6 +208,21 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isVirtualIoBoundActorThreads() {
+      return virtualIoBoundActorThreads;
+    }
+
+    /**
+     * If true, I/O-bound actors are executed on virtual threads (see {@link VirtualIoThreadGroup}).
+     * As blocked virtual threads don't occupy a platform thread, this allows to configure many more
+     * I/O-bound actor threads.
+     */
+    public ActorSchedulerBuilder setVirtualIoBoundActorThreads(
+        final boolean virtualIoBoundActorThreads) {
+      this.virtualIoBoundActorThreads = virtualIoBoundActorThreads;
+      return this;
+    }
+
     public ActorThreadFactory getActorThreadFactory() {
       return actorThreadFactory;
     }
@@ -228,6 +254,37 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isProfilingEnabled() {
+      return enableProfiling;
+    }
+
+    /**
+     * Enables the profiling of actor task executions, see {@link ActorProfiler}. This adds some
+     * overhead to every task execution, so it's disabled by default.
+     */
+    public ActorSchedulerBuilder setProfilingEnabled(final boolean enableProfiling) {
+      this.enableProfiling = enableProfiling;
+      return this;
+    }
+
+    public int getProfilingCapacity() {
+      return profilingCapacity;
+    }
+
+    /** Sets the number of most recent task executions which are retained by the profiler. */
+    public ActorSchedulerBuilder setProfilingCapacity(final int profilingCapacity) {
+      this.profilingCapacity = profilingCapacity;
+      return this;
+    }
+
+    public ActorProfiler getActorProfiler() {
+      if (actorProfiler == null) {
+        actorProfiler =
+            enableProfiling ? ActorProfiler.enabled(profilingCapacity) : ActorProfiler.disabled();
+      }
+      return actorProfiler;
+    }
+
     private void initActorThreadFactory() {
       if (actorThreadFactory == null) {
         actorThreadFactory = new DefaultActorThreadFactory();
@@ -236,7 +293,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
 
     private void initIoBoundActorThreadGroup() {
       if (ioBoundActorGroup == null) {
-        ioBoundActorGroup = new IoThreadGroup(this);
+        ioBoundActorGroup =
+            virtualIoBoundActorThreads ? new VirtualIoThreadGroup(this) : new IoThreadGroup(this);
       }
     }
 
@@ -47,6 +47,9 @@ public class ActorTask {
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
   private ActorThreadGroup actorThreadGroup;
+  private ActorPriority priority = ActorPriority.NORMAL;
+  // the time at which the task was last queued, to measure how long it waited for a thread
+  private long queuedAtNanos;
   private Deque<ActorJob> fastLaneJobs = new ClosedQueue();
   private volatile ActorLifecyclePhase lifecyclePhase = ActorLifecyclePhase.CLOSED;
   private List<ActorSubscription> subscriptions = new ArrayList<>();
@@ -64,6 +67,7 @@ public class ActorTask {
   /** called when the task is initially scheduled. */
   public ActorFuture<Void> onTaskScheduled(final ActorThreadGroup actorThreadGroup) {
     this.actorThreadGroup = actorThreadGroup;
+    priority = actor.getPriority();
     // reset previous state to allow re-scheduling
     closeFuture.close();
     closeFuture.setAwaitingResult();
@@ -115,9 +119,14 @@ public class ActorTask {
   public boolean execute(final ActorThread runner) {
     schedulingState.set(TaskSchedulingState.ACTIVE);
 
+    final boolean profiling = runner.isProfiling();
     boolean resubmit = false;
     while (!resubmit && (currentJob != null || poll())) {
+      final long jobStartedAt = profiling ? System.nanoTime() : 0;
       currentJob.execute(runner);
+      if (profiling) {
+        runner.onJobExecuted(System.nanoTime() - jobStartedAt);
+      }
 
       switch (currentJob.schedulingState) {
         case TERMINATED:
@@ -497,6 +506,18 @@ public class ActorTask {
     }
   }
 
+  public ActorPriority getPriority() {
+    return priority;
+  }
+
+  long getQueuedAtNanos() {
+    return queuedAtNanos;
+  }
+
+  void setQueuedAtNanos(final long queuedAtNanos) {
+    this.queuedAtNanos = queuedAtNanos;
+  }
+
   public void resubmit() {
     actorThreadGroup.submit(this);
   }
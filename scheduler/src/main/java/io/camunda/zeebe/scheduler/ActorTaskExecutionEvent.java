@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/** Flight recorder event for a profiled execution of an actor task, see {@link ActorProfiler}. */
+@Name("io.camunda.zeebe.scheduler.ActorTaskExecution")
+@Label("Actor Task Execution")
+@Category({"Zeebe", "Actor Scheduler"})
+@Description("Execution of an actor task on an actor thread")
+final class ActorTaskExecutionEvent extends jdk.jfr.Event {
+  @Label("Actor Name")
+  String actorName;
+
+  @Label("Priority")
+  String priority;
+
+  @Label("Queueing Delay")
+  @Description("Time the task waited in the queue before it was executed")
+  @Timespan(Timespan.NANOSECONDS)
+  long queueingDelay;
+
+  @Label("Job Count")
+  int jobCount;
+
+  @Label("Longest Job")
+  @Timespan(Timespan.NANOSECONDS)
+  long longestJob;
+
+  @Label("Stolen From")
+  @Description("Id of the thread the task was stolen from, or -1 if it wasn't stolen")
+  int stolenFrom;
+}
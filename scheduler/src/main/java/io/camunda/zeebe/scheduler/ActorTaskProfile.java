@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+/**
+ * The profile of a single execution of an actor task, as recorded by the {@link ActorProfiler}.
+ *
+ * @param actorName the name of the actor
+ * @param threadName the name of the thread which executed the task
+ * @param priority the priority of the actor
+ * @param timestamp the time at which the execution started, in milliseconds since the epoch
+ * @param queueingDelayNanos the time the task waited in the queue before it was executed
+ * @param executionNanos the time it took to execute the task
+ * @param jobCount the number of jobs which were executed
+ * @param longestJobNanos the execution time of the longest job
+ * @param stolenFrom the id of the thread from which the task was stolen, or {@link #NOT_STOLEN}
+ */
+public record ActorTaskProfile(
+    String actorName,
+    String threadName,
+    ActorPriority priority,
+    long timestamp,
+    long queueingDelayNanos,
+    long executionNanos,
+    int jobCount,
+    long longestJobNanos,
+    int stolenFrom) {
+  public static final int NOT_STOLEN = -1;
+
+  /** Returns true if the task was stolen from the queue of another thread. */
+  public boolean wasStolen() {
+    return stolenFrom != NOT_STOLEN;
+  }
+}
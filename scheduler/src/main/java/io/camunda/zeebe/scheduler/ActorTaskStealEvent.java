@@ -0,0 +1,27 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Flight recorder event for an actor task which was stolen from the queue of another thread. */
+@Name("io.camunda.zeebe.scheduler.ActorTaskSteal")
+@Label("Actor Task Steal")
+@Category({"Zeebe", "Actor Scheduler"})
+@Description("An actor thread took a task from the queue of another thread of its group")
+final class ActorTaskStealEvent extends jdk.jfr.Event {
+  @Label("Actor Name")
+  String actorName;
+
+  @Label("Victim Thread")
+  @Description("Id of the thread from whose queue the task was stolen")
+  int victimRunnerId;
+}
@@ -42,6 +42,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   protected ActorTaskRunnerIdleStrategy idleStrategy;
   ActorTask currentTask;
   private final ActorMetrics actorMetrics;
+  private final ActorProfiler profiler;
   private final CompletableFuture<Void> terminationFuture = new CompletableFuture<>();
   private final ActorClock clock;
   private final int threadId;
@@ -49,6 +50,12 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
   private volatile ActorThreadState state;
+  // only accessed by this thread, see WorkStealingGroup#getNextTask
+  private long selectedTasks;
+  // measurements of the current task execution, only taken while profiling
+  private int executedJobs;
+  private long longestJobNanos;
+  private int stolenFrom = ActorTaskProfile.NOT_STOLEN;
 
   public ActorThread(
       final String name,
@@ -86,6 +93,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     actorThreadGroup = threadGroup;
     this.taskScheduler = taskScheduler;
     actorMetrics = new ActorMetrics(metricsEnabled);
+    profiler = threadGroup != null ? threadGroup.getProfiler() : ActorProfiler.disabled();
     this.idleStrategy = new ActorTaskRunnerIdleStrategy(idleStrategy);
   }
 
@@ -104,9 +112,23 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     if (currentTask != null) {
       final var actorName = currentTask.actor.getName();
+      final boolean measured = actorMetrics.isEnabled() || profiler.isEnabled();
+      final long startedAt = measured ? System.nanoTime() : 0;
+      final long queueingDelay = measured ? startedAt - currentTask.getQueuedAtNanos() : 0;
+      if (actorMetrics.isEnabled()) {
+        actorMetrics.observeQueueingDelay(actorName, currentTask.getPriority(), queueingDelay);
+      }
+
+      final var executionEvent = profiler.isEnabled() ? new ActorTaskExecutionEvent() : null;
+      if (executionEvent != null) {
+        executionEvent.begin();
+      }
       try (final var timer = actorMetrics.startExecutionTimer(actorName)) {
         executeCurrentTask();
       }
+      if (executionEvent != null) {
+        recordProfile(executionEvent, actorName, startedAt, queueingDelay);
+      }
       if (actorMetrics.isEnabled()) {
         actorMetrics.updateJobQueueLength(actorName, currentTask.estimateQueueLength());
         actorMetrics.countExecution(actorName);
@@ -116,6 +138,29 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
   }
 
+  private void recordProfile(
+      final ActorTaskExecutionEvent event,
+      final String actorName,
+      final long startedAt,
+      final long queueingDelay) {
+    final var profile =
+        new ActorTaskProfile(
+            actorName,
+            getName(),
+            currentTask.getPriority(),
+            clock.getTimeMillis(),
+            queueingDelay,
+            System.nanoTime() - startedAt,
+            executedJobs,
+            longestJobNanos,
+            stolenFrom);
+    profiler.record(profile, event);
+
+    executedJobs = 0;
+    longestJobNanos = 0;
+    stolenFrom = ActorTaskProfile.NOT_STOLEN;
+  }
+
   private void executeCurrentTask() {
     final var properties = currentTask.getActor().getContext();
     boolean resubmit = false;
@@ -167,10 +212,14 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
      * since they are kept in a map datastructure on the current thread.
      * This implementation takes advantage of the fact that ActorTaskRunner extends Thread
      * itself. If we can cast down, the current thread is the current ActorTaskRunner.
+     * Only virtual threads, which cannot be extended, fall back to a thread-local.
      */
-    return Thread.currentThread() instanceof ActorThread
-        ? (ActorThread) Thread.currentThread()
-        : null;
+    final Thread thread = Thread.currentThread();
+    if (thread instanceof final ActorThread actorThread) {
+      return actorThread;
+    }
+
+    return thread.isVirtual() ? VirtualActorThread.ofCurrentVirtualThread() : null;
   }
 
   public static ActorThread ensureCalledFromActorThread(final String methodName) {
@@ -208,15 +257,51 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     return threadId;
   }
 
+  /** Returns the number of tasks this thread selected so far, including the next one. */
+  long nextTaskSelection() {
+    return ++selectedTasks;
+  }
+
+  boolean isProfiling() {
+    return profiler.isEnabled();
+  }
+
+  /** Called by the current task for each of its executed jobs, only while profiling. */
+  void onJobExecuted(final long executionNanos) {
+    executedJobs++;
+    longestJobNanos = Math.max(longestJobNanos, executionNanos);
+  }
+
+  /** Called when this thread stole the given task from the queue of the given thread. */
+  void onTaskStolen(final ActorTask task, final int victimRunnerId) {
+    if (profiler.isEnabled()) {
+      stolenFrom = victimRunnerId;
+      profiler.recordSteal(task, victimRunnerId);
+    }
+  }
+
   @Override
   public synchronized void start() {
     if (STATE_HANDLE.compareAndSet(this, ActorThreadState.NEW, ActorThreadState.RUNNING)) {
-      super.start();
+      startRunner();
     } else {
       throw new IllegalStateException("Cannot start runner, not in state 'NEW'.");
     }
   }
 
+  /** Starts the thread which executes {@link #run()}; by default, that's this thread. */
+  protected void startRunner() {
+    super.start();
+  }
+
+  /**
+   * Returns the thread which executes {@link #run()}, and which is parked when idle; by default,
+   * that's this thread.
+   */
+  protected Thread runner() {
+    return this;
+  }
+
   @Override
   public void run() {
     idleStrategy.init();
@@ -290,7 +375,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
 
     public void hintWorkAvailable() {
-      LockSupport.unpark(ActorThread.this);
+      LockSupport.unpark(runner());
     }
 
     protected void onIdle() {
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorThreadFactory;
 import io.camunda.zeebe.util.Loggers;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
@@ -22,15 +23,26 @@ public abstract class ActorThreadGroup {
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
   private final String schedulerName;
+  private final ActorProfiler profiler;
 
   public ActorThreadGroup(
       final String groupName,
       final int numOfThreads,
       final ActorSchedulerBuilder builder,
       final String schedulerName) {
+    this(groupName, numOfThreads, builder, schedulerName, builder.getActorThreadFactory());
+  }
+
+  protected ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final ActorSchedulerBuilder builder,
+      final String schedulerName,
+      final ActorThreadFactory threadFactory) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
+    profiler = builder.getActorProfiler();
 
     tasks = new WorkStealingGroup(numOfThreads);
 
@@ -39,17 +51,15 @@ public abstract class ActorThreadGroup {
     for (int t = 0; t < numOfThreads; t++) {
       final String threadName = String.format("%s-%d", groupName, t);
       final ActorThread thread =
-          builder
-              .getActorThreadFactory()
-              .newThread(
-                  threadName,
-                  t,
-                  this,
-                  tasks,
-                  builder.getActorClock(),
-                  builder.getActorTimerQueue(),
-                  builder.isMetricsEnabled(),
-                  builder.getIdleStrategySupplier().get());
+          threadFactory.newThread(
+              threadName,
+              t,
+              this,
+              tasks,
+              builder.getActorClock(),
+              builder.getActorTimerQueue(),
+              builder.isMetricsEnabled(),
+              builder.getIdleStrategySupplier().get());
 
       threads[t] = thread;
     }
@@ -72,6 +82,10 @@ public abstract class ActorThreadGroup {
     }
   }
 
+  public ActorProfiler getProfiler() {
+    return profiler;
+  }
+
   public String getSchedulerName() {
     return schedulerName;
   }
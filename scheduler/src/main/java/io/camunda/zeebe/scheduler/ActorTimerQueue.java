@@ -7,68 +7,57 @@
  */
 package io.camunda.zeebe.scheduler;
 
+import io.camunda.zeebe.scheduler.HierarchicalTimerWheel.ExpiryHandler;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
-import io.camunda.zeebe.util.Loggers;
 import java.util.concurrent.TimeUnit;
-import org.agrona.DeadlineTimerWheel;
-import org.agrona.collections.Long2ObjectHashMap;
-import org.slf4j.Logger;
 
-public final class ActorTimerQueue extends DeadlineTimerWheel {
-  private static final Logger LOG = Loggers.ACTOR_LOGGER;
-  private static final int DEFAULT_TICKS_PER_WHEEL = 32;
-  private final Long2ObjectHashMap<TimerSubscription> timerJobMap = new Long2ObjectHashMap<>();
-
-  private final TimerHandler timerHandler =
-      (timeUnit, now, timerId) -> {
-        final TimerSubscription timer = timerJobMap.remove(timerId);
-
-        if (timer != null) {
-          timer.onTimerExpired(timeUnit, now);
-        } else {
-          LOG.warn("Timer with id {} expired but is not known in this timer queue.", timerId);
-        }
+/**
+ * The timers of an actor thread, kept in a {@link HierarchicalTimerWheel} with a resolution of one
+ * millisecond. With the default of 64 slots per level, timers up to ~4.6 hours in the future are
+ * placed directly, and are only visited again when they're cascaded to a lower level or expire.
+ */
+public final class ActorTimerQueue {
+  private static final int DEFAULT_SLOTS_PER_LEVEL = 64;
+  private static final int LEVELS = 4;
 
-        return true;
-      };
+  private final ExpiryHandler expiryHandler =
+      (timer, now) -> ((TimerSubscription) timer).onTimerExpired(TimeUnit.MILLISECONDS, now);
+  private final HierarchicalTimerWheel wheel;
 
   public ActorTimerQueue(final ActorClock clock) {
-    this(clock, DEFAULT_TICKS_PER_WHEEL);
+    this(clock, DEFAULT_SLOTS_PER_LEVEL);
   }
 
-  public ActorTimerQueue(final ActorClock clock, final int ticksPerWheel) {
-    super(TimeUnit.MILLISECONDS, clock.getTimeMillis(), 1, ticksPerWheel);
+  /**
+   * @param clock the clock of the actor thread
+   * @param slotsPerLevel the number of slots of each level of the wheel, a power of two
+   */
+  public ActorTimerQueue(final ActorClock clock, final int slotsPerLevel) {
+    wheel = new HierarchicalTimerWheel(clock.getTimeMillis(), slotsPerLevel, LEVELS);
   }
 
   public void processExpiredTimers(final ActorClock clock) {
     int timersProcessed = 0;
 
     do {
-      timersProcessed = poll(clock.getTimeMillis(), timerHandler, Integer.MAX_VALUE);
+      timersProcessed = wheel.poll(clock.getTimeMillis(), expiryHandler);
     } while (timersProcessed > 0);
   }
 
   public void schedule(final TimerSubscription timer, final ActorClock now) {
     final long deadline =
-        now.getTimeMillis() + timeUnit().convert(timer.getDeadline(), timer.getTimeUnit());
+        now.getTimeMillis()
+            + TimeUnit.MILLISECONDS.convert(timer.getDeadline(), timer.getTimeUnit());
 
-    final long timerId = scheduleTimer(deadline);
-    timer.setTimerId(timerId);
-    if (timerJobMap.containsKey(timerId)) {
-      throw new IllegalStateException(
-          "Failed scheduling, timer with id "
-              + timerId
-              + " already exists: "
-              + timerJobMap.get(timerId));
-    }
-
-    timerJobMap.put(timerId, timer);
+    wheel.schedule(timer, deadline);
   }
 
   public void remove(final TimerSubscription timer) {
-    final long timerId = timer.getTimerId();
+    wheel.cancel(timer);
+  }
 
-    timerJobMap.remove(timerId);
-    cancelTimer(timerId);
+  /** Returns the number of timers which are currently scheduled. */
+  public int timerCount() {
+    return wheel.timerCount();
   }
 }
@@ -0,0 +1,289 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import java.util.Arrays;
+
+/**
+ * A hierarchical hashed timing wheel, as described by Varghese and Lauck. Timers are kept in
+ * intrusive doubly linked lists, so scheduling and cancelling a timer is O(1) and doesn't allocate.
+ *
+ * <p>Each level has the same number of slots, and each slot of a level spans all slots of the level
+ * below it. A timer is put on the lowest level whose current rotation contains its deadline, and is
+ * cascaded down to the lower levels whenever the time reaches its slot. Unlike a single wheel, this
+ * means timers which are far in the future are not visited on every rotation of the wheel. Timers
+ * beyond the range of the highest level are parked in its first slot, and re-inserted once the
+ * whole wheel completed a rotation.
+ *
+ * <p>One tick of the wheel equals one unit of the time passed to it. The wheel is not thread safe.
+ */
+public final class HierarchicalTimerWheel {
+  private final int levels;
+  private final int bitsPerLevel;
+  private final int slotMask;
+  private final Timer[] slots;
+  private final int[] timersPerLevel;
+
+  private long currentTick;
+  private int timerCount;
+
+  /**
+   * @param startTime the time at which the wheel starts
+   * @param slotsPerLevel the number of slots of each level, must be a power of two greater than 1
+   * @param levels the number of levels of the wheel
+   */
+  public HierarchicalTimerWheel(final long startTime, final int slotsPerLevel, final int levels) {
+    if (slotsPerLevel < 2 || Integer.bitCount(slotsPerLevel) != 1) {
+      throw new IllegalArgumentException(
+          "Expected slots per level to be a power of two greater than 1, but was " + slotsPerLevel);
+    }
+    if (levels < 1 || (long) levels * Integer.numberOfTrailingZeros(slotsPerLevel) >= Long.SIZE) {
+      throw new IllegalArgumentException(
+          "Expected levels to be positive and to cover less than 2^63 ticks, but was " + levels);
+    }
+
+    this.levels = levels;
+    bitsPerLevel = Integer.numberOfTrailingZeros(slotsPerLevel);
+    slotMask = slotsPerLevel - 1;
+    slots = new Timer[levels * slotsPerLevel];
+    timersPerLevel = new int[levels];
+    currentTick = startTime;
+  }
+
+  /**
+   * Schedules the timer to expire at the given deadline. A deadline in the past expires the timer
+   * on the next poll.
+   *
+   * @param timer the timer to schedule, must not be scheduled already
+   * @param deadline the time at which the timer expires
+   * @throws IllegalStateException if the timer is already scheduled
+   */
+  public void schedule(final Timer timer, final long deadline) {
+    if (timer.isScheduled()) {
+      throw new IllegalStateException("Failed scheduling, timer is already scheduled: " + timer);
+    }
+
+    timer.deadline = deadline;
+    insert(timer);
+    timerCount++;
+  }
+
+  /**
+   * Cancels the timer, if it's scheduled in this wheel.
+   *
+   * @param timer the timer to cancel
+   * @return true if the timer was scheduled, false otherwise
+   */
+  public boolean cancel(final Timer timer) {
+    if (!timer.isScheduled()) {
+      return false;
+    }
+
+    unlink(timer);
+    timerCount--;
+    return true;
+  }
+
+  /**
+   * Advances the wheel to the given time, and expires all timers whose deadline is at or before it.
+   * Timers are expired in order of their slots, which is the order of their deadlines.
+   *
+   * @param now the current time
+   * @param handler called for every expired timer, after it was removed from the wheel
+   * @return the number of expired timers
+   */
+  public int poll(final long now, final ExpiryHandler handler) {
+    if (now < currentTick) {
+      rewind(now);
+    }
+
+    int expired = 0;
+    while (true) {
+      expired += expireCurrentSlot(now, handler);
+      if (currentTick >= now) {
+        return expired;
+      }
+
+      if (timerCount == 0) {
+        // nothing to cascade or expire on the way, so we can jump straight to the given time
+        currentTick = now;
+        return expired;
+      }
+
+      // skip over the rotations of the empty lower levels, as there's nothing to expire in them
+      int level = 0;
+      while (timersPerLevel[level] == 0) {
+        level++;
+      }
+
+      final int shift = level * bitsPerLevel;
+      currentTick = Math.min(((currentTick >> shift) + 1) << shift, now);
+      cascade();
+    }
+  }
+
+  /** Returns the number of timers which are currently scheduled. */
+  public int timerCount() {
+    return timerCount;
+  }
+
+  /** Returns the time up to which the wheel has expired its timers. */
+  public long currentTick() {
+    return currentTick;
+  }
+
+  private int expireCurrentSlot(final long now, final ExpiryHandler handler) {
+    final int slot = (int) currentTick & slotMask;
+    int expired = 0;
+
+    // every timer in the current slot of the lowest level expires at the current tick or before
+    Timer timer = slots[slot];
+    while (timer != null) {
+      final Timer next = timer.next;
+      if (timer.deadline <= now) {
+        unlink(timer);
+        timerCount--;
+        expired++;
+        handler.onTimerExpired(timer, now);
+      }
+      timer = next;
+    }
+
+    return expired;
+  }
+
+  private void cascade() {
+    // find the highest level whose rotation just started, and cascade its timers down level by
+    // level
+    int level = 0;
+    while (level + 1 < levels && (currentTick & ((1L << ((level + 1) * bitsPerLevel)) - 1)) == 0) {
+      level++;
+    }
+
+    for (; level > 0; level--) {
+      final int slot =
+          level * (slotMask + 1) + ((int) (currentTick >> (level * bitsPerLevel)) & slotMask);
+      Timer timer = slots[slot];
+      slots[slot] = null;
+      timersPerLevel[level] -= countAndDetach(timer);
+
+      while (timer != null) {
+        final Timer next = timer.next;
+        timer.next = null;
+        timer.previous = null;
+        insert(timer);
+        timer = next;
+      }
+    }
+  }
+
+  private void rewind(final long now) {
+    final Timer[] timers = new Timer[timerCount];
+    int count = 0;
+    for (int slot = 0; slot < slots.length; slot++) {
+      for (Timer timer = slots[slot]; timer != null; timer = timer.next) {
+        timers[count++] = timer;
+      }
+      slots[slot] = null;
+    }
+    Arrays.fill(timersPerLevel, 0);
+
+    currentTick = now;
+    for (final Timer timer : timers) {
+      timer.next = null;
+      timer.previous = null;
+      insert(timer);
+    }
+  }
+
+  private int countAndDetach(final Timer head) {
+    int count = 0;
+    for (Timer timer = head; timer != null; timer = timer.next) {
+      timer.slot = Timer.UNSCHEDULED;
+      count++;
+    }
+    return count;
+  }
+
+  private void insert(final Timer timer) {
+    final long tick = Math.max(timer.deadline, currentTick);
+
+    // the lowest level whose current rotation contains the deadline; beyond the highest level, the
+    // timer is parked in the first slot of the highest level until the whole wheel rotated once
+    int level = 0;
+    while (level < levels
+        && (tick >> ((level + 1) * bitsPerLevel))
+            != (currentTick >> ((level + 1) * bitsPerLevel))) {
+      level++;
+    }
+
+    final int slot;
+    if (level == levels) {
+      level = levels - 1;
+      slot = level * (slotMask + 1);
+    } else {
+      slot = level * (slotMask + 1) + ((int) (tick >> (level * bitsPerLevel)) & slotMask);
+    }
+
+    final Timer head = slots[slot];
+    timer.slot = slot;
+    timer.previous = null;
+    timer.next = head;
+    if (head != null) {
+      head.previous = timer;
+    }
+    slots[slot] = timer;
+    timersPerLevel[level]++;
+  }
+
+  private void unlink(final Timer timer) {
+    final int slot = timer.slot;
+    if (timer.previous == null) {
+      slots[slot] = timer.next;
+    } else {
+      timer.previous.next = timer.next;
+    }
+    if (timer.next != null) {
+      timer.next.previous = timer.previous;
+    }
+
+    timersPerLevel[slot >> bitsPerLevel]--;
+    timer.slot = Timer.UNSCHEDULED;
+    timer.next = null;
+    timer.previous = null;
+  }
+
+  /** Called for every timer expired by {@link #poll(long, ExpiryHandler)}. */
+  @FunctionalInterface
+  public interface ExpiryHandler {
+    void onTimerExpired(Timer timer, long now);
+  }
+
+  /**
+   * A timer which can be scheduled in a {@link HierarchicalTimerWheel}. It carries the links of the
+   * wheel's lists itself, so a timer can be scheduled in at most one wheel at a time.
+   */
+  public abstract static class Timer {
+    private static final int UNSCHEDULED = -1;
+
+    private int slot = UNSCHEDULED;
+    private long deadline;
+    private Timer next;
+    private Timer previous;
+
+    /** Returns true if the timer is currently scheduled in a wheel. */
+    public boolean isScheduled() {
+      return slot != UNSCHEDULED;
+    }
+
+    /** Returns the deadline the timer was last scheduled with. */
+    public long getScheduledDeadline() {
+      return deadline;
+    }
+  }
+}
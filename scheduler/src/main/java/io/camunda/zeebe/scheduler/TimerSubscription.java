@@ -9,7 +9,8 @@ package io.camunda.zeebe.scheduler;
 
 import java.util.concurrent.TimeUnit;
 
-public final class TimerSubscription implements ActorSubscription, ScheduledTimer, Runnable {
+public final class TimerSubscription extends HierarchicalTimerWheel.Timer
+    implements ActorSubscription, ScheduledTimer, Runnable {
   private final ActorJob job;
   private final ActorTask task;
   private final TimeUnit timeUnit;
@@ -17,7 +18,6 @@ public final class TimerSubscription implements ActorSubscription, ScheduledTime
   private final boolean isRecurring;
   private volatile boolean isDone = false;
   private volatile boolean isCanceled = false;
-  private long timerId = -1L;
   private ActorThread thread;
   private long timerExpiredAt;
 
@@ -69,14 +69,6 @@ public final class TimerSubscription implements ActorSubscription, ScheduledTime
     }
   }
 
-  public long getTimerId() {
-    return timerId;
-  }
-
-  public void setTimerId(final long timerId) {
-    this.timerId = timerId;
-  }
-
   public void submit() {
     thread = ActorThread.current();
     thread.scheduleTimer(this);
@@ -106,9 +98,7 @@ public final class TimerSubscription implements ActorSubscription, ScheduledTime
   @Override
   public String toString() {
     return "TimerSubscription{"
-        + "timerId="
-        + timerId
-        + ", deadline="
+        + "deadline="
         + deadline
         + ", timeUnit="
         + timeUnit
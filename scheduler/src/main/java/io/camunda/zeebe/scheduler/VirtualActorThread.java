@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import org.agrona.concurrent.IdleStrategy;
+
+/**
+ * An {@link ActorThread} whose work loop is executed on a virtual thread. As virtual threads cannot
+ * be extended, this thread itself is never started; it only holds the state of the actor thread,
+ * and is made available to the actors via {@link ActorThread#current()} through a thread-local of
+ * the virtual thread.
+ */
+final class VirtualActorThread extends ActorThread {
+  private static final ThreadLocal<ActorThread> CURRENT = new ThreadLocal<>();
+
+  private volatile Thread runner;
+
+  VirtualActorThread(
+      final String name,
+      final int id,
+      final ActorThreadGroup threadGroup,
+      final TaskScheduler taskScheduler,
+      final ActorClock clock,
+      final ActorTimerQueue timerQueue,
+      final boolean metricsEnabled,
+      final IdleStrategy idleStrategy) {
+    super(name, id, threadGroup, taskScheduler, clock, timerQueue, metricsEnabled, idleStrategy);
+  }
+
+  /** Returns the actor thread executed by the current virtual thread, or null if there is none. */
+  static ActorThread ofCurrentVirtualThread() {
+    return CURRENT.get();
+  }
+
+  @Override
+  protected void startRunner() {
+    runner = Thread.ofVirtual().name(getName()).start(this::runOnVirtualThread);
+  }
+
+  @Override
+  protected Thread runner() {
+    return runner;
+  }
+
+  private void runOnVirtualThread() {
+    CURRENT.set(this);
+    try {
+      run();
+    } finally {
+      CURRENT.remove();
+    }
+  }
+}
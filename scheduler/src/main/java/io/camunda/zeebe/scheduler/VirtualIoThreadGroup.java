@@ -0,0 +1,32 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+
+/**
+ * Thread group for I/O-bound actors, which executes them on virtual threads instead of platform
+ * threads. The actors are scheduled exactly like in the {@link IoThreadGroup}, but when an actor
+ * blocks, e.g. on a file system or network call, only its virtual thread is blocked, while the
+ * underlying platform thread continues to execute the other virtual threads. This allows to run
+ * many more I/O-bound threads than there are processors.
+ *
+ * <p>Note that a virtual thread which blocks while holding a monitor (i.e. within a {@code
+ * synchronized} block) also blocks its platform thread.
+ */
+public final class VirtualIoThreadGroup extends ActorThreadGroup {
+
+  public VirtualIoThreadGroup(final ActorSchedulerBuilder builder) {
+    super(
+        "zb-fs-virtual-workers",
+        builder.getIoBoundActorThreadCount(),
+        builder,
+        builder.getSchedulerName(),
+        VirtualActorThread::new);
+  }
+}
@@ -11,16 +11,29 @@ import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
 
 import java.util.concurrent.ThreadLocalRandom;
 
-/** Workstealing group maintains a queue per thread. */
+/**
+ * Workstealing group maintains a queue per thread and {@link ActorPriority priority}. A thread
+ * executes the tasks of its own queues in order of their priority; only if all of them are empty,
+ * it steals a task from another thread, again in order of priority.
+ *
+ * <p>To prevent starvation of lower priority tasks, a thread takes every {@link
+ * #STARVATION_PROTECTION_INTERVAL}-th task from its own queues in reverse order of priority.
+ */
 public final class WorkStealingGroup implements TaskScheduler {
+  static final int STARVATION_PROTECTION_INTERVAL = 8;
+  private static final ActorPriority[] PRIORITIES = ActorPriority.values();
+
   private final int numOfThreads;
-  private final ActorTaskQueue[] taskQueues;
+  // indexed by priority, then by thread
+  private final ActorTaskQueue[][] taskQueues;
 
   public WorkStealingGroup(final int numOfThreads) {
     this.numOfThreads = numOfThreads;
-    taskQueues = new ActorTaskQueue[numOfThreads];
-    for (int i = 0; i < numOfThreads; i++) {
-      taskQueues[i] = new ActorTaskQueue();
+    taskQueues = new ActorTaskQueue[PRIORITIES.length][numOfThreads];
+    for (final ActorTaskQueue[] priorityQueues : taskQueues) {
+      for (int i = 0; i < numOfThreads; i++) {
+        priorityQueues[i] = new ActorTaskQueue();
+      }
     }
   }
 
@@ -32,7 +45,8 @@ public final class WorkStealingGroup implements TaskScheduler {
    */
   public void submit(final ActorTask task, final int threadId) {
     task.schedulingState.set(QUEUED);
-    taskQueues[threadId].append(task);
+    task.setQueuedAtNanos(System.nanoTime());
+    taskQueues[task.getPriority().ordinal()][threadId].append(task);
   }
 
   /**
@@ -43,13 +57,25 @@ public final class WorkStealingGroup implements TaskScheduler {
   @Override
   public ActorTask getNextTask() {
     final ActorThread currentThread = ActorThread.current();
-    ActorTask nextTask = taskQueues[currentThread.getRunnerId()].pop();
+    final boolean lowestPriorityFirst =
+        currentThread.nextTaskSelection() % STARVATION_PROTECTION_INTERVAL == 0;
+
+    for (int i = 0; i < PRIORITIES.length; i++) {
+      final int priority = lowestPriorityFirst ? PRIORITIES.length - 1 - i : i;
+      final ActorTask nextTask = taskQueues[priority][currentThread.getRunnerId()].pop();
+      if (nextTask != null) {
+        return nextTask;
+      }
+    }
 
-    if (nextTask == null) {
-      nextTask = trySteal(currentThread);
+    for (final ActorTaskQueue[] priorityQueues : taskQueues) {
+      final ActorTask stolenTask = trySteal(currentThread, priorityQueues);
+      if (stolenTask != null) {
+        return stolenTask;
+      }
     }
 
-    return nextTask;
+    return null;
   }
 
   /**
@@ -59,7 +85,8 @@ public final class WorkStealingGroup implements TaskScheduler {
    * <p>Work stealing is a mechanism for <em>load balancing</em>: it relies upon the assumption that
    * there is more work to do than there is resources (threads) to run it.
    */
-  private ActorTask trySteal(final ActorThread currentThread) {
+  private ActorTask trySteal(
+      final ActorThread currentThread, final ActorTaskQueue[] priorityQueues) {
     /*
      * This implementation uses a random offset into the runner array. The idea is to
      *
@@ -81,9 +108,10 @@ public final class WorkStealingGroup implements TaskScheduler {
       final int runnerId = i % numOfThreads;
 
       if (runnerId != currentThread.getRunnerId()) {
-        final ActorTask stolenActor = taskQueues[runnerId].trySteal();
+        final ActorTask stolenActor = priorityQueues[runnerId].trySteal();
 
         if (stolenActor != null) {
+          currentThread.onTaskStolen(stolenActor, runnerId);
           return stolenActor;
         }
       }
@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ActorProfilerTest {
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void afterEach() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldProfileTaskExecutions() {
+    // given
+    scheduler = startScheduler(true);
+    final var actor = new TestActor("profiled");
+    scheduler.submitActor(actor).join();
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      actor.call(() -> null).join();
+    }
+
+    // then
+    assertThat(scheduler.getProfiler().getRecentProfiles())
+        .filteredOn(profile -> "profiled".equals(profile.actorName()))
+        .isNotEmpty()
+        .allSatisfy(
+            profile -> {
+              assertThat(profile.threadName()).startsWith("zb-actors");
+              assertThat(profile.priority()).isEqualTo(ActorPriority.NORMAL);
+              assertThat(profile.jobCount()).isPositive();
+              assertThat(profile.executionNanos())
+                  .isGreaterThanOrEqualTo(profile.longestJobNanos());
+              assertThat(profile.queueingDelayNanos()).isNotNegative();
+            });
+    assertThat(scheduler.getProfiler().summarize())
+        .filteredOn(summary -> "profiled".equals(summary.actorName()))
+        .singleElement()
+        .satisfies(summary -> assertThat(summary.jobs()).isGreaterThanOrEqualTo(3));
+  }
+
+  @Test
+  void shouldNotProfileByDefault() {
+    // given
+    scheduler = startScheduler(false);
+    final var actor = new TestActor("unprofiled");
+
+    // when
+    scheduler.submitActor(actor).join();
+    actor.call(() -> null).join();
+
+    // then
+    assertThat(scheduler.getProfiler().isEnabled()).isFalse();
+    assertThat(scheduler.getProfiler().getRecentProfiles()).isEmpty();
+  }
+
+  @Test
+  void shouldRetainOnlyMostRecentProfiles() {
+    // given
+    final var profiler = ActorProfiler.enabled(3);
+
+    // when
+    IntStream.range(0, 6)
+        .forEach(i -> profiler.record(profile("actor-" + i), new ActorTaskExecutionEvent()));
+
+    // then - the capacity is rounded up to 4
+    assertThat(profiler.getRecordedProfileCount()).isEqualTo(6);
+    assertThat(profiler.getRecentProfiles())
+        .extracting(ActorTaskProfile::actorName)
+        .containsExactly("actor-5", "actor-4", "actor-3", "actor-2");
+  }
+
+  @Test
+  void shouldSummarizeProfilesPerActor() {
+    // given
+    final var profiler = ActorProfiler.enabled(16);
+    profiler.record(
+        new ActorTaskProfile("a", "t", ActorPriority.HIGH, 0, 10, 100, 2, 60, 1),
+        new ActorTaskExecutionEvent());
+    profiler.record(
+        new ActorTaskProfile("a", "t", ActorPriority.HIGH, 0, 30, 50, 1, 50, -1),
+        new ActorTaskExecutionEvent());
+    profiler.record(profile("b"), new ActorTaskExecutionEvent());
+
+    // when
+    final var summaries = profiler.summarize();
+
+    // then
+    assertThat(summaries)
+        .first()
+        .isEqualTo(new ActorProfiler.ActorSummary("a", 2, 3, 150, 100, 60, 40, 30, 1));
+    assertThat(summaries)
+        .extracting(ActorProfiler.ActorSummary::actorName)
+        .containsExactly("a", "b");
+  }
+
+  @Test
+  void shouldEmitFlightRecorderEvents(final @TempDir Path tempDir) throws Exception {
+    // given
+    scheduler = startScheduler(true);
+    final var actor = new TestActor("recorded");
+    final var recordingFile = tempDir.resolve("recording.jfr");
+
+    // when
+    try (final var recording = new Recording()) {
+      recording.enable("io.camunda.zeebe.scheduler.ActorTaskExecution");
+      recording.start();
+      scheduler.submitActor(actor).join();
+      actor.call(() -> null).join();
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+
+    // then
+    assertThat(RecordingFile.readAllEvents(recordingFile))
+        .filteredOn(event -> "recorded".equals(event.getString("actorName")))
+        .isNotEmpty()
+        .allSatisfy(event -> assertThat(event.getInt("jobCount")).isPositive());
+  }
+
+  private static ActorScheduler startScheduler(final boolean profilingEnabled) {
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setSchedulerName("Broker-0")
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setProfilingEnabled(profilingEnabled)
+            .build();
+    scheduler.start();
+    return scheduler;
+  }
+
+  private static ActorTaskProfile profile(final String actorName) {
+    return new ActorTaskProfile(actorName, "thread", ActorPriority.NORMAL, 0, 1, 1, 1, 1, -1);
+  }
+
+  private static final class TestActor extends Actor {
+    private final String name;
+
+    private TestActor(final String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.scheduler.HierarchicalTimerWheel.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class HierarchicalTimerWheelTest {
+  private static final long START_TIME = 1_000;
+
+  private final HierarchicalTimerWheel wheel = new HierarchicalTimerWheel(START_TIME, 4, 3);
+  private final List<TestTimer> expired = new ArrayList<>();
+
+  @Test
+  void shouldExpireTimerAtDeadline() {
+    // given
+    final var timer = new TestTimer();
+    wheel.schedule(timer, START_TIME + 2);
+
+    // when
+    poll(START_TIME + 1);
+    final var expiredBeforeDeadline = new ArrayList<>(expired);
+    poll(START_TIME + 2);
+
+    // then
+    assertThat(expiredBeforeDeadline).isEmpty();
+    assertThat(expired).containsExactly(timer);
+    assertThat(timer.expiredAt).isEqualTo(START_TIME + 2);
+    assertThat(timer.isScheduled()).isFalse();
+    assertThat(wheel.timerCount()).isZero();
+  }
+
+  @Test
+  void shouldExpireTimerWithPastDeadlineOnNextPoll() {
+    // given
+    poll(START_TIME + 10);
+    final var timer = new TestTimer();
+
+    // when
+    wheel.schedule(timer, START_TIME);
+    poll(START_TIME + 10);
+
+    // then
+    assertThat(expired).containsExactly(timer);
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {3, 4, 15, 16, 17, 63, 64, 65, 1_000})
+  void shouldExpireTimersOfHigherLevelsAtDeadline(final long delay) {
+    // given - 4 slots and 3 levels cover 64 ticks, anything beyond has to wait for the overflow
+    final var timer = new TestTimer();
+    wheel.schedule(timer, START_TIME + delay);
+
+    // when
+    for (long time = START_TIME; time < START_TIME + delay; time++) {
+      poll(time);
+    }
+    final var expiredBeforeDeadline = new ArrayList<>(expired);
+    poll(START_TIME + delay);
+
+    // then
+    assertThat(expiredBeforeDeadline).isEmpty();
+    assertThat(expired).containsExactly(timer);
+  }
+
+  @Test
+  void shouldExpireTimersInOrderOfDeadlinesWhenTimeJumps() {
+    // given
+    final var random = new Random(42);
+    final var timers = new ArrayList<TestTimer>();
+    for (int i = 0; i < 500; i++) {
+      final var timer = new TestTimer();
+      wheel.schedule(timer, START_TIME + random.nextInt(200));
+      timers.add(timer);
+    }
+
+    // when
+    poll(START_TIME + 100);
+    final var expiredAfterFirstPoll = new ArrayList<>(expired);
+    poll(START_TIME + 10_000);
+
+    // then
+    assertThat(expiredAfterFirstPoll)
+        .allMatch(timer -> timer.getScheduledDeadline() <= START_TIME + 100)
+        .containsExactlyInAnyOrderElementsOf(
+            timers.stream().filter(t -> t.getScheduledDeadline() <= START_TIME + 100).toList());
+    assertThat(expired)
+        .containsExactlyInAnyOrderElementsOf(timers)
+        .isSortedAccordingTo(
+            (a, b) -> Long.compare(a.getScheduledDeadline(), b.getScheduledDeadline()));
+    assertThat(wheel.timerCount()).isZero();
+  }
+
+  @Test
+  void shouldNotExpireCancelledTimer() {
+    // given
+    final var cancelled = new TestTimer();
+    final var other = new TestTimer();
+    wheel.schedule(cancelled, START_TIME + 20);
+    wheel.schedule(other, START_TIME + 20);
+
+    // when
+    final var wasScheduled = wheel.cancel(cancelled);
+    poll(START_TIME + 20);
+
+    // then
+    assertThat(wasScheduled).isTrue();
+    assertThat(wheel.cancel(cancelled)).isFalse();
+    assertThat(expired).containsExactly(other);
+  }
+
+  @Test
+  void shouldRescheduleExpiredTimer() {
+    // given
+    final var timer = new TestTimer();
+    wheel.schedule(timer, START_TIME + 1);
+    poll(START_TIME + 1);
+
+    // when
+    wheel.schedule(timer, START_TIME + 30);
+    poll(START_TIME + 30);
+
+    // then
+    assertThat(expired).containsExactly(timer, timer);
+  }
+
+  @Test
+  void shouldRejectSchedulingTimerTwice() {
+    // given
+    final var timer = new TestTimer();
+    wheel.schedule(timer, START_TIME + 1);
+
+    // when - then
+    assertThatThrownBy(() -> wheel.schedule(timer, START_TIME + 2))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldRewindWhenTimeGoesBackwards() {
+    // given
+    poll(START_TIME + 1_000);
+    final var timer = new TestTimer();
+    final var pending = new TestTimer();
+    wheel.schedule(pending, START_TIME + 1_100);
+
+    // when
+    poll(START_TIME);
+    wheel.schedule(timer, START_TIME + 10);
+    poll(START_TIME + 10);
+    final var expiredAfterRewind = new ArrayList<>(expired);
+    poll(START_TIME + 1_100);
+
+    // then
+    assertThat(expiredAfterRewind).containsExactly(timer);
+    assertThat(expired).containsExactly(timer, pending);
+  }
+
+  @Test
+  void shouldRejectSlotsWhichAreNoPowerOfTwo() {
+    assertThatThrownBy(() -> new HierarchicalTimerWheel(START_TIME, 3, 2))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new HierarchicalTimerWheel(START_TIME, 1, 2))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private void poll(final long now) {
+    wheel.poll(
+        now,
+        (timer, time) -> {
+          final var testTimer = (TestTimer) timer;
+          testTimer.expiredAt = time;
+          expired.add(testTimer);
+        });
+  }
+
+  private static final class TestTimer extends Timer {
+    private long expiredAt = -1;
+  }
+}
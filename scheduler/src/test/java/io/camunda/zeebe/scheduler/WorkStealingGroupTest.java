@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+final class WorkStealingGroupTest {
+  private final WorkStealingGroup group = new WorkStealingGroup(2);
+
+  @Test
+  void shouldTakeTasksInOrderOfPriority() throws Exception {
+    // given
+    final var low = newTask(ActorPriority.LOW);
+    final var normal = newTask(ActorPriority.NORMAL);
+    final var high = newTask(ActorPriority.HIGH);
+    group.submit(low, 0);
+    group.submit(normal, 0);
+    group.submit(high, 0);
+
+    // when
+    final var tasks = takeTasksOnThread(0, 3);
+
+    // then
+    assertThat(tasks).containsExactly(high, normal, low);
+  }
+
+  @Test
+  void shouldNotStarveLowPriorityTasks() throws Exception {
+    // given
+    final var low = newTask(ActorPriority.LOW);
+    group.submit(low, 0);
+    final var highTasks = new ArrayList<ActorTask>();
+    for (int i = 0; i < WorkStealingGroup.STARVATION_PROTECTION_INTERVAL; i++) {
+      final var high = newTask(ActorPriority.HIGH);
+      highTasks.add(high);
+      group.submit(high, 0);
+    }
+
+    // when
+    final var tasks = takeTasksOnThread(0, WorkStealingGroup.STARVATION_PROTECTION_INTERVAL);
+
+    // then
+    assertThat(tasks)
+        .hasSize(WorkStealingGroup.STARVATION_PROTECTION_INTERVAL)
+        .endsWith(low)
+        .containsAll(highTasks.subList(0, WorkStealingGroup.STARVATION_PROTECTION_INTERVAL - 1));
+  }
+
+  @Test
+  void shouldStealTasksInOrderOfPriority() throws Exception {
+    // given
+    final var low = newTask(ActorPriority.LOW);
+    final var high = newTask(ActorPriority.HIGH);
+    group.submit(low, 1);
+    group.submit(high, 1);
+
+    // when
+    final var tasks = takeTasksOnThread(0, 2);
+
+    // then
+    assertThat(tasks).containsExactly(high, low);
+  }
+
+  private List<ActorTask> takeTasksOnThread(final int threadId, final int count) throws Exception {
+    final var tasks = new CompletableFuture<List<ActorTask>>();
+    final var thread =
+        new TestActorThread(
+            threadId,
+            ignored -> {
+              final var taken = new ArrayList<ActorTask>();
+              for (int i = 0; i < count; i++) {
+                taken.add(group.getNextTask());
+              }
+              tasks.complete(taken);
+            });
+    thread.start();
+    return tasks.get(10, TimeUnit.SECONDS);
+  }
+
+  private static ActorTask newTask(final ActorPriority priority) {
+    final var actor =
+        new Actor() {
+          @Override
+          public ActorPriority getPriority() {
+            return priority;
+          }
+        };
+    final var task = new ActorTask(actor);
+    task.onTaskScheduled(null);
+    return task;
+  }
+
+  private static final class TestActorThread extends ActorThread {
+    private final Consumer<ActorThread> body;
+
+    private TestActorThread(final int id, final Consumer<ActorThread> body) {
+      super("test-" + id, id, null, null, null, null, false);
+      this.body = body;
+    }
+
+    @Override
+    public void run() {
+      body.accept(this);
+    }
+  }
+}
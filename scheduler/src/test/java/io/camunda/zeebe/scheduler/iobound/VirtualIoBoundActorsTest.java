@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler.iobound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorThread;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.VirtualIoThreadGroup;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class VirtualIoBoundActorsTest {
+  private static final int IO_THREAD_COUNT = 16;
+
+  private ActorScheduler scheduler;
+
+  @BeforeEach
+  void beforeEach() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(IO_THREAD_COUNT)
+            .setVirtualIoBoundActorThreads(true)
+            .build();
+    scheduler.start();
+  }
+
+  @AfterEach
+  void afterEach() throws Exception {
+    scheduler.close();
+  }
+
+  @Test
+  void shouldRunIoBoundActorOnVirtualThread() {
+    // given
+    final var actor = new TestActor();
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // then
+    final var threadInfo = actor.call(() -> new ActorThreadInfo(ActorThread.current())).join();
+    assertThat(threadInfo.isVirtual()).isTrue();
+    assertThat(threadInfo.actorThread()).isNotNull();
+    assertThat(threadInfo.actorThread().getActorThreadGroup())
+        .isInstanceOf(VirtualIoThreadGroup.class);
+  }
+
+  @Test
+  void shouldRunTimersOfIoBoundActor() throws InterruptedException {
+    // given
+    final var actor = new TestActor();
+    final var timerFired = new CountDownLatch(1);
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // when
+    actor.run(() -> actor.schedule(Duration.ofMillis(10), timerFired::countDown));
+
+    // then
+    assertThat(timerFired.await(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldRunActorsWhileOtherActorsAreBlocked() throws InterruptedException {
+    // given
+    final var unblock = new CountDownLatch(1);
+    final var blockedActors = new ArrayList<TestActor>();
+    for (int i = 0; i < IO_THREAD_COUNT / 2; i++) {
+      final var actor = new TestActor();
+      scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+      actor.run(() -> awaitUninterruptibly(unblock));
+      blockedActors.add(actor);
+    }
+
+    // when
+    final var actor = new TestActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // then
+    try {
+      assertThat(actor.call(() -> true).join()).isTrue();
+    } finally {
+      unblock.countDown();
+    }
+    blockedActors.forEach(blocked -> blocked.call(() -> null).join());
+  }
+
+  private static void awaitUninterruptibly(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private record ActorThreadInfo(ActorThread actorThread, boolean isVirtual) {
+    private ActorThreadInfo(final ActorThread actorThread) {
+      this(actorThread, Thread.currentThread().isVirtual());
+    }
+  }
+
+  private static final class TestActor extends Actor {}
+}
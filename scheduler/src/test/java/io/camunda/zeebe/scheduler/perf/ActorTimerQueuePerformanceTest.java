@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler.perf;
+
+import io.camunda.zeebe.scheduler.HierarchicalTimerWheel;
+import io.camunda.zeebe.scheduler.HierarchicalTimerWheel.ExpiryHandler;
+import io.camunda.zeebe.scheduler.HierarchicalTimerWheel.Timer;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DeadlineTimerWheel;
+import org.agrona.DeadlineTimerWheel.TimerHandler;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the hierarchical timer wheel of the actor timer queue with Agrona's single level {@link
+ * DeadlineTimerWheel}, which the queue used before. The workload mimics the timers of a gateway:
+ * many timers with deadlines of up to 30 seconds, e.g. request timeouts or long polling, most of
+ * which are cancelled before they expire. Every operation cancels the oldest timer and schedules a
+ * new one, and the time advances by one millisecond every 100 operations.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ActorTimerQueuePerformanceTest {
+  private static final int PENDING_TIMERS = 50_000;
+  private static final int OPERATIONS_PER_TICK = 100;
+  private static final int MAX_DELAY_MILLIS = 30_000;
+  private static final int DELAYS = 1 << 16;
+
+  private final int[] delays = new int[DELAYS];
+  private final Long2ObjectHashMap<Object> timers = new Long2ObjectHashMap<>();
+  private final ExpiryHandler expiryHandler = (timer, now) -> {};
+  private final TimerHandler timerHandler =
+      (timeUnit, now, timerId) -> timers.remove(timerId) != null;
+
+  private HierarchicalTimerWheel hierarchicalWheel;
+  private BenchmarkTimer[] pendingTimers;
+
+  private DeadlineTimerWheel deadlineWheel;
+  private long[] pendingTimerIds;
+
+  private long now;
+  private int operation;
+
+  @Setup
+  public void setup() {
+    final var random = new Random(42);
+    for (int i = 0; i < DELAYS; i++) {
+      delays[i] = 1 + random.nextInt(MAX_DELAY_MILLIS);
+    }
+
+    hierarchicalWheel = new HierarchicalTimerWheel(now, 64, 4);
+    pendingTimers = new BenchmarkTimer[PENDING_TIMERS];
+    for (int i = 0; i < PENDING_TIMERS; i++) {
+      pendingTimers[i] = new BenchmarkTimer();
+      hierarchicalWheel.schedule(pendingTimers[i], now + delays[i]);
+    }
+
+    // the configuration and the id map of the previous actor timer queue
+    deadlineWheel = new DeadlineTimerWheel(TimeUnit.MILLISECONDS, now, 1, 32);
+    pendingTimerIds = new long[PENDING_TIMERS];
+    for (int i = 0; i < PENDING_TIMERS; i++) {
+      pendingTimerIds[i] = deadlineWheel.scheduleTimer(now + delays[i]);
+      timers.put(pendingTimerIds[i], pendingTimerIds);
+    }
+  }
+
+  @Benchmark
+  public int measureHierarchicalTimerWheel() {
+    final int index = operation % PENDING_TIMERS;
+    final var timer = pendingTimers[index];
+    hierarchicalWheel.cancel(timer);
+    hierarchicalWheel.schedule(timer, now + delays[operation & (DELAYS - 1)]);
+
+    return advance() ? hierarchicalWheel.poll(now, expiryHandler) : 0;
+  }
+
+  @Benchmark
+  public int measureDeadlineTimerWheel() {
+    final int index = operation % PENDING_TIMERS;
+    timers.remove(pendingTimerIds[index]);
+    deadlineWheel.cancelTimer(pendingTimerIds[index]);
+    pendingTimerIds[index] = deadlineWheel.scheduleTimer(now + delays[operation & (DELAYS - 1)]);
+    timers.put(pendingTimerIds[index], pendingTimerIds);
+
+    if (!advance()) {
+      return 0;
+    }
+
+    // like the previous actor timer queue, poll until no more timers expire
+    int expired = 0;
+    int polled;
+    do {
+      polled = deadlineWheel.poll(now, timerHandler, Integer.MAX_VALUE);
+      expired += polled;
+    } while (polled > 0);
+    return expired;
+  }
+
+  @JMHTest("measureHierarchicalTimerWheel")
+  void shouldScheduleAndCancelTimersWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured locally
+    // when running this test on a different machine, you're likely to have a different score
+    final var referenceScore = 30_000_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private boolean advance() {
+    operation++;
+    if (operation % OPERATIONS_PER_TICK == 0) {
+      now++;
+      return true;
+    }
+    return false;
+  }
+
+  private static final class BenchmarkTimer extends Timer {}
+}
@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.SortedMap;
 
 /**
  * Immutable checksum collection in simple file verification (SFV) file format, which only allows to
@@ -21,6 +22,12 @@ public interface ImmutableChecksumsSFV {
    */
   long getCombinedValue();
 
+  /**
+   * @return the checksums of the individual files by file name; empty if only a combined checksum
+   *     is known, e.g. for snapshots taken by older versions
+   */
+  SortedMap<String, Long> getChecksums();
+
   /**
    * Write the checksum collection in SFV format to the given output stream.
    *
@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import java.nio.file.Path;
+import java.util.SortedMap;
 
 /** Represents a snapshot, which was persisted at the {@link PersistedSnapshotStore}. */
 public interface PersistedSnapshot {
@@ -71,6 +72,16 @@ public interface PersistedSnapshot {
    */
   String getId();
 
+  /**
+   * Returns the checksums of the files of the snapshot by file name, which allows a receiver to
+   * reuse identical files it already has. Returns an empty map if the checksums of the individual
+   * files are not known.
+   *
+   * @return the checksums of the snapshot's files
+   * @throws java.io.UncheckedIOException if the checksums cannot be read
+   */
+  SortedMap<String, Long> getFileChecksums();
+
   /**
    * Returns the checksum of the snapshot, which can be used to verify integrity.
    *
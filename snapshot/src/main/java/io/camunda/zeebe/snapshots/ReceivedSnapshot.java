@@ -8,6 +8,8 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.Set;
+import java.util.SortedMap;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +32,15 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Reuses the files of the latest local snapshot which are identical to files of the snapshot
+   * being received, such that the corresponding chunks do not have to be received. The last file,
+   * in chunk order, is never reused, so that the chunk which completes the snapshot is always
+   * received.
+   *
+   * @param fileChecksums the checksums of all files of the snapshot being received, by file name
+   * @return the names of the reused files, whose chunks are not expected anymore
+   */
+  ActorFuture<Set<String>> reuseFiles(SortedMap<String, Long> fileChecksums);
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots.impl;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.snapshots.MutableChecksumsSFV;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
@@ -22,7 +23,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,7 +43,9 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private long expectedSnapshotChecksum;
   private int expectedTotalCount;
   private FileBasedSnapshotMetadata metadata;
-  private SfvChecksumImpl checksumCollection;
+  private MutableChecksumsSFV checksumCollection;
+  private String lastChunkName;
+  private boolean isIncrementalChecksumValid = true;
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -68,6 +74,59 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         });
   }
 
+  @Override
+  public ActorFuture<Set<String>> reuseFiles(final SortedMap<String, Long> fileChecksums) {
+    return actor.call(() -> reuseFilesInternal(fileChecksums));
+  }
+
+  private Set<String> reuseFilesInternal(final SortedMap<String, Long> fileChecksums)
+      throws SnapshotWriteException {
+    final var latestSnapshot = snapshotStore.getLatestSnapshot();
+    if (fileChecksums.isEmpty() || latestSnapshot.isEmpty()) {
+      return Set.of();
+    }
+
+    final var localSnapshot = latestSnapshot.get();
+    final var localChecksums = localSnapshot.getFileChecksums();
+    // never reuse the last chunk, as it is the one which completes the snapshot
+    final var reusableFiles = fileChecksums.headMap(fileChecksums.lastKey());
+
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to ensure that directory %s exists.", directory), e);
+    }
+
+    final var reusedFiles = new HashSet<String>();
+    for (final var file : reusableFiles.entrySet()) {
+      final var fileName = file.getKey();
+      if (fileName.equals(FileBasedSnapshotStore.METADATA_FILE_NAME)
+          || !file.getValue().equals(localChecksums.get(fileName))
+          || containsChunk(fileName)) {
+        continue;
+      }
+
+      try {
+        Files.createLink(directory.resolve(fileName), localSnapshot.getPath().resolve(fileName));
+        reusedFiles.add(fileName);
+      } catch (final IOException | UnsupportedOperationException e) {
+        LOGGER.debug("Failed to reuse file {} of snapshot {}", fileName, localSnapshot, e);
+      }
+    }
+
+    if (!reusedFiles.isEmpty()) {
+      isIncrementalChecksumValid = false;
+      LOGGER.debug(
+          "Reusing {} of {} files of snapshot {} for received snapshot {}",
+          reusedFiles.size(),
+          fileChecksums.size(),
+          localSnapshot.getId(),
+          snapshotId);
+    }
+    return reusedFiles;
+  }
+
   private boolean containsChunk(final String chunkId) {
     return Files.exists(directory.resolve(chunkId));
   }
@@ -121,6 +180,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
     checksumCollection.updateFromBytes(
         snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+    trackChunkOrder(chunkName);
 
     if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStore.METADATA_FILE_NAME)) {
       try {
@@ -131,6 +191,30 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  /**
+   * The combined checksum is computed incrementally, which only matches the checksum of the
+   * snapshot if the chunks are applied in the order in which the snapshot's checksum is computed,
+   * i.e. sorted by name with the metadata file last. Chunks may be applied out of order when they
+   * are replicated concurrently, and reused files are not applied at all, in which case the
+   * checksum is computed again on persist.
+   */
+  private void trackChunkOrder(final String chunkName) {
+    if (lastChunkName != null && compareChunkNames(lastChunkName, chunkName) > 0) {
+      isIncrementalChecksumValid = false;
+    }
+    lastChunkName = chunkName;
+  }
+
+  private static int compareChunkNames(final String first, final String second) {
+    final boolean isFirstMetadata = first.equals(FileBasedSnapshotStore.METADATA_FILE_NAME);
+    final boolean isSecondMetadata = second.equals(FileBasedSnapshotStore.METADATA_FILE_NAME);
+    if (isFirstMetadata || isSecondMetadata) {
+      return Boolean.compare(isFirstMetadata, isSecondMetadata);
+    }
+
+    return first.compareTo(second);
+  }
+
   private void collectMetadata(final byte[] content) throws IOException {
     metadata = FileBasedSnapshotMetadata.decode(content);
   }
@@ -276,6 +360,15 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
+    if (!isIncrementalChecksumValid) {
+      try {
+        checksumCollection = SnapshotChecksum.calculate(directory);
+      } catch (final IOException e) {
+        future.completeExceptionally(e);
+        return;
+      }
+    }
+
     if (expectedSnapshotChecksum != checksumCollection.getCombinedValue()) {
       future.completeExceptionally(
           new InvalidSnapshotChecksum(
@@ -81,6 +81,7 @@ public final class FileBasedSnapshotStore extends Actor
   private final AtomicLong receivingSnapshotStartCount;
   private final Set<PersistableSnapshot> pendingSnapshots = new HashSet<>();
   private final Set<FileBasedSnapshot> availableSnapshots = new HashSet<>();
+  private final SnapshotChecksumCache snapshotChecksumCache = new SnapshotChecksumCache();
   private final String actorName;
   private final int partitionId;
 
@@ -660,6 +661,10 @@ public final class FileBasedSnapshotStore extends Actor
     return snapshotMetrics;
   }
 
+  SnapshotChecksumCache getSnapshotChecksumCache() {
+    return snapshotChecksumCache;
+  }
+
   void onSnapshotDeleted(final FileBasedSnapshot snapshot) {
     availableSnapshots.remove(snapshot);
   }
@@ -81,7 +81,8 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
                       directory)));
 
         } else {
-          checksum = SnapshotChecksum.calculate(directory);
+          checksum =
+              SnapshotChecksum.calculate(directory, snapshotStore.getSnapshotChecksumCache());
 
           snapshot = null;
           isValid = true;
@@ -17,6 +17,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Collections;
 import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -63,7 +64,7 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
   }
 
   public SfvChecksumImpl() {
-    combinedChecksum = new CRC32C();
+    combinedChecksum = new CombinedCrc32c();
   }
 
   @Override
@@ -71,6 +72,11 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
     return combinedChecksum.getValue();
   }
 
+  @Override
+  public SortedMap<String, Long> getChecksums() {
+    return Collections.unmodifiableSortedMap(checksums);
+  }
+
   @Override
   public void write(final OutputStream stream) throws IOException {
     final var writer = new PrintWriter(stream);
@@ -113,19 +119,36 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
 
     final Checksum checksum = new CRC32C();
     final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
+    long length = 0;
     try (final FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
       readBuffer.clear();
-      while (channel.read(readBuffer) > 0) {
-        readBuffer.flip();
-        combinedChecksum.update(readBuffer);
+      int read;
+      while ((read = channel.read(readBuffer)) > 0) {
         readBuffer.flip();
         checksum.update(readBuffer);
         readBuffer.clear();
+        length += read;
       }
     }
+    combineChecksum(checksum.getValue(), length);
     checksums.put(fileName, checksum.getValue());
   }
 
+  /**
+   * Adds the checksum of a file without reading it, e.g. because the checksum of the file's content
+   * was already calculated for a previous snapshot. The combined value is the same as if the file
+   * was added via {@link #updateFromFile(Path)}.
+   *
+   * @param fileName the name of the file
+   * @param checksum the CRC32C checksum of the file's content
+   * @param length the length of the file's content
+   */
+  void updateFromChecksum(final String fileName, final long checksum, final long length) {
+    combinedChecksum.update(fileName.getBytes(UTF_8));
+    combineChecksum(checksum, length);
+    checksums.put(fileName, checksum);
+  }
+
   @Override
   public void updateFromBytes(final String fileName, final byte[] bytes) {
     combinedChecksum.update(fileName.getBytes(UTF_8));
@@ -157,6 +180,13 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
     }
   }
 
+  private void combineChecksum(final long checksum, final long length) {
+    if (!(combinedChecksum instanceof final CombinedCrc32c combined)) {
+      throw PreDefinedImmutableChecksum.getUnsupportedOperationException();
+    }
+    combined.combine(checksum, length);
+  }
+
   private static class PreDefinedImmutableChecksum implements Checksum {
 
     private final long crc;
@@ -189,4 +219,103 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
       return new UnsupportedOperationException("This is an immutable checksum.");
     }
   }
+
+  /**
+   * A CRC32C checksum which, in addition to updating it with bytes, can be extended by the checksum
+   * of further content, without reading that content. This allows to compute the combined value of
+   * all files of a snapshot from the checksums of the individual files. See zlib's crc32_combine
+   * for the algorithm: appending content to the checksum is a linear operation over GF(2), which is
+   * applied by squaring the operator for a single zero bit.
+   */
+  private static final class CombinedCrc32c implements Checksum {
+    // the reversed Castagnoli polynomial
+    private static final long POLYNOMIAL = 0x82F63B78L;
+    private static final int BITS = 32;
+
+    private long value;
+
+    @Override
+    public void update(final int b) {
+      final var checksum = new CRC32C();
+      checksum.update(b);
+      combine(checksum.getValue(), 1);
+    }
+
+    @Override
+    public void update(final byte[] b, final int off, final int len) {
+      final var checksum = new CRC32C();
+      checksum.update(b, off, len);
+      combine(checksum.getValue(), len);
+    }
+
+    @Override
+    public long getValue() {
+      return value;
+    }
+
+    @Override
+    public void reset() {
+      value = 0;
+    }
+
+    private void combine(final long checksum, final long length) {
+      if (length <= 0) {
+        return;
+      }
+
+      final long[] even = new long[BITS];
+      final long[] odd = new long[BITS];
+
+      // the operator for a single zero bit
+      odd[0] = POLYNOMIAL;
+      long row = 1;
+      for (int n = 1; n < BITS; n++) {
+        odd[n] = row;
+        row <<= 1;
+      }
+
+      // the operators for two and four zero bits
+      square(even, odd);
+      square(odd, even);
+
+      // apply the operator for each set bit of the length in bytes, i.e. 8, 16, 32... zero bits
+      long remaining = length;
+      long combined = value;
+      do {
+        square(even, odd);
+        if ((remaining & 1) != 0) {
+          combined = times(even, combined);
+        }
+        remaining >>= 1;
+        if (remaining == 0) {
+          break;
+        }
+
+        square(odd, even);
+        if ((remaining & 1) != 0) {
+          combined = times(odd, combined);
+        }
+        remaining >>= 1;
+      } while (remaining != 0);
+
+      value = combined ^ checksum;
+    }
+
+    private static long times(final long[] matrix, final long vector) {
+      long sum = 0;
+      long remaining = vector;
+      for (int i = 0; remaining != 0; i++, remaining >>>= 1) {
+        if ((remaining & 1) != 0) {
+          sum ^= matrix[i];
+        }
+      }
+      return sum;
+    }
+
+    private static void square(final long[] square, final long[] matrix) {
+      for (int n = 0; n < BITS; n++) {
+        square[n] = times(matrix, matrix[n]);
+      }
+    }
+  }
 }
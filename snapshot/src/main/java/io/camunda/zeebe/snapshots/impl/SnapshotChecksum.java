@@ -18,8 +18,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 final class SnapshotChecksum {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotChecksum.class);
 
   private SnapshotChecksum() {
     throw new IllegalStateException("Utility class");
@@ -42,9 +45,37 @@ final class SnapshotChecksum {
   }
 
   public static MutableChecksumsSFV calculate(final Path snapshotDirectory) throws IOException {
+    return calculate(snapshotDirectory, SfvChecksumImpl::updateFromFile);
+  }
+
+  /**
+   * Calculates the checksum like {@link #calculate(Path)}, but reuses the cached checksums of
+   * immutable files which did not change since the previous calculation with the same cache,
+   * instead of reading them again.
+   *
+   * @param snapshotDirectory the directory of the snapshot
+   * @param cache the cache of checksums of previously calculated files
+   * @return the checksum of the snapshot
+   * @throws IOException if a file cannot be read
+   */
+  public static MutableChecksumsSFV calculate(
+      final Path snapshotDirectory, final SnapshotChecksumCache cache) throws IOException {
+    cache.startCalculation();
+    final var checksum = calculate(snapshotDirectory, cache::updateChecksum);
+    final var reusedFiles = cache.completeCalculation();
+    LOGGER.debug(
+        "Calculated checksum of snapshot {}, reusing the cached checksums of {} of {} files",
+        snapshotDirectory,
+        reusedFiles,
+        checksum.getChecksums().size());
+    return checksum;
+  }
+
+  private static MutableChecksumsSFV calculate(
+      final Path snapshotDirectory, final FileChecksumUpdater updater) throws IOException {
     try (final var fileStream =
         Files.list(snapshotDirectory).filter(SnapshotChecksum::isNotMetadataFile).sorted()) {
-      final var sfvChecksum = createCombinedChecksum(fileStream);
+      final var sfvChecksum = createCombinedChecksum(fileStream, updater);
 
       // While persisting transient snapshot, the checksum of metadata file is added at the end.
       // Hence when we recalculate the checksum, we must follow the same order. Otherwise base on
@@ -82,16 +113,22 @@ final class SnapshotChecksum {
    *
    * @return the SfvChecksum object
    */
-  private static SfvChecksumImpl createCombinedChecksum(final Stream<Path> files) {
+  private static SfvChecksumImpl createCombinedChecksum(
+      final Stream<Path> files, final FileChecksumUpdater updater) {
     final SfvChecksumImpl checksum = new SfvChecksumImpl();
     files.forEachOrdered(
         path -> {
           try {
-            checksum.updateFromFile(path);
+            updater.update(checksum, path);
           } catch (final IOException e) {
             throw new UncheckedIOException(e);
           }
         });
     return checksum;
   }
+
+  @FunctionalInterface
+  private interface FileChecksumUpdater {
+    void update(SfvChecksumImpl checksum, Path file) throws IOException;
+  }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caches the checksums of the immutable files of snapshots, i.e. of RocksDB's SST files.
+ * Consecutive snapshots share most of their SST files, as RocksDB checkpoints hard link them, so
+ * their checksums don't have to be calculated again by reading the files.
+ *
+ * <p>A file is identified by its name, size and last modification time; since RocksDB never
+ * modifies an SST file after writing it, a file with the same identity has the same content. The
+ * cache only retains the files of the most recent calculation, so its size is bounded by the number
+ * of files of a single snapshot.
+ *
+ * <p>This class is not thread safe; it is only used by the snapshot store's actor.
+ */
+final class SnapshotChecksumCache {
+  private static final String IMMUTABLE_FILE_SUFFIX = ".sst";
+
+  private Map<FileKey, Long> checksums = new HashMap<>();
+  private Map<FileKey, Long> calculatedChecksums = new HashMap<>();
+  private long reusedFiles;
+
+  /** Starts a new calculation; only files added from now on will be retained in the cache. */
+  void startCalculation() {
+    calculatedChecksums = new HashMap<>();
+    reusedFiles = 0;
+  }
+
+  /**
+   * Adds the checksum of the given file to the given checksum collection, reusing the cached
+   * checksum if the file is immutable and was part of the previous calculation.
+   *
+   * @param checksum the checksum collection to update
+   * @param file the file to add
+   * @throws IOException if the file cannot be read
+   */
+  void updateChecksum(final SfvChecksumImpl checksum, final Path file) throws IOException {
+    final var fileName = file.getFileName().toString();
+    if (!fileName.endsWith(IMMUTABLE_FILE_SUFFIX)) {
+      checksum.updateFromFile(file);
+      return;
+    }
+
+    final var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    final var key =
+        new FileKey(fileName, attributes.size(), attributes.lastModifiedTime().toMillis());
+    final var cachedChecksum = checksums.get(key);
+    if (cachedChecksum != null) {
+      checksum.updateFromChecksum(fileName, cachedChecksum, key.size());
+      calculatedChecksums.put(key, cachedChecksum);
+      reusedFiles++;
+      return;
+    }
+
+    checksum.updateFromFile(file);
+    calculatedChecksums.put(key, checksum.getChecksums().get(fileName));
+  }
+
+  /**
+   * Completes the current calculation, replacing the cached checksums with the ones of the files of
+   * this calculation.
+   *
+   * @return the number of files whose cached checksum was reused during this calculation
+   */
+  long completeCalculation() {
+    checksums = calculatedChecksums;
+    calculatedChecksums = new HashMap<>();
+    return reusedFiles;
+  }
+
+  private record FileKey(String name, long size, long lastModifiedMillis) {}
+}
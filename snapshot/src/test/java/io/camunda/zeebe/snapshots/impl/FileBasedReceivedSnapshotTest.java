@@ -26,7 +26,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
@@ -340,6 +343,69 @@ public class FileBasedReceivedSnapshotTest {
                 name.getFileName().toString().equals(FileBasedSnapshotStore.METADATA_FILE_NAME));
   }
 
+  @Test
+  public void shouldPersistSnapshotWhenChunksAreReceivedOutOfOrder() {
+    // given
+    final var snapshotToSend = takePersistedSnapshot(1L);
+    final var chunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.forEachRemaining(chunks::add);
+    }
+    Collections.reverse(chunks);
+
+    // when
+    final var receivedSnapshot = receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId());
+    chunks.forEach(chunk -> receivedSnapshot.apply(chunk).join());
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(persistedSnapshot.getChecksum()).isEqualTo(snapshotToSend.getChecksum());
+    assertThat(persistedSnapshot.getPath())
+        .isDirectoryContaining(p -> p.getFileName().toString().equals("file1"))
+        .isDirectoryContaining(p -> p.getFileName().toString().equals("file2"));
+  }
+
+  @Test
+  public void shouldReuseIdenticalFilesOfLatestSnapshot() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var snapshotToSend = takePersistedSnapshot(2L);
+    final var receivedSnapshot = receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId());
+
+    // when
+    final var reusedFiles = receivedSnapshot.reuseFiles(snapshotToSend.getFileChecksums()).join();
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        if (!reusedFiles.contains(chunk.getChunkName())) {
+          receivedSnapshot.apply(chunk).join();
+        }
+      }
+    }
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(reusedFiles).containsExactlyInAnyOrder("file1", "file2");
+    assertThat(persistedSnapshot.getChecksum()).isEqualTo(snapshotToSend.getChecksum());
+    assertThat(persistedSnapshot.getPath().resolve("file1")).hasContent("file1 contents");
+  }
+
+  @Test
+  public void shouldNotReuseLastFile() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var snapshotToSend = takePersistedSnapshot(2L);
+    final var receivedSnapshot = receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId());
+    final var fileChecksums = new TreeMap<>(snapshotToSend.getFileChecksums());
+    fileChecksums.remove(FileBasedSnapshotStore.METADATA_FILE_NAME);
+
+    // when
+    final var reusedFiles = receivedSnapshot.reuseFiles(fileChecksums).join();
+
+    // then
+    assertThat(reusedFiles).containsExactly("file1");
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
@@ -256,6 +256,67 @@ public final class SnapshotChecksumTest {
         .isEqualTo(checksumCalculatedAtOnce.getCombinedValue());
   }
 
+  @Test
+  void shouldCalculateSameChecksumWithCache() throws IOException {
+    // given
+    final var folder = createTempDir("folder");
+    createChunk(folder, "000001.sst");
+    createChunk(folder, "000002.sst");
+    createChunk(folder, "CURRENT");
+    final var cache = new SnapshotChecksumCache();
+    SnapshotChecksum.calculate(folder, cache);
+
+    // when
+    final var cachedChecksum = SnapshotChecksum.calculate(folder, cache);
+
+    // then
+    final var checksum = SnapshotChecksum.calculate(folder);
+    assertThat(cachedChecksum.getCombinedValue()).isEqualTo(checksum.getCombinedValue());
+    assertThat(cachedChecksum.getChecksums()).isEqualTo(checksum.getChecksums());
+  }
+
+  @Test
+  void shouldReuseCachedChecksumOfUnchangedSstFile() throws IOException {
+    // given
+    final var folder = createTempDir("folder");
+    final var file = folder.resolve("000001.sst");
+    Files.writeString(file, "foo");
+    final var cache = new SnapshotChecksumCache();
+    final var previousChecksum = SnapshotChecksum.calculate(folder, cache);
+
+    // when - the content changes without changing the file's identity, which RocksDB never does
+    final var lastModifiedTime = Files.getLastModifiedTime(file);
+    Files.writeString(file, "bar");
+    Files.setLastModifiedTime(file, lastModifiedTime);
+    final var cachedChecksum = SnapshotChecksum.calculate(folder, cache);
+
+    // then - the file was not read again
+    assertThat(cachedChecksum.getCombinedValue()).isEqualTo(previousChecksum.getCombinedValue());
+  }
+
+  @Test
+  void shouldNotReuseCachedChecksumOfModifiedFile() throws IOException {
+    // given
+    final var folder = createTempDir("folder");
+    final var sstFile = folder.resolve("000001.sst");
+    final var otherFile = folder.resolve("CURRENT");
+    Files.writeString(sstFile, "foo");
+    Files.writeString(otherFile, "foo");
+    final var cache = new SnapshotChecksumCache();
+    SnapshotChecksum.calculate(folder, cache);
+
+    // when
+    Files.writeString(sstFile, "barbaz");
+    final var lastModifiedTime = Files.getLastModifiedTime(otherFile);
+    Files.writeString(otherFile, "bar");
+    Files.setLastModifiedTime(otherFile, lastModifiedTime);
+    final var cachedChecksum = SnapshotChecksum.calculate(folder, cache);
+
+    // then
+    assertThat(cachedChecksum.getCombinedValue())
+        .isEqualTo(SnapshotChecksum.calculate(folder).getCombinedValue());
+  }
+
   private Path createTempDir(final String name) throws IOException {
     final var path = temporaryFolder.resolve(name);
     FileUtil.ensureDirectoryExists(path);
@@ -86,6 +86,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final ReplayMetrics replayMetrics;
   private final List<RecordProcessor> recordProcessors;
   private final int partitionId;
+  private final int maxBatchesInReplayTransaction;
 
   public ReplayStateMachine(
       final List<RecordProcessor> recordProcessors,
@@ -107,6 +108,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     logStream = context.getLogStream();
     logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
     replayMetrics = new ReplayMetrics(logStream.getPartitionId());
+    maxBatchesInReplayTransaction = context.getMaxBatchesInReplayTransaction();
   }
 
   /**
@@ -160,8 +162,16 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
         final var batch = logStreamBatchReader.next();
+        final var positionsBeforeReplay =
+            new ReplayedPositions(
+                lastReadRecordPosition, lastReplayedEventPosition, batchSourceEventPosition);
         replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
+            .runWithRetry(
+                () ->
+                    maxBatchesInReplayTransaction > 1
+                        ? tryToReplayBatches(batch, positionsBeforeReplay)
+                        : tryToReplayBatch(batch),
+                abortCondition)
             .onComplete(
                 (success, failure) -> {
                   if (failure != null) {
@@ -217,6 +227,59 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     return true;
   }
 
+  /**
+   * Replays the given batch and the following batches which are already available, up to {@link
+   * StreamProcessorContext#getMaxBatchesInReplayTransaction()} batches, in a single transaction.
+   * This reduces the number of commits, which dominate the replay time of small batches.
+   *
+   * <p>The batch reader reuses its buffers, so a retry can't go back to the first batch with {@link
+   * Batch#head()}. Instead, the reader seeks to the first batch again and the positions are reset
+   * to the ones before the replay.
+   */
+  private boolean tryToReplayBatches(
+      final Batch firstBatch, final ReplayedPositions positionsBeforeReplay) throws Exception {
+    final boolean onRetry = zeebeDbTransaction != null;
+    final Batch batch;
+    if (onRetry) {
+      zeebeDbTransaction.rollback();
+      lastReadRecordPosition = positionsBeforeReplay.lastReadRecordPosition();
+      lastReplayedEventPosition = positionsBeforeReplay.lastReplayedEventPosition();
+      batchSourceEventPosition = positionsBeforeReplay.batchSourceEventPosition();
+
+      // reading all batches from the beginning again
+      final long seekPosition =
+          lastReadRecordPosition != StreamProcessor.UNSET_POSITION
+              ? lastReadRecordPosition
+              : snapshotPosition;
+      logStreamBatchReader.seekToNextBatch(seekPosition);
+      batch = logStreamBatchReader.next();
+    } else {
+      batch = firstBatch;
+    }
+
+    zeebeDbTransaction = transactionContext.getCurrentTransaction();
+    zeebeDbTransaction.run(
+        () -> {
+          batch.forEachRemaining(this::replayEvent);
+
+          int replayedBatches = 1;
+          while (replayedBatches < maxBatchesInReplayTransaction
+              && logStreamBatchReader.hasNext()) {
+            logStreamBatchReader.next().forEachRemaining(this::replayEvent);
+            replayedBatches++;
+          }
+
+          if (batchSourceEventPosition > snapshotPosition) {
+            lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+          }
+        });
+
+    zeebeDbTransaction.commit();
+    zeebeDbTransaction = null;
+
+    return true;
+  }
+
   private void replayEvent(final LoggedEvent currentEvent) {
     if (eventFilter.applies(currentEvent)
         && (currentEvent.getSourceEventPosition() > snapshotPosition
@@ -225,10 +288,12 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
       readMetadata(currentEvent);
       final var currentTypedEvent = readRecordValue(currentEvent);
 
-      recordProcessors.stream()
-          .filter(p -> p.accepts(currentTypedEvent.getValueType()))
-          .findFirst()
-          .ifPresent(recordProcessor -> recordProcessor.replay(currentTypedEvent));
+      for (final RecordProcessor recordProcessor : recordProcessors) {
+        if (recordProcessor.accepts(currentTypedEvent.getValueType())) {
+          recordProcessor.replay(currentTypedEvent);
+          break;
+        }
+      }
 
       lastReplayedEventPosition = currentTypedEvent.getPosition();
     }
@@ -321,6 +386,9 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     logStream.removeRecordAvailableListener(this);
   }
 
+  private record ReplayedPositions(
+      long lastReadRecordPosition, long lastReplayedEventPosition, long batchSourceEventPosition) {}
+
   private enum State {
     AWAIT_RECORD,
     REPLAY_EVENT
@@ -14,15 +14,23 @@ import io.camunda.zeebe.stream.impl.TypedEventRegistry;
 import io.camunda.zeebe.util.ReflectUtil;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 
 public final class RecordValues {
 
+  // the most common records, of which the processors only read a few properties; they're decoded
+  // on access, which is safe because the logged event outlives the value while it's processed
+  private static final Set<ValueType> LAZILY_DECODED_VALUE_TYPES =
+      EnumSet.of(ValueType.JOB, ValueType.PROCESS_INSTANCE);
+
   private final Map<ValueType, UnifiedRecordValue> eventCache;
 
   public RecordValues() {
     final EnumMap<ValueType, UnifiedRecordValue> cache = new EnumMap<>(ValueType.class);
     TypedEventRegistry.EVENT_REGISTRY.forEach((t, c) -> cache.put(t, ReflectUtil.newInstance(c)));
+    LAZILY_DECODED_VALUE_TYPES.forEach(t -> cache.get(t).setLazyDecoding(true));
 
     eventCache = Collections.unmodifiableMap(cache);
   }
@@ -72,6 +72,8 @@ public final class StreamPlatform {
   private final StreamProcessorLifecycleAware mockProcessorLifecycleAware;
   private final StreamProcessorListener mockStreamProcessorListener;
   private TestCommandCache scheduledCommandCache;
+  private int maxBatchesInReplayTransaction =
+      StreamProcessorContext.DEFAULT_MAX_BATCHES_IN_REPLAY_TRANSACTION;
 
   public StreamPlatform(
       final Path dataDirectory,
@@ -210,6 +212,11 @@ public final class StreamPlatform {
     return this;
   }
 
+  public StreamPlatform withMaxBatchesInReplayTransaction(final int maxBatchesInReplayTransaction) {
+    this.maxBatchesInReplayTransaction = maxBatchesInReplayTransaction;
+    return this;
+  }
+
   public StreamProcessorListener getMockStreamProcessorListener() {
     return mockStreamProcessorListener;
   }
@@ -265,6 +272,7 @@ public final class StreamPlatform {
             .commandResponseWriter(mockCommandResponseWriter)
             .recordProcessors(recordProcessors)
             .streamProcessorMode(processorMode)
+            .maxBatchesInReplayTransaction(maxBatchesInReplayTransaction)
             .listener(mockStreamProcessorListener)
             .scheduledCommandCache(scheduledCommandCache)
             .partitionCommandSender(mock(InterPartitionCommandSender.class));
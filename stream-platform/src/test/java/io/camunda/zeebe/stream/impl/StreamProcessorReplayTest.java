@@ -358,4 +358,44 @@ final class StreamProcessorReplayTest {
     Assertions.assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey()))
         .isEqualTo(19L);
   }
+
+  @Test
+  void shouldReplayMultipleBatchesInOneTransaction() {
+    // given
+    streamPlatform.withMaxBatchesInReplayTransaction(10);
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .key(Protocol.encodePartitionId(1, 19))
+            .causedBy(0));
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(2)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(2))
+            .key(Protocol.encodePartitionId(1, 20))
+            .causedBy(0));
+
+    // when
+    final var streamProcessor = streamPlatform.startStreamProcessor();
+
+    // then
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    verify(recordProcessor, TIMEOUT.times(2)).replay(any());
+
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () ->
+                Assertions.assertThat(streamProcessor.getLastProcessedPositionAsync().join())
+                    .isEqualTo(3L));
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () ->
+                Assertions.assertThat(streamProcessor.getLastWrittenPositionAsync().join())
+                    .isEqualTo(4L));
+
+    Assertions.assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(3);
+    Assertions.assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey()))
+        .isEqualTo(20L);
+  }
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl.records;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.management.ThreadMXBean;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.lang.management.ManagementFactory;
+import java.util.function.IntSupplier;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class RecordValuesTest {
+
+  private static final int ITERATIONS = 10_000;
+
+  private final RecordValues recordValues = new RecordValues();
+
+  @Test
+  void shouldReadJobRecordWithoutAllocating() {
+    // given
+    final var event =
+        new ValueLoggedEvent(
+            new JobRecord()
+                .setType("payment-service")
+                .setWorker("payment-worker-1")
+                .setRetries(3)
+                .setBpmnProcessId("order-process")
+                .setElementId("charge-payment")
+                .setElementInstanceKey(2251799813685260L));
+
+    // when
+    final long allocatedBytes =
+        measureAllocatedBytesPerRead(
+            () -> ((JobRecord) recordValues.readRecordValue(event, ValueType.JOB)).getRetries());
+
+    // then
+    assertThat(allocatedBytes).isZero();
+    final var jobRecord = (JobRecord) recordValues.readRecordValue(event, ValueType.JOB);
+    assertThat(jobRecord.getType()).isEqualTo("payment-service");
+    assertThat(jobRecord.getRetries()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldReadProcessInstanceRecordWithoutAllocating() {
+    // given
+    final var event =
+        new ValueLoggedEvent(
+            new ProcessInstanceRecord()
+                .setBpmnProcessId("order-process")
+                .setProcessInstanceKey(2251799813685251L)
+                .setElementId("charge-payment")
+                .setBpmnElementType(BpmnElementType.SERVICE_TASK));
+
+    // when
+    final long allocatedBytes =
+        measureAllocatedBytesPerRead(
+            () ->
+                ((ProcessInstanceRecord)
+                        recordValues.readRecordValue(event, ValueType.PROCESS_INSTANCE))
+                    .getBpmnElementType()
+                    .ordinal());
+
+    // then
+    assertThat(allocatedBytes).isZero();
+    final var processInstanceRecord =
+        (ProcessInstanceRecord) recordValues.readRecordValue(event, ValueType.PROCESS_INSTANCE);
+    assertThat(processInstanceRecord.getElementId()).isEqualTo("charge-payment");
+    assertThat(processInstanceRecord.getBpmnElementType()).isEqualTo(BpmnElementType.SERVICE_TASK);
+  }
+
+  @Test
+  void shouldWriteLazilyDecodedRecordAsRead() {
+    // given
+    final var jobRecord = new JobRecord().setType("payment-service").setRetries(3);
+    final var event = new ValueLoggedEvent(jobRecord);
+
+    // when
+    final UnifiedRecordValue value = recordValues.readRecordValue(event, ValueType.JOB);
+
+    // then
+    final var written = new UnsafeBuffer(new byte[value.getLength()]);
+    value.write(written, 0);
+    assertThat(written).isEqualTo(event.getValueBuffer());
+  }
+
+  /**
+   * Returns the bytes allocated by the current thread per read, rounded down, so the occasional
+   * allocation of the measurement itself is not counted, but a single allocated object per read is.
+   */
+  private static long measureAllocatedBytesPerRead(final IntSupplier read) {
+    final var threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // warm up, so that lazily initialized state is not counted
+    int checksum = 0;
+    for (int i = 0; i < ITERATIONS; i++) {
+      checksum += read.getAsInt();
+    }
+
+    final long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+    for (int i = 0; i < ITERATIONS; i++) {
+      checksum += read.getAsInt();
+    }
+    final long allocatedAfter = threadMXBean.getCurrentThreadAllocatedBytes();
+
+    assertThat(checksum).isNotNegative();
+    return (allocatedAfter - allocatedBefore) / ITERATIONS;
+  }
+
+  /** A logged event which only consists of a record value. */
+  private static final class ValueLoggedEvent implements LoggedEvent {
+    private final DirectBuffer value;
+
+    private ValueLoggedEvent(final BufferWriter writer) {
+      final var buffer = new UnsafeBuffer(new byte[writer.getLength()]);
+      writer.write(buffer, 0);
+      value = buffer;
+    }
+
+    @Override
+    public boolean shouldSkipProcessing() {
+      return false;
+    }
+
+    @Override
+    public long getPosition() {
+      return 1;
+    }
+
+    @Override
+    public long getSourceEventPosition() {
+      return -1;
+    }
+
+    @Override
+    public long getKey() {
+      return -1;
+    }
+
+    @Override
+    public long getTimestamp() {
+      return 0;
+    }
+
+    @Override
+    public DirectBuffer getMetadata() {
+      return new UnsafeBuffer(0, 0);
+    }
+
+    @Override
+    public int getMetadataOffset() {
+      return 0;
+    }
+
+    @Override
+    public short getMetadataLength() {
+      return 0;
+    }
+
+    @Override
+    public void readMetadata(final BufferReader reader) {
+      reader.wrap(getMetadata(), 0, 0);
+    }
+
+    @Override
+    public DirectBuffer getValueBuffer() {
+      return value;
+    }
+
+    @Override
+    public int getValueOffset() {
+      return 0;
+    }
+
+    @Override
+    public int getValueLength() {
+      return value.capacity();
+    }
+
+    @Override
+    public void readValue(final BufferReader reader) {
+      reader.wrap(value, 0, value.capacity());
+    }
+
+    @Override
+    public int getLength() {
+      return value.capacity();
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      buffer.putBytes(offset, value, 0, value.capacity());
+    }
+  }
+}
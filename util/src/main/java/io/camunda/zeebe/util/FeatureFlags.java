@@ -16,7 +16,9 @@ public record FeatureFlags(
     boolean enableMessageTTLCheckerAsync,
     boolean enableTimerDueDateCheckerAsync,
     boolean enableStraightThroughProcessingLoopDetector,
-    boolean enableDynamicClusterTopology
+    boolean enableDynamicClusterTopology,
+    boolean enableTimerDueDateIndex,
+    boolean enableActorProfiling
     /*, boolean foo*/ ) {
 
   /* To add a new feature toggle, please follow these steps:
@@ -55,6 +57,10 @@ public record FeatureFlags(
 
   private static final boolean ENABLE_DYNAMIC_CLUSTER_TOPOLOGY = false;
 
+  private static final boolean ENABLE_TIMER_DUE_DATE_INDEX = false;
+
+  private static final boolean ENABLE_ACTOR_PROFILING = false;
+
   public static FeatureFlags createDefault() {
     return new FeatureFlags(
         YIELDING_DUE_DATE_CHECKER,
@@ -62,7 +68,9 @@ public record FeatureFlags(
         ENABLE_MSG_TTL_CHECKER_ASYNC,
         ENABLE_DUE_DATE_CHECKER_ASYNC,
         ENABLE_STRAIGHT_THOUGH_PROCESSING_LOOP_DETECTOR,
-        ENABLE_DYNAMIC_CLUSTER_TOPOLOGY
+        ENABLE_DYNAMIC_CLUSTER_TOPOLOGY,
+        ENABLE_TIMER_DUE_DATE_INDEX,
+        ENABLE_ACTOR_PROFILING
         /*, FOO_DEFAULT*/ );
   }
 
@@ -78,7 +86,9 @@ public record FeatureFlags(
         true, /* ENABLE_MSG_TTL_CHECKER_ASYNC */
         true, /* ENABLE_DUE_DATE_CHECKER_ASYNC */
         true, /* ENABLE_STRAIGHT_THOUGH_PROCESSING_LOOP_DETECTOR */
-        false /* ENABLE_DYNAMIC_CLUSTER_TOPOLOGY */
+        false, /* ENABLE_DYNAMIC_CLUSTER_TOPOLOGY */
+        true, /* ENABLE_TIMER_DUE_DATE_INDEX */
+        false /* ENABLE_ACTOR_PROFILING */
         /*, FOO_DEFAULT*/ );
   }
 
@@ -12,6 +12,7 @@ import static java.nio.file.FileVisitResult.CONTINUE;
 import java.io.IOException;
 import java.nio.channels.FileChannel;
 import java.nio.file.CopyOption;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
@@ -84,6 +85,39 @@ public final class FileUtil {
     flushDirectory(target.getParent());
   }
 
+  /**
+   * Creates the given directory and all of its missing parents, like {@link
+   * Files#createDirectories(Path, java.nio.file.attribute.FileAttribute[])}, but flushes the parent
+   * of each created directory, so the created directories survive a crash.
+   *
+   * @param directory the directory to create
+   * @throws IOException on failure to create or flush a directory
+   */
+  public static void createDirectoriesDurably(final Path directory) throws IOException {
+    if (Files.isDirectory(directory)) {
+      return;
+    }
+
+    final var parent = directory.toAbsolutePath().getParent();
+    if (parent != null) {
+      createDirectoriesDurably(parent);
+    }
+
+    try {
+      Files.createDirectory(directory);
+    } catch (final FileAlreadyExistsException e) {
+      if (!Files.isDirectory(directory)) {
+        throw e;
+      }
+      // created concurrently, and therefore flushed by whoever created it
+      return;
+    }
+
+    if (parent != null) {
+      flushDirectory(parent);
+    }
+  }
+
   public static void deleteFolder(final String path) throws IOException {
     final Path directory = Paths.get(path);
 
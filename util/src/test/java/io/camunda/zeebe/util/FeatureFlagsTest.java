@@ -22,6 +22,8 @@ class FeatureFlagsTest {
     assertThat(sut.yieldingDueDateChecker()).isTrue();
     assertThat(sut.enableActorMetrics()).isFalse();
     assertThat(sut.enableMessageTTLCheckerAsync()).isFalse();
+    assertThat(sut.enableTimerDueDateIndex()).isFalse();
+    assertThat(sut.enableActorProfiling()).isFalse();
   }
 
   @Test
@@ -32,5 +34,7 @@ class FeatureFlagsTest {
     // then
     assertThat(sut.yieldingDueDateChecker()).isTrue();
     assertThat(sut.enableMessageTTLCheckerAsync()).isTrue();
+    assertThat(sut.enableTimerDueDateIndex()).isTrue();
+    assertThat(sut.enableActorProfiling()).isFalse();
   }
 }
@@ -104,6 +104,29 @@ final class FileUtilTest {
     assertThat(Files.list(target)).contains(target.resolve(snapshotFile));
   }
 
+  @Test
+  void shouldCreateDirectoriesDurably() throws IOException {
+    // given
+    final Path directory = tmpDir.resolve("a/b/c");
+
+    // when
+    FileUtil.createDirectoriesDurably(directory);
+    FileUtil.createDirectoriesDurably(directory);
+
+    // then
+    assertThat(directory).isDirectory();
+  }
+
+  @Test
+  void shouldNotCreateDirectoryOverFile() throws IOException {
+    // given
+    final Path file = Files.createFile(tmpDir.resolve("file"));
+
+    // when - then
+    assertThatThrownBy(() -> FileUtil.createDirectoriesDurably(file))
+        .isInstanceOf(FileAlreadyExistsException.class);
+  }
+
   @Test
   void isEmptyReturnsTrueWhenDirectoryEmpty() throws IOException {
     // given
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db;
 
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -44,6 +45,21 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the values of all given keys at once, which is cheaper than calling {@link
+   * #get(DbKey)} for each key. The visitor is called for each key in the order of the given list,
+   * with the value stored for it or null if the key doesn't exist. The visitor can indicate via the
+   * return value, whether it should be called for the remaining keys or not.
+   *
+   * <p>The visitor receives the given key instances, so make sure to pass a separate instance for
+   * each key. Similar to {@link #forEach(BiConsumer)}, the given DbValue wraps the stored value and
+   * should not be stored, since it will change its internal value for the next key.
+   *
+   * @param keys the keys to look up
+   * @param visitor the visitor which visits each key with its value, or null if it doesn't exist
+   */
+  void multiGet(List<KeyType> keys, KeyValuePairVisitor<KeyType, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
@@ -43,6 +43,13 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  /**
+   * Keeping the writes of a transaction on the heap until it is committed avoids calls into RocksDB
+   * when reading keys which were written in the same transaction, at the cost of copying the
+   * written keys and values.
+   */
+  public static final boolean DEFAULT_WRITE_OVERLAY_ENABLED = false;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -51,6 +58,7 @@ public final class RocksDbConfiguration {
   private boolean walDisabled = DEFAULT_WAL_DISABLED;
 
   private boolean sstPartitioningEnabled = DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean writeOverlayEnabled = DEFAULT_WRITE_OVERLAY_ENABLED;
 
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
@@ -155,4 +163,13 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public boolean isWriteOverlayEnabled() {
+    return writeOverlayEnabled;
+  }
+
+  public RocksDbConfiguration setWriteOverlayEnabled(final boolean writeOverlayEnabled) {
+    this.writeOverlayEnabled = writeOverlayEnabled;
+    return this;
+  }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Arrays;
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Keeps the writes of the current transaction on the heap, such that reading a key which was
+ * written in the same transaction doesn't require a call into RocksDB. The writes are only passed
+ * on to the RocksDB transaction when it is {@link #flush(Writer) flushed}, i.e. before committing
+ * or iterating.
+ *
+ * <p>Keys and values are copied when written, so the callers can keep reusing their buffers. The
+ * values returned by {@link #get(byte[], int)} must not be modified.
+ *
+ * <p>Writes are identified by their key only, as all of our column families are stored in the same
+ * RocksDB column family and are distinguished by the prefix of their keys.
+ *
+ * <p>This class is not thread safe, which is fine as a transaction is only used by a single thread.
+ */
+final class TransactionWriteOverlay {
+
+  /**
+   * The maximum number of keys held by the overlay; once reached, the writes are flushed to the
+   * RocksDB transaction to limit the memory used by very large transactions, e.g. migrations.
+   */
+  static final int MAX_ENTRIES = 10_000;
+
+  private final Object2ObjectHashMap<UnsafeBuffer, Write> writes = new Object2ObjectHashMap<>();
+  private final UnsafeBuffer lookupKey = new UnsafeBuffer(0, 0);
+
+  /**
+   * @return true if the key was written or deleted in this transaction, in which case {@link
+   *     #get(byte[], int)} returns its current value
+   */
+  boolean contains(final byte[] key, final int keyLength) {
+    return find(key, keyLength) != null;
+  }
+
+  /**
+   * @return the value written in this transaction, or null if the key was deleted or not written
+   */
+  byte[] get(final byte[] key, final int keyLength) {
+    final Write write = find(key, keyLength);
+    return write == null ? null : write.value;
+  }
+
+  void put(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength) {
+    final Write write = getOrCreate(key, keyLength);
+    write.columnFamilyHandle = columnFamilyHandle;
+    write.value = Arrays.copyOf(value, valueLength);
+  }
+
+  void delete(final long columnFamilyHandle, final byte[] key, final int keyLength) {
+    final Write write = getOrCreate(key, keyLength);
+    write.columnFamilyHandle = columnFamilyHandle;
+    write.value = null;
+  }
+
+  boolean isFull() {
+    return writes.size() >= MAX_ENTRIES;
+  }
+
+  boolean isEmpty() {
+    return writes.isEmpty();
+  }
+
+  /** Passes all writes on to the given writer and clears the overlay afterwards. */
+  void flush(final Writer writer) throws Exception {
+    try {
+      for (final var entry : writes.entrySet()) {
+        final byte[] key = entry.getKey().byteArray();
+        final Write write = entry.getValue();
+        if (write.value == null) {
+          writer.delete(write.columnFamilyHandle, key, key.length);
+        } else {
+          writer.put(write.columnFamilyHandle, key, key.length, write.value, write.value.length);
+        }
+      }
+    } finally {
+      writes.clear();
+    }
+  }
+
+  void clear() {
+    writes.clear();
+  }
+
+  private Write find(final byte[] key, final int keyLength) {
+    if (writes.isEmpty()) {
+      return null;
+    }
+
+    lookupKey.wrap(key, 0, keyLength);
+    return writes.get(lookupKey);
+  }
+
+  private Write getOrCreate(final byte[] key, final int keyLength) {
+    Write write = find(key, keyLength);
+    if (write == null) {
+      write = new Write();
+      writes.put(new UnsafeBuffer(Arrays.copyOf(key, keyLength)), write);
+    }
+
+    return write;
+  }
+
+  interface Writer {
+    void put(long columnFamilyHandle, byte[] key, int keyLength, byte[] value, int valueLength)
+        throws Exception;
+
+    void delete(long columnFamilyHandle, byte[] key, int keyLength) throws Exception;
+  }
+
+  /** The latest write of a key in this transaction; a null value means the key was deleted. */
+  private static final class Write {
+    private long columnFamilyHandle;
+    private byte[] value;
+  }
+}
@@ -17,6 +17,9 @@ import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -143,6 +146,39 @@ class TransactionalColumnFamily<
     return null;
   }
 
+  @Override
+  public void multiGet(
+      final List<KeyType> keys, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    Objects.requireNonNull(visitor);
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    ensureInOpenTransaction(
+        transaction -> {
+          // RocksDB expects each key in an array of its exact length
+          final List<byte[]> serializedKeys = new ArrayList<>(keys.size());
+          for (final KeyType key : keys) {
+            columnFamilyContext.writeKey(key);
+            serializedKeys.add(
+                Arrays.copyOf(
+                    columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength()));
+          }
+
+          final List<byte[]> values =
+              transaction.multiGet(
+                  transactionDb.getDefaultReadOptions(),
+                  transactionDb.getDefaultHandle(),
+                  serializedKeys);
+
+          for (int i = 0; i < keys.size(); i++) {
+            if (!visitor.visit(keys.get(i), wrapValue(values.get(i)))) {
+              break;
+            }
+          }
+        });
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
@@ -271,6 +307,17 @@ class TransactionalColumnFamily<
     return countEachInPrefix(prefix);
   }
 
+  private ValueType wrapValue(final byte[] value) {
+    columnFamilyContext.wrapValueView(value);
+    final var valueBuffer = columnFamilyContext.getValueView();
+    if (valueBuffer == null) {
+      return null;
+    }
+
+    valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+    return valueInstance;
+  }
+
   private void assertForeignKeysExist(final ZeebeTransaction transaction, final Object... keys)
       throws Exception {
     if (!consistencyChecksSettings.enableForeignKeyChecks()) {
@@ -12,6 +12,9 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -23,14 +26,45 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  private final TransactionWriteOverlay writeOverlay;
+  private final TransactionWriteOverlay.Writer transactionWriter =
+      new TransactionWriteOverlay.Writer() {
+        @Override
+        public void put(
+            final long columnFamilyHandle,
+            final byte[] key,
+            final int keyLength,
+            final byte[] value,
+            final int valueLength) {
+          putInTransaction(columnFamilyHandle, key, keyLength, value, valueLength);
+        }
+
+        @Override
+        public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength) {
+          deleteInTransaction(columnFamilyHandle, key, keyLength);
+        }
+      };
 
   private boolean inCurrentTransaction;
   private Transaction transaction;
 
   public ZeebeTransaction(
       final Transaction transaction, final TransactionRenovator transactionRenovator) {
+    this(transaction, transactionRenovator, false);
+  }
+
+  /**
+   * @param writeOverlayEnabled if true, writes are kept in a {@link TransactionWriteOverlay} until
+   *     the transaction is committed, such that reading them again doesn't require a call into
+   *     RocksDB
+   */
+  public ZeebeTransaction(
+      final Transaction transaction,
+      final TransactionRenovator transactionRenovator,
+      final boolean writeOverlayEnabled) {
     this.transactionRenovator = transactionRenovator;
     this.transaction = transaction;
+    writeOverlay = writeOverlayEnabled ? new TransactionWriteOverlay() : null;
     try {
       nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
     } catch (final Exception ex) {
@@ -45,12 +79,13 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] value,
       final int valueLength)
       throws Exception {
-    try {
-      RocksDbInternal.putWithHandle.invokeExact(
-          transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle, false);
-    } catch (Throwable e) {
-      LangUtil.rethrowUnchecked(e);
+    if (writeOverlay != null) {
+      writeOverlay.put(columnFamilyHandle, key, keyLength, value, valueLength);
+      flushWriteOverlayIfFull();
+      return;
     }
+
+    putInTransaction(columnFamilyHandle, key, keyLength, value, valueLength);
   }
 
   public byte[] get(
@@ -59,6 +94,10 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] key,
       final int keyLength)
       throws Exception {
+    if (writeOverlay != null && writeOverlay.contains(key, keyLength)) {
+      return writeOverlay.get(key, keyLength);
+    }
+
     try {
       return (byte[])
           RocksDbInternal.getWithHandle.invokeExact(
@@ -69,23 +108,70 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Looks up the values of all given keys at once.
+   *
+   * @param keys the keys to look up, each in an array of its exact length
+   * @return the values of the given keys in the same order, with null for keys which don't exist
+   */
+  public List<byte[]> multiGet(
+      final ReadOptions options, final ColumnFamilyHandle handle, final List<byte[]> keys)
+      throws Exception {
+    if (writeOverlay == null || writeOverlay.isEmpty()) {
+      return transaction.multiGetAsList(options, Collections.nCopies(keys.size(), handle), keys);
+    }
+
+    // only look up the keys in RocksDB which were not written in this transaction
+    final List<byte[]> values = new ArrayList<>(keys.size());
+    final List<byte[]> missingKeys = new ArrayList<>(keys.size());
+    for (final byte[] key : keys) {
+      if (writeOverlay.contains(key, key.length)) {
+        values.add(writeOverlay.get(key, key.length));
+      } else {
+        values.add(null);
+        missingKeys.add(key);
+      }
+    }
+
+    if (missingKeys.isEmpty()) {
+      return values;
+    }
+
+    final List<byte[]> missingValues =
+        transaction.multiGetAsList(
+            options, Collections.nCopies(missingKeys.size(), handle), missingKeys);
+    for (int i = 0, missing = 0; i < keys.size() && missing < missingKeys.size(); i++) {
+      if (keys.get(i) == missingKeys.get(missing)) {
+        values.set(i, missingValues.get(missing++));
+      }
+    }
+
+    return values;
+  }
+
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
-    try {
-      RocksDbInternal.removeWithHandle.invokeExact(
-          transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
-    } catch (Throwable e) {
-      LangUtil.rethrowUnchecked(e);
+    if (writeOverlay != null) {
+      writeOverlay.delete(columnFamilyHandle, key, keyLength);
+      flushWriteOverlayIfFull();
+      return;
     }
+
+    deleteInTransaction(columnFamilyHandle, key, keyLength);
   }
 
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    // iterators only see what was written to the RocksDB transaction
+    flushWriteOverlay();
     return transaction.getIterator(options, handle);
   }
 
   void resetTransaction() {
     transaction = transactionRenovator.renewTransaction(transaction);
     inCurrentTransaction = true;
+    if (writeOverlay != null) {
+      writeOverlay.clear();
+    }
   }
 
   boolean isInCurrentTransaction() {
@@ -133,14 +219,61 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    // the RocksDB transaction collects all writes in a single write batch, which is applied at once
+    flushWriteOverlay();
     transaction.commit();
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    if (writeOverlay != null) {
+      writeOverlay.clear();
+    }
     transaction.rollback();
   }
 
+  private void flushWriteOverlayIfFull() {
+    if (writeOverlay.isFull()) {
+      flushWriteOverlay();
+    }
+  }
+
+  private void flushWriteOverlay() {
+    if (writeOverlay == null || writeOverlay.isEmpty()) {
+      return;
+    }
+
+    try {
+      writeOverlay.flush(transactionWriter);
+    } catch (final Exception e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  private void putInTransaction(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength) {
+    try {
+      RocksDbInternal.putWithHandle.invokeExact(
+          transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle, false);
+    } catch (Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  private void deleteInTransaction(
+      final long columnFamilyHandle, final byte[] key, final int keyLength) {
+    try {
+      RocksDbInternal.removeWithHandle.invokeExact(
+          transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
+    } catch (Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
   public void close() {
     transaction.close();
   }
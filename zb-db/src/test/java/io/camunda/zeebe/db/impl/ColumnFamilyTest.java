@@ -76,6 +76,46 @@ public final class ColumnFamilyTest {
     assertThat(zbLong).isNull();
   }
 
+  @Test
+  public void shouldMultiGetValues() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(3, 30);
+    final List<DbLong> keys = List.of(keyOf(3), keyOf(2), keyOf(1));
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.multiGet(
+        keys,
+        (key, value) -> {
+          values.add(value == null ? null : value.getValue());
+          return true;
+        });
+
+    // then
+    assertThat(values).containsExactly(30L, null, 10L);
+  }
+
+  @Test
+  public void shouldStopMultiGetIfVisitorReturnsFalse() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    final List<DbLong> keys = List.of(keyOf(1), keyOf(2));
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    columnFamily.multiGet(
+        keys,
+        (key, value) -> {
+          visitedKeys.add(key.getValue());
+          return false;
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactly(1L);
+  }
+
   @Test
   public void shouldPutMultipleValues() {
     // given
@@ -466,6 +506,12 @@ public final class ColumnFamilyTest {
         .hasMessageContaining("Foreign key");
   }
 
+  private static DbLong keyOf(final long value) {
+    final DbLong key = new DbLong();
+    key.wrapLong(value);
+    return key;
+  }
+
   private void upsertKeyValuePair(final int key, final int value) {
     this.key.wrapLong(key);
     this.value.wrapLong(value);
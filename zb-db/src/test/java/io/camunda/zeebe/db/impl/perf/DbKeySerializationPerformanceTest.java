@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.perf;
+
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast the composite and foreign keys, which are used by most of the engine's column
+ * families, are written to and read from a buffer.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class DbKeySerializationPerformanceTest {
+
+  private final UnsafeBuffer buffer = new UnsafeBuffer(new byte[1024]);
+
+  private DbString stringKey;
+  private DbLong longKey;
+  private DbCompositeKey<DbString, DbLong> compositeKey;
+  private DbForeignKey<DbCompositeKey<DbString, DbLong>> foreignKey;
+  private DbCompositeKey<DbForeignKey<DbCompositeKey<DbString, DbLong>>, DbLong> nestedCompositeKey;
+
+  @Setup
+  public void setup() {
+    stringKey = new DbString();
+    longKey = new DbLong();
+    compositeKey = new DbCompositeKey<>(stringKey, longKey);
+    foreignKey = new DbForeignKey<>(compositeKey, ForeignColumnFamilies.TARGET);
+    nestedCompositeKey = new DbCompositeKey<>(foreignKey, new DbLong());
+
+    stringKey.wrapString("tenant-id");
+    longKey.wrapLong(2251799813685249L);
+    nestedCompositeKey.second().wrapLong(2251799813685250L);
+  }
+
+  @Benchmark
+  public int measureCompositeKeyWrite() {
+    compositeKey.write(buffer, 0);
+    return compositeKey.getLength();
+  }
+
+  @Benchmark
+  public long measureCompositeKeyWrap() {
+    compositeKey.write(buffer, 0);
+    compositeKey.wrap(buffer, 0, compositeKey.getLength());
+    return compositeKey.second().getValue();
+  }
+
+  @Benchmark
+  public int measureForeignKeyWrite() {
+    nestedCompositeKey.write(buffer, 0);
+    return nestedCompositeKey.getLength();
+  }
+
+  @Benchmark
+  public long measureForeignKeyWrap() {
+    nestedCompositeKey.write(buffer, 0);
+    nestedCompositeKey.wrap(buffer, 0, nestedCompositeKey.getLength());
+    return nestedCompositeKey.second().getValue();
+  }
+
+  @JMHTest("measureCompositeKeyWrite")
+  void shouldWriteCompositeKeyWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured locally
+    // when running this test on a different machine, you're likely to have a different score
+    final var referenceScore = 60_000_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private enum ForeignColumnFamilies {
+    TARGET
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.perf;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the cost of a {@link ZeebeDbTransaction} which updates {@link #writesPerTransaction}
+ * existing keys and is then committed, for different sizes of pre-existing state.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class TransactionCommitPerformanceTest {
+  private static final Logger LOG = LoggerFactory.getLogger(TransactionCommitPerformanceTest.class);
+
+  private static final int PREFILL_BATCH_SIZE = 100_000;
+
+  @Param({"1000", "100000", "1000000", "10000000"})
+  private int stateSize;
+
+  @Param({"1", "10", "100"})
+  private int writesPerTransaction;
+
+  private Path dbDirectory;
+  private ZeebeDb<ColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+
+  private DbLong key;
+  private DbLong value;
+  private ColumnFamily<DbLong, DbLong> keyColumnFamily;
+
+  @Setup
+  public void setup() throws Exception {
+    dbDirectory = Files.createTempDirectory("zb-db-perf");
+    zeebeDb =
+        new ZeebeRocksDbFactory<ColumnFamilies>(
+                new RocksDbConfiguration(), new ConsistencyChecksSettings())
+            .createDb(dbDirectory.toFile());
+    transactionContext = zeebeDb.createContext();
+
+    key = new DbLong();
+    value = new DbLong();
+    keyColumnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.KEYS, transactionContext, key, value);
+
+    LOG.info("Creating a state with {} keys; please hold the line...", stateSize);
+    var transaction = transactionContext.getCurrentTransaction();
+    for (long i = 0; i < stateSize; i++) {
+      key.wrapLong(i);
+      value.wrapLong(i);
+      keyColumnFamily.insert(key, value);
+
+      if ((i + 1) % PREFILL_BATCH_SIZE == 0) {
+        transaction.commit();
+        transaction = transactionContext.getCurrentTransaction();
+      }
+    }
+    transaction.commit();
+    LOG.info("Created a state with {} keys", stateSize);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(dbDirectory);
+  }
+
+  @Benchmark
+  public void measureCommit() throws Exception {
+    final var random = ThreadLocalRandom.current();
+    final var transaction = transactionContext.getCurrentTransaction();
+    for (int i = 0; i < writesPerTransaction; i++) {
+      key.wrapLong(random.nextLong(stateSize));
+      value.wrapLong(i);
+      keyColumnFamily.update(key, value);
+    }
+
+    transaction.commit();
+  }
+
+  @JMHTest("measureCommit")
+  void shouldCommitWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured locally with a state of 100k keys
+    // when running this test on a different machine, you're likely to have a different score
+    final var referenceScore = 14_000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(
+                options -> options.param("stateSize", "100000").param("writesPerTransaction", "10"))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private enum ColumnFamilies {
+    KEYS
+  }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.perf;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the single key operations and the iterations of the {@link ColumnFamily} implementation,
+ * for different sizes of pre-existing state.
+ *
+ * <p>All operations run in the current transaction, which is committed every {@link #batchSize}
+ * operations, similar to how the stream processor commits once per processed command. Use the
+ * {@link TransactionCommitPerformanceTest} to measure the commit itself.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class TransactionalColumnFamilyPerformanceTest {
+  private static final Logger LOG =
+      LoggerFactory.getLogger(TransactionalColumnFamilyPerformanceTest.class);
+
+  private static final int ENTRIES_PER_PREFIX = 10;
+  private static final int PREFILL_BATCH_SIZE = 100_000;
+
+  @Param({"1000", "100000", "1000000", "10000000"})
+  private int stateSize;
+
+  @Param({"100"})
+  private int batchSize;
+
+  private Path dbDirectory;
+  private ZeebeDb<ColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private ZeebeDbTransaction transaction;
+  private long operations;
+
+  private DbLong key;
+  private DbLong value;
+  private ColumnFamily<DbLong, DbLong> keyColumnFamily;
+
+  private DbLong prefix;
+  private DbLong suffix;
+  private DbCompositeKey<DbLong, DbLong> compositeKey;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> compositeKeyColumnFamily;
+
+  /** the keys of {@link #keyColumnFamily} are always in [lowestKey, nextKey) */
+  private long lowestKey;
+
+  private long nextKey;
+
+  @Setup
+  public void setup() throws Exception {
+    dbDirectory = Files.createTempDirectory("zb-db-perf");
+    zeebeDb =
+        new ZeebeRocksDbFactory<ColumnFamilies>(
+                new RocksDbConfiguration(), new ConsistencyChecksSettings())
+            .createDb(dbDirectory.toFile());
+    transactionContext = zeebeDb.createContext();
+
+    key = new DbLong();
+    value = new DbLong();
+    keyColumnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.KEYS, transactionContext, key, value);
+
+    prefix = new DbLong();
+    suffix = new DbLong();
+    compositeKey = new DbCompositeKey<>(prefix, suffix);
+    compositeKeyColumnFamily =
+        zeebeDb.createColumnFamily(
+            ColumnFamilies.COMPOSITE_KEYS, transactionContext, compositeKey, value);
+
+    LOG.info("Creating a state with {} keys; please hold the line...", stateSize);
+    prefillState();
+    LOG.info("Created a state with {} keys", stateSize);
+
+    transaction = transactionContext.getCurrentTransaction();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    transaction.rollback();
+    zeebeDb.close();
+    FileUtil.deleteFolder(dbDirectory);
+  }
+
+  @Benchmark
+  public void measureInsert() throws Exception {
+    key.wrapLong(nextKey++);
+    value.wrapLong(nextKey);
+    keyColumnFamily.insert(key, value);
+    commitBatchIfFull();
+  }
+
+  @Benchmark
+  public void measureUpdate() throws Exception {
+    key.wrapLong(randomKey());
+    value.wrapLong(operations);
+    keyColumnFamily.update(key, value);
+    commitBatchIfFull();
+  }
+
+  @Benchmark
+  public DbLong measureGet() throws Exception {
+    key.wrapLong(randomKey());
+    final var result = keyColumnFamily.get(key);
+    commitBatchIfFull();
+    return result;
+  }
+
+  /**
+   * Deletes the lowest key and inserts a new highest key, such that the size of the state remains
+   * the same over the whole benchmark.
+   */
+  @Benchmark
+  public void measureDeleteAndInsert() throws Exception {
+    key.wrapLong(lowestKey++);
+    keyColumnFamily.deleteExisting(key);
+
+    key.wrapLong(nextKey++);
+    value.wrapLong(nextKey);
+    keyColumnFamily.insert(key, value);
+    commitBatchIfFull();
+  }
+
+  @Benchmark
+  public void measureWhileEqualPrefix(final Blackhole blackhole) throws Exception {
+    prefix.wrapLong(ThreadLocalRandom.current().nextLong(prefixCount()));
+    compositeKeyColumnFamily.whileEqualPrefix(
+        prefix,
+        (compositeKey, value) -> {
+          blackhole.consume(value.getValue());
+        });
+    commitBatchIfFull();
+  }
+
+  @Benchmark
+  public void measureWhileTrue(final Blackhole blackhole) throws Exception {
+    key.wrapLong(randomKey());
+    final var remaining = new int[] {ENTRIES_PER_PREFIX};
+    keyColumnFamily.whileTrue(
+        key,
+        (key, value) -> {
+          blackhole.consume(value.getValue());
+          return --remaining[0] > 0;
+        });
+    commitBatchIfFull();
+  }
+
+  @JMHTest("measureGet")
+  void shouldGetWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured locally with a state of 100k keys
+    // when running this test on a different machine, you're likely to have a different score
+    final var referenceScore = 400_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("stateSize", "100000")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measureInsert")
+  void shouldInsertWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured locally with a state of 100k keys
+    // when running this test on a different machine, you're likely to have a different score
+    final var referenceScore = 260_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("stateSize", "100000")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private long randomKey() {
+    return ThreadLocalRandom.current().nextLong(lowestKey, nextKey);
+  }
+
+  private long prefixCount() {
+    return Math.max(1, stateSize / ENTRIES_PER_PREFIX);
+  }
+
+  private void commitBatchIfFull() throws Exception {
+    if (++operations % batchSize == 0) {
+      transaction.commit();
+      transaction = transactionContext.getCurrentTransaction();
+    }
+  }
+
+  private void prefillState() throws Exception {
+    var prefillTransaction = transactionContext.getCurrentTransaction();
+    for (long i = 0; i < stateSize; i++) {
+      key.wrapLong(i);
+      value.wrapLong(i);
+      keyColumnFamily.insert(key, value);
+
+      prefix.wrapLong(i / ENTRIES_PER_PREFIX);
+      suffix.wrapLong(i % ENTRIES_PER_PREFIX);
+      compositeKeyColumnFamily.insert(compositeKey, value);
+
+      if ((i + 1) % PREFILL_BATCH_SIZE == 0) {
+        prefillTransaction.commit();
+        prefillTransaction = transactionContext.getCurrentTransaction();
+      }
+    }
+
+    prefillTransaction.commit();
+    lowestKey = 0;
+    nextKey = stateSize;
+  }
+
+  private enum ColumnFamilies {
+    KEYS,
+    COMPOSITE_KEYS
+  }
+}
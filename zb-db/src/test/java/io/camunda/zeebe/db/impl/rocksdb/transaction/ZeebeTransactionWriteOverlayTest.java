@@ -0,0 +1,210 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class ZeebeTransactionWriteOverlayTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private DbLong key;
+  private DbLong value;
+
+  @Before
+  public void setup() throws Exception {
+    zeebeDb =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                new RocksDbConfiguration().setWriteOverlayEnabled(true),
+                new ConsistencyChecksSettings(true, true))
+            .createDb(temporaryFolder.newFolder());
+    transactionContext = zeebeDb.createContext();
+
+    key = new DbLong();
+    value = new DbLong();
+    columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldReadOwnWritesInTransaction() {
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          put(1, 10);
+          put(1, 11);
+
+          // then
+          assertThat(get(1)).isEqualTo(11);
+        });
+  }
+
+  @Test
+  public void shouldNotReadDeletedKeyInTransaction() {
+    // given
+    transactionContext.runInTransaction(() -> put(1, 10));
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          key.wrapLong(1);
+          columnFamily.deleteExisting(key);
+
+          // then
+          assertThat(columnFamily.exists(key)).isFalse();
+          assertThat(columnFamily.get(key)).isNull();
+        });
+  }
+
+  @Test
+  public void shouldIterateOverOwnWritesInTransaction() {
+    // given
+    transactionContext.runInTransaction(() -> put(1, 10));
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    transactionContext.runInTransaction(
+        () -> {
+          put(2, 20);
+          key.wrapLong(1);
+          columnFamily.deleteExisting(key);
+          put(3, 30);
+
+          columnFamily.forEach((key, value) -> keys.add(key.getValue()));
+        });
+
+    // then
+    assertThat(keys).containsExactly(2L, 3L);
+  }
+
+  @Test
+  public void shouldMultiGetOwnWritesInTransaction() {
+    // given
+    transactionContext.runInTransaction(
+        () -> {
+          put(1, 10);
+          put(2, 20);
+        });
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    transactionContext.runInTransaction(
+        () -> {
+          put(3, 30);
+          key.wrapLong(2);
+          columnFamily.deleteExisting(key);
+
+          columnFamily.multiGet(
+              List.of(keyOf(1), keyOf(2), keyOf(3)),
+              (key, value) -> {
+                values.add(value == null ? null : value.getValue());
+                return true;
+              });
+        });
+
+    // then
+    assertThat(values).containsExactly(10L, null, 30L);
+  }
+
+  @Test
+  public void shouldPersistWritesOnCommit() {
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          put(1, 10);
+          put(2, 20);
+        });
+
+    // then
+    transactionContext.runInTransaction(
+        () -> {
+          assertThat(get(1)).isEqualTo(10);
+          assertThat(get(2)).isEqualTo(20);
+        });
+  }
+
+  @Test
+  public void shouldDiscardWritesOnRollback() throws Exception {
+    // given
+    final var transaction = transactionContext.getCurrentTransaction();
+    put(1, 10);
+
+    // when
+    transaction.rollback();
+
+    // then
+    transactionContext.runInTransaction(
+        () -> {
+          key.wrapLong(1);
+          assertThat(columnFamily.exists(key)).isFalse();
+        });
+  }
+
+  @Test
+  public void shouldKeepWritesWhenOverlayIsFull() {
+    // given
+    final int writes = TransactionWriteOverlay.MAX_ENTRIES + 10;
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          for (int i = 0; i < writes; i++) {
+            put(i, i);
+          }
+        });
+
+    // then
+    transactionContext.runInTransaction(
+        () -> {
+          assertThat(get(0)).isEqualTo(0);
+          assertThat(get(writes - 1)).isEqualTo(writes - 1);
+          assertThat(columnFamily.count()).isEqualTo(writes);
+        });
+  }
+
+  private void put(final long key, final long value) {
+    this.key.wrapLong(key);
+    this.value.wrapLong(value);
+    columnFamily.upsert(this.key, this.value);
+  }
+
+  private static DbLong keyOf(final long value) {
+    final DbLong key = new DbLong();
+    key.wrapLong(value);
+    return key;
+  }
+
+  private long get(final long key) {
+    this.key.wrapLong(key);
+    return columnFamily.get(this.key).getValue();
+  }
+}